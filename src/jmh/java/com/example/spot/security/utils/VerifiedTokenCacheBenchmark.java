@@ -0,0 +1,72 @@
+package com.example.spot.security.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 서명을 검증하고 클레임을 파싱하는 경우와 {@link VerifiedTokenCache}에서 클레임을 조회하는 경우를 비교합니다.
+ * 토큰은 매 요청 새 문자열로 전달되므로 호출마다 복사본을 만들어 문자열 해시 캐시의 이점을 배제합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerifiedTokenCacheBenchmark {
+
+    // 동시에 활동하는 회원 수
+    @Param({"100", "10000"})
+    private int members;
+
+    private String[] tokens;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setUp() {
+        Key signingKey = Keys.hmacShaKeyFor("spot-benchmark-secret-key-for-hs256-signing".getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokenCache = new VerifiedTokenCache(10_000);
+
+        Date now = new Date();
+        tokens = new String[members];
+        for (int i = 0; i < members; i++) {
+            tokens[i] = Jwts.builder()
+                .claim("memberId", (long) i)
+                .claim("tokenType", "access")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+            verifiedTokenCache.put(tokens[i], jwtParser.parseClaimsJws(tokens[i]).getBody());
+        }
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtParser.parseClaimsJws(nextToken()).getBody();
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return verifiedTokenCache.get(nextToken());
+    }
+
+    private String nextToken() {
+        return new String(tokens[ThreadLocalRandom.current().nextInt(members)]);
+    }
+}
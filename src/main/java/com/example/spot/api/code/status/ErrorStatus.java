@@ -74,6 +74,7 @@ public enum ErrorStatus implements BaseErrorCode {
     _ONLY_STUDY_MEMBER_CAN_ACCESS_SCHEDULE(HttpStatus.FORBIDDEN, "STUDY4015", "스터디 멤버만 일정에 접근할 수 있습니다."),
     _ONLY_STUDY_MEMBER_CAN_ACCESS_MEMBERS(HttpStatus.FORBIDDEN, "STUDY4016", "스터디 멤버만 회원 목록에 접근할 수 있습니다."),
     _ALREADY_STUDY_MEMBER(HttpStatus.BAD_REQUEST, "STUDY4017", "이미 스터디 멤버입니다."),
+    _STUDY_SORT_BY_INVALID(HttpStatus.BAD_REQUEST, "STUDY4018", "관련도 순 정렬은 키워드 검색에서만 사용할 수 있습니다."),
 
     //스터디 게시글 관련 에러
     _STUDY_POST_NOT_FOUND(HttpStatus.NOT_FOUND, "POST4001", "스터디 게시글을 찾을 수 없습니다."),
@@ -132,6 +133,7 @@ public enum ErrorStatus implements BaseErrorCode {
     _STUDY_NOT_APPLIED(HttpStatus.NOT_FOUND, "STUDY6017", "신청한 스터디가 없습니다."),
     _RECRUITING_STUDY_IS_NOT_EXIST(HttpStatus.NOT_FOUND, "STUDY6018", "현재 회원이 모집중인 스터디가 없습니다."),
     _HOT_KEYWORD_NOT_FOUND(HttpStatus.NOT_FOUND, "STUDY6019", "인기 키워드가 없습니다."),
+    _STUDY_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "STUDY6020", "유효하지 않은 스터디 커서입니다."),
 
     // 스터디 출석 관련 에러
     _STUDY_QUIZ_NOT_FOUND(HttpStatus.NOT_FOUND, "QUIZ4001", "출석 퀴즈를 찾을 수 없습니다."),
@@ -0,0 +1,117 @@
+package com.example.spot.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 외부 API 호스트별 서킷 브레이커입니다.
+ * 연결 실패, 타임아웃, 5xx 응답이 연속으로 {@code failureThreshold}회 발생하면 {@code openDuration} 동안 해당 호스트로의 요청을 즉시 실패시켜,
+ * 응답하지 않는 OAuth 제공자 때문에 요청 스레드가 타임아웃까지 대기하는 일을 막습니다.
+ * 차단 시간이 지나면 요청 하나만 시험적으로 보내고, 성공하면 차단을 해제하고 실패하면 다시 차단합니다.
+ */
+@Slf4j
+public class HttpClientCircuitBreaker implements ClientHttpRequestInterceptor {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    public HttpClientCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        State state = states.computeIfAbsent(host, key -> new State());
+        if (!state.tryAcquire(System.currentTimeMillis()))
+            throw new CircuitBreakerOpenException(host);
+
+        ClientHttpResponse response;
+        boolean serverError;
+        try {
+            response = execution.execute(request, body);
+            serverError = response.getStatusCode().is5xxServerError();
+        } catch (Throwable e) {
+            // 예외 종류와 관계없이 실패로 기록해야 시험 요청이 해제되어 호스트가 계속 차단되지 않음
+            onFailure(host, state);
+            throw e;
+        }
+
+        if (serverError)
+            onFailure(host, state);
+        else
+            state.onSuccess();
+        return response;
+    }
+
+    /**
+     * 호스트로의 요청이 차단되어 있는지 확인합니다.
+     * @param host 호스트
+     * @return 차단 여부
+     */
+    public boolean isOpen(String host) {
+        State state = states.get(host);
+        return state != null && state.isOpen(System.currentTimeMillis());
+    }
+
+    private void onFailure(String host, State state) {
+        if (state.onFailure(System.currentTimeMillis(), failureThreshold, openMillis))
+            log.warn("Circuit breaker opened for {} for {} ms", host, openMillis);
+    }
+
+    private static class State {
+        private int consecutiveFailures = 0;
+        private long openUntil = 0;
+        private boolean trialInFlight = false;
+
+        // 차단되지 않았거나, 차단 시간이 지나 시험 요청을 보낼 수 있는 경우 true
+        private synchronized boolean tryAcquire(long now) {
+            if (openUntil == 0)
+                return true;
+            if (now < openUntil || trialInFlight)
+                return false;
+            trialInFlight = true;
+            return true;
+        }
+
+        private synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            openUntil = 0;
+            trialInFlight = false;
+        }
+
+        // 차단이 시작된 경우 true
+        private synchronized boolean onFailure(long now, int failureThreshold, long openMillis) {
+            boolean trialFailed = trialInFlight;
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (!trialFailed && consecutiveFailures < failureThreshold)
+                return false;
+            openUntil = now + openMillis;
+            return true;
+        }
+
+        private synchronized boolean isOpen(long now) {
+            return openUntil != 0 && (now < openUntil || trialInFlight);
+        }
+    }
+
+    /**
+     * 서킷 브레이커가 요청을 차단한 경우 발생합니다. RestTemplate에서는 ResourceAccessException으로 전달됩니다.
+     */
+    public static class CircuitBreakerOpenException extends IOException {
+        public CircuitBreakerOpenException(String host) {
+            super("Circuit breaker is open for " + host);
+        }
+    }
+}
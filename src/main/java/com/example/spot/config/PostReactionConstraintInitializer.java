@@ -0,0 +1,103 @@
+package com.example.spot.config;
+
+import com.example.spot.repository.LikedPostRepository;
+import com.example.spot.repository.MemberScrapRepository;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 좋아요/스크랩의 (회원, 게시글) 유니크 제약이 DB에 존재하는지 애플리케이션 시작 시 확인합니다.
+ * 좋아요/스크랩은 유니크 제약 위반으로 중복을 막으므로 제약이 반드시 있어야 하지만,
+ * ddl-auto=update는 기존 테이블에 중복 행이 있으면 제약 생성에 실패한 채로 애플리케이션을 시작합니다.
+ * 제약이 없는 경우 가장 먼저 생성된 행만 남기고 중복 행을 삭제한 뒤 제약을 생성하며,
+ * 삭제로 달라진 게시글의 좋아요/스크랩 수는 이후 PostReactionCountScheduler가 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostReactionConstraintInitializer implements CommandLineRunner {
+
+    static final String LIKED_POST_TABLE = "liked_post";
+    static final String MEMBER_SCRAP_TABLE = "member_scrap";
+
+    private final LikedPostRepository likedPostRepository;
+    private final MemberScrapRepository memberScrapRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(String... args) {
+        ensureUniqueConstraint(LIKED_POST_TABLE, "uk_liked_post_member_post",
+                likedPostRepository::findDuplicateIds, likedPostRepository);
+        ensureUniqueConstraint(MEMBER_SCRAP_TABLE, "uk_member_scrap_member_post",
+                memberScrapRepository::findDuplicateIds, memberScrapRepository);
+    }
+
+    private void ensureUniqueConstraint(String table, String constraintName,
+                                        Supplier<List<Long>> duplicateIds, JpaRepository<?, Long> repository) {
+        try {
+            if (hasUniqueIndex(table, Set.of("member_id", "post_id"))) {
+                return;
+            }
+
+            // 중복 행 정리 후 제약 생성 (MySQL의 DDL은 암묵적으로 커밋되므로 정리 트랜잭션과 분리)
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = duplicateIds.get();
+                repository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraintName
+                    + " UNIQUE (member_id, post_id)");
+            log.warn("Created unique constraint {} after deleting {} duplicate rows", constraintName, deleted);
+        } catch (DataAccessException e) {
+            log.error("Unique constraint {} is missing and could not be created. Duplicate rows are not prevented.",
+                    constraintName, e);
+        }
+    }
+
+    // 테이블에 주어진 컬럼으로만 구성된 유니크 인덱스가 있는지 확인 (DB마다 테이블, 인덱스 이름의 대소문자가 다르므로 컬럼으로 비교)
+    boolean hasUniqueIndex(String table, Set<String> columns) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String tableName : List.of(table, table.toUpperCase(Locale.ROOT))) {
+                if (uniqueIndexColumns(metaData, connection.getCatalog(), tableName).containsValue(columns)) {
+                    return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    private static Map<String, Set<String>> uniqueIndexColumns(DatabaseMetaData metaData, String catalog,
+                                                               String table) throws SQLException {
+        Map<String, Set<String>> indexes = new HashMap<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(catalog, null, table, true, false)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if (indexName != null && columnName != null) {
+                    indexes.computeIfAbsent(indexName, name -> new HashSet<>())
+                            .add(columnName.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+}
@@ -1,17 +1,79 @@
 package com.example.spot.config;
 
-import java.nio.charset.Charset;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 외부 API(카카오, 네이버, 구글 OAuth) 호출에 사용하는 HTTP 클라이언트 설정입니다.
+ * RestTemplateBuilder로 생성하는 모든 RestTemplate은 커넥션 풀을 공유하며, 타임아웃과 호스트별 서킷 브레이커가 적용됩니다.
+ * 요청 지연은 http.client.requests 히스토그램으로 수집합니다.
+ */
 @Configuration
 public class RestTemplateConfig {
-    //HTTP get,post 요청을 날릴때 일정한 형식에 맞춰주는 template
+
+    // 커넥션 풀 (keep-alive 커넥션 재사용)
+    private static final int MAX_CONNECTIONS = 100;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final TimeValue IDLE_CONNECTION_TIMEOUT = TimeValue.ofSeconds(30);
+    private static final TimeValue CONNECTION_TIME_TO_LIVE = TimeValue.ofMinutes(5);
+
+    // 타임아웃
+    private static final Timeout CONNECT_TIMEOUT = Timeout.ofSeconds(2);
+    private static final Timeout RESPONSE_TIMEOUT = Timeout.ofSeconds(5);
+    private static final Timeout CONNECTION_REQUEST_TIMEOUT = Timeout.ofSeconds(1);
+
+    // 서킷 브레이커
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient() {
+        return createHttpClient(CONNECT_TIMEOUT, RESPONSE_TIMEOUT);
+    }
+
+    @Bean
+    public HttpClientCircuitBreaker httpClientCircuitBreaker() {
+        return new HttpClientCircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION);
+    }
+
+    /**
+     * RestTemplateBuilder로 생성하는 RestTemplate에 커넥션 풀과 서킷 브레이커를 적용합니다.
+     * @param pooledHttpClient 커넥션 풀을 사용하는 HTTP 클라이언트
+     * @param httpClientCircuitBreaker 호스트별 서킷 브레이커
+     * @return RestTemplateCustomizer
+     */
+    @Bean
+    public RestTemplateCustomizer pooledRestTemplateCustomizer(CloseableHttpClient pooledHttpClient,
+                                                               HttpClientCircuitBreaker httpClientCircuitBreaker) {
+        return restTemplate -> {
+            restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
+            restTemplate.getInterceptors().add(httpClientCircuitBreaker);
+        };
+    }
 
     /**
      * RestTemplate(HTTP get,post 요청을 날릴때 일정한 형식에 맞춰주는 template)을 Bean으로 등록합니다.
@@ -21,10 +83,70 @@ public class RestTemplateConfig {
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
         return restTemplateBuilder
-            // 요청과 응답을 로깅하기 위해 BufferingClientHttpRequestFactory를 사용합니다.
-            .requestFactory(() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
             // 한글 깨짐 방지를 위해 UTF-8로 인코딩합니다.
-            .additionalMessageConverters(new StringHttpMessageConverter(Charset.forName("UTF-8")))
+            .additionalMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8))
+            .build();
+    }
+
+    /**
+     * 구글 로그인의 인가 코드 -> 액세스 토큰 교환에 커넥션 풀을 사용하는 RestTemplate을 적용합니다.
+     * @param restTemplateBuilder
+     * @return OAuth2AccessTokenResponseClient
+     */
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient(
+            RestTemplateBuilder restTemplateBuilder) {
+        DefaultAuthorizationCodeTokenResponseClient client = new DefaultAuthorizationCodeTokenResponseClient();
+        client.setRestOperations(restTemplateBuilder
+            .messageConverters(new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter())
+            .errorHandler(new OAuth2ErrorResponseErrorHandler())
+            .build());
+        return client;
+    }
+
+    // 외부 API 요청 지연을 백분위수로 조회할 수 있도록 히스토그램 수집
+    @Bean
+    public MeterFilter httpClientHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("http.client.requests"))
+                    return config;
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .minimumExpectedValue((double) Duration.ofMillis(10).toNanos())
+                    .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 커넥션 풀을 사용하는 HTTP 클라이언트를 생성합니다.
+     * @param connectTimeout 연결 타임아웃
+     * @param responseTimeout 응답 타임아웃
+     * @return CloseableHttpClient
+     */
+    public static CloseableHttpClient createHttpClient(Timeout connectTimeout, Timeout responseTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(MAX_CONNECTIONS)
+            .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(responseTimeout)
+                .setTimeToLive(CONNECTION_TIME_TO_LIVE)
+                .build())
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT)
+                .setResponseTimeout(responseTimeout)
+                .build())
+            .evictIdleConnections(IDLE_CONNECTION_TIMEOUT)
+            .evictExpiredConnections()
             .build();
     }
 }
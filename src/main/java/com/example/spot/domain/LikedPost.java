@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_liked_post_member_post", columnNames = {"member_id", "post_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LikedPost extends BaseEntity {
     @Id
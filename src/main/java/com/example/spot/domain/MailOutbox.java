@@ -0,0 +1,68 @@
+package com.example.spot.domain;
+
+import com.example.spot.domain.common.BaseEntity;
+import com.example.spot.domain.enums.MailStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전송 대기 중인 메일입니다.
+ * 요청 트랜잭션에서는 메일을 저장만 하고, 실제 전송은 {@link com.example.spot.service.message.MailOutboxDispatcher}가 별도 스레드에서 수행합니다.
+ * 전송 중({@link MailStatus#SENDING})인 메일의 nextAttemptAt은 전송 제한 시각이며, 이 시각이 지나면 다시 전송 대상이 됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class MailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private MailOutbox(String recipient, String subject, String content) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static MailOutbox of(String recipient, String subject, String content) {
+        return new MailOutbox(recipient, subject, content);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.spot.domain.mapping.MemberScrap;
 import com.example.spot.web.dto.post.PostUpdateRequest;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
@@ -15,7 +16,13 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_post_board_id", columnList = "board, id"),
+        @Index(name = "idx_post_board_reported_created_at", columnList = "board, is_reported, created_at"),
+        @Index(name = "idx_post_reported_created_at", columnList = "is_reported, created_at")
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -31,6 +38,9 @@ public class Post extends BaseEntity {
 
     private String content;
 
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int likeNum;
+
     private int scrapNum;
 
     private int commentNum;
@@ -40,6 +50,11 @@ public class Post extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Board board;
 
+    // 정상으로 처리되지 않은 신고(접수, 삭제 처리)가 있는지 여부. 게시글 목록에서 신고된 게시글을 제외할 때 사용하며,
+    // 신고 내역 기준으로 PostReportScheduler가 갱신합니다.
+    @Column(nullable = false, columnDefinition = "BIT DEFAULT 0")
+    private boolean isReported;
+
     @OneToMany(mappedBy = "post")
     @Builder.Default
     private List<PostImage> postImageList = new ArrayList<>();
@@ -82,9 +97,5 @@ public class Post extends BaseEntity {
         }
     }
 
-    public void viewHit() {
-        this.hitNum++;
-    }
-
 
 }
@@ -0,0 +1,40 @@
+package com.example.spot.domain;
+
+import com.example.spot.domain.common.BaseEntity;
+import com.example.spot.domain.enums.PostRanking;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기글 스냅샷의 세대입니다.
+ * 세대 ID가 가장 큰 세대가 현재 세대이며, 스냅샷과 같은 트랜잭션에서 저장되므로 커밋 시점에 현재 세대가 원자적으로 교체됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostBestGeneration extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PostRanking sortType;
+
+    private PostBestGeneration(PostRanking sortType) {
+        this.sortType = sortType;
+    }
+
+    public static PostBestGeneration of(PostRanking sortType) {
+        return new PostBestGeneration(sortType);
+    }
+}
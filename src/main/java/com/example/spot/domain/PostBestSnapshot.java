@@ -0,0 +1,57 @@
+package com.example.spot.domain;
+
+import com.example.spot.domain.common.BaseEntity;
+import com.example.spot.domain.enums.PostRanking;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_best_snapshot_generation", columnList = "generation, ranking"))
+public class PostBestSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long generation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PostRanking sortType;
+
+    private Integer ranking;
+    private Long postId;
+    private String title;
+    private Integer commentCount;
+
+    private PostBestSnapshot(Long generation, PostRanking sortType, Integer rank, Long postId, String title, Integer commentCount) {
+        this.generation = generation;
+        this.sortType = sortType;
+        this.ranking = rank;
+        this.postId = postId;
+        this.title = title;
+        this.commentCount = commentCount;
+    }
+
+    public static PostBestSnapshot of(PostBestGeneration generation, Post post, Integer rank) {
+        return new PostBestSnapshot(generation.getId(), generation.getSortType(), rank, post.getId(), post.getTitle(), post.getCommentNum());
+    }
+
+    // 기존 스냅샷을 새 세대로 복사 (순위만 다시 지정)
+    public static PostBestSnapshot copyOf(PostBestGeneration generation, PostBestSnapshot snapshot, Integer rank) {
+        return new PostBestSnapshot(generation.getId(), generation.getSortType(), rank, snapshot.getPostId(), snapshot.getTitle(), snapshot.getCommentCount());
+    }
+}
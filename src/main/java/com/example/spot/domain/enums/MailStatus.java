@@ -0,0 +1,5 @@
+package com.example.spot.domain.enums;
+
+public enum MailStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,21 @@
+package com.example.spot.domain.enums;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.PostHandler;
+import lombok.Getter;
+
+@Getter
+public enum PostRanking {
+     REAL_TIME,    // 실시간 (최근 2시간 조회수 + 좋아요 수 + 댓글 수)
+     RECOMMEND,    // 추천순 (좋아요 수)
+     COMMENT;      // 댓글순 (댓글 수)
+
+     public static PostRanking findByValue(String inputSortType) {
+          for (PostRanking ranking : PostRanking.values()) {
+               if (ranking.name().equals(inputSortType)) {
+                    return ranking;
+               }
+          }
+          throw new PostHandler(ErrorStatus._INVALID_SORT_TYPE);
+     }
+}
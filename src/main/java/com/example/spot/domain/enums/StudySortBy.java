@@ -1,5 +1,5 @@
 package com.example.spot.domain.enums;
 
 public enum StudySortBy {
-    ALL, RECRUITING, COMPLETED, HIT, LIKED
+    ALL, RECRUITING, COMPLETED, HIT, LIKED, RELEVANCE
 }
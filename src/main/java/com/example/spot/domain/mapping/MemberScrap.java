@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_member_scrap_member_post", columnNames = {"member_id", "post_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberScrap extends BaseEntity {
     @Id
@@ -18,7 +18,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +33,12 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @DynamicInsert
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    // 커서 기반 조회용 (정렬 키 + ID)
+    @Index(name = "idx_study_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_study_hit_num_id", columnList = "hit_num, id"),
+    @Index(name = "idx_study_heart_count_id", columnList = "heart_count, id")
+})
 public class Study extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -85,6 +93,11 @@ public class Study extends BaseEntity {
     @Column(nullable = false)
     private Long maxPeople;
 
+    // 승인된(APPROVED) 회원 수. StudyRepository의 원자적 UPDATE 쿼리로만 변경됩니다.
+    // 엔티티 flush 시 다른 트랜잭션의 증감을 덮어쓰지 않도록 updatable = false 로 둡니다.
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long approvedMemberCount;
+
     @OneToMany(mappedBy = "study", cascade = CascadeType.ALL)
     private List<Schedule> schedules = new ArrayList<>();
 
@@ -138,6 +151,7 @@ public class Study extends BaseEntity {
         this.status = Status.ON;
         this.hitNum = 0L;
         this.maxPeople = maxPeople;
+        this.approvedMemberCount = 0L;
         this.schedules = new ArrayList<>();
         this.posts = new ArrayList<>();
         this.votes = new ArrayList<>();
@@ -209,9 +223,14 @@ public class Study extends BaseEntity {
         this.heartCount--;
     }
 
-    // hit 증가
-    public void increaseHit() {
-        this.hitNum++;
+    // 원자적 UPDATE 쿼리가 성공한 뒤 이미 조회된 엔티티의 값을 맞춥니다.
+    public void increaseApprovedMemberCount() {
+        this.approvedMemberCount = approvedMemberCount + 1;
+    }
+
+    public void decreaseApprovedMemberCount() {
+        if (approvedMemberCount > 0)
+            this.approvedMemberCount = approvedMemberCount - 1;
     }
 
     public void updateVote(Vote vote) {
@@ -1,8 +1,12 @@
 package com.example.spot.repository;
 
 import com.example.spot.domain.LikedPostComment;
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikedPostCommentRepository extends JpaRepository<LikedPostComment, Long> {
@@ -14,4 +18,11 @@ public interface LikedPostCommentRepository extends JpaRepository<LikedPostComme
     boolean existsByMemberIdAndPostCommentIdAndIsLikedTrue(Long currentUserId, Long postCommentId);
     //회원 ID와 댓글 ID로 싫어요(IsLiked=False) 존재 여부
     boolean existsByMemberIdAndPostCommentIdAndIsLikedFalse(Long currentUserId, Long postCommentId);
+    //게시글의 모든 댓글에 대해 댓글별 좋아요 수와 회원의 좋아요/싫어요 여부를 한 번에 조회 (좋아요/싫어요가 없는 댓글은 제외)
+    @Query("SELECT new com.example.spot.repository.querydsl.PostCommentReactionCount(lpc.postComment.id, " +
+            "SUM(CASE WHEN lpc.isLiked = true THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN lpc.member.id = :memberId AND lpc.isLiked = true THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN lpc.member.id = :memberId AND lpc.isLiked = false THEN 1L ELSE 0L END)) " +
+            "FROM LikedPostComment lpc WHERE lpc.postComment.post.id = :postId GROUP BY lpc.postComment.id")
+    List<PostCommentReactionCount> countByPostId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 }
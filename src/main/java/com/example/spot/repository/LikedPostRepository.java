@@ -2,16 +2,34 @@ package com.example.spot.repository;
 
 import com.example.spot.domain.LikedPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikedPostRepository extends JpaRepository<LikedPost, Long> {
     Optional<LikedPost> findByMemberIdAndPostId(Long memberId, Long postId);
 
+    // 좋아요 취소 (삭제된 행 수로 좋아요 여부 판단)
+    @Modifying
+    @Query("DELETE FROM LikedPost lp WHERE lp.member.id = :memberId AND lp.post.id = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
     // 게시글 ID별로 LikedPost의 개수 세기
     long countByPostId(Long postId);
 
     // 회원 ID와 게시글 ID로 LikedPost 존재 여부
     boolean existsByMemberIdAndPostId(Long memberId, Long postId);
 
+    // 게시글 ID 목록 중 회원이 좋아요한 게시글 ID 조회 (좋아요 수는 Post.likeNum 사용)
+    @Query("SELECT lp.post.id FROM LikedPost lp WHERE lp.member.id = :memberId AND lp.post.id IN :postIds")
+    List<Long> findPostIdsByMemberIdAndPostIdIn(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
+    // 같은 회원, 게시글의 좋아요 중 가장 먼저 생성된 좋아요를 제외한 중복 좋아요 ID (유니크 제약 생성 전 정리용)
+    @Query("SELECT lp.id FROM LikedPost lp WHERE EXISTS (SELECT lp2 FROM LikedPost lp2 " +
+            "WHERE lp2.member = lp.member AND lp2.post = lp.post AND lp2.id < lp.id)")
+    List<Long> findDuplicateIds();
+
 }
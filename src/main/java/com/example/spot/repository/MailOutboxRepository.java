@@ -0,0 +1,69 @@
+package com.example.spot.repository;
+
+import com.example.spot.domain.MailOutbox;
+import com.example.spot.domain.enums.MailStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 전송 대기 중이거나 전송 제한 시각이 지난 메일
+    @Query("SELECT m.id FROM MailOutbox m " +
+            "WHERE m.status IN (com.example.spot.domain.enums.MailStatus.PENDING, com.example.spot.domain.enums.MailStatus.SENDING) " +
+            "AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(MailStatus status);
+
+    // 전송 대상인 경우에만 전송 중으로 변경 (변경된 행 수로 다른 스레드, 서버와의 중복 전송 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.example.spot.domain.enums.MailStatus.SENDING, " +
+            "m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "WHERE m.id = :id " +
+            "AND m.status IN (com.example.spot.domain.enums.MailStatus.PENDING, com.example.spot.domain.enums.MailStatus.SENDING) " +
+            "AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 아래 세 쿼리는 선점 시 증가한 시도 횟수를 선점 토큰으로 사용합니다.
+    // 전송 제한 시각이 지나 다른 스레드나 서버가 다시 선점한 경우 이전 전송의 결과는 반영되지 않습니다.
+
+    // 전송 완료 처리 (평문 본문은 더 이상 필요하지 않으므로 삭제)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.example.spot.domain.enums.MailStatus.SENT, m.lastError = null, " +
+            "m.content = '' " +
+            "WHERE m.id = :id AND m.status = com.example.spot.domain.enums.MailStatus.SENDING AND m.attempts = :attempts")
+    int markSent(@Param("id") Long id, @Param("attempts") int attempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.example.spot.domain.enums.MailStatus.PENDING, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError " +
+            "WHERE m.id = :id AND m.status = com.example.spot.domain.enums.MailStatus.SENDING AND m.attempts = :attempts")
+    int reschedule(@Param("id") Long id, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    // 전송 실패 처리 (다시 전송하지 않으므로 평문 본문 삭제)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.example.spot.domain.enums.MailStatus.FAILED, m.lastError = :lastError, " +
+            "m.content = '' " +
+            "WHERE m.id = :id AND m.status = com.example.spot.domain.enums.MailStatus.SENDING AND m.attempts = :attempts")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("lastError") String lastError);
+
+    // 전송이 끝난 메일 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN :statuses AND m.createdAt < :createdAt")
+    int deleteByStatusInAndCreatedAtBefore(@Param("statuses") List<MailStatus> statuses,
+                                           @Param("createdAt") LocalDateTime createdAt);
+}
@@ -1,6 +1,7 @@
 package com.example.spot.repository;
 
 import com.example.spot.domain.Member;
+import java.util.List;
 import java.util.Optional;
 
 import com.example.spot.domain.enums.LoginType;
@@ -14,6 +15,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
+    List<Member> findAllByEmail(String email);
+
     Optional<Member> findByLoginId(String loginId);
 
     boolean existsByLoginId(String loginId);
@@ -5,9 +5,11 @@ import com.example.spot.domain.mapping.MemberScrap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberScrapRepository extends JpaRepository<MemberScrap, Long> {
@@ -15,8 +17,22 @@ public interface MemberScrapRepository extends JpaRepository<MemberScrap, Long>
 
     long countByPostId(Long postId);
 
+    // 스크랩 취소 (삭제된 행 수로 스크랩 여부 판단)
+    @Modifying
+    @Query("DELETE FROM MemberScrap ms WHERE ms.member.id = :memberId AND ms.post.id = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
     boolean existsByMemberIdAndPostId(Long memberId, Long postId);
 
+    // 게시글 ID 목록 중 회원이 스크랩한 게시글 ID 조회 (스크랩 수는 Post.scrapNum 사용)
+    @Query("SELECT ms.post.id FROM MemberScrap ms WHERE ms.member.id = :memberId AND ms.post.id IN :postIds")
+    List<Long> findPostIdsByMemberIdAndPostIdIn(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
+    // 같은 회원, 게시글의 스크랩 중 가장 먼저 생성된 스크랩을 제외한 중복 스크랩 ID (유니크 제약 생성 전 정리용)
+    @Query("SELECT ms.id FROM MemberScrap ms WHERE EXISTS (SELECT ms2 FROM MemberScrap ms2 " +
+            "WHERE ms2.member = ms.member AND ms2.post = ms.post AND ms2.id < ms.id)")
+    List<Long> findDuplicateIds();
+
     @Query("SELECT ms FROM MemberScrap ms LEFT JOIN FETCH ms.post p WHERE ms.member.id = :memberId ORDER BY ms.createdAt DESC")
     Page<MemberScrap> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
@@ -0,0 +1,20 @@
+package com.example.spot.repository;
+
+import com.example.spot.domain.PostBestGeneration;
+import com.example.spot.domain.enums.PostRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostBestGenerationRepository extends JpaRepository<PostBestGeneration, Long> {
+
+    // 인기글 종류별 현재 세대 ID (세대가 없으면 null)
+    @Query("SELECT MAX(g.id) FROM PostBestGeneration g WHERE g.sortType = :sortType")
+    Long findCurrentGenerationId(@Param("sortType") PostRanking sortType);
+
+    // 현재 세대 이전의 세대 삭제
+    @Modifying
+    @Query("DELETE FROM PostBestGeneration g WHERE g.sortType = :sortType AND g.id < :generation")
+    int deleteOlderGenerations(@Param("sortType") PostRanking sortType, @Param("generation") Long generation);
+}
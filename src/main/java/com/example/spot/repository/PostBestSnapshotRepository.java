@@ -0,0 +1,21 @@
+package com.example.spot.repository;
+
+import com.example.spot.domain.PostBestSnapshot;
+import com.example.spot.domain.enums.PostRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostBestSnapshotRepository extends JpaRepository<PostBestSnapshot, Long> {
+
+    // 세대별 인기글 스냅샷 (순위순)
+    List<PostBestSnapshot> findAllByGenerationOrderByRankingAsc(Long generation);
+
+    // 현재 세대 이전의 스냅샷 삭제
+    @Modifying
+    @Query("DELETE FROM PostBestSnapshot s WHERE s.sortType = :sortType AND s.generation < :generation")
+    int deleteOlderGenerations(@Param("sortType") PostRanking sortType, @Param("generation") Long generation);
+}
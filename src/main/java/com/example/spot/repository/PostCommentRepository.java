@@ -7,4 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 public interface PostCommentRepository extends JpaRepository<PostComment, Long>, PostCommentRepositoryCustom {
     //List<PostComment> findByPostId(Long postId);
+
+    // 게시글의 댓글 수
+    long countByPostId(Long postId);
 }
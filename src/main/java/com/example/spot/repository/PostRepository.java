@@ -2,14 +2,83 @@ package com.example.spot.repository;
 
 import com.example.spot.domain.Post;
 import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.PostStatus;
 import com.example.spot.repository.querydsl.PostRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
-    Page<Post> findByBoardAndPostReportListIsEmpty(Board board, Pageable pageable);
+    // 신고되지 않은 게시판별 게시글 최신순 조회 (board, is_reported, created_at 인덱스 사용)
+    Page<Post> findByBoardAndIsReportedFalseOrderByCreatedAtDesc(Board board, Pageable pageable);
+
+    // 신고되지 않은 모든 게시글 최신순 조회 (is_reported, created_at 인덱스 사용)
+    Page<Post> findByIsReportedFalseOrderByCreatedAtDesc(Pageable pageable);
+
+    // 누적된 조회수 일괄 반영
+    @Modifying
+    @Query("UPDATE Post p SET p.hitNum = p.hitNum + :hit WHERE p.id IN :postIds")
+    int increaseHitNum(@Param("postIds") List<Long> postIds, @Param("hit") int hit);
+
+    // 좋아요 수 원자적 증감 (게시글 행 잠금으로 동시 요청을 직렬화)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeNum = p.likeNum + 1 WHERE p.id = :postId")
+    int increaseLikeNum(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeNum = p.likeNum - 1 WHERE p.id = :postId AND p.likeNum > 0")
+    int decreaseLikeNum(@Param("postId") Long postId);
+
+    // 스크랩 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Post p SET p.scrapNum = p.scrapNum + 1 WHERE p.id = :postId")
+    int increaseScrapNum(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.scrapNum = p.scrapNum - 1 WHERE p.id = :postId AND p.scrapNum > 0")
+    int decreaseScrapNum(@Param("postId") Long postId);
+
+    // 댓글 수 원자적 증가
+    @Modifying
+    @Query("UPDATE Post p SET p.commentNum = p.commentNum + 1 WHERE p.id = :postId")
+    int increaseCommentNum(@Param("postId") Long postId);
+
+    // 증감 이후의 카운터 조회 (영속성 컨텍스트의 게시글은 갱신 전 값을 가지고 있으므로 DB에서 조회)
+    @Query("SELECT p.likeNum FROM Post p WHERE p.id = :postId")
+    int findLikeNumById(@Param("postId") Long postId);
+
+    @Query("SELECT p.scrapNum FROM Post p WHERE p.id = :postId")
+    int findScrapNumById(@Param("postId") Long postId);
+
+    @Query("SELECT p.commentNum FROM Post p WHERE p.id = :postId")
+    int findCommentNumById(@Param("postId") Long postId);
+
+    // 좋아요/스크랩/댓글 테이블 기준으로 게시글의 카운터 보정
+    @Modifying
+    @Query("UPDATE Post p SET "
+            + "p.likeNum = (SELECT COUNT(lp) FROM LikedPost lp WHERE lp.post = p), "
+            + "p.scrapNum = (SELECT COUNT(ms) FROM MemberScrap ms WHERE ms.post = p), "
+            + "p.commentNum = (SELECT COUNT(pc) FROM PostComment pc WHERE pc.post = p) "
+            + "WHERE p.likeNum <> (SELECT COUNT(lp2) FROM LikedPost lp2 WHERE lp2.post = p) "
+            + "OR p.scrapNum <> (SELECT COUNT(ms2) FROM MemberScrap ms2 WHERE ms2.post = p) "
+            + "OR p.commentNum <> (SELECT COUNT(pc2) FROM PostComment pc2 WHERE pc2.post = p)")
+    int reconcileReactionCounts();
+
+    // 정상으로 처리되지 않은 신고(접수, 삭제 처리)가 있지만 신고 여부가 반영되지 않은 게시글 보정
+    @Modifying
+    @Query("UPDATE Post p SET p.isReported = true WHERE p.isReported = false AND EXISTS "
+            + "(SELECT r FROM PostReport r WHERE r.post = p AND (r.postStatus IS NULL OR r.postStatus <> :dismissed))")
+    int reconcileReported(@Param("dismissed") PostStatus dismissed);
 
-    Page<Post> findByPostReportListIsEmpty(Pageable pageable); // 모든 게시글 조회
+    // 신고가 모두 정상으로 처리되었지만 신고된 상태로 남아 있는 게시글 보정
+    @Modifying
+    @Query("UPDATE Post p SET p.isReported = false WHERE p.isReported = true AND NOT EXISTS "
+            + "(SELECT r FROM PostReport r WHERE r.post = p AND (r.postStatus IS NULL OR r.postStatus <> :dismissed))")
+    int reconcileNotReported(@Param("dismissed") PostStatus dismissed);
 
 }
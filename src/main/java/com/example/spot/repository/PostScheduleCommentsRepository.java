@@ -1,7 +0,0 @@
-package com.example.spot.repository;
-
-import com.example.spot.domain.PostScheduleComments;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface PostScheduleCommentsRepository extends JpaRepository<PostScheduleComments, Long> {
-}
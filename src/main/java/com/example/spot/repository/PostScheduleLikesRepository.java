@@ -1,7 +0,0 @@
-package com.example.spot.repository;
-
-import com.example.spot.domain.PostScheduleLikes;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface PostScheduleLikesRepository extends JpaRepository<PostScheduleLikes, Long> {
-}
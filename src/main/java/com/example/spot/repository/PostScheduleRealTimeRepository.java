@@ -1,7 +0,0 @@
-package com.example.spot.repository;
-
-import com.example.spot.domain.PostScheduleRealTime;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface PostScheduleRealTimeRepository extends JpaRepository<PostScheduleRealTime, Long> {
-}
@@ -1,16 +1,32 @@
 package com.example.spot.repository;
 
 import com.example.spot.domain.auth.RefreshToken;
-import com.example.spot.domain.study.Option;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long>{
     Optional<RefreshToken> findByToken(String token);
     void deleteByMemberId(Long memberId);
-    void deleteAllByMemberId(Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.memberId = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
 
     boolean existsByMemberId(Long memberId);
+
+    // 회원의 현재 리프레시 토큰인 경우에만 삭제 (삭제된 행 수로 교체 가능 여부 판단)
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.memberId = :memberId AND rt.token = :token")
+    int deleteByMemberIdAndToken(@Param("memberId") Long memberId, @Param("token") String token);
+
+    // 만료된 리프레시 토큰 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
 }
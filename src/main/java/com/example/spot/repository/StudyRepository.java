@@ -1,11 +1,16 @@
 package com.example.spot.repository;
 
+import com.example.spot.domain.enums.ApplicationStatus;
 import com.example.spot.domain.study.Study;
 import com.example.spot.repository.querydsl.StudyRepositoryCustom;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +18,30 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
 
     Page<Study> findAll(Specification<Study> spec, Pageable pageable);
     Page<Study> findAllByTitleContainingOrderByCreatedAtDesc(String keyWord, Pageable pageable);
+
+    // 승인된 회원 수 증가 - 정원이 가득 찬 경우 0을 반환합니다.
+    // 같은 트랜잭션에서 이미 조회한 Study가 있다면 Study#increaseApprovedMemberCount로 값을 맞춰야 합니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Study s SET s.approvedMemberCount = s.approvedMemberCount + 1 "
+        + "WHERE s.id = :studyId AND s.approvedMemberCount < s.maxPeople")
+    int increaseApprovedMemberCount(@Param("studyId") Long studyId);
+
+    // 승인된 회원 수 감소 - 이미 조회한 Study는 Study#decreaseApprovedMemberCount로 값을 맞춥니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Study s SET s.approvedMemberCount = s.approvedMemberCount - 1 "
+        + "WHERE s.id = :studyId AND s.approvedMemberCount > 0")
+    int decreaseApprovedMemberCount(@Param("studyId") Long studyId);
+
+    // 누적된 조회수 일괄 반영
+    @Modifying
+    @Query("UPDATE Study s SET s.hitNum = s.hitNum + :hit WHERE s.id IN :studyIds")
+    int increaseHitNum(@Param("studyIds") List<Long> studyIds, @Param("hit") Long hit);
+
+    // member_study 기준으로 승인된 회원 수를 재계산 - 값이 다른 스터디만 갱신합니다.
+    @Modifying
+    @Query("UPDATE Study s SET s.approvedMemberCount = "
+        + "(SELECT COUNT(ms) FROM MemberStudy ms WHERE ms.study = s AND ms.status = :status) "
+        + "WHERE s.approvedMemberCount <> "
+        + "(SELECT COUNT(ms2) FROM MemberStudy ms2 WHERE ms2.study = s AND ms2.status = :status)")
+    int reconcileApprovedMemberCount(@Param("status") ApplicationStatus status);
 }
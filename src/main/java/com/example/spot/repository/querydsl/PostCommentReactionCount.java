@@ -0,0 +1,26 @@
+package com.example.spot.repository.querydsl;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글별 좋아요 수와 현재 회원의 좋아요/싫어요 여부를 함께 조회하기 위한 프로젝션입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCommentReactionCount {
+
+    private final Long postCommentId;
+    private final Long likeCount;
+    // 현재 회원이 남긴 좋아요/싫어요 수 (0 또는 1)
+    private final Long memberLikeCount;
+    private final Long memberDislikeCount;
+
+    public boolean isLikedByMember() {
+        return memberLikeCount != null && memberLikeCount > 0;
+    }
+
+    public boolean isDislikedByMember() {
+        return memberDislikeCount != null && memberDislikeCount > 0;
+    }
+}
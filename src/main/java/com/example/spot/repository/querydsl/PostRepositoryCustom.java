@@ -3,6 +3,7 @@ package com.example.spot.repository.querydsl;
 import com.example.spot.domain.Post;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostRepositoryCustom {
 
@@ -21,4 +22,10 @@ public interface PostRepositoryCustom {
     //공지 개시글
     List<Post> findAnnouncementPosts();
 
+    // 게시글별 좋아요 수 (인기글 순위 재구성용)
+    Map<Long, Long> countLikesGroupByPost();
+
+    // 게시글별 댓글 수 (인기글 순위 재구성용)
+    Map<Long, Long> countCommentsGroupByPost();
+
 }
@@ -0,0 +1,99 @@
+package com.example.spot.repository.querydsl;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.StudyHandler;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.domain.study.Study;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 목록 커서(Keyset) 페이징에 사용되는 커서입니다.
+ * 정렬 기준 값(조회수, 좋아요 수 또는 생성일)과 동일 값 구분을 위한 스터디 ID로 구성되며,
+ * 클라이언트에는 Base64로 인코딩된 불투명 문자열로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudyCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final StudySortBy sortBy;
+
+    // HIT, LIKED 정렬 시 사용
+    private final Long sortValue;
+
+    // 그 외 정렬(생성일 기준) 시 사용
+    private final LocalDateTime createdAt;
+
+    private final Long id;
+
+/* ----------------------------- 생성 ------------------------------------- */
+
+    /**
+     * 마지막으로 조회된 스터디로부터 다음 페이지 커서를 생성합니다.
+     * @param study 페이지의 마지막 스터디를 입력 받습니다.
+     * @param sortBy 정렬 기준을 입력 받습니다.
+     * @return 다음 페이지 조회에 사용할 커서를 반환합니다.
+     */
+    public static StudyCursor of(Study study, StudySortBy sortBy) {
+        return switch (sortKey(sortBy)) {
+            case HIT -> new StudyCursor(sortBy, study.getHitNum(), null, study.getId());
+            case LIKED -> new StudyCursor(sortBy, study.getHeartCount().longValue(), null, study.getId());
+            default -> new StudyCursor(sortBy, null, study.getCreatedAt(), study.getId());
+        };
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     * @param cursor 인코딩된 커서 문자열을 입력 받습니다.
+     * @param sortBy 요청한 정렬 기준을 입력 받습니다.
+     * @return 해석된 커서를 반환합니다. 커서가 비어있을 경우 null을 반환합니다.
+     * @throws StudyHandler 커서 형식이 잘못되었거나 정렬 기준이 일치하지 않을 경우 Exception을 발생시킵니다.
+     */
+    public static StudyCursor decode(String cursor, StudySortBy sortBy) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER);
+            if (tokens.length != 3 || !tokens[0].equals(String.valueOf(sortBy)))
+                throw new StudyHandler(ErrorStatus._STUDY_CURSOR_INVALID);
+
+            Long id = Long.parseLong(tokens[2]);
+            return switch (sortKey(sortBy)) {
+                case HIT, LIKED -> new StudyCursor(sortBy, Long.parseLong(tokens[1]), null, id);
+                default -> new StudyCursor(sortBy, null, LocalDateTime.parse(tokens[1]), id);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new StudyHandler(ErrorStatus._STUDY_CURSOR_INVALID);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩합니다.
+     * @return Base64로 인코딩된 커서 문자열을 반환합니다.
+     */
+    public String encode() {
+        String value = sortValue != null ? String.valueOf(sortValue) : String.valueOf(createdAt);
+        String raw = sortBy + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 기준에 따라 커서의 정렬 키를 결정합니다. HIT, LIKED 외에는 생성일을 정렬 키로 사용합니다.
+     * @param sortBy 정렬 기준을 입력 받습니다.
+     * @return 커서의 정렬 키를 반환합니다.
+     */
+    public static StudySortBy sortKey(StudySortBy sortBy) {
+        if (sortBy == StudySortBy.HIT || sortBy == StudySortBy.LIKED)
+            return sortBy;
+        return StudySortBy.ALL;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.spot.repository.querydsl;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 전문 검색 인덱스에 사용되는 스터디 컬럼만 조회하기 위한 프로젝션입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyDocument {
+
+    private final Long id;
+    private final String title;
+    private final String goal;
+    private final String introduction;
+    private final Long hitNum;
+    private final Integer heartCount;
+}
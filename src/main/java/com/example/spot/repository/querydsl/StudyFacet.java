@@ -0,0 +1,23 @@
+package com.example.spot.repository.querydsl;
+
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudyState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 검색 필터(패싯 인덱스)에 사용되는 스터디 컬럼만 조회하기 위한 프로젝션입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyFacet {
+
+    private final Long id;
+    private final StudyState studyState;
+    private final Gender gender;
+    private final Boolean isOnline;
+    private final Boolean hasFee;
+    private final Integer fee;
+    private final Integer minAge;
+    private final Integer maxAge;
+}
@@ -9,6 +9,7 @@ import com.example.spot.domain.mapping.StudyTheme;
 import com.example.spot.domain.study.Study;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jdbc.repository.query.Query;
@@ -18,6 +19,14 @@ public interface StudyRepositoryCustom {
     List<Study> findAllStudyByConditions(Map<String, Object> search, StudySortBy sortBy, Pageable pageable);
     List<Study> findAllStudy(StudySortBy sortBy, Pageable pageable);
 
+    // offset 기준 스터디 조회 (slice 모드에서 다음 페이지 확인용으로 한 건 더 조회할 때 사용)
+    List<Study> findAllStudyByConditions(Map<String, Object> search, StudySortBy sortBy, long offset, int limit);
+    List<Study> findAllStudy(StudySortBy sortBy, long offset, int limit);
+
+    // 커서 기반 스터디 조회 (cursor == null 이면 첫 페이지)
+    List<Study> findAllStudyByConditionsAfterCursor(Map<String, Object> search, StudySortBy sortBy,
+        StudyCursor cursor, int limit);
+
     List<Study> findByStudyTheme(List<StudyTheme> studyThemes);
 
     List<Study> findByStudyThemeAndNotInIds(List<StudyTheme> studyThemes, List<Long> studyIds);
@@ -48,4 +57,20 @@ public interface StudyRepositoryCustom {
 
     long countAllByTitleContaining(String title, StudySortBy sortBy);
 
+    // 스터디 목록 미리보기 - 스터디 ID 목록 기준 일괄 조회
+    Map<Long, List<String>> findRegionCodesByStudyIds(List<Long> studyIds);
+    Map<Long, List<ThemeType>> findThemeTypesByStudyIds(List<Long> studyIds);
+    Set<Long> findLikedStudyIdsByMemberId(List<Long> studyIds, Long memberId);
+
+    // 스터디 패싯 인덱스 - ID 순 일괄 조회 (lastId 이후 limit 개)
+    List<StudyFacet> findStudyFacetsAfterId(Long lastId, int limit);
+    List<StudyFacet> findStudyFacetsByIds(List<Long> studyIds);
+
+    // 스터디 전문 검색 인덱스 - ID 순 일괄 조회 (lastId 이후 limit 개)
+    List<StudyDocument> findStudyDocumentsAfterId(Long lastId, int limit);
+    List<StudyDocument> findStudyDocumentsByIds(List<Long> studyIds);
+
+    // 패싯 인덱스로 계산된 스터디 ID 목록 기준 조회
+    List<Study> findAllStudyByIds(List<Long> studyIds, StudySortBy sortBy, long offset, int limit);
+
 }
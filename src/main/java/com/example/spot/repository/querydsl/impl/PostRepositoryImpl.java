@@ -6,12 +6,13 @@ import com.example.spot.domain.QPost;
 import com.example.spot.domain.QPostComment;
 import com.example.spot.domain.enums.Board;
 import com.example.spot.repository.querydsl.PostRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -54,14 +55,14 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     //실시간순
     @Override
     public List<Post> findTopByRealTimeScore() {
-        // TODO 실시간 두시간 전 게시글만 통계
-        //LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(2);
+        // 실시간 인기글 순위(Redis)가 비어 있을 때만 사용되며, 두 시간 이내에 작성된 게시글만 통계
+        LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(2);
 
         return jpaQueryFactory
                 .selectFrom(post)
                 .leftJoin(post.postCommentList, comment)
                 .leftJoin(post.likedPostList, like).fetchJoin()
-                //.where(post.createdAt.after(twoHoursAgo))
+                .where(post.createdAt.after(twoHoursAgo))
                 //.groupBy(post)
                 .orderBy(
                         post.hitNum.add(post.likedPostList.size()).add(post.postCommentList.size()).desc(),
@@ -76,19 +77,18 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     //게시글 타입별 최신 게시글
     @Override
     public List<Post> findRepresentativePosts() {
-        // 모든 게시판의 최신 게시글을 불러옵니다.
-        List<Post> posts = jpaQueryFactory
+        // 게시판 타입별로 가장 최근에 작성된(ID가 가장 큰) 게시글 ID를 구한 뒤 해당 게시글만 불러옵니다.
+        QPost latest = new QPost("latest");
+        return jpaQueryFactory
                 .selectFrom(post)
-                .where(post.board.ne(Board.ALL).and(post.board.ne(Board.SPOT_ANNOUNCEMENT)))
-                .orderBy(post.board.asc(), post.createdAt.desc())
+                .where(post.id.in(
+                        JPAExpressions
+                                .select(latest.id.max())
+                                .from(latest)
+                                .where(latest.board.ne(Board.ALL).and(latest.board.ne(Board.SPOT_ANNOUNCEMENT)))
+                                .groupBy(latest.board)))
+                .orderBy(post.board.asc())
                 .fetch();
-        // 게시판 타입별로 최신 게시글 하나씩만 남기고 필터링합니다.
-        Map<Board, Post> latestPostsByBoard = new LinkedHashMap<>();
-        for (Post post : posts) {
-            latestPostsByBoard.putIfAbsent(post.getBoard(), post);
-        }
-        // 필터링된 게시글 리스트를 반환합니다.
-        return new ArrayList<>(latestPostsByBoard.values());
     }
 
     //공지 게시글 최신 5개
@@ -102,4 +102,34 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .fetch();
     }
 
+    //게시글별 좋아요 수
+    @Override
+    public Map<Long, Long> countLikesGroupByPost() {
+        List<Tuple> rows = jpaQueryFactory
+                .select(like.post.id, like.count())
+                .from(like)
+                .groupBy(like.post.id)
+                .fetch();
+        return toCountMap(rows);
+    }
+
+    //게시글별 댓글 수
+    @Override
+    public Map<Long, Long> countCommentsGroupByPost() {
+        List<Tuple> rows = jpaQueryFactory
+                .select(comment.post.id, comment.count())
+                .from(comment)
+                .groupBy(comment.post.id)
+                .fetch();
+        return toCountMap(rows);
+    }
+
+    private static Map<Long, Long> toCountMap(List<Tuple> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(0, Long.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
 }
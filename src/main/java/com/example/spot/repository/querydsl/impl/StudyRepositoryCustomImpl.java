@@ -1,19 +1,35 @@
 package com.example.spot.repository.querydsl.impl;
 
 import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudyLikeStatus;
 import com.example.spot.domain.enums.StudySortBy;
 import com.example.spot.domain.enums.StudyState;
+import com.example.spot.domain.enums.ThemeType;
 import com.example.spot.domain.mapping.MemberStudy;
+import com.example.spot.domain.mapping.QPreferredStudy;
+import com.example.spot.domain.mapping.QRegionStudy;
+import com.example.spot.domain.mapping.QStudyTheme;
 import com.example.spot.domain.mapping.RegionStudy;
 import com.example.spot.domain.mapping.StudyTheme;
 import com.example.spot.domain.study.QStudy;
 import com.example.spot.domain.study.Study;
+import com.example.spot.repository.querydsl.StudyCursor;
+import com.example.spot.repository.querydsl.StudyDocument;
+import com.example.spot.repository.querydsl.StudyFacet;
 import com.example.spot.repository.querydsl.StudyRepositoryCustom;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +44,12 @@ public class StudyRepositoryCustomImpl implements StudyRepositoryCustom {
     @Override
     public List<Study> findAllStudyByConditions(Map<String, Object> search, StudySortBy sortBy,
         Pageable pageable) {
+        return findAllStudyByConditions(search, sortBy, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Study> findAllStudyByConditions(Map<String, Object> search, StudySortBy sortBy,
+        long offset, int limit) {
         QStudy study = QStudy.study;
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -36,8 +58,8 @@ public class StudyRepositoryCustomImpl implements StudyRepositoryCustom {
 
         JPAQuery<Study> query = queryFactory.selectFrom(study)
             .where(builder)
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize());
+            .offset(offset)
+            .limit(limit);
 
         getSortBy(sortBy, query, study);
 
@@ -46,20 +68,46 @@ public class StudyRepositoryCustomImpl implements StudyRepositoryCustom {
 
     @Override
     public List<Study> findAllStudy(StudySortBy sortBy, Pageable pageable) {
+        return findAllStudy(sortBy, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Study> findAllStudy(StudySortBy sortBy, long offset, int limit) {
         QStudy study = QStudy.study;
         BooleanBuilder builder = new BooleanBuilder();
         getStudyState(sortBy, builder, study);
 
         JPAQuery<Study> query = queryFactory.selectFrom(study)
             .where(builder)
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize());
+            .offset(offset)
+            .limit(limit);
 
         getSortBy(sortBy, query, study);
 
         return query.fetch();
     }
 
+    @Override
+    public List<Study> findAllStudyByConditionsAfterCursor(Map<String, Object> search,
+        StudySortBy sortBy, StudyCursor cursor, int limit) {
+        QStudy study = QStudy.study;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        getConditions(search, study, builder);
+        getStudyState(sortBy, builder, study);
+        if (cursor != null)
+            builder.and(getCursorCondition(sortBy, cursor, study));
+
+        // offset 없이 정렬 키 + ID 기준으로 다음 페이지 조회
+        JPAQuery<Study> query = queryFactory.selectFrom(study)
+            .where(builder)
+            .limit(limit);
+
+        getCursorSortBy(sortBy, query, study);
+
+        return query.fetch();
+    }
+
     @Override
     public List<Study> findByStudyTheme(List<StudyTheme> studyThemes) {
         return queryFactory.selectFrom(study)
@@ -295,6 +343,133 @@ public class StudyRepositoryCustomImpl implements StudyRepositoryCustom {
             .fetchCount();
     }
 
+    @Override
+    public Map<Long, List<String>> findRegionCodesByStudyIds(List<Long> studyIds) {
+        Map<Long, List<String>> regionCodes = new HashMap<>();
+        if (studyIds == null || studyIds.isEmpty())
+            return regionCodes;
+
+        QRegionStudy regionStudy = QRegionStudy.regionStudy;
+        List<Tuple> rows = queryFactory.select(regionStudy.study.id, regionStudy.region.code)
+            .from(regionStudy)
+            .where(regionStudy.study.id.in(studyIds))
+            .orderBy(regionStudy.id.asc())
+            .fetch();
+
+        for (Tuple row : rows) {
+            regionCodes.computeIfAbsent(row.get(regionStudy.study.id), id -> new ArrayList<>())
+                .add(row.get(regionStudy.region.code));
+        }
+        return regionCodes;
+    }
+
+    @Override
+    public Map<Long, List<ThemeType>> findThemeTypesByStudyIds(List<Long> studyIds) {
+        Map<Long, List<ThemeType>> themeTypes = new HashMap<>();
+        if (studyIds == null || studyIds.isEmpty())
+            return themeTypes;
+
+        QStudyTheme studyTheme = QStudyTheme.studyTheme;
+        List<Tuple> rows = queryFactory.select(studyTheme.study.id, studyTheme.theme.studyTheme)
+            .from(studyTheme)
+            .where(studyTheme.study.id.in(studyIds))
+            .orderBy(studyTheme.id.asc())
+            .fetch();
+
+        for (Tuple row : rows) {
+            themeTypes.computeIfAbsent(row.get(studyTheme.study.id), id -> new ArrayList<>())
+                .add(row.get(studyTheme.theme.studyTheme));
+        }
+        return themeTypes;
+    }
+
+    @Override
+    public Set<Long> findLikedStudyIdsByMemberId(List<Long> studyIds, Long memberId) {
+        if (studyIds == null || studyIds.isEmpty() || memberId == null)
+            return new HashSet<>();
+
+        QPreferredStudy preferredStudy = QPreferredStudy.preferredStudy;
+        return new HashSet<>(queryFactory.select(preferredStudy.study.id)
+            .from(preferredStudy)
+            .where(preferredStudy.study.id.in(studyIds))
+            .where(preferredStudy.member.id.eq(memberId))
+            .where(preferredStudy.studyLikeStatus.eq(StudyLikeStatus.LIKE))
+            .fetch());
+    }
+
+    @Override
+    public List<StudyFacet> findStudyFacetsAfterId(Long lastId, int limit) {
+        QStudy study = QStudy.study;
+        return queryFactory.select(getStudyFacet(study))
+            .from(study)
+            .where(lastId == null ? null : study.id.gt(lastId))
+            .orderBy(study.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<StudyFacet> findStudyFacetsByIds(List<Long> studyIds) {
+        if (studyIds == null || studyIds.isEmpty())
+            return new ArrayList<>();
+
+        QStudy study = QStudy.study;
+        return queryFactory.select(getStudyFacet(study))
+            .from(study)
+            .where(study.id.in(studyIds))
+            .fetch();
+    }
+
+    @Override
+    public List<StudyDocument> findStudyDocumentsAfterId(Long lastId, int limit) {
+        QStudy study = QStudy.study;
+        return queryFactory.select(getStudyDocument(study))
+            .from(study)
+            .where(lastId == null ? null : study.id.gt(lastId))
+            .orderBy(study.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<StudyDocument> findStudyDocumentsByIds(List<Long> studyIds) {
+        if (studyIds == null || studyIds.isEmpty())
+            return new ArrayList<>();
+
+        QStudy study = QStudy.study;
+        return queryFactory.select(getStudyDocument(study))
+            .from(study)
+            .where(study.id.in(studyIds))
+            .fetch();
+    }
+
+    @Override
+    public List<Study> findAllStudyByIds(List<Long> studyIds, StudySortBy sortBy, long offset, int limit) {
+        if (studyIds == null || studyIds.isEmpty())
+            return new ArrayList<>();
+
+        QStudy study = QStudy.study;
+        JPAQuery<Study> query = queryFactory.selectFrom(study)
+            .where(study.id.in(studyIds))
+            .offset(offset)
+            .limit(limit);
+
+        getSortBy(sortBy, query, study);
+
+        return query.fetch();
+    }
+
+    private static ConstructorExpression<StudyFacet> getStudyFacet(QStudy study) {
+        return Projections.constructor(StudyFacet.class,
+            study.id, study.studyState, study.gender, study.isOnline,
+            study.hasFee, study.fee, study.minAge, study.maxAge);
+    }
+
+    private static ConstructorExpression<StudyDocument> getStudyDocument(QStudy study) {
+        return Projections.constructor(StudyDocument.class,
+            study.id, study.title, study.goal, study.introduction, study.hitNum, study.heartCount);
+    }
+
     private static void getStudyState(StudySortBy sortBy, BooleanBuilder builder, QStudy study) {
         if (sortBy != null && sortBy.equals(StudySortBy.RECRUITING))
             builder.and(study.studyState.eq((StudyState.RECRUITING)));
@@ -324,6 +499,36 @@ public class StudyRepositoryCustomImpl implements StudyRepositoryCustom {
                 break;
         }
     }
+
+    private static BooleanExpression getCursorCondition(StudySortBy sortBy, StudyCursor cursor, QStudy study) {
+        switch (StudyCursor.sortKey(sortBy)) {
+            case HIT:
+                return study.hitNum.lt(cursor.getSortValue())
+                    .or(study.hitNum.eq(cursor.getSortValue()).and(study.id.lt(cursor.getId())));
+            case LIKED:
+                int heartCount = cursor.getSortValue().intValue();
+                return study.heartCount.lt(heartCount)
+                    .or(study.heartCount.eq(heartCount).and(study.id.lt(cursor.getId())));
+            default:
+                return study.createdAt.lt(cursor.getCreatedAt())
+                    .or(study.createdAt.eq(cursor.getCreatedAt()).and(study.id.lt(cursor.getId())));
+        }
+    }
+
+    private static void getCursorSortBy(StudySortBy sortBy, JPAQuery<Study> query, QStudy study) {
+        switch (StudyCursor.sortKey(sortBy)) {
+            case HIT:
+                query.orderBy(study.hitNum.desc(), study.id.desc());
+                break;
+            case LIKED:
+                query.orderBy(study.heartCount.desc(), study.id.desc());
+                break;
+            default:
+                query.orderBy(study.createdAt.desc(), study.id.desc());
+                break;
+        }
+    }
+
     private static BooleanBuilder getBooleanBuilderByRegionStudies(Map<String, Object> search, QStudy study,
         List<RegionStudy> RegionStudies) {
         BooleanBuilder builder = new BooleanBuilder();
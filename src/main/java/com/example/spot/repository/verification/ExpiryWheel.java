@@ -0,0 +1,69 @@
+package com.example.spot.repository.verification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 만료 시각이 있는 키를 틱 단위 슬롯에 나누어 보관하는 해시 타이밍 휠입니다.
+ * 키를 등록할 때는 만료 시각에 해당하는 슬롯에 추가하기만 하고, 만료 처리 시에는 지나간 틱의 슬롯만 확인하므로
+ * 등록과 만료 모두 전체 키를 순회하지 않습니다. 휠 한 바퀴보다 늦게 만료되는 키는 해당 슬롯에 다시 추가됩니다.
+ */
+class ExpiryWheel {
+
+    private final long tickMillis;
+    private final List<Queue<Timeout>> slots;
+    private volatile long lastTick;
+
+    ExpiryWheel(long tickMillis, int slotCount, long now) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++)
+            slots.add(new ConcurrentLinkedQueue<>());
+        this.lastTick = now / tickMillis;
+    }
+
+    /**
+     * 키를 만료 시각의 슬롯에 등록합니다.
+     * @param key 키
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    void schedule(String key, long expiresAt) {
+        // 만료 시각 이후 처음 확인되는 틱에 등록 (이미 지나간 틱이면 다음 틱)
+        long tick = Math.max((expiresAt + tickMillis - 1) / tickMillis, lastTick + 1);
+        slotOf(tick).add(new Timeout(key, expiresAt));
+    }
+
+    /**
+     * 지나간 틱의 슬롯에서 만료된 키를 꺼냅니다. 한 스레드에서만 호출해야 합니다.
+     * @param now 현재 시각 (epoch millis)
+     * @return 만료 시각이 지난 키 목록 (같은 키가 갱신된 경우 이전 등록도 포함될 수 있음)
+     */
+    List<Timeout> expire(long now) {
+        List<Timeout> expired = new ArrayList<>();
+        long currentTick = now / tickMillis;
+        // 휠 한 바퀴 이상 지난 경우 모든 슬롯을 한 번씩만 확인
+        long fromTick = Math.max(lastTick + 1, currentTick - slots.size() + 1);
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Queue<Timeout> slot = slotOf(tick);
+            List<Timeout> pending = new ArrayList<>();
+            Timeout timeout;
+            while ((timeout = slot.poll()) != null) {
+                if (timeout.expiresAt() <= now)
+                    expired.add(timeout);
+                else
+                    pending.add(timeout);
+            }
+            slot.addAll(pending);
+        }
+        lastTick = currentTick;
+        return expired;
+    }
+
+    private Queue<Timeout> slotOf(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    record Timeout(String key, long expiresAt) {}
+}
@@ -0,0 +1,106 @@
+package com.example.spot.repository.verification;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.MemberHandler;
+import com.example.spot.domain.auth.VerificationCode;
+import com.example.spot.repository.verification.ExpiryWheel.Timeout;
+import com.example.spot.web.dto.token.TokenResponseDTO;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인증 코드를 애플리케이션 메모리에 저장합니다. 단일 서버로 동작하는 로컬 환경에서 사용합니다. ({@code local} 프로필)
+ * 이메일별 인증 코드는 ConcurrentHashMap에 저장하고, 만료는 {@link ExpiryWheel}로 1초 단위로 처리합니다.
+ */
+@Repository
+@Profile("local")
+public class InMemoryVerificationCodeRepository implements VerificationCodeRepository {
+
+    private static final long TICK_MILLIS = 1_000;
+    private static final int SLOT_COUNT = 512;
+
+    @Value("${token.temp_token_expiration_time}")
+    private Long TEMP_TOKEN_EXPIRATION_TIME;
+
+    private final Clock clock;
+    private final Map<String, VerificationCode> verificationCodes = new ConcurrentHashMap<>();
+    private final ExpiryWheel expiryWheel;
+
+    public InMemoryVerificationCodeRepository() {
+        this(Clock.systemDefaultZone());
+    }
+
+    // 만료 처리를 검증할 수 있도록 시계를 주입
+    InMemoryVerificationCodeRepository(Clock clock) {
+        this.clock = clock;
+        this.expiryWheel = new ExpiryWheel(TICK_MILLIS, SLOT_COUNT, clock.millis());
+    }
+
+    @Override
+    public void addVerificationCode(String email, String code) {
+        if (email == null || code == null)
+            return;
+
+        long expiresAt = clock.millis() + TEMP_TOKEN_EXPIRATION_TIME;
+        verificationCodes.compute(email, (key, existingCode) -> {
+            if (existingCode == null || isExpired(existingCode)) {
+                return VerificationCode.builder()
+                        .email(email)
+                        .code(code)
+                        .expiredAt(toLocalDateTime(expiresAt))
+                        .build();
+            }
+            // 인증 코드를 다시 요청한 경우 코드와 만료 시각 갱신
+            existingCode.setCode(code);
+            existingCode.setExpiredAt(toLocalDateTime(expiresAt));
+            return existingCode;
+        });
+        expiryWheel.schedule(email, expiresAt);
+    }
+
+    @Override
+    public VerificationCode getVerificationCode(String email) {
+        VerificationCode verificationCode = verificationCodes.get(email);
+        if (verificationCode == null || isExpired(verificationCode))
+            throw new MemberHandler(ErrorStatus._MEMBER_NOT_VERIFIED);
+        return verificationCode;
+    }
+
+    @Override
+    public void setTempToken(TokenResponseDTO.TempTokenDTO tempTokenDTO, VerificationCode existingCode) {
+        long expiresAt = clock.millis() + TEMP_TOKEN_EXPIRATION_TIME;
+        VerificationCode updated = verificationCodes.computeIfPresent(existingCode.getEmail(), (key, verificationCode) -> {
+            verificationCode.setExpiredAt(toLocalDateTime(expiresAt));
+            verificationCode.setCode(tempTokenDTO.getTempToken());
+            return verificationCode;
+        });
+        if (updated != null)
+            expiryWheel.schedule(existingCode.getEmail(), expiresAt);
+    }
+
+    // 1초마다 만료된 인증 코드를 삭제합니다.
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void removeExpiredCodes() {
+        for (Timeout timeout : expiryWheel.expire(clock.millis())) {
+            // 만료 시각이 갱신된 인증 코드는 유지
+            verificationCodes.computeIfPresent(timeout.key(),
+                    (key, verificationCode) -> isExpired(verificationCode) ? null : verificationCode);
+        }
+    }
+
+    // 만료 시각에 도달하면 만료 (ExpiryWheel과 같은 기준)
+    private boolean isExpired(VerificationCode verificationCode) {
+        return verificationCode.getExpiredAt() != null && !verificationCode.getExpiredAt().isAfter(LocalDateTime.now(clock));
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.spot.repository.verification;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.MemberHandler;
+import com.example.spot.domain.auth.VerificationCode;
+import com.example.spot.web.dto.token.TokenResponseDTO;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인증 코드를 Redis에 저장합니다. 인증 코드 전송과 검증이 서로 다른 서버에서 처리되어도 같은 코드를 조회할 수 있으며,
+ * 만료는 Redis TTL로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Profile("!local")
+public class RedisVerificationCodeRepository implements VerificationCodeRepository {
+
+    private static final String KEY_PREFIX = "verification-code:";
+
+    @Value("${token.temp_token_expiration_time}")
+    private Long TEMP_TOKEN_EXPIRATION_TIME;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void addVerificationCode(String email, String code) {
+        if (email == null || code == null)
+            return;
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + email, code, ttl());
+    }
+
+    @Override
+    public VerificationCode getVerificationCode(String email) {
+        String code = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+        if (code == null)
+            throw new MemberHandler(ErrorStatus._MEMBER_NOT_VERIFIED);
+
+        return VerificationCode.builder()
+                .email(email)
+                .code(code)
+                .build();
+    }
+
+    @Override
+    public void setTempToken(TokenResponseDTO.TempTokenDTO tempTokenDTO, VerificationCode existingCode) {
+        // 인증이 완료된 코드만 임시 토큰으로 교체 (만료된 경우 다시 생성하지 않음)
+        redisTemplate.opsForValue().setIfPresent(KEY_PREFIX + existingCode.getEmail(), tempTokenDTO.getTempToken(), ttl());
+        existingCode.setExpiredAt(LocalDateTime.now().plus(ttl()));
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(TEMP_TOKEN_EXPIRATION_TIME);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.repository.PostRepository;
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.service.hitcount.HitCountBuffer;
+import com.example.spot.service.post.PostLeaderboard;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HitCountFlushScheduler {
+
+    private final HitCountBuffer hitCountBuffer;
+    private final StudyRepository studyRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostLeaderboard postLeaderboard;
+
+    // 10초마다 누적된 조회수를 DB에 반영합니다.
+    @Scheduled(fixedDelay = 10_000)
+    public void flushHitCounts() {
+        flushStudyHits();
+        flushPostHits();
+    }
+
+    // 애플리케이션 종료 시 남은 조회수를 반영합니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushHitCounts();
+    }
+
+    /**
+     * 증가분이 같은 스터디끼리 묶어 UPDATE ... WHERE id IN (...) 으로 반영합니다.
+     * 대부분의 증가분은 작은 값이므로 실행되는 쿼리 수는 스터디 수가 아닌 서로 다른 증가분의 수에 비례합니다.
+     */
+    private void flushStudyHits() {
+        Map<Long, Long> hits = hitCountBuffer.drainStudyHits();
+        if (hits.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                groupByHit(hits).forEach((hit, studyIds) -> studyRepository.increaseHitNum(studyIds, hit)));
+        } catch (RuntimeException e) {
+            hitCountBuffer.restoreStudyHits(hits);
+            log.error("Failed to flush hit counts of {} studies", hits.size(), e);
+        }
+    }
+
+    private void flushPostHits() {
+        Map<Long, Long> hits = hitCountBuffer.drainPostHits();
+        if (hits.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                groupByHit(hits).forEach((hit, postIds) -> postRepository.increaseHitNum(postIds, hit.intValue())));
+        } catch (RuntimeException e) {
+            hitCountBuffer.restorePostHits(hits);
+            log.error("Failed to flush hit counts of {} posts", hits.size(), e);
+            return;
+        }
+
+        // 반영된 조회수를 실시간 인기글 점수에 반영
+        postLeaderboard.increaseRealTimeScores(hits);
+    }
+
+    private static Map<Long, List<Long>> groupByHit(Map<Long, Long> hits) {
+        return hits.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    }
+}
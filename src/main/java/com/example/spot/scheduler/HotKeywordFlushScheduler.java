@@ -0,0 +1,67 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.service.study.HotKeywordBuffer;
+import com.example.spot.service.study.HotKeywordRanking;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class HotKeywordFlushScheduler {
+
+    private final HotKeywordBuffer hotKeywordBuffer;
+    private final HotKeywordRanking hotKeywordRanking;
+
+    // 반영된 검색어 수, 반영 지연(집계 시작부터 반영 완료까지)
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+
+    public HotKeywordFlushScheduler(HotKeywordBuffer hotKeywordBuffer, HotKeywordRanking hotKeywordRanking,
+                                    MeterRegistry meterRegistry) {
+        this.hotKeywordBuffer = hotKeywordBuffer;
+        this.hotKeywordRanking = hotKeywordRanking;
+        this.flushSize = DistributionSummary.builder("spot.hot-keyword.flush.size")
+                .description("Number of keywords flushed to Redis per batch")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("spot.hot-keyword.flush.lag")
+                .description("Time from the first buffered search to the end of the flush")
+                .register(meterRegistry);
+        Gauge.builder("spot.hot-keyword.buffer.size", hotKeywordBuffer, HotKeywordBuffer::size)
+                .description("Number of keywords tracked in the local buffer")
+                .register(meterRegistry);
+    }
+
+    // 5초마다 누적된 검색어를 Redis에 반영합니다.
+    @Scheduled(fixedDelay = 5_000)
+    public void flushKeywords() {
+        long windowStartedAt = hotKeywordBuffer.getWindowStartedAt();
+        Map<String, Long> counts = hotKeywordBuffer.drain();
+        if (counts.isEmpty())
+            return;
+
+        try {
+            hotKeywordRanking.recordAll(counts);
+        } catch (RuntimeException e) {
+            hotKeywordBuffer.restore(counts);
+            log.error("Failed to flush {} hot keywords", counts.size(), e);
+            return;
+        }
+
+        flushSize.record(counts.size());
+        flushLag.record(System.currentTimeMillis() - windowStartedAt, TimeUnit.MILLISECONDS);
+    }
+
+    // 애플리케이션 종료 시 남은 검색어를 반영합니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushKeywords();
+    }
+}
@@ -1,17 +1,10 @@
 package com.example.spot.scheduler;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Set;
+import com.example.spot.service.study.HotKeywordRanking;
+import com.example.spot.service.study.StudySuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
-import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -20,41 +13,30 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class HotKeywordScheduler {
 
-    @Value("${study.keyword}")
-    private String KEYWORD; // 인기 검색어 목록을 저장하는 키
-    @Value("${study.hot-keyword}")
-    private String HOT_KEYWORD; // 매일 13시, 18시에 갱신된 인기 검색어 목록을 저장하는 키
-    @Value("${study.last-updated}")
-    private String LAST_UPDATED; // 인기 검색어 업데이트 시점을 저장하는 키
-
-    private RedisTemplate<String, String> redisTemplate;
-
-    // RedisTemplate을 주입받습니다.
-    @Autowired
-    public HotKeywordScheduler(RedisTemplate<String, String> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    private final HotKeywordRanking hotKeywordRanking;
+    private final StudySuggestionIndex studySuggestionIndex;
+
+    // 10분마다 급상승 검색어를 갱신하고 검색어 자동완성에 반영합니다.
+    @Scheduled(fixedDelay = 600_000)
+    public void updateTrendingKeywords() {
+        try {
+            hotKeywordRanking.publishTrending();
+            // 다른 서버가 발행한 경우에도 발행된 급상승 검색어를 이 서버의 검색어 자동완성에 반영
+            studySuggestionIndex.refreshKeywords();
+        } catch (DataAccessException e) {
+            log.error("Failed to update trending keywords", e);
+        }
     }
 
-    // 13시와 18시에 인기 검색어 목록을 업데이트 합니다.
+    // 13시와 18시에 최근 24시간의 검색어 집계로 인기 검색어 목록을 업데이트 합니다.
     @Scheduled(cron = "0 0 13,18 * * *")
     public void updateHotKeywords() {
-        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
-
-        // 인기 검색어 5개 가져오기
-        Set<TypedTuple<String>> typedTuples = zSetOperations.reverseRangeWithScores(KEYWORD, 0, 4);
-
-        // HOT_KEYWORD 키에 갱신된 인기 검색어 저장
-        if (typedTuples != null && !typedTuples.isEmpty()) {
-            redisTemplate.delete(HOT_KEYWORD);
-
-            for (TypedTuple<String> tuple : typedTuples)
-                zSetOperations.add(HOT_KEYWORD, tuple.getValue(), tuple.getScore());
-
-            String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-
-            // 인기 검색어 업데이트 시점 저장
-            redisTemplate.opsForValue().set(LAST_UPDATED, now);
-            log.info("Hot keywords updated at {}", now);
+        try {
+            if (!hotKeywordRanking.publish())
+                log.info("Hot keywords not published by this node (no keywords in the last {} hours or published by another node)",
+                        HotKeywordRanking.WINDOW_HOURS);
+        } catch (DataAccessException e) {
+            log.error("Failed to update hot keywords", e);
         }
     }
 }
@@ -0,0 +1,43 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.domain.enums.MailStatus;
+import com.example.spot.repository.MailOutboxRepository;
+import com.example.spot.service.message.MailOutboxDispatcher;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int RETENTION_DAYS = 7;
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    // 5초마다 재시도 시각이 되었거나 아직 전송되지 않은 메일을 전송합니다.
+    @Scheduled(fixedDelay = 5_000)
+    public void dispatchDueMails() {
+        try {
+            mailOutboxDispatcher.dispatchDue(BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.error("Failed to dispatch outbox mails", e);
+        }
+    }
+
+    // 매일 4시 40분에 전송이 끝난 지 7일이 지난 메일을 삭제합니다.
+    @Scheduled(cron = "0 40 4 * * ?", zone = "Asia/Seoul")
+    public void purgeFinishedMails() {
+        int deleted = mailOutboxRepository.deleteByStatusInAndCreatedAtBefore(
+                List.of(MailStatus.SENT, MailStatus.FAILED), LocalDateTime.now().minusDays(RETENTION_DAYS));
+        if (deleted > 0)
+            log.info("Purged {} finished outbox mails", deleted);
+    }
+}
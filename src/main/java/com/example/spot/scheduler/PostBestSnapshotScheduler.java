@@ -0,0 +1,27 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.service.post.PostBestSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostBestSnapshotScheduler {
+
+    private final PostBestSnapshotService postBestSnapshotService;
+
+    // 실시간 인기글은 최근 2시간 기준이므로 10분마다 스냅샷을 갱신합니다.
+    @Scheduled(cron = "0 */10 * * * ?", zone = "Asia/Seoul")
+    public void refreshPostBestRealTime() {
+        postBestSnapshotService.refresh(PostRanking.REAL_TIME);
+    }
+
+    // 추천순, 댓글순 인기글은 13시와 18시에 스냅샷을 갱신합니다.
+    @Scheduled(cron = "0 0 13,18 * * ?", zone = "Asia/Seoul")
+    public void refreshPostBest() {
+        postBestSnapshotService.refresh(PostRanking.RECOMMEND);
+        postBestSnapshotService.refresh(PostRanking.COMMENT);
+    }
+}
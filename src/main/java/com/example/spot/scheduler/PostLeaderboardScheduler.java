@@ -0,0 +1,25 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.service.post.PostLeaderboard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostLeaderboardScheduler {
+
+    private final PostLeaderboard postLeaderboard;
+
+    // 10초마다 누적된 게시글 활동을 Redis에 합산하고 최근 2시간 기준 실시간 순위를 갱신합니다.
+    @Scheduled(fixedDelay = 10_000)
+    public void mergePostRealTimeLeaderboard() {
+        postLeaderboard.mergeRealTimeWindow();
+    }
+
+    // 누락된 이벤트를 보정하기 위해 매일 새벽 4시 30분에 추천순/댓글순 순위를 DB 기준으로 다시 생성합니다.
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void rebuildPostLeaderboard() {
+        postLeaderboard.rebuild();
+    }
+}
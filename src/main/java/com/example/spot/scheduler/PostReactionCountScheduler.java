@@ -0,0 +1,28 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReactionCountScheduler {
+
+    private final PostRepository postRepository;
+
+    // 애플리케이션 시작 시와 매일 4시 20분에 좋아요/스크랩/댓글 테이블 기준으로 게시글의 카운터를 보정합니다.
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 20 4 * * ?", zone = "Asia/Seoul")
+    public void reconcileReactionCounts() {
+        int updated = postRepository.reconcileReactionCounts();
+        if (updated > 0)
+            log.warn("Reconciled like, scrap and comment count of {} posts", updated);
+    }
+}
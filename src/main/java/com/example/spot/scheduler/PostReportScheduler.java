@@ -0,0 +1,31 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.domain.enums.PostStatus;
+import com.example.spot.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReportScheduler {
+
+    private final PostRepository postRepository;
+
+    // 애플리케이션 시작 시와 매시 10분에 신고 내역 기준으로 게시글의 신고 여부를 갱신합니다.
+    // 정상으로 처리된 신고만 있는 게시글은 다시 노출하고, 접수 중이거나 삭제 처리된 신고가 있는 게시글은 제외합니다.
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 10 * * * ?", zone = "Asia/Seoul")
+    public void reconcileReported() {
+        int reported = postRepository.reconcileReported(PostStatus.정상);
+        int notReported = postRepository.reconcileNotReported(PostStatus.정상);
+        if (reported + notReported > 0)
+            log.info("Reconciled reported flag of {} posts", reported + notReported);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.service.study.StudyIndexLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StudyIndexScheduler {
+
+    private final StudyIndexLoader studyIndexLoader;
+
+    // 다른 서버에서 변경된 스터디와 조회수/좋아요 수를 반영하기 위해 10분마다 패싯, 전문 검색, 자동완성 인덱스를 다시 생성합니다.
+    @Scheduled(cron = "0 */10 * * * ?", zone = "Asia/Seoul")
+    public void rebuildStudyIndexes() {
+        studyIndexLoader.rebuild();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.spot.scheduler;
+
+import com.example.spot.domain.enums.ApplicationStatus;
+import com.example.spot.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyMemberCountScheduler {
+
+    private final StudyRepository studyRepository;
+
+    // 애플리케이션 시작 시와 매일 4시에 member_study 기준으로 스터디의 승인된 회원 수를 보정합니다.
+    // 컬럼 추가 직후에는 기본값 0으로 채워지므로, 시작 시 보정하지 않으면 정원이 찬 스터디도 신청을 받게 됩니다.
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul")
+    public void reconcileApprovedMemberCount() {
+        int updated = studyRepository.reconcileApprovedMemberCount(ApplicationStatus.APPROVED);
+        if (updated > 0)
+            log.warn("Reconciled approved member count of {} studies", updated);
+    }
+}
@@ -7,6 +7,7 @@ import com.example.spot.domain.auth.TempUserDetails;
 import com.example.spot.service.member.MemberService;
 import com.example.spot.security.utils.JwtTokenProvider;
 import com.example.spot.service.member.UserDetailsServiceCustom;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -46,10 +47,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 임시 토큰 인증 요청 별도 처리
             if (isTempRequest(request)) {
                 String tempToken = jwtTokenProvider.resolveToken(request); // 토큰 추출
-                // 임시 토큰이 유효한 경우
-                if (isValidToken(tempToken)) {
-                    // 임시 토큰을 이용하여 사용자 인증
-                    tempAuthenticateUser(tempToken);
+                // 임시 토큰이 있는 경우 검증된 클레임으로 사용자 인증
+                if (tempToken != null) {
+                    tempAuthenticateUser(jwtTokenProvider.getVerifiedClaims(tempToken));
                 }
                 // 필터 체인 진행
                 filterChain.doFilter(request, response);
@@ -64,9 +64,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 일반 인증 요청 처리
             String token = jwtTokenProvider.resolveToken(request);
 
-            // 토큰이 유효한 경우 사용자 인증
-            if (isValidToken(token))
-                authenticateUser(token);
+            // 토큰이 있는 경우 한 번만 검증하고, 검증된 클레임으로 사용자 인증
+            if (token != null)
+                authenticateUser(jwtTokenProvider.getVerifiedClaims(token));
 
             filterChain.doFilter(request, response);
         } catch (GeneralException e) {
@@ -86,20 +86,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return Objects.equals(request.getRequestURI(), "/spot/reissue");
     }
 
-    // 토큰 유효성 확인
-    private boolean isValidToken(String token) {
-        return token != null && jwtTokenProvider.validateToken(token);
-    }
-
     // 임시 토큰을 이용하여 사용자 인증
-    private void tempAuthenticateUser(String tempToken) {
-        String email = jwtTokenProvider.getEmailByToken(tempToken);
+    private void tempAuthenticateUser(Claims claims) {
+        String email = claims.get("email", String.class);
         authenticate(email);
     }
 
     // 사용자 인증
-    private void authenticateUser(String token) {
-        Long memberId = jwtTokenProvider.getMemberIdByToken(token);
+    private void authenticateUser(Claims claims) {
+        Long memberId = claims.get("memberId", Long.class);
         authenticate(memberId.toString());
     }
 
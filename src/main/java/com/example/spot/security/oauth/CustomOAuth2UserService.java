@@ -11,7 +11,10 @@ import com.example.spot.security.utils.MemberUtils;
 import com.example.spot.service.member.MemberService;
 import com.example.spot.security.oauth.adpter.CustomOAuth2User;
 import com.example.spot.security.oauth.adpter.OAuth2UserInfo;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -39,6 +42,15 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
     private final MemberService memberService;
+    private final RestTemplateBuilder restTemplateBuilder;
+
+    // 구글 사용자 정보 조회에 커넥션 풀과 타임아웃이 적용된 RestTemplate 사용
+    @PostConstruct
+    public void init() {
+        setRestOperations(restTemplateBuilder
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build());
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -17,6 +17,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
 
@@ -34,9 +35,19 @@ public class JwtTokenProvider {
     @Value("${token.temp_token_expiration_time}")
     private Long TEMP_TOKEN_EXPIRATION_TIME;
 
+    // 검증된 토큰 캐시 크기
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // 서명 키와 파서는 애플리케이션 시작 시 한 번만 생성 (JwtParser는 스레드 안전)
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+
     @PostConstruct
     protected void init() {
         JWT_SECRET_KEY = Base64.getEncoder().encodeToString(JWT_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        signingKey = Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     /**
@@ -91,7 +102,7 @@ public class JwtTokenProvider {
             .claim("tokenType", tokenType) // 토큰 타입
             .setIssuedAt(now) // 발급 시간
             .setExpiration(new Date(now.getTime() + expirationTime)) // 만료 시간
-            .signWith(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes()), SignatureAlgorithm.HS256)
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
 
@@ -109,7 +120,7 @@ public class JwtTokenProvider {
                 .claim("tokenType", "temp")
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + TEMP_TOKEN_EXPIRATION_TIME))
-                .signWith(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -123,14 +134,17 @@ public class JwtTokenProvider {
         return validateToken(token, false) == null;
     }
 
-    // 토큰 유효성 검사
-    private ErrorStatus validateToken(String token, boolean checkExpirationOnly) {
+    /**
+     * 토큰을 검증하고 클레임을 반환합니다. 요청마다 토큰을 한 번만 해석하도록 인증 필터에서 사용합니다.
+     * @param token 토큰
+     * @return 검증된 클레임
+     * @throws GeneralException 토큰이 만료되었거나 유효하지 않은 경우
+     */
+    public Claims getVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes())).build().parseClaimsJws(token);
-            return null;
+            return parseClaims(token);
         } catch (ExpiredJwtException e) {
             // 만료된 토큰
-            if (checkExpirationOnly) return ErrorStatus._EXPIRED_JWT;
             throw new GeneralException(ErrorStatus._EXPIRED_JWT);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             // 잘못된 JWT 서명
@@ -147,6 +161,18 @@ public class JwtTokenProvider {
         }
     }
 
+    // 토큰 유효성 검사
+    private ErrorStatus validateToken(String token, boolean checkExpirationOnly) {
+        try {
+            getVerifiedClaims(token);
+            return null;
+        } catch (GeneralException e) {
+            if (checkExpirationOnly && e.getStatus() == ErrorStatus._EXPIRED_JWT)
+                return ErrorStatus._EXPIRED_JWT;
+            throw e;
+        }
+    }
+
     private void logInvalidToken(Exception e) {
         log.info("Invalid JWT Token : {}", e.getMessage());
     }
@@ -230,10 +256,26 @@ public class JwtTokenProvider {
      * @return 클레임
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token);
+    }
+
+    /**
+     * 토큰의 서명을 검증하고 클레임을 반환합니다. 검증된 토큰은 만료 시각까지 캐시하여 다시 해석하지 않습니다.
+     * @param token 토큰
+     * @return 검증된 클레임
+     * @throws JwtException 토큰이 만료되었거나 유효하지 않은 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    private Claims parseClaims(String token) {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null)
+            return cached;
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokenCache.put(token, claims);
+        return claims;
     }
 }
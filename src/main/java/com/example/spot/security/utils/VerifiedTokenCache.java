@@ -0,0 +1,87 @@
+package com.example.spot.security.utils;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 만료 시각까지 보관하는 캐시입니다.
+ * 같은 액세스 토큰으로 연속 요청하는 경우 서명 검증과 클레임 파싱을 다시 수행하지 않습니다.
+ * <p>
+ * 토큰 원문을 그대로 키로 사용하므로 서명이 한 글자라도 다른 토큰은 캐시에 적중하지 않으며,
+ * 조회는 {@link ConcurrentHashMap} 조회 한 번으로 끝나 요청 간 잠금 경합이 없습니다.
+ * 용량을 넘으면 한 스레드만 만료된 토큰을 정리하고, 그래도 부족하면 임의의 토큰을 제거합니다.
+ * 제거된 토큰은 다음 요청에서 다시 검증될 뿐이므로 정확한 LRU 순서는 유지하지 않습니다.
+ * 비교 기준은 {@code src/jmh}의 VerifiedTokenCacheBenchmark를 참고합니다.
+ */
+class VerifiedTokenCache {
+
+    private final int capacity;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    VerifiedTokenCache(int capacity) {
+        this(capacity, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int capacity, LongSupplier clock) {
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    /**
+     * 만료되지 않은 검증된 클레임을 반환합니다.
+     * @param token 토큰
+     * @return 검증된 클레임, 캐시에 없거나 만료된 경우 null
+     */
+    Claims get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null)
+            return null;
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.claims;
+    }
+
+    // 만료 시각이 있는 토큰만 보관
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null)
+            return;
+
+        entries.put(token, new Entry(claims, expiration.getTime()));
+        if (entries.size() > capacity)
+            evict();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 만료된 토큰을 먼저 정리하고, 그래도 용량을 넘으면 초과분만큼 제거 (동시에 한 스레드만 수행)
+    private void evict() {
+        if (!evicting.compareAndSet(false, true))
+            return;
+        try {
+            long now = clock.getAsLong();
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+            Iterator<String> tokens = entries.keySet().iterator();
+            while (entries.size() > capacity && tokens.hasNext()) {
+                tokens.next();
+                tokens.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {}
+}
@@ -5,20 +5,19 @@ import com.example.spot.api.code.status.ErrorStatus;
 import com.example.spot.api.exception.GeneralException;
 import com.example.spot.api.exception.handler.MemberHandler;
 import com.example.spot.domain.Member;
-import com.example.spot.domain.auth.RefreshToken;
 import com.example.spot.domain.auth.VerificationCode;
 import com.example.spot.domain.enums.Carrier;
 import com.example.spot.domain.enums.Gender;
 import com.example.spot.domain.enums.LoginType;
 import com.example.spot.domain.enums.Status;
 import com.example.spot.repository.MemberRepository;
-import com.example.spot.repository.RefreshTokenRepository;
 import com.example.spot.repository.verification.VerificationCodeRepository;
 import com.example.spot.security.utils.JwtTokenProvider;
 import com.example.spot.security.utils.MemberUtils;
 import com.example.spot.web.dto.member.MemberRequestDTO;
 import com.example.spot.web.dto.member.MemberResponseDTO;
 import com.example.spot.security.utils.SecurityUtils;
+import com.example.spot.service.auth.token.RefreshTokenStore;
 import com.example.spot.service.message.MailService;
 import com.example.spot.web.dto.member.MemberResponseDTO.SocialLoginSignInDTO;
 import com.example.spot.web.dto.member.naver.NaverCallback;
@@ -30,7 +29,6 @@ import com.example.spot.web.dto.token.TokenResponseDTO.TokenDTO;
 import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
 import java.util.Random;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,9 +37,11 @@ import java.util.stream.IntStream;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -51,10 +51,11 @@ public class AuthServiceImpl implements AuthService{
 
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final VerificationCodeRepository verificationCodeRepository;
     private final MailService mailService;
     private final NaverOAuthService naverOAuthService;
+    private final SocialLoginPipeline socialLoginPipeline;
 
     @Value("${image.post.anonymous.profile}")
     private String DEFAULT_PROFILE_IMAGE_URL;
@@ -68,47 +69,35 @@ public class AuthServiceImpl implements AuthService{
     @Override
     public TokenDTO reissueToken(String refreshToken) {
 
-        // 리프레시 토큰 조회 및 검증
-        RefreshToken tokenInDB = refreshTokenRepository.findByToken(refreshToken)
-            .orElseThrow(() -> new GeneralException(ErrorStatus._INVALID_REFRESH_TOKEN));
+        // 리프레시 토큰 서명 및 만료 확인 후 memberId 추출
+        Long memberIdByToken = getMemberIdByRefreshToken(refreshToken);
 
-        // 리프레시 토큰 만료 확인
-        if (jwtTokenProvider.isTokenExpired(tokenInDB.getToken())) {
-            refreshTokenRepository.delete(tokenInDB);
-            throw new GeneralException(ErrorStatus._EXPIRED_REFRESH_TOKEN);
-        }
-
-        // 리프레시 토큰에서 memberId 추출
-        Long memberIdByToken = jwtTokenProvider.getMemberIdByToken(refreshToken);
-
-        // memberId로 회원 조회
-        Member member = memberRepository.findById(memberIdByToken)
-            .orElseThrow(() -> new GeneralException(ErrorStatus._MEMBER_NOT_FOUND));
-
-        // 회원의 리프레시 토큰과 요청된 리프레시 토큰 비교
-        if (!Objects.equals(member.getId(), memberIdByToken))
-            throw new GeneralException(ErrorStatus._INVALID_JWT);
+        // memberId로 회원 확인
+        if (!memberRepository.existsById(memberIdByToken))
+            throw new GeneralException(ErrorStatus._MEMBER_NOT_FOUND);
 
         // 토큰 재발급
-        TokenDTO tokenDTO = jwtTokenProvider.reissueToken(refreshToken);
+        TokenDTO tokenDTO = jwtTokenProvider.createToken(memberIdByToken);
 
-        // 리프레시 토큰 저장
-        RefreshToken token = RefreshToken.builder()
-            .memberId(member.getId())
-            .token(tokenDTO.getRefreshToken())
-            .build();
-
-        // 기존 리프레시 토큰 삭제
-        if (refreshTokenRepository.existsByMemberId(member.getId()))
-            refreshTokenRepository.deleteByMemberId(member.getId());
-
-        // 새로운 리프레시 토큰 저장
-        refreshTokenRepository.save(token);
+        // 회원의 현재 리프레시 토큰인 경우에만 새 리프레시 토큰으로 교체 (이미 사용되었거나 저장되지 않은 토큰은 거부)
+        if (!refreshTokenStore.rotate(memberIdByToken, refreshToken, tokenDTO.getRefreshToken()))
+            throw new GeneralException(ErrorStatus._INVALID_REFRESH_TOKEN);
 
         // 토큰 재발급
         return tokenDTO;
     }
 
+    // 리프레시 토큰을 검증하고 memberId를 반환합니다.
+    private Long getMemberIdByRefreshToken(String refreshToken) {
+        try {
+            return jwtTokenProvider.getVerifiedClaims(refreshToken).get("memberId", Long.class);
+        } catch (GeneralException e) {
+            if (e.getStatus() == ErrorStatus._EXPIRED_JWT)
+                throw new GeneralException(ErrorStatus._EXPIRED_REFRESH_TOKEN);
+            throw new GeneralException(ErrorStatus._INVALID_REFRESH_TOKEN);
+        }
+    }
+
 /* ----------------------------- 공통 회원 관리 API ------------------------------------- */
 
     @Override
@@ -154,9 +143,10 @@ public class AuthServiceImpl implements AuthService{
      * @return SocialLoginSignInDTO(isSpotMember, signInDTO-토큰정보)
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SocialLoginSignInDTO signInWithNaver(HttpServletRequest request, HttpServletResponse response, NaverCallback naverCallback) throws Exception {
-        NaverMember.ResponseDTO responseDTO = naverOAuthService.getNaverMember(request, response, naverCallback);
-        return getSocialLoginSignInDTO(responseDTO);
+        NaverOAuthToken.NaverTokenIssuanceDTO naverTokenDTO = naverOAuthService.issueAccessToken(naverCallback);
+        return signInWithNaver(naverTokenDTO);
     }
 
     /**
@@ -169,52 +159,30 @@ public class AuthServiceImpl implements AuthService{
      * @return SocialLoginSignInDTO(isSpotMember, signInDTO-토큰정보)
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SocialLoginSignInDTO signInWithNaver(HttpServletRequest request, HttpServletResponse response, NaverOAuthToken.NaverTokenIssuanceDTO naverTokenDTO) throws Exception {
-        NaverMember.ResponseDTO responseDTO = naverOAuthService.getNaverMember(request, response, naverTokenDTO);
-        return getSocialLoginSignInDTO(responseDTO);
+        return signInWithNaver(naverTokenDTO);
     }
 
     /**
-     * 네이버 회원 프로필을 통해 SocialLoginSignInDTO를 생성하는 함수입니다.
-     * @param responseDTO : 네이버 회원 프로필 DTO
+     * 네이버 액세스 토큰으로 프로필을 조회한 뒤 로그인 또는 회원가입을 수행하는 함수입니다.
+     * 프로필 조회, 회원 확인, 토큰 발급은 {@link SocialLoginPipeline}에서 수행합니다.
+     * @param naverTokenDTO : 토큰 객체 (access_token, refresh_token, token_type, expires_in, error, error_description)
      * @return SocialLoginSignInDTO (SPOT 회원 정보 및 토큰 정보)
      */
-    private SocialLoginSignInDTO getSocialLoginSignInDTO(NaverMember.ResponseDTO responseDTO) {
-        String email = responseDTO.getResponse().getEmail();
-
-        if (memberRepository.existsByEmailAndLoginTypeNot(email, LoginType.NAVER))
-            throw new GeneralException(ErrorStatus._MEMBER_EMAIL_EXIST);
-
-        Boolean isSpotMember = Boolean.TRUE;
-
-        // 가입되지 않은 회원이면 회원 정보 저장
-        if (!memberRepository.existsByEmailAndLoginType(email, LoginType.NAVER)) {
-            isSpotMember = Boolean.FALSE;
-            signUpWithNaver(responseDTO);
-        }
-
-        Member member = memberRepository.findByEmailAndLoginType(email, LoginType.NAVER)
-                .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-
-        // 로그인을 위한 토큰 발급
-        TokenDTO token = jwtTokenProvider.createToken(member.getId());
-        saveRefreshToken(member, token);
-
-        MemberResponseDTO.MemberSignInDTO signInDTO = MemberResponseDTO.MemberSignInDTO.builder()
-                .tokens(token)
-                .memberId(member.getId())
-                .loginType(member.getLoginType())
-                .email(member.getEmail())
-                .build();
-
-        return SocialLoginSignInDTO.toDTO(isSpotMember, signInDTO);
+    private SocialLoginSignInDTO signInWithNaver(NaverOAuthToken.NaverTokenIssuanceDTO naverTokenDTO) throws JsonProcessingException {
+        return socialLoginPipeline.signIn(LoginType.NAVER, naverTokenDTO.getAccessToken(),
+                accessToken -> naverOAuthService.getNaverMember(naverTokenDTO),
+                naverMember -> naverMember.getResponse().getEmail(),
+                this::toNaverMember);
     }
 
     /**
-     * 현재 SPOT에 가입되어 있지 않은 회원에 한해 회원 정보를 생성하여 DB에 저장합니다.
+     * 현재 SPOT에 가입되어 있지 않은 회원에 한해 네이버 프로필로 회원 정보를 생성합니다.
      * @param memberDTO : naverCallback을 바탕으로 생성된 프로필 객체
+     * @return 저장할 회원 정보
      */
-    private void signUpWithNaver(NaverMember.ResponseDTO memberDTO) {
+    private Member toNaverMember(NaverMember.ResponseDTO memberDTO) {
         String birthYear = memberDTO.getResponse().getBirthYear();
         String birthDay = memberDTO.getResponse().getBirthDay();
 
@@ -251,7 +219,7 @@ public class AuthServiceImpl implements AuthService{
                 .status(Status.ON)
                 .build();
 
-        memberRepository.save(member);
+        return member;
     }
 
 /* ----------------------------- 일반 로그인/회원가입 API ------------------------------------- */
@@ -420,16 +388,8 @@ public class AuthServiceImpl implements AuthService{
      * @param token 저장할 토큰 정보(액세스 & 리프레시 토큰, 만료기간)를 입력 받습니다.
      */
     private void saveRefreshToken(Member member, TokenDTO token) {
-
-        if (refreshTokenRepository.existsByMemberId(member.getId()))
-            refreshTokenRepository.deleteAllByMemberId(member.getId());
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .memberId(member.getId())
-                .token(token.getRefreshToken())
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
+        // 기존 리프레시 토큰을 무효화하고 새 리프레시 토큰 저장
+        refreshTokenStore.save(member.getId(), token.getRefreshToken());
     }
 
     /**
@@ -35,6 +35,12 @@ public class KaKaoOAuthService {
     @Value("${spring.OAuth2.kakao.callback-login-url}")
     private String KAKAO_SNS_CALLBACK_LOGIN_URL;
 
+    @Value("${spring.OAuth2.kakao.token-url:https://kauth.kakao.com/oauth/token}")
+    private String KAKAO_TOKEN_REQUEST_URL;
+
+    @Value("${spring.OAuth2.kakao.user-info-url:https://kapi.kakao.com/v2/user/me}")
+    private String KAKAO_USER_INFO_REQUEST_URL;
+
 
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
@@ -65,9 +71,6 @@ public class KaKaoOAuthService {
      * @return 카카오 로그인 요청 결과
      */
     public ResponseEntity<String> requestAccessToken(String code) {
-        String KAKAO_TOKEN_REQUEST_URL = "https://kauth.kakao.com/oauth/token";
-        // 카카오 로그인 요청
-        RestTemplate restTemplate = new RestTemplate();
         // 요청 파라미터
         MultiValueMap<String, Object> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
@@ -115,9 +118,6 @@ public class KaKaoOAuthService {
      */
     public ResponseEntity<String> requestUserInfo(String accessToken) {
         log.info("accessToken = {}", accessToken);
-        // 사용자 정보 요청 URL
-        String KAKAO_USER_INFO_REQUEST_URL = "https://kapi.kakao.com/v2/user/me";
-
         // 헤더에 accessToken 추가
         HttpHeaders headers = new HttpHeaders();
         headers.add("Authorization", "Bearer " + accessToken);
@@ -5,19 +5,18 @@ import com.example.spot.api.exception.handler.MemberHandler;
 import com.example.spot.web.dto.member.naver.NaverCallback;
 import com.example.spot.web.dto.member.naver.NaverMember;
 import com.example.spot.web.dto.member.naver.NaverOAuthToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
@@ -37,6 +36,16 @@ public class NaverOAuthService {
     @Value("${spring.OAuth2.naver.csrf-token}")
     private String CSRF_TOKEN;
 
+    @Value("${spring.OAuth2.naver.token-url:https://nid.naver.com/oauth2.0/token}")
+    private String NAVER_ACCESS_TOKEN_URL;
+
+    @Value("${spring.OAuth2.naver.profile-url:https://openapi.naver.com/v1/nid/me}")
+    private String NAVER_PROFILE_URL;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RestTemplate restTemplate;
+
     /**
      * 네이버 로그인 인증 요청 URL을 생성하는 메서드입니다.
      * 네이버에서 발급받은 client id와 callback url을 쿼리로 포함하여 String 타입의 URL을 반환합니다.
@@ -54,38 +63,24 @@ public class NaverOAuthService {
     }
 
     /**
-     * 네이버 액세스 토큰을 발급하고 해당 액세스 토큰을 통해 네이버 프로필을 조회하는 메서드입니다.
-     * 내부적으로 issueNaverAccessToken, getNaverProfile 메서드를 수행합니다.
-     * @param request : HttpServletRequest
-     * @param response : HttpServletResponse
+     * Callback 함수로부터 반환된 authorizationCode로 네이버 액세스 토큰을 발급하는 메서드입니다.
      * @param naverCallback : Callback 함수 성공시 반환되는 요소(code, state, error, error_description)
-     * @return 네이버 프로필 정보
+     * @return 토큰 객체 (access_token, refresh_token, token_type, expires_in, error, error_description)
      */
-    public NaverMember.ResponseDTO getNaverMember(HttpServletRequest request, HttpServletResponse response, NaverCallback naverCallback) throws Exception {
-
-        // 네이버 액세스 토큰 발급
+    public NaverOAuthToken.NaverTokenIssuanceDTO issueAccessToken(NaverCallback naverCallback) throws JsonProcessingException {
         String accessToken = issueNaverAccessToken(naverCallback.getCode());
-        ObjectMapper mapper = new ObjectMapper();
-        NaverOAuthToken.NaverTokenIssuanceDTO naverTokenIssuanceDTO
-                = mapper.readValue(accessToken, NaverOAuthToken.NaverTokenIssuanceDTO.class);
-        
-        // 네이버 프로필 반환
-        String naverMember = getNaverProfile(naverTokenIssuanceDTO);
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(naverMember, NaverMember.ResponseDTO.class);
+        return objectMapper.readValue(accessToken, NaverOAuthToken.NaverTokenIssuanceDTO.class);
     }
 
     /**
-     * 네이버 액세스 토큰을 발급하고 해당 액세스 토큰을 통해 네이버 프로필을 조회하는 메서드입니다.
+     * 네이버 액세스 토큰을 통해 네이버 프로필을 조회하는 메서드입니다.
      * 내부적으로 getNaverProfile 메서드를 수행합니다.
-     * @param request : HttpServletRequest
-     * @param response : HttpServletResponse
+     * @param naverTokenDTO : 토큰 객체 (access_token, refresh_token, token_type, expires_in, error, error_description)
      * @return 네이버 프로필 정보
      */
-    public NaverMember.ResponseDTO getNaverMember(HttpServletRequest request, HttpServletResponse response, NaverOAuthToken.NaverTokenIssuanceDTO naverTokenDTO) throws Exception {
+    public NaverMember.ResponseDTO getNaverMember(NaverOAuthToken.NaverTokenIssuanceDTO naverTokenDTO) throws JsonProcessingException {
         // 네이버 프로필 반환
         String naverMember = getNaverProfile(naverTokenDTO);
-        ObjectMapper objectMapper = new ObjectMapper();
         return objectMapper.readValue(naverMember, NaverMember.ResponseDTO.class);
     }
 
@@ -97,7 +92,6 @@ public class NaverOAuthService {
      */
     private String issueNaverAccessToken(String authorizationCode) {
 
-        String NAVER_ACCESS_TOKEN_URL = "https://nid.naver.com/oauth2.0/token";
         String urlString = UriComponentsBuilder.fromHttpUrl(NAVER_ACCESS_TOKEN_URL)
                 .queryParam("grant_type", "authorization_code")
                 .queryParam("client_id", NAVER_CLIENT_ID)
@@ -107,11 +101,7 @@ public class NaverOAuthService {
                 .build()
                 .toUriString();
         try {
-            URL url = new URL(urlString);
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("GET");
-
-            return extractResponse(con);
+            return restTemplate.getForObject(URI.create(urlString), String.class);
         } catch (Exception e) {
             throw new MemberHandler(ErrorStatus._NAVER_ACCESS_TOKEN_ISSUANCE_FAILED);
         }
@@ -124,46 +114,18 @@ public class NaverOAuthService {
      */
     private String getNaverProfile(NaverOAuthToken.NaverTokenIssuanceDTO naverTokenIssuanceDTO) {
 
-        String NAVER_PROFILE_URL = "https://openapi.naver.com/v1/nid/me";
         String accessToken = naverTokenIssuanceDTO.getAccessToken();
         String tokenType = naverTokenIssuanceDTO.getTokenType();
 
-        try {
-            URL url = new URL(NAVER_PROFILE_URL);
-            HttpURLConnection con = (HttpURLConnection)url.openConnection();
-            con.setRequestMethod("GET");
-            con.setRequestProperty("Authorization", tokenType + " " + accessToken);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, tokenType + " " + accessToken);
 
-            return extractResponse(con);
+        try {
+            return restTemplate.exchange(URI.create(NAVER_PROFILE_URL), HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                    .getBody();
         } catch (Exception e) {
             throw new MemberHandler(ErrorStatus._UNABLE_TO_RETRIEVE_NAVER_PROFILE);
         }
     }
 
-    /**
-     * HTTP 응답을 버퍼를 통해 읽어오는 메서드입니다.
-     * @param con : HttpURLConnection (HTTP 연결 정보)
-     * @return String Response
-     */
-    private static String extractResponse(HttpURLConnection con) throws IOException {
-
-        int responseCode = con.getResponseCode();
-        BufferedReader br;
-
-        if (responseCode == HttpURLConnection.HTTP_OK) {
-            br = new BufferedReader(new InputStreamReader(con.getInputStream()));
-        } else {
-            br = new BufferedReader(new InputStreamReader(con.getErrorStream()));
-        }
-
-        String line;
-        StringBuilder response = new StringBuilder();
-        while ((line = br.readLine()) != null) {
-            response.append(line);
-        }
-
-        br.close();
-        return response.toString();
-    }
-
 }
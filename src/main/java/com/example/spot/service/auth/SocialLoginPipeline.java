@@ -0,0 +1,116 @@
+package com.example.spot.service.auth;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.GeneralException;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.LoginType;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.security.utils.JwtTokenProvider;
+import com.example.spot.service.auth.SocialProfileCache.ProfileLoader;
+import com.example.spot.service.auth.token.RefreshTokenStore;
+import com.example.spot.web.dto.member.MemberResponseDTO.MemberSignInDTO;
+import com.example.spot.web.dto.member.MemberResponseDTO.SocialLoginSignInDTO;
+import com.example.spot.web.dto.token.TokenResponseDTO.TokenDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카카오, 네이버 소셜 로그인의 공통 처리 과정입니다.
+ * <ol>
+ *     <li>profile : 제공자 API로 사용자 프로필 조회 ({@link SocialProfileCache}로 같은 액세스 토큰의 재조회 방지)</li>
+ *     <li>member : 이메일로 회원을 한 번만 조회하여 다른 로그인 방식 가입 여부 확인, 미가입 회원은 저장</li>
+ *     <li>token : SPOT 토큰 발급 및 리프레시 토큰 저장</li>
+ * </ol>
+ * 제공자 API 호출 중에는 DB 커넥션을 점유하지 않도록 member, token 단계만 트랜잭션에서 수행하며,
+ * 단계별 소요 시간은 spot.social-login.stage 타이머(provider, stage 태그)로 수집합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SocialLoginPipeline {
+
+    private final SocialProfileCache socialProfileCache;
+    private final MemberRepository memberRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 제공자의 액세스 토큰으로 로그인 또는 회원가입을 수행합니다.
+     * @param loginType 로그인 제공자
+     * @param accessToken 제공자가 발급한 액세스 토큰
+     * @param profileLoader 액세스 토큰으로 제공자 프로필을 조회하는 함수
+     * @param emailOf 프로필에서 이메일을 추출하는 함수
+     * @param memberOf 미가입 회원의 프로필로 회원 정보를 생성하는 함수
+     * @return SocialLoginSignInDTO(isSpotMember, signInDTO-토큰정보)
+     * @throws JsonProcessingException 제공자 프로필 파싱 중 발생하는 예외
+     */
+    public <P> SocialLoginSignInDTO signIn(LoginType loginType, String accessToken, ProfileLoader<P> profileLoader,
+                                           Function<P, String> emailOf, Function<P, Member> memberOf)
+            throws JsonProcessingException {
+
+        Timer.Sample profileSample = Timer.start(meterRegistry);
+        P profile;
+        try {
+            profile = socialProfileCache.get(loginType, accessToken, profileLoader);
+        } finally {
+            profileSample.stop(stageTimer(loginType, "profile"));
+        }
+
+        return transactionTemplate.execute(status -> {
+            String email = emailOf.apply(profile);
+            SignInMember signInMember = record(loginType, "member", () -> findOrCreateMember(loginType, email, () -> memberOf.apply(profile)));
+            TokenDTO token = record(loginType, "token", () -> issueToken(signInMember.member()));
+
+            MemberSignInDTO signInDTO = MemberSignInDTO.builder()
+                    .tokens(token)
+                    .memberId(signInMember.member().getId())
+                    .loginType(signInMember.member().getLoginType())
+                    .email(signInMember.member().getEmail())
+                    .build();
+            return SocialLoginSignInDTO.toDTO(signInMember.isSpotMember(), signInDTO);
+        });
+    }
+
+    // 이메일로 가입된 회원을 한 번에 조회하여 다른 로그인 방식으로 가입된 경우 예외, 가입되지 않은 경우 저장
+    private SignInMember findOrCreateMember(LoginType loginType, String email, Supplier<Member> memberSupplier) {
+        List<Member> members = memberRepository.findAllByEmail(email);
+        if (members.stream().anyMatch(member -> member.getLoginType() != loginType))
+            throw new GeneralException(ErrorStatus._MEMBER_EMAIL_EXIST);
+
+        Optional<Member> existing = members.stream().findFirst();
+        if (existing.isPresent())
+            return new SignInMember(existing.get(), true);
+        return new SignInMember(memberRepository.save(memberSupplier.get()), false);
+    }
+
+    private TokenDTO issueToken(Member member) {
+        // 기존 리프레시 토큰을 무효화하고 새 리프레시 토큰 저장
+        TokenDTO token = jwtTokenProvider.createToken(member.getId());
+        refreshTokenStore.save(member.getId(), token.getRefreshToken());
+        return token;
+    }
+
+    private <T> T record(LoginType loginType, String stage, Supplier<T> supplier) {
+        return stageTimer(loginType, stage).record(supplier);
+    }
+
+    private Timer stageTimer(LoginType loginType, String stage) {
+        return Timer.builder("spot.social-login.stage")
+                .description("Time taken by each stage of social login")
+                .tag("provider", loginType.name().toLowerCase())
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record SignInMember(Member member, boolean isSpotMember) {}
+}
@@ -0,0 +1,110 @@
+package com.example.spot.service.auth;
+
+import com.example.spot.domain.enums.LoginType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소셜 로그인 제공자에서 조회한 사용자 프로필을 액세스 토큰별로 짧게 보관하는 캐시입니다.
+ * 클라이언트가 같은 액세스 토큰으로 로그인을 재시도하는 경우 제공자 API를 다시 호출하지 않으며,
+ * 동시에 들어온 같은 토큰의 요청은 하나의 조회 결과를 함께 사용합니다.
+ * 토큰 원문 대신 제공자와 SHA-256 해시를 키로 사용하며, 조회에 실패한 결과는 보관하지 않습니다.
+ * <p>
+ * 캐시된 동안에는 제공자에게 토큰을 다시 확인하지 않으므로, 제공자 측에서 철회된 액세스 토큰도
+ * 마지막 조회 후 최대 {@link #TTL}(60초) 동안은 로그인에 사용될 수 있습니다.
+ */
+@Component
+public class SocialProfileCache {
+
+    static final Duration TTL = Duration.ofSeconds(60);
+    private static final int CAPACITY = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface ProfileLoader<P> {
+        P load(String accessToken) throws JsonProcessingException;
+    }
+
+    /**
+     * 캐시된 프로필을 반환하고, 없거나 만료된 경우 제공자에서 조회합니다.
+     * @param loginType 로그인 제공자
+     * @param accessToken 제공자가 발급한 액세스 토큰
+     * @param loader 프로필 조회 함수
+     * @return 사용자 프로필
+     */
+    @SuppressWarnings("unchecked")
+    public <P> P get(LoginType loginType, String accessToken, ProfileLoader<P> loader) throws JsonProcessingException {
+        if (accessToken == null)
+            return loader.load(null);
+
+        String key = loginType.name() + ":" + hash(accessToken);
+        long now = System.currentTimeMillis();
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing != null && existing.expiresAt > now ? existing : new Entry(created, now + TTL.toMillis()));
+
+        // 새로 등록한 요청만 제공자에서 조회하고, 나머지는 결과를 대기
+        if (entry.profile == created) {
+            try {
+                entry.profile.complete(loader.load(accessToken));
+            } catch (Throwable e) {
+                // 오류를 포함한 모든 실패를 대기 중인 요청에 전달하고, 실패한 결과는 보관하지 않음
+                entries.remove(key, entry);
+                entry.profile.completeExceptionally(e);
+                throw e;
+            }
+            evictIfFull(now);
+        }
+
+        try {
+            return (P) entry.profile.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JsonProcessingException cause)
+                throw cause;
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    // 용량을 넘으면 만료된 항목을 삭제하고, 그래도 넘으면 모두 삭제
+    private void evictIfFull(long now) {
+        if (entries.size() <= CAPACITY)
+            return;
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() > CAPACITY)
+            entries.clear();
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Object> profile;
+        private final long expiresAt;
+
+        private Entry(CompletableFuture<Object> profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.spot.service.auth.token;
+
+import com.example.spot.domain.auth.RefreshToken;
+import com.example.spot.repository.RefreshTokenRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리프레시 토큰을 DB에 저장합니다. token.refresh-token-store=jpa 설정 시 사용하며, 만료된 토큰은 매일 일괄 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.refresh-token-store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    @Value("${token.refresh_token_expiration_time}")
+    private Long REFRESH_TOKEN_EXPIRATION_TIME;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(Long memberId, String refreshToken) {
+        // 기존 리프레시 토큰 삭제 후 저장
+        refreshTokenRepository.deleteAllByMemberId(memberId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .memberId(memberId)
+                .token(refreshToken)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(Long memberId, String refreshToken, String newRefreshToken) {
+        int deleted = refreshTokenRepository.deleteByMemberIdAndToken(memberId, refreshToken);
+        if (deleted == 0)
+            return false;
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .memberId(memberId)
+                .token(newRefreshToken)
+                .build());
+        return true;
+    }
+
+    // 매일 4시 30분에 만료된 리프레시 토큰을 삭제합니다.
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void deleteExpiredTokens() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(Duration.ofMillis(REFRESH_TOKEN_EXPIRATION_TIME));
+        int deleted = refreshTokenRepository.deleteByCreatedAtBefore(expiredBefore);
+        if (deleted > 0)
+            log.info("Deleted {} expired refresh tokens", deleted);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.spot.service.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import com.example.spot.repository.RefreshTokenRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리프레시 토큰을 Redis에 저장합니다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 회원 ID를 저장하고, 회원별로 현재 토큰의 해시를 저장합니다.
+ * 두 키 모두 리프레시 토큰 만료 시간을 TTL로 가지므로 만료된 토큰은 Redis가 제거합니다.
+ * 저장과 교체는 Lua 스크립트로 실행하므로 한 번의 요청으로 원자적으로 처리됩니다.
+ * <p>
+ * 기본 구현이며, 전환 이전에 DB에 저장된 리프레시 토큰은
+ * Redis에 없으면 DB에서 확인하여 교체하고, 새 토큰부터 Redis에 저장합니다(지연 이전).
+ * DB에 이전 토큰이 남아 있는 동안에는 로그인 시 회원의 이전 토큰을 삭제하므로 회원당 하나의 토큰만 유효하다는 규칙은 그대로 유지됩니다.
+ * 새 토큰은 DB에 저장하지 않으므로 만료 삭제로 DB가 비면 이후로는 DB를 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.refresh-token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    private static final String MEMBER_KEY_PREFIX = "refresh-token:member:";
+
+    // KEYS[1] = 새 토큰 키, KEYS[2] = 회원 키 / ARGV[1] = 회원 ID, ARGV[2] = TTL(ms), ARGV[3] = 새 토큰 해시, ARGV[4] = 토큰 키 접두사
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2])
+            if current then
+                redis.call('DEL', ARGV[4] .. current)
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 기존 토큰 키, KEYS[2] = 새 토큰 키, KEYS[3] = 회원 키 / ARGV[1] = 회원 ID, ARGV[2] = TTL(ms), ARGV[3] = 새 토큰 해시
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+            redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    @Value("${token.refresh_token_expiration_time}")
+    private Long REFRESH_TOKEN_EXPIRATION_TIME;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // Redis 전환 이전에 발급된 리프레시 토큰 조회용
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // DB에 전환 이전 토큰이 남아 있는지 여부 (새 토큰은 DB에 저장하지 않으므로 한 번 비면 다시 채워지지 않음)
+    private volatile boolean legacyTokensRemaining = true;
+
+    @Override
+    @Transactional
+    public void save(Long memberId, String refreshToken) {
+        // 이전 토큰이 남아 있는 동안에만 DB의 회원 토큰 무효화 후 Redis에 저장
+        if (legacyTokensRemaining)
+            refreshTokenRepository.deleteAllByMemberId(memberId);
+        saveToRedis(memberId, refreshToken);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(Long memberId, String refreshToken, String newRefreshToken) {
+        String newHash = hash(newRefreshToken);
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + hash(refreshToken), TOKEN_KEY_PREFIX + newHash, MEMBER_KEY_PREFIX + memberId),
+                memberId.toString(), REFRESH_TOKEN_EXPIRATION_TIME.toString(), newHash);
+        if (rotated != null && rotated == 1L)
+            return true;
+
+        // Redis에 없으면 전환 이전에 DB에 저장된 토큰인지 확인 (확인된 토큰은 삭제되어 다시 사용할 수 없음)
+        if (!legacyTokensRemaining || refreshTokenRepository.deleteByMemberIdAndToken(memberId, refreshToken) == 0)
+            return false;
+
+        saveToRedis(memberId, newRefreshToken);
+        return true;
+    }
+
+    // 애플리케이션 시작 시 DB에 전환 이전 토큰이 남아 있는지 확인합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkLegacyTokens() {
+        legacyTokensRemaining = refreshTokenRepository.count() > 0;
+    }
+
+    // 매일 4시 30분에 DB에 남은 만료된 리프레시 토큰을 삭제하고, 모두 삭제되면 DB 조회를 중단합니다.
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void deleteExpiredLegacyTokens() {
+        if (!legacyTokensRemaining)
+            return;
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(Duration.ofMillis(REFRESH_TOKEN_EXPIRATION_TIME));
+        int deleted = refreshTokenRepository.deleteByCreatedAtBefore(expiredBefore);
+        if (deleted > 0)
+            log.info("Deleted {} expired legacy refresh tokens", deleted);
+
+        checkLegacyTokens();
+        if (!legacyTokensRemaining)
+            log.info("Legacy refresh tokens are purged, skipping database lookups");
+    }
+
+    private void saveToRedis(Long memberId, String refreshToken) {
+        String hash = hash(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + hash, MEMBER_KEY_PREFIX + memberId),
+                memberId.toString(), REFRESH_TOKEN_EXPIRATION_TIME.toString(), hash, TOKEN_KEY_PREFIX);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
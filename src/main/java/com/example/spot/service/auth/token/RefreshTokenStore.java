@@ -0,0 +1,26 @@
+package com.example.spot.service.auth.token;
+
+/**
+ * 회원별 리프레시 토큰 저장소입니다. 회원당 하나의 리프레시 토큰만 유효합니다.
+ * 기본 구현은 Redis({@link RedisRefreshTokenStore})이며, token.refresh-token-store=jpa 설정 시 DB({@link JpaRefreshTokenStore})를 사용합니다.
+ * Redis로 전환해도 DB에 저장된 기존 토큰은 처음 재발급될 때 Redis로 옮겨지므로 회원이 다시 로그인할 필요가 없습니다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 회원의 리프레시 토큰을 저장합니다. 기존에 발급된 리프레시 토큰은 무효화됩니다.
+     * @param memberId 회원 ID
+     * @param refreshToken 새로 발급된 리프레시 토큰
+     */
+    void save(Long memberId, String refreshToken);
+
+    /**
+     * 저장된 리프레시 토큰을 새 리프레시 토큰으로 교체합니다.
+     * 기존 토큰이 해당 회원의 현재 토큰인 경우에만 교체하며, 교체된 기존 토큰은 다시 사용할 수 없습니다.
+     * @param memberId 회원 ID
+     * @param refreshToken 재발급 요청에 사용된 리프레시 토큰
+     * @param newRefreshToken 새로 발급된 리프레시 토큰
+     * @return 교체 여부 (저장되지 않았거나 이미 사용된 토큰인 경우 false)
+     */
+    boolean rotate(Long memberId, String refreshToken, String newRefreshToken);
+}
@@ -0,0 +1,72 @@
+package com.example.spot.service.hitcount;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디/게시글 조회수 증가분을 메모리에 모아두는 버퍼입니다.
+ * 조회 시마다 행을 잠그는 UPDATE 대신 증가분만 누적하고, HitCountFlushScheduler가 주기적으로 일괄 반영합니다.
+ * 키별 누적은 ConcurrentHashMap의 버킷 단위 잠금으로 처리되므로, 서로 다른 스터디/게시글의 조회는 경합하지 않습니다.
+ */
+@Component
+public class HitCountBuffer {
+
+    private final Map<Long, Long> studyHits = new ConcurrentHashMap<>();
+    private final Map<Long, Long> postHits = new ConcurrentHashMap<>();
+
+/* ----------------------------- 스터디 ------------------------------------- */
+
+    public void increaseStudyHit(Long studyId) {
+        studyHits.merge(studyId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 스터디 조회수
+    public long getPendingStudyHit(Long studyId) {
+        return studyHits.getOrDefault(studyId, 0L);
+    }
+
+    public Map<Long, Long> drainStudyHits() {
+        return drain(studyHits);
+    }
+
+    // 반영에 실패한 증가분을 다시 누적합니다.
+    public void restoreStudyHits(Map<Long, Long> hits) {
+        hits.forEach((studyId, hit) -> studyHits.merge(studyId, hit, Long::sum));
+    }
+
+/* ----------------------------- 게시글 ------------------------------------- */
+
+    public void increasePostHit(Long postId) {
+        postHits.merge(postId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 게시글 조회수
+    public long getPendingPostHit(Long postId) {
+        return postHits.getOrDefault(postId, 0L);
+    }
+
+    public Map<Long, Long> drainPostHits() {
+        return drain(postHits);
+    }
+
+    // 반영에 실패한 증가분을 다시 누적합니다.
+    public void restorePostHits(Map<Long, Long> hits) {
+        hits.forEach((postId, hit) -> postHits.merge(postId, hit, Long::sum));
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 버퍼에서 제거합니다.
+     * 키 단위 remove는 merge와 원자적으로 동작하므로, 꺼내는 도중 발생한 조회수는 다음 반영 대상으로 남습니다.
+     */
+    private static Map<Long, Long> drain(Map<Long, Long> hits) {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long id : hits.keySet()) {
+            Long hit = hits.remove(id);
+            if (hit != null)
+                drained.put(id, hit);
+        }
+        return drained;
+    }
+}
@@ -15,9 +15,9 @@ import com.example.spot.repository.MemberRepository;
 import com.example.spot.web.dto.member.MemberRequestDTO;
 import com.example.spot.web.dto.member.MemberRequestDTO.MemberReasonDTO;
 import com.example.spot.domain.auth.CustomUserDetails;
-import com.example.spot.domain.auth.RefreshToken;
-import com.example.spot.repository.RefreshTokenRepository;
 import com.example.spot.service.auth.KaKaoOAuthService;
+import com.example.spot.service.auth.SocialLoginPipeline;
+import com.example.spot.service.auth.token.RefreshTokenStore;
 import com.example.spot.web.dto.member.MemberResponseDTO;
 import com.example.spot.web.dto.member.MemberResponseDTO.MemberRegionDTO.RegionDTO;
 import com.example.spot.web.dto.member.MemberResponseDTO.MemberSignInDTO;
@@ -53,6 +53,7 @@ import com.example.spot.web.dto.member.MemberRequestDTO.MemberRegionDTO;
 import com.example.spot.web.dto.member.MemberRequestDTO.MemberThemeDTO;
 import com.example.spot.web.dto.member.MemberResponseDTO.MemberUpdateDTO;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -65,6 +66,7 @@ public class MemberServiceImpl implements MemberService {
 
     // OAuth
     private final KaKaoOAuthService kaKaoOAuthService;
+    private final SocialLoginPipeline socialLoginPipeline;
 
     // JWT
     private final JwtTokenProvider jwtTokenProvider;
@@ -79,7 +81,7 @@ public class MemberServiceImpl implements MemberService {
     private final MemberThemeRepository memberThemeRepository;
     private final PreferredRegionRepository preferredRegionRepository;
     private final StudyReasonRepository studyReasonRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 카카오 로그인을 통해 회원 가입 또는 로그인을 수행합니다.
@@ -88,57 +90,24 @@ public class MemberServiceImpl implements MemberService {
      * @throws JsonProcessingException 카카오 사용자 정보 파싱 중 발생하는 예외
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponseDTO.SocialLoginSignInDTO signUpByKAKAO(String accessToken) throws JsonProcessingException {
-        // 액세스 토큰을 사용하여 사용자 정보 요청
-        ResponseEntity<String> userInfoResponse = kaKaoOAuthService.requestUserInfo(accessToken);
-
-        // 응답에서 사용자 정보를 파싱
-        KaKaoUser kaKaoUser = kaKaoOAuthService.getUserInfo(userInfoResponse);
-
-        if (memberRepository.existsByEmailAndLoginTypeNot(kaKaoUser.toMember().getEmail(), LoginType.KAKAO)){
-            log.info(kaKaoUser.toMember().getEmail());
-            throw new GeneralException(ErrorStatus._MEMBER_EMAIL_EXIST);
-        }
-
-        Boolean isSpotMember = false;
-        // 사용자가 이미 존재하는지 확인
-        if (memberRepository.existsByEmail(kaKaoUser.toMember().getEmail())) {
-            // 존재하는 경우, 사용자 정보를 가져옴
-            Member member = memberRepository.findByEmail(kaKaoUser.toMember().getEmail())
-                .orElseThrow(() -> new GeneralException(ErrorStatus._MEMBER_NOT_FOUND));
-            isSpotMember = true;
-            // JWT 토큰 생성
-            TokenDTO token = jwtTokenProvider.createToken(member.getId());
-
-            saveRefreshToken(member, token);
-
-            // 로그인 DTO 반환
-            MemberSignInDTO dto = MemberSignInDTO.builder()
-                    .tokens(token)
-                    .memberId(member.getId())
-                    .loginType(member.getLoginType())
-                    .email(member.getEmail())
-                    .build();
-            return SocialLoginSignInDTO.toDTO(isSpotMember, dto);
-        }
-
-
-        // 존재하지 않는 경우, 새로운 회원 정보 저장
-        Member member = memberRepository.save(kaKaoUser.toMember());
-
-        // JWT 토큰 생성
-        TokenDTO token = jwtTokenProvider.createToken(member.getId());
-
-        saveRefreshToken(member, token);
+        // 사용자 정보 조회, 회원 확인, 토큰 발급
+        return signInWithKakao(accessToken);
+    }
 
-        // 회원 가입 DTO 반환
-        MemberSignInDTO dto = MemberSignInDTO.builder()
-                .tokens(token)
-                .memberId(member.getId())
-                .loginType(member.getLoginType())
-                .email(member.getEmail())
-                .build();
-        return SocialLoginSignInDTO.toDTO(isSpotMember, dto);
+    /**
+     * 카카오 액세스 토큰으로 사용자 정보를 조회한 뒤 로그인 또는 회원가입을 수행합니다.
+     * 사용자 정보 조회, 회원 확인, 토큰 발급은 {@link SocialLoginPipeline}에서 수행합니다.
+     * @param accessToken 카카오 OAuth 액세스 토큰
+     * @return SPOT 서버에서 발급한 JWT 토큰 및 회원 정보
+     * @throws JsonProcessingException 카카오 사용자 정보 파싱 중 발생하는 예외
+     */
+    private SocialLoginSignInDTO signInWithKakao(String accessToken) throws JsonProcessingException {
+        return socialLoginPipeline.signIn(LoginType.KAKAO, accessToken,
+            token -> kaKaoOAuthService.getUserInfo(kaKaoOAuthService.requestUserInfo(token)),
+            kaKaoUser -> kaKaoUser.toMember().getEmail(),
+            KaKaoUser::toMember);
     }
 
     /**
@@ -147,18 +116,8 @@ public class MemberServiceImpl implements MemberService {
      * @param token 발급된 토큰 정보
      */
     private void saveRefreshToken(Member member, TokenDTO token) {
-        // 기존 리프레시 토큰 삭제
-        if (refreshTokenRepository.existsByMemberId(member.getId()))
-            refreshTokenRepository.deleteAllByMemberId(member.getId());
-
-        // DB에 저장하기 위한 새로운 리프레시 토큰 객체 생성
-        RefreshToken refreshToken = RefreshToken.builder()
-            .memberId(member.getId())
-            .token(token.getRefreshToken())
-            .build();
-
-        // 리프레시 토큰 저장
-        refreshTokenRepository.save(refreshToken);
+        // 기존 리프레시 토큰을 무효화하고 새 리프레시 토큰 저장
+        refreshTokenStore.save(member.getId(), token.getRefreshToken());
     }
 
 
@@ -256,66 +215,19 @@ public class MemberServiceImpl implements MemberService {
      * @param code 카카오 로그인 요청 시 발급받은 코드
      * @return SPOT 서버에서 발급한 JWT 토큰 및 회원 정보
      * @throws JsonProcessingException 카카오 사용자 정보 파싱 중 발생하는 예외
-     * @throws MemberHandler 이메일로 가입된 내역이 존재하지만, 실제로는 회원이 존재하지 않을 경우
+     * @throws GeneralException 이메일이 다른 로그인 방식으로 가입되어 있는 경우
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SocialLoginSignInDTO signUpByKAKAOForTest(String code) throws JsonProcessingException {
         // 카카오 OAuth 서비스에서 액세스 토큰 요청
         ResponseEntity<String> accessTokenResponse = kaKaoOAuthService.requestAccessToken(code);
 
         // 응답에서 액세스 토큰을 파싱
         KaKaoOAuthTokenDTO oAuthToken = kaKaoOAuthService.getAccessToken(accessTokenResponse);
-        System.out.println(oAuthToken.getAccess_token());
-
-        // 액세스 토큰을 사용하여 사용자 정보 요청
-        ResponseEntity<String> userInfoResponse = kaKaoOAuthService.requestUserInfo(oAuthToken.getAccess_token());
-
-        // 응답에서 사용자 정보를 파싱
-        KaKaoUser kaKaoUser = kaKaoOAuthService.getUserInfo(userInfoResponse);
-
-        if (memberRepository.existsByEmailAndLoginTypeNot(kaKaoUser.toMember().getEmail(), LoginType.KAKAO))
-            throw new GeneralException(ErrorStatus._MEMBER_EMAIL_EXIST);
-
-        Boolean isSpotMember = false;
-        // 사용자가 이미 존재하는지 확인
-        if (memberRepository.existsByEmail(kaKaoUser.toMember().getEmail())) {
-            // 존재하는 경우, 사용자 정보를 가져옴
-            Member member = memberRepository.findByEmail(kaKaoUser.toMember().getEmail())
-                .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-            isSpotMember = true;
-
-            // JWT 토큰 생성
-            TokenDTO token = jwtTokenProvider.createToken(member.getId());
-
-            saveRefreshToken(member, token);
 
-            // 로그인 DTO 반환
-            MemberSignInDTO memberSignInDto = MemberSignInDTO.builder()
-                    .tokens(token)
-                    .memberId(member.getId())
-                    .loginType(member.getLoginType())
-                    .email(member.getEmail())
-                    .build();
-
-            return SocialLoginSignInDTO.toDTO(isSpotMember, memberSignInDto);
-        }
-
-        // 존재하지 않는 경우, 새로운 회원 정보 저장
-        Member member = memberRepository.save(kaKaoUser.toMember());
-
-        // JWT 토큰 생성
-        TokenDTO token = jwtTokenProvider.createToken(member.getId());
-
-        saveRefreshToken(member, token);
-
-        // 회원 가입 DTO 반환
-        MemberSignInDTO dto = MemberSignInDTO.builder()
-                .tokens(token)
-                .memberId(member.getId())
-                .loginType(member.getLoginType())
-                .email(member.getEmail())
-                .build();
-        return SocialLoginSignInDTO.toDTO(isSpotMember, dto);
+        // 사용자 정보 조회, 회원 확인, 토큰 발급
+        return signInWithKakao(oAuthToken.getAccess_token());
     }
 
     /**
@@ -16,6 +16,7 @@ import com.example.spot.domain.study.*;
 import com.example.spot.repository.*;
 import com.example.spot.security.utils.SecurityUtils;
 import com.example.spot.service.s3.S3ImageService;
+import com.example.spot.service.study.StudyChangedEvent;
 import com.example.spot.web.dto.member.MemberResponseDTO;
 import com.example.spot.web.dto.memberstudy.request.*;
 import com.example.spot.web.dto.memberstudy.request.toDo.ToDoListRequestDTO.ToDoListCreateDTO;
@@ -28,6 +29,7 @@ import java.time.LocalDate;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,6 +64,11 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
     // S3 Service
     private final S3ImageService s3ImageService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 요청 단위 회원/스터디/권한 조회 컨텍스트
+    private final StudyMembershipContext studyMembershipContext;
+
 /* ----------------------------- 진행중인 스터디 관련 API ------------------------------------- */
 
     /**
@@ -77,13 +84,13 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
-        MemberStudy memberStudy = memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        MemberStudy memberStudy = studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 참여가 승인되지 않은 스터디는 탈퇴할 수 없음
@@ -96,6 +103,9 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         }
 
         memberStudyRepository.delete(memberStudy);
+        studyMembershipContext.evict(memberId, studyId);
+        if (studyRepository.decreaseApprovedMemberCount(studyId) > 0)
+            study.decreaseApprovedMemberCount();
 
         return StudyWithdrawalResponseDTO.WithdrawalDTO.toDTO(member, study);
     }
@@ -107,13 +117,14 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
      */
     public StudyTerminationResponseDTO.TerminationDTO terminateStudy(Long studyId) {
 
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 스터디장 확인 로직 빠짐
 
         study.setStatus(Status.OFF);
         studyRepository.save(study);
+        eventPublisher.publishEvent(StudyChangedEvent.terminated(study.getId()));
 
         return StudyTerminationResponseDTO.TerminationDTO.toDTO(study);
     }
@@ -140,7 +151,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             throw new GeneralException(ErrorStatus._ONLY_STUDY_OWNER_CAN_ACCESS_APPLICANTS);
 
         // 스터디 신청자 조회
-        MemberStudy memberStudy = memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPLIED)
+        MemberStudy memberStudy = studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPLIED)
             .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_APPLICANT_NOT_FOUND));
 
         // 스터디 소유자가 스터디 신청한 경우
@@ -152,7 +163,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             throw new GeneralException(ErrorStatus._STUDY_APPLY_ALREADY_PROCESSED);
 
         // 스터디 장 조회
-        Member owner = memberRepository.findById(SecurityUtils.getCurrentUserId())
+        Member owner = studyMembershipContext.getMember(SecurityUtils.getCurrentUserId())
             .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
         // 승인인 경우
@@ -176,6 +187,8 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             memberStudyRepository.delete(memberStudy);
         }
 
+        studyMembershipContext.evict(memberId, studyId);
+
         // 스터디 신청 처리 결과 반환
         return StudyApplyResponseDTO.builder()
             .status(memberStudy.getStatus())
@@ -206,7 +219,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             throw new GeneralException(ErrorStatus._ONLY_STUDY_OWNER_CAN_ACCESS_APPLICANTS);
 
         // 스터디 신청자 조회
-        MemberStudy memberStudy = memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPLIED)
+        MemberStudy memberStudy = studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPLIED)
             .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_APPLICANT_NOT_FOUND));
 
         // 스터디 소유자가 스터디 신청한 경우
@@ -218,11 +231,14 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             throw new GeneralException(ErrorStatus._STUDY_APPLY_ALREADY_PROCESSED);
 
         // 스터디 장 조회
-        Member owner = memberRepository.findById(SecurityUtils.getCurrentUserId())
+        Member owner = studyMembershipContext.getMember(SecurityUtils.getCurrentUserId())
             .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
         // 승인인 경우
         if (isAccept) {
+            // 정원이 가득 찬 경우
+            if (studyRepository.increaseApprovedMemberCount(studyId) == 0)
+                throw new StudyHandler(ErrorStatus._STUDY_IS_FULL);
             memberStudy.setStatus(ApplicationStatus.APPROVED);
         }
         else {
@@ -230,6 +246,8 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             memberStudyRepository.delete(memberStudy);
         }
 
+        studyMembershipContext.evict(memberId, studyId);
+
         // 스터디 신청 처리 결과 반환
         return StudyApplyResponseDTO.builder()
             .status(memberStudy.getStatus())
@@ -252,13 +270,13 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -319,15 +337,15 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_SCHEDULE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 일정 생성자인지 확인
@@ -402,11 +420,11 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_SCHEDULE_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 해당 스터디에서 생성된 일정인지 확인
@@ -415,7 +433,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         }
 
         // 로그인한 회원이 스터디장인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(memberId, studyId, Boolean.TRUE)
+        studyMembershipContext.getOwnedMemberStudy(memberId, studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_QUIZ_CREATION_INVALID));
 
         // 요청한 날짜에 이미 출석 퀴즈가 생성되었는지 확인
@@ -457,9 +475,9 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 요청한 날짜에 생성된 출석 퀴즈 조회
@@ -472,7 +490,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Quiz quiz = quizzes.get(0);
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(member.getId(), study.getId(), ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(member.getId(), study.getId(), ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 퀴즈 제한시간 확인
@@ -524,9 +542,9 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 요청한 날짜에 생성된 출석 퀴즈 조회
@@ -539,11 +557,11 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Quiz quiz = todayQuizzes.get(0);
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(member.getId(), study.getId(), ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(member.getId(), study.getId(), ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 스터디장인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(memberId, studyId, Boolean.TRUE)
+        studyMembershipContext.getOwnedMemberStudy(memberId, studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_QUIZ_DELETION_INVALID));
 
         //=== Feature ===//
@@ -573,13 +591,13 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member loginMember = memberRepository.findById(memberId)
+        Member loginMember = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -636,9 +654,9 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member loginMember = memberRepository.findById(memberId)
+        Member loginMember = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
@@ -646,7 +664,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 중복 선택이 허용되지 않는 투표는 여러 개의 option을 선택할 수 없음
@@ -700,15 +718,15 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member loginMember = memberRepository.findById(memberId)
+        Member loginMember = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 투표 생성자인지 확인
@@ -754,9 +772,9 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member loginMember = memberRepository.findById(memberId)
+        Member loginMember = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
@@ -764,7 +782,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 투표 생성자인지 확인
@@ -802,7 +820,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
      * @return 스터디 장 여부를 반환합니다.
      */
     private boolean isOwner(Long memberId, Long studyId) {
-        return memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(memberId, studyId, true).isPresent();
+        return studyMembershipContext.isOwner(memberId, studyId);
     }
 
     /**
@@ -812,7 +830,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
      * @return 스터디 참여 여부를 반환합니다.
      */
     private boolean isMember(Long memberId, Long studyId) {
-        return memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED).isPresent();
+        return studyMembershipContext.isApproved(memberId, studyId);
     }
 
     /**
@@ -829,19 +847,19 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long reporterId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(reporterId);
 
-        Member reporter = memberRepository.findById(reporterId)
+        Member reporter = studyMembershipContext.getMember(reporterId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(reporterId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(reporterId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 신고당한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 자기 자신을 신고할 수 없음
@@ -875,15 +893,15 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         Long reporterId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(reporterId);
 
-        memberRepository.findById(reporterId)
+        studyMembershipContext.getMember(reporterId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         StudyPost studyPost = studyPostRepository.findById(postId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(reporterId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(reporterId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 해당 스터디의 게시글인지 확인
@@ -917,7 +935,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
         ToDoListCreateDTO toDoListCreateDTO) {
 
         // 스터디 조회
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
             .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // To-Do List를 생성하는 회원 ID 조회
@@ -928,7 +946,7 @@ public class MemberStudyCommandServiceImpl implements MemberStudyCommandService
             throw new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND);
 
         // 회원 조회
-        Member member = memberRepository.findById(currentUserId)
+        Member member = studyMembershipContext.getMember(currentUserId)
             .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
         // To-Do List 생성
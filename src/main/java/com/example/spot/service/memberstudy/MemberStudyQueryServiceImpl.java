@@ -56,6 +56,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
     private final MemberVoteRepository memberVoteRepository;
     private final ToDoListRepository toDoListRepository;
 
+    // 요청 단위 회원/스터디/권한 조회 컨텍스트
+    private final StudyMembershipContext studyMembershipContext;
+
 
     /**
      * 스터디 최근 공지사항을 1개 조회합니다.
@@ -194,7 +197,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
             throw new GeneralException(ErrorStatus._ONLY_STUDY_OWNER_CAN_ACCESS_APPLICANTS);
 
         // 스터디 신청자 조회
-        MemberStudy memberStudy = memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPLIED)
+        MemberStudy memberStudy = studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPLIED)
             .orElseThrow(() -> new GeneralException(ErrorStatus._STUDY_APPLICANT_NOT_FOUND));
 
         // 스터디 장은 스터디에 신청할 수 없음
@@ -250,9 +253,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 요청한 날짜에 생성된 출석 퀴즈 조회
@@ -265,7 +268,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Quiz quiz = todayQuizzes.get(0);
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -293,9 +296,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_SCHEDULE_NOT_FOUND));
@@ -306,7 +309,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         }
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 해당 날짜에 생성된 스터디 퀴즈 조회
@@ -336,9 +339,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
@@ -375,9 +378,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_SCHEDULE_NOT_FOUND));
@@ -470,13 +473,13 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -542,15 +545,15 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        memberRepository.findById(memberId)
+        studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 해당 스터디의 투표인지 확인
@@ -575,9 +578,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
@@ -587,7 +590,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -607,9 +610,9 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        memberRepository.findById(memberId)
+        studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
@@ -619,7 +622,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_VOTE_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 마감된 투표인지 확인
@@ -638,7 +641,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
      * @return 스터디 장 여부를 반환합니다.
      */
     private boolean isOwner(Long memberId, Long studyId) {
-        return memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(memberId, studyId, true).isPresent();
+        return studyMembershipContext.isOwner(memberId, studyId);
     }
 
     /**
@@ -648,7 +651,7 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
      * @return 스터디 참여 여부를 반환합니다.
      */
     private boolean isMember(Long memberId, Long studyId) {
-        return memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED).isPresent();
+        return studyMembershipContext.isApproved(memberId, studyId);
     }
 /* ----------------------------- 스터디 갤러리 관련 API ------------------------------------- */
 
@@ -664,13 +667,13 @@ public class MemberStudyQueryServiceImpl implements MemberStudyQueryService {
         //=== Exception ===//
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
-        memberRepository.findById(memberId)
+        studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
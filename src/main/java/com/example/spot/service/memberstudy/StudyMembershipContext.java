@@ -0,0 +1,152 @@
+package com.example.spot.service.memberstudy;
+
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.ApplicationStatus;
+import com.example.spot.domain.mapping.MemberStudy;
+import com.example.spot.domain.study.Study;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.MemberStudyRepository;
+import com.example.spot.repository.StudyRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 단위로 회원, 스터디, 스터디 회원(MemberStudy) 조회 결과를 보관하는 컨텍스트입니다.
+ * 한 요청에서 같은 회원/스터디에 대한 권한 확인이 여러 번 일어나도 DB 조회는 한 번만 수행합니다.
+ *
+ * <p>조회 결과는 요청 속성에 저장되므로 요청이 끝나면 함께 사라지며, 요청이 없는 경우(스케줄러 등)에는 캐싱하지 않습니다.
+ * 캐싱된 MemberStudy는 영속 상태의 엔티티이므로 상태 변경(setStatus)은 다음 조회에 바로 반영되며,
+ * MemberStudy를 생성/삭제하는 서비스는 {@link #evict}로 해당 회원/스터디의 캐시를 비워야 합니다.
+ * (OSIV로 요청 동안 같은 영속성 컨텍스트가 유지되는 것을 전제로 합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyMembershipContext {
+
+    private static final String ATTRIBUTE_NAME = StudyMembershipContext.class.getName();
+    private static final String OWNER = "OWNER";
+
+    private final MemberRepository memberRepository;
+    private final StudyRepository studyRepository;
+    private final MemberStudyRepository memberStudyRepository;
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    public Optional<Member> getMember(Long memberId) {
+        Cache cache = getCache();
+        if (cache == null || memberId == null)
+            return memberRepository.findById(memberId);
+        return cache.members.computeIfAbsent(memberId, memberRepository::findById);
+    }
+
+    public Optional<Study> getStudy(Long studyId) {
+        Cache cache = getCache();
+        if (cache == null || studyId == null)
+            return studyRepository.findById(studyId);
+        return cache.studies.computeIfAbsent(studyId, studyRepository::findById);
+    }
+
+    /**
+     * 회원의 스터디 신청 상태에 해당하는 MemberStudy를 조회합니다.
+     * @param memberId 회원 ID
+     * @param studyId 스터디 ID
+     * @param status 신청 상태
+     * @return 해당 상태의 MemberStudy
+     */
+    public Optional<MemberStudy> getMemberStudy(Long memberId, Long studyId, ApplicationStatus status) {
+        return getMemberStudy(memberId, studyId, status.name(),
+            memberStudy -> memberStudy.getStatus() == status,
+            () -> memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, status));
+    }
+
+    /**
+     * 회원이 스터디장인 MemberStudy를 조회합니다.
+     * @param memberId 회원 ID
+     * @param studyId 스터디 ID
+     * @return 스터디장의 MemberStudy
+     */
+    public Optional<MemberStudy> getOwnedMemberStudy(Long memberId, Long studyId) {
+        return getMemberStudy(memberId, studyId, OWNER,
+            memberStudy -> Boolean.TRUE.equals(memberStudy.getIsOwned()),
+            () -> memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(memberId, studyId, Boolean.TRUE));
+    }
+
+    // 스터디장 여부
+    public boolean isOwner(Long memberId, Long studyId) {
+        return getOwnedMemberStudy(memberId, studyId).isPresent();
+    }
+
+    // 승인된 스터디 회원 여부
+    public boolean isApproved(Long memberId, Long studyId) {
+        return getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED).isPresent();
+    }
+
+    private Optional<MemberStudy> getMemberStudy(Long memberId, Long studyId, String role,
+        Predicate<MemberStudy> matcher, Supplier<Optional<MemberStudy>> loader) {
+        Cache cache = getCache();
+        if (cache == null || memberId == null || studyId == null)
+            return loader.get();
+
+        Map<String, Optional<MemberStudy>> memberships =
+            cache.memberships.computeIfAbsent(new MembershipKey(memberId, studyId), key -> new HashMap<>());
+
+        // 이미 조회한 MemberStudy의 현재 상태가 조건에 맞으면 재사용 (같은 요청에서 상태가 변경된 경우 포함)
+        Optional<MemberStudy> matched = memberships.values().stream()
+            .flatMap(Optional::stream)
+            .filter(matcher)
+            .findFirst();
+        if (matched.isPresent())
+            return matched;
+
+        // 조건에 맞는 MemberStudy가 없다고 확인된 경우
+        Optional<MemberStudy> cached = memberships.get(role);
+        if (cached != null && cached.isEmpty())
+            return cached;
+
+        Optional<MemberStudy> loaded = loader.get();
+        memberships.put(role, loaded);
+        return loaded;
+    }
+
+/* ----------------------------- 무효화 ------------------------------------- */
+
+    /**
+     * 현재 요청에 캐싱된 회원/스터디의 MemberStudy 조회 결과를 비웁니다.
+     * MemberStudy를 생성, 삭제하거나 신청 상태를 변경한 뒤 호출합니다.
+     * @param memberId 회원 ID
+     * @param studyId 스터디 ID
+     */
+    public void evict(Long memberId, Long studyId) {
+        Cache cache = getCache();
+        if (cache != null && memberId != null && studyId != null)
+            cache.memberships.remove(new MembershipKey(memberId, studyId));
+    }
+
+    private static Cache getCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return null;
+
+        Cache cache = (Cache) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new Cache();
+            attributes.setAttribute(ATTRIBUTE_NAME, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache;
+    }
+
+    private static class Cache {
+        private final Map<Long, Optional<Member>> members = new HashMap<>();
+        private final Map<Long, Optional<Study>> studies = new HashMap<>();
+        private final Map<MembershipKey, Map<String, Optional<MemberStudy>>> memberships = new HashMap<>();
+    }
+
+    private record MembershipKey(Long memberId, Long studyId) {}
+}
@@ -0,0 +1,15 @@
+package com.example.spot.service.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메일이 전송 대기열({@link com.example.spot.domain.MailOutbox})에 저장되었을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 이후 메일을 바로 전송하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MailEnqueuedEvent {
+
+    private final Long mailId;
+}
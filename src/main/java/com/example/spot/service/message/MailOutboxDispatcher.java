@@ -0,0 +1,221 @@
+package com.example.spot.service.message;
+
+import com.example.spot.domain.MailOutbox;
+import com.example.spot.domain.enums.MailStatus;
+import com.example.spot.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전송 대기열({@link MailOutbox})의 메일을 크기가 제한된 스레드 풀에서 전송합니다.
+ *
+ * <p>메일은 저장된 트랜잭션이 커밋되면 바로 전송을 시도하며, 스레드 풀의 대기열이 가득 찬 경우와 전송에 실패한 경우에는
+ * {@link com.example.spot.scheduler.MailOutboxScheduler}가 주기적으로 다시 전송합니다.
+ * 전송 전에 조건부 UPDATE로 메일을 선점하므로 여러 스레드나 서버에서 같은 메일을 중복 전송하지 않습니다.
+ * 실패한 메일은 지수 백오프로 재시도하며, {@link #MAX_ATTEMPTS}회 실패하면 더 이상 전송하지 않습니다.
+ *
+ * <p>SMTP 연결/읽기/쓰기 제한 시간은 전송 제한 시간보다 짧게 설정하므로, 응답하지 않는 SMTP 서버 때문에
+ * 선점이 만료되어 같은 메일이 다시 선점되는 경우는 드뭅니다. 그런 경우에도 선점 시의 시도 횟수가 일치할 때만
+ * 결과를 반영하므로 늦게 끝난 이전 전송이 새 선점의 상태를 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private static final int CORE_POOL_SIZE = 2;
+    private static final int MAX_POOL_SIZE = 4;
+    private static final int QUEUE_CAPACITY = 200;
+
+    // 전송 제한 시간 (이 시간이 지나도 완료되지 않은 전송은 다시 전송 대상이 됨)
+    private static final Duration SEND_TIMEOUT = Duration.ofMinutes(1);
+    // SMTP 연결, 읽기, 쓰기 제한 시간 (전송 제한 시간 안에 끝나도록 더 짧게 설정)
+    static final Duration SMTP_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String senderName = "SPOT";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 전송 지연, 전송 대기 중인 메일 수
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    @Value("${spring.mail.username}")
+    private String sender;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender,
+                                MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        if (javaMailSender instanceof JavaMailSenderImpl javaMailSenderImpl)
+            applySmtpTimeouts(javaMailSenderImpl.getJavaMailProperties());
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CORE_POOL_SIZE);
+        executor.setMaxPoolSize(MAX_POOL_SIZE);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        this.sendSuccess = Timer.builder("spot.mail.send")
+                .description("Time taken to send a mail over SMTP")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("spot.mail.send")
+                .description("Time taken to send a mail over SMTP")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("spot.mail.outbox.pending", pendingCount, AtomicLong::get)
+                .description("Number of mails waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("spot.mail.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Number of mails queued in the local send pool")
+                .register(meterRegistry);
+    }
+
+    // 설정된 값이 없거나 전송 제한 시간보다 긴 경우 SMTP 제한 시간으로 변경
+    static void applySmtpTimeouts(Properties properties) {
+        String timeout = String.valueOf(SMTP_TIMEOUT.toMillis());
+        for (String key : List.of("mail.smtp.connectiontimeout", "mail.smtp.timeout", "mail.smtp.writetimeout")) {
+            String configured = properties.getProperty(key);
+            if (configured == null || !configured.matches("\\d+") || Long.parseLong(configured) > SMTP_TIMEOUT.toMillis())
+                properties.setProperty(key, timeout);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 메일이 저장된 트랜잭션이 커밋되면 전송을 시작합니다.
+     * @param event 메일 저장 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMailEnqueued(MailEnqueuedEvent event) {
+        dispatch(event.getMailId());
+    }
+
+    /**
+     * 전송 시각이 된 메일을 스레드 풀에 등록합니다.
+     * @param limit 한 번에 등록할 최대 메일 수
+     * @return 등록한 메일 수
+     */
+    public int dispatchDue(int limit) {
+        int capacity = Math.min(limit, executor.getQueueCapacity() - executor.getQueueSize());
+        int dispatched = 0;
+        if (capacity > 0) {
+            List<Long> mailIds = mailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, capacity));
+            for (Long mailId : mailIds) {
+                if (!dispatch(mailId))
+                    break;
+                dispatched++;
+            }
+        }
+        pendingCount.set(mailOutboxRepository.countByStatus(MailStatus.PENDING));
+        return dispatched;
+    }
+
+    // 스레드 풀의 대기열이 가득 찬 경우 스케줄러가 다시 등록할 때까지 대기
+    private boolean dispatch(Long mailId) {
+        try {
+            executor.execute(() -> send(mailId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.debug("Mail send pool is full, mail {} will be retried by the scheduler", mailId);
+            return false;
+        }
+    }
+
+    /**
+     * 메일을 선점한 뒤 전송합니다. 다른 스레드나 서버가 이미 선점한 메일은 전송하지 않습니다.
+     * 전송 중 발생한 모든 예외는 시도 횟수에 포함되어 재시도 또는 전송 실패로 처리됩니다.
+     * @param mailId 메일 ID
+     */
+    void send(Long mailId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (mailOutboxRepository.claim(mailId, now, now.plus(SEND_TIMEOUT)) == 0)
+            return;
+
+        MailOutbox mail = mailOutboxRepository.findById(mailId).orElse(null);
+        if (mail == null)
+            return;
+
+        Timer.Sample sample = Timer.start();
+        try {
+            javaMailSender.send(createMessage(mail));
+        } catch (Exception e) {
+            sample.stop(sendFailure);
+            handleFailure(mail, e);
+            return;
+        }
+        sample.stop(sendSuccess);
+        if (mailOutboxRepository.markSent(mailId, mail.getAttempts()) == 0)
+            log.warn("Mail {} was sent after its lease expired (attempt {})", mailId, mail.getAttempts());
+    }
+
+    private void handleFailure(MailOutbox mail, Exception e) {
+        String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        if (mail.getAttempts() >= MAX_ATTEMPTS) {
+            if (mailOutboxRepository.markFailed(mail.getId(), mail.getAttempts(), error) > 0)
+                log.error("Giving up on mail {} after {} attempts", mail.getId(), mail.getAttempts(), e);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(mail.getAttempts()));
+        if (mailOutboxRepository.reschedule(mail.getId(), mail.getAttempts(), nextAttemptAt, error) > 0)
+            log.warn("Failed to send mail {} (attempt {}), retrying at {}", mail.getId(), mail.getAttempts(), nextAttemptAt, e);
+    }
+
+    // 10초, 20초, 40초 ... (최대 30분)
+    static Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(sender, senderName);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+        return message;
+    }
+
+    private static String truncate(String message) {
+        if (message == null)
+            return null;
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
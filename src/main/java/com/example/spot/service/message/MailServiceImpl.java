@@ -1,74 +1,45 @@
 package com.example.spot.service.message;
 
-import com.example.spot.api.code.status.ErrorStatus;
-import com.example.spot.api.exception.handler.MemberHandler;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.example.spot.domain.MailOutbox;
+import com.example.spot.repository.MailOutboxRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class MailServiceImpl implements MailService {
 
-    private final JavaMailSender javaMailSender;
+    // 템플릿을 읽지 못하면 클래스 초기화 오류 대신 빈 생성 오류로 드러나도록 인스턴스 생성 시 로드
+    private final MailTemplate verificationTemplate = MailTemplate.load("templates/MailForm.html");
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${spring.mail.username}")
     private String sender;
     private static final String subject = "[SPOT] 이메일 확인 코드 : ";
-    private static final String senderName = "SPOT";
 
+    /**
+     * 인증 메일을 전송 대기열에 저장합니다.
+     * 메일은 트랜잭션 커밋 이후 {@link MailOutboxDispatcher}가 별도 스레드에서 전송하므로, 요청 스레드는 SMTP 응답을 기다리지 않습니다.
+     */
     @Override
+    @Transactional
     public void sendMail(HttpServletRequest request, HttpServletResponse response, String email, String code) {
-        MimeMessage message = createMessage(email, code);
-        javaMailSender.send(message);
-    }
-
-    private MimeMessage createMessage(String email, String verificationCode) {
-
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        try {
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(sender, senderName);
-            helper.setTo(email);
-            helper.setSubject(subject + verificationCode);
-
-            String htmlContent = getHtmlContent();
-
-            htmlContent = htmlContent.replace("${email}", email);
-            htmlContent = htmlContent.replace("${verificationCode}", verificationCode);
-            htmlContent = htmlContent.replace("${sender}", sender);
-
-            helper.setText(htmlContent, true);
-
-        } catch (MessagingException e) {
-            throw new MemberHandler(ErrorStatus._UNABLE_TO_SEND_EMAIL);
-        } catch (IOException e) {
-            throw new MemberHandler(ErrorStatus._UNABLE_TO_LOAD_MAIL_FORM);
-        } catch (Exception e) {
-            throw new MemberHandler(ErrorStatus._INTERNAL_SERVER_ERROR);
-        }
-
-        return message;
-    }
+        String content = verificationTemplate.render(Map.of(
+                "email", email,
+                "verificationCode", code,
+                "sender", sender));
 
-    private String getHtmlContent() throws IOException {
-        ClassPathResource resource = new ClassPathResource("templates/MailForm.html");
-        byte[] encoded = Files.readAllBytes(Paths.get(resource.getURI()));
-        return new String(encoded, StandardCharsets.UTF_8);
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.of(email, subject + code, content));
+        eventPublisher.publishEvent(new MailEnqueuedEvent(mail.getId()));
     }
 
 }
@@ -0,0 +1,73 @@
+package com.example.spot.service.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 메일 본문 템플릿입니다.
+ * 템플릿을 한 번만 읽어 고정 문자열과 {@code ${name}} 형식의 변수로 나누어 두고, 메일마다 변수만 채워 본문을 생성합니다.
+ * 클래스패스 리소스를 스트림으로 읽으므로 jar 내부에서도 동작합니다.
+ */
+public class MailTemplate {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> variables = new ArrayList<>();
+    private final int length;
+
+    private MailTemplate(String template) {
+        Matcher matcher = VARIABLE.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(last, matcher.start()));
+            variables.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(template.substring(last));
+        this.length = template.length();
+    }
+
+    /**
+     * 클래스패스의 템플릿을 읽어 컴파일합니다.
+     * @param path 클래스패스 경로
+     * @return 컴파일된 템플릿
+     */
+    public static MailTemplate load(String path) {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return new MailTemplate(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load mail template: " + path, e);
+        }
+    }
+
+    public static MailTemplate compile(String template) {
+        return new MailTemplate(template);
+    }
+
+    /**
+     * 변수를 HTML 이스케이프한 값으로 채워 본문을 생성합니다.
+     * @param values 변수명 -> 값 (값이 없는 변수는 빈 문자열로 대체)
+     * @return 메일 본문
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder(length + 64);
+        for (int i = 0; i < variables.size(); i++) {
+            builder.append(literals.get(i));
+            String value = values.get(variables.get(i));
+            if (value != null)
+                builder.append(HtmlUtils.htmlEscape(value));
+        }
+        builder.append(literals.get(literals.size() - 1));
+        return builder.toString();
+    }
+}
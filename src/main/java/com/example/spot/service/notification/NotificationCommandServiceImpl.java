@@ -7,6 +7,8 @@ import com.example.spot.domain.enums.ApplicationStatus;
 import com.example.spot.domain.enums.NotifyType;
 import com.example.spot.domain.mapping.MemberStudy;
 import com.example.spot.repository.MemberStudyRepository;
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.notification.NotificationResponseDTO.NotificationProcessDTO;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,8 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
 
     private final MemberStudyRepository memberStudyRepository;
     private final NotificationRepository notificationRepository;
+    private final StudyRepository studyRepository;
+    private final StudyMembershipContext studyMembershipContext;
 
     /**
      * 알림을 읽음 처리 합니다. 이미 읽은 알림인 경우 예외를 발생시킵니다.
@@ -49,6 +53,7 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
         if (notification.getIsChecked())
             throw new GeneralException(ErrorStatus._NOTIFICATION_ALREADY_READ);
 
+        studyMembershipContext.evict(memberId, studyId);
         // 알림 읽음 처리
         notification.markAsRead();
 
@@ -67,6 +72,7 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
      * @return 스터디 신청 처리 결과 및 처리 일시
      * @throws GeneralException 알림이 존재하지 않거나 이미 읽음 처리된 경우
      * @throws GeneralException 스터디 신청자가 존재하지 않는 경우
+     * @throws GeneralException 스터디 정원이 가득 찬 경우
      * @see NotificationProcessDTO
      */
     @Override
@@ -87,6 +93,9 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
 
         // 스터디 신청 처리
         if (isAccept) {
+            // 정원이 가득 찬 경우
+            if (studyRepository.increaseApprovedMemberCount(studyId) == 0)
+                throw new GeneralException(ErrorStatus._STUDY_IS_FULL);
             // 스터디 신청 수락
             memberStudy.setStatus(ApplicationStatus.APPROVED);
         }else {
@@ -1,5 +1,9 @@
 package com.example.spot.service.post;
 
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
+
+import java.util.Map;
+
 public interface LikedPostCommentQueryService {
     long countByPostCommentIdAndIsLikedTrue(Long postCommentId);
 
@@ -7,4 +11,6 @@ public interface LikedPostCommentQueryService {
 
     boolean existsByMemberIdAndPostCommentIdAndIsLikedFalse(Long postCommentId);
 
+    Map<Long, PostCommentReactionCount> countByPostId(Long postId);
+
 }
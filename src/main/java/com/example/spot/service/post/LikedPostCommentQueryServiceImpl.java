@@ -1,10 +1,15 @@
 package com.example.spot.service.post;
 
 import com.example.spot.repository.LikedPostCommentRepository;
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static com.example.spot.security.utils.SecurityUtils.getCurrentUserId;
 
 @Service
@@ -45,4 +50,16 @@ public class LikedPostCommentQueryServiceImpl implements LikedPostCommentQuerySe
         Long currentUserId = getCurrentUserId();
         return likedPostCommentRepository.existsByMemberIdAndPostCommentIdAndIsLikedFalse(currentUserId, postCommentId);
     }
+
+    /**
+     * 게시글의 모든 댓글에 대해 좋아요 수와 현재 사용자의 좋아요/싫어요 여부를 한 번의 쿼리로 조회합니다.
+     * @param postId 게시글 ID
+     * @return 댓글 ID별 좋아요/싫어요 집계 (좋아요/싫어요가 없는 댓글은 포함되지 않음)
+     */
+    @Override
+    public Map<Long, PostCommentReactionCount> countByPostId(Long postId) {
+        Long currentUserId = getCurrentUserId();
+        return likedPostCommentRepository.countByPostId(postId, currentUserId).stream()
+                .collect(Collectors.toMap(PostCommentReactionCount::getPostCommentId, Function.identity()));
+    }
 }
@@ -1,7 +1,12 @@
 package com.example.spot.service.post;
 
+import java.util.List;
+import java.util.Set;
+
 public interface LikedPostQueryService {
     long countByPostId(Long postId);
 
     boolean existsByMemberIdAndPostId(Long postId);
+
+    Set<Long> findLikedPostIds(List<Long> postIds);
 }
@@ -5,6 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.example.spot.security.utils.SecurityUtils.getCurrentUserId;
 
 @Service
@@ -34,4 +38,18 @@ public class LikedPostQueryServiceImpl implements LikedPostQueryService {
         Long currentUserId = getCurrentUserId();
         return likedPostRepository.existsByMemberIdAndPostId(currentUserId, postId);
     }
+
+    /**
+     * 게시글 목록 중 현재 사용자가 좋아요한 게시글 ID를 한 번의 쿼리로 조회합니다.
+     * @param postIds 게시글 ID 목록
+     * @return 현재 사용자가 좋아요한 게시글 ID 집합
+     */
+    @Override
+    public Set<Long> findLikedPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+        Long currentUserId = getCurrentUserId();
+        return new HashSet<>(likedPostRepository.findPostIdsByMemberIdAndPostIdIn(currentUserId, postIds));
+    }
 }
@@ -0,0 +1,98 @@
+package com.example.spot.service.post;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 활동(조회, 좋아요, 댓글)을 분 단위 버킷에 누적하는 링 버퍼입니다.
+ * 버킷은 최근 {@link #WINDOW_MINUTES}분만큼 순환하며, 누적된 활동은 {@link PostLeaderboard}가 주기적으로 가져가
+ * Redis의 분 단위 Sorted Set에 합산합니다. 분 단위로 구분해 두므로 반영이 늦어지더라도 활동이 발생한 시각의 버킷에 합산됩니다.
+ */
+@Component
+public class PostActivityWindow {
+
+    public static final int WINDOW_MINUTES = 120;
+
+    private static final long MINUTE_MILLIS = 60 * 1000;
+
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(WINDOW_MINUTES);
+
+    /**
+     * 현재 분의 버킷에 게시글 활동을 누적합니다.
+     * @param postId 게시글 ID
+     * @param weight 활동 가중치 (좋아요/댓글 1건 = 1, 조회 n건 = n)
+     */
+    public void record(Long postId, long weight) {
+        bucket(currentMinute()).counts.merge(postId, weight, Long::sum);
+    }
+
+    /**
+     * 누적된 활동을 분 단위로 가져오고 버킷에서 제거합니다.
+     * 가져오는 동안 추가된 활동은 다음 호출에 반영됩니다.
+     * @return 분(epoch minute) -> (게시글 ID -> 누적 가중치)
+     */
+    public Map<Long, Map<Long, Long>> drain() {
+        Map<Long, Map<Long, Long>> drained = new HashMap<>();
+        for (int slot = 0; slot < WINDOW_MINUTES; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.counts.isEmpty())
+                continue;
+
+            Map<Long, Long> counts = new HashMap<>();
+            for (Long postId : bucket.counts.keySet()) {
+                Long count = bucket.counts.remove(postId);
+                if (count != null)
+                    counts.put(postId, count);
+            }
+            if (!counts.isEmpty())
+                drained.put(bucket.minute, counts);
+        }
+        return drained;
+    }
+
+    /**
+     * Redis 반영에 실패한 활동을 다시 누적합니다.
+     * 그 사이 윈도우를 벗어난 분의 활동은 실시간 순위에 더 이상 반영되지 않으므로 버립니다.
+     * @param activities {@link #drain()}으로 가져온 활동
+     */
+    public void restore(Map<Long, Map<Long, Long>> activities) {
+        long oldestMinute = currentMinute() - WINDOW_MINUTES + 1;
+        activities.forEach((minute, counts) -> {
+            if (minute < oldestMinute)
+                return;
+
+            Bucket bucket = bucket(minute);
+            counts.forEach((postId, count) -> bucket.counts.merge(postId, count, Long::sum));
+        });
+    }
+
+    public static long currentMinute() {
+        return System.currentTimeMillis() / MINUTE_MILLIS;
+    }
+
+    // 해당 분의 버킷을 반환하며, 슬롯에 이전 주기의 버킷이 남아 있으면 새 버킷으로 교체합니다.
+    private Bucket bucket(long minute) {
+        int slot = (int) (minute % WINDOW_MINUTES);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.minute == minute)
+                return bucket;
+
+            Bucket created = new Bucket(minute);
+            if (buckets.compareAndSet(slot, bucket, created))
+                return created;
+        }
+    }
+
+    private static class Bucket {
+        private final long minute;
+        private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long minute) {
+            this.minute = minute;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.spot.service.post;
+
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostBestGeneration;
+import com.example.spot.domain.PostBestSnapshot;
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.repository.PostBestGenerationRepository;
+import com.example.spot.repository.PostBestSnapshotRepository;
+import com.example.spot.repository.PostRepository;
+import com.example.spot.web.dto.post.PostBest5DetailResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기글 스냅샷을 세대 단위로 저장하고, 현재 세대를 메모리에 보관합니다.
+ * 스냅샷 갱신 시 새 세대와 스냅샷을 한 트랜잭션에서 저장하고 이전 세대를 삭제하므로, 커밋 시점에 DB의 현재 세대가 원자적으로 교체됩니다.
+ *
+ * <p>각 서버는 메모리의 스냅샷을 반환하되, {@code post.best.generation-check-seconds}(기본 10초)마다 DB의 현재 세대 ID를 확인하고
+ * 세대가 바뀐 경우에만 스냅샷을 다시 불러옵니다. 따라서 다른 서버에서 갱신된 세대도 확인 주기 안에 모든 서버에 반영되며,
+ * 확인 사이에는 인기글 조회에 DB 쿼리가 발생하지 않습니다.
+ *
+ * <p>스냅샷 생성은 스케줄러가 모든 서버에서 실행되므로, Redis 잠금을 얻은 한 서버만 수행합니다.
+ * 게시글이 삭제되면 해당 게시글을 제외한 새 세대로 교체하므로, 다음 정기 갱신 전에도 삭제된 게시글을 반환하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostBestSnapshotService {
+
+    private static final int BEST_POST_SIZE = 5;
+
+    private static final String REFRESH_LOCK_KEY_PREFIX = "post:best:refresh-lock:";
+
+    // 갱신 잠금은 해제하지 않고 만료시켜, 같은 시각에 실행된 여러 서버의 스케줄러 중 하나만 갱신
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final PostRepository postRepository;
+    private final PostBestGenerationRepository postBestGenerationRepository;
+    private final PostBestSnapshotRepository postBestSnapshotRepository;
+    private final PostLeaderboard postLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${post.best.generation-check-seconds:10}")
+    private long generationCheckSeconds = 10;
+
+    private final Map<PostRanking, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    /**
+     * 현재 세대의 인기글 목록을 반환합니다.
+     * 아직 스냅샷이 없는 경우(최초 배포 직후 등)에는 인기글 순위에서 바로 조회합니다.
+     * @param ranking 인기글 종류
+     * @return 순위순 인기글 목록
+     */
+    public List<PostBest5DetailResponse> getBestPosts(PostRanking ranking) {
+        CachedSnapshot cached = snapshots.get(ranking);
+        if (cached == null || cached.isExpired(System.currentTimeMillis())) {
+            cached = load(ranking);
+        }
+        if (cached != null) {
+            return cached.responses();
+        }
+
+        List<Post> posts = findBestPosts(ranking);
+        List<PostBest5DetailResponse> responses = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            responses.add(PostBest5DetailResponse.from(posts.get(i), i + 1));
+        }
+        return responses;
+    }
+
+/* ----------------------------- 갱신 ------------------------------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        for (PostRanking ranking : PostRanking.values()) {
+            try {
+                if (load(ranking) == null) {
+                    refresh(ranking);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to load post best snapshot {}", ranking, e);
+            }
+        }
+    }
+
+    /**
+     * 인기글 순위로 새 세대의 스냅샷을 생성하고 현재 세대로 교체합니다. 이전 세대는 삭제됩니다.
+     * 다른 서버가 이미 갱신 중이거나 방금 갱신한 경우에는 건너뛰며, 그 결과는 세대 확인 주기에 맞춰 반영됩니다.
+     * @param ranking 인기글 종류
+     */
+    public void refresh(PostRanking ranking) {
+        if (!tryLock(ranking)) {
+            log.info("Post best snapshot {} is refreshed by another node", ranking);
+            return;
+        }
+
+        CachedSnapshot created = transactionTemplate.execute(status -> {
+            PostBestGeneration generation = postBestGenerationRepository.save(PostBestGeneration.of(ranking));
+
+            List<Post> posts = findBestPosts(ranking);
+            List<PostBestSnapshot> rows = new ArrayList<>();
+            for (int i = 0; i < posts.size(); i++) {
+                rows.add(PostBestSnapshot.of(generation, posts.get(i), i + 1));
+            }
+            postBestSnapshotRepository.saveAll(rows);
+
+            // 이전 세대 정리
+            postBestSnapshotRepository.deleteOlderGenerations(ranking, generation.getId());
+            postBestGenerationRepository.deleteOlderGenerations(ranking, generation.getId());
+
+            return toCachedSnapshot(generation.getId(), rows);
+        });
+        cache(ranking, created);
+        log.info("Post best snapshot {} refreshed to generation {}", ranking, created.generation());
+    }
+
+    /**
+     * 삭제된 게시글이 현재 세대의 스냅샷에 포함된 경우, 해당 게시글을 제외하고 순위를 다시 매긴 새 세대로 교체합니다.
+     * 새 세대는 세대 확인 주기 안에 다른 서버에도 반영됩니다. 정기 갱신 잠금과 무관하게 항상 수행합니다.
+     * @param postId 삭제된 게시글 ID
+     */
+    public void evict(Long postId) {
+        for (PostRanking ranking : PostRanking.values()) {
+            CachedSnapshot evicted = transactionTemplate.execute(status -> {
+                Long current = postBestGenerationRepository.findCurrentGenerationId(ranking);
+                if (current == null) {
+                    return null;
+                }
+                List<PostBestSnapshot> currentRows = postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(current);
+                if (currentRows.stream().noneMatch(row -> row.getPostId().equals(postId))) {
+                    return null;
+                }
+
+                PostBestGeneration generation = postBestGenerationRepository.save(PostBestGeneration.of(ranking));
+                List<PostBestSnapshot> rows = new ArrayList<>();
+                for (PostBestSnapshot row : currentRows) {
+                    if (!row.getPostId().equals(postId)) {
+                        rows.add(PostBestSnapshot.copyOf(generation, row, rows.size() + 1));
+                    }
+                }
+                postBestSnapshotRepository.saveAll(rows);
+
+                postBestSnapshotRepository.deleteOlderGenerations(ranking, generation.getId());
+                postBestGenerationRepository.deleteOlderGenerations(ranking, generation.getId());
+
+                return toCachedSnapshot(generation.getId(), rows);
+            });
+            if (evicted != null) {
+                cache(ranking, evicted);
+                log.info("Post {} evicted from post best snapshot {}, generation {}", postId, ranking, evicted.generation());
+            }
+        }
+    }
+
+    /**
+     * DB의 현재 세대 ID를 확인하고, 메모리의 세대와 다른 경우 스냅샷을 다시 불러옵니다.
+     * 세대 ID와 스냅샷을 한 트랜잭션에서 조회하므로, 조회 도중 갱신되어 이전 세대가 삭제되더라도 빈 스냅샷을 불러오지 않습니다.
+     * @param ranking 인기글 종류
+     * @return 현재 세대의 스냅샷, 세대가 없는 경우 null
+     */
+    private CachedSnapshot load(PostRanking ranking) {
+        CachedSnapshot loaded = transactionTemplate.execute(status -> {
+            Long generation = postBestGenerationRepository.findCurrentGenerationId(ranking);
+            if (generation == null) {
+                return null;
+            }
+
+            CachedSnapshot current = snapshots.get(ranking);
+            if (current != null && current.generation().equals(generation)) {
+                return current.renewed(expiresAt());
+            }
+            return toCachedSnapshot(generation, postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(generation));
+        });
+        return loaded == null ? null : cache(ranking, loaded);
+    }
+
+    // 같거나 더 최신 세대만 반영
+    private CachedSnapshot cache(PostRanking ranking, CachedSnapshot snapshot) {
+        return snapshots.merge(ranking, snapshot,
+                (current, created) -> created.generation() >= current.generation() ? created : current);
+    }
+
+    private boolean tryLock(PostRanking ranking) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(REFRESH_LOCK_KEY_PREFIX + ranking.name(), "1", REFRESH_LOCK_TTL));
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire post best refresh lock {}", ranking, e);
+            return false;
+        }
+    }
+
+    private CachedSnapshot toCachedSnapshot(Long generation, List<PostBestSnapshot> rows) {
+        return new CachedSnapshot(generation, rows.stream()
+                .map(PostBest5DetailResponse::from)
+                .toList(), expiresAt());
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + generationCheckSeconds * 1000;
+    }
+
+/* ----------------------------- 인기글 집계 ------------------------------------- */
+
+    // 인기글 순위(Redis)에서 상위 게시글을 조회하고, 순위가 비어 있는 경우(Redis 초기화 직후 등) DB에서 집계
+    private List<Post> findBestPosts(PostRanking ranking) {
+        List<Long> postIds = postLeaderboard.getTopPostIds(ranking, BEST_POST_SIZE);
+        if (!postIds.isEmpty()) {
+            return findPostsInOrder(postIds);
+        }
+
+        return switch (ranking) {
+            // 댓글수, 좋아요수, 조회수를 합산하여 상위 5개 조회
+            case REAL_TIME -> postRepository.findTopByRealTimeScore();
+            // 좋아요수 상위 5개 조회
+            case RECOMMEND -> postRepository.findTopByOrderByLikeNumDesc();
+            // 댓글수 상위 5개 조회
+            case COMMENT -> postRepository.findTopByOrderByCommentCountDesc();
+        };
+    }
+
+    // 게시글 ID 순서대로 게시글 조회 (삭제된 게시글은 제외)
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 메모리에 보관하는 세대별 스냅샷. expiresAt이 지나면 DB의 현재 세대를 다시 확인합니다.
+    private record CachedSnapshot(Long generation, List<PostBest5DetailResponse> responses, long expiresAt) {
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        private CachedSnapshot renewed(long expiresAt) {
+            return new CachedSnapshot(generation, responses, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.spot.service.post;
+
+import com.example.spot.domain.enums.Board;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글의 작성, 수정, 삭제 등 게시판 홈 화면(대표 게시글, 공지)에 영향을 주는 변경이 발생했을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 이후 변경된 게시판에 해당하는 게시글 관련 캐시를 비우는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+    // 변경 전후 게시글이 속한 게시판 (수정으로 게시판이 바뀐 경우 두 게시판 모두 포함)
+    private final Set<Board> boards;
+
+    public static PostChangedEvent created(Long postId, Board board) {
+        return new PostChangedEvent(postId, Set.of(board));
+    }
+
+    public static PostChangedEvent updated(Long postId, Board previousBoard, Board board) {
+        return new PostChangedEvent(postId, previousBoard == board ? Set.of(board) : Set.of(previousBoard, board));
+    }
+
+    public static PostChangedEvent deleted(Long postId, Board board) {
+        return new PostChangedEvent(postId, Set.of(board));
+    }
+
+    public boolean isChanged(Board board) {
+        return boards.contains(board);
+    }
+}
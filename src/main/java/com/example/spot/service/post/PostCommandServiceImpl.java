@@ -9,6 +9,8 @@ import com.example.spot.domain.mapping.MemberScrap;
 import com.example.spot.repository.*;
 import com.example.spot.web.dto.post.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +30,12 @@ public class PostCommandServiceImpl implements PostCommandService {
     private final LikedPostCommentRepository likedPostCommentRepository;
     private final MemberScrapRepository memberScrapRepository;
 
-    private final LikedPostQueryService likedPostQueryService;
     private final LikedPostCommentQueryService likedPostCommentQueryService;
 
+    private final PostLeaderboard postLeaderboard;
+    private final PostBestSnapshotService postBestSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 게시글을 생성합니다.
      * @param memberId 게시글을 작성하는 회원 ID
@@ -57,6 +62,9 @@ public class PostCommandServiceImpl implements PostCommandService {
         // 게시글 저장
         post = postRepository.save(post);
 
+        // 게시판 홈 화면 캐시 무효화
+        eventPublisher.publishEvent(PostChangedEvent.created(post.getId(), post.getBoard()));
+
         int likeCount = 0;
 
         // 게시글 생성 정보 반환
@@ -116,8 +124,12 @@ public class PostCommandServiceImpl implements PostCommandService {
         }
 
         // 게시글 수정
+        Board previousBoard = post.getBoard();
         post.edit(postUpdateRequest);
 
+        // 게시판 홈 화면 캐시 무효화
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId, previousBoard, post.getBoard()));
+
         // 수정된 게시글 정보 반환
         return PostCreateResponse.toDTO(post);
     }
@@ -148,6 +160,13 @@ public class PostCommandServiceImpl implements PostCommandService {
         }
         // 게시글 삭제
         postRepository.delete(post);
+
+        // 인기글 순위와 인기글 스냅샷에서 제거
+        postLeaderboard.remove(postId);
+        postBestSnapshotService.evict(postId);
+
+        // 게시판 홈 화면 캐시 무효화
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId, post.getBoard()));
     }
 
     /**
@@ -168,17 +187,20 @@ public class PostCommandServiceImpl implements PostCommandService {
         // 게시글 조회
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostHandler(ErrorStatus._POST_NOT_FOUND));
-        //좋아요 여부 확인
-        if (likedPostRepository.findByMemberIdAndPostId(memberId, postId).isPresent()) {
+        // 좋아요 객체 생성 및 저장 (회원, 게시글 유니크 제약으로 중복 좋아요 방지)
+        try {
+            likedPostRepository.saveAndFlush(new LikedPost(post, member));
+        } catch (DataIntegrityViolationException e) {
             throw new PostHandler(ErrorStatus._POST_ALREADY_LIKED);
         }
 
-        // 좋아요 객체 생성 및 저장
-        LikedPost likedPost = new LikedPost(post, member);
-        likedPostRepository.saveAndFlush(likedPost);
+        // 게시글의 좋아요 수 증가 후 현재 좋아요 수 조회
+        postRepository.increaseLikeNum(postId);
+        long likeCount = postRepository.findLikeNumById(postId);
 
-        // 게시글의 현재 좋아요 수 조회
-        long likeCount = likedPostQueryService.countByPostId(postId);
+        // 인기글 순위 갱신 (추천순, 실시간)
+        postLeaderboard.updateLikeCount(postId, likeCount);
+        postLeaderboard.increaseRealTimeScore(postId);
 
         // 좋아요 결과 반환
         return PostLikeResponse.builder()
@@ -205,16 +227,17 @@ public class PostCommandServiceImpl implements PostCommandService {
         // 게시글 조회
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostHandler(ErrorStatus._POST_NOT_FOUND));
-        // 좋아요 여부 확인
-        LikedPost likedPost = likedPostRepository.findByMemberIdAndPostId(member.getId(), post.getId())
-                .orElseThrow(() -> new PostHandler(ErrorStatus._POST_NOT_LIKED));
+        // 좋아요 객체 삭제 (삭제된 좋아요가 없으면 좋아요 하지 않은 게시글)
+        if (likedPostRepository.deleteByMemberIdAndPostId(member.getId(), post.getId()) == 0) {
+            throw new PostHandler(ErrorStatus._POST_NOT_LIKED);
+        }
 
-        // 좋아요 객체 삭제
-        likedPostRepository.delete(likedPost);
-        likedPostRepository.flush();
+        // 게시글의 좋아요 수 감소 후 현재 좋아요 수 조회
+        postRepository.decreaseLikeNum(postId);
+        long likeCount = postRepository.findLikeNumById(postId);
 
-        // 게시글의 현재 좋아요 수 조회
-        long likeCount = likedPostQueryService.countByPostId(postId);
+        // 인기글 순위 갱신 (추천순)
+        postLeaderboard.updateLikeCount(postId, likeCount);
 
         // 좋아요 취소 결과 반환
         return PostLikeResponse.builder()
@@ -260,6 +283,8 @@ public class PostCommandServiceImpl implements PostCommandService {
                     .build();
             // 댓글 객체 저장
             postCommentRepository.saveAndFlush(comment);
+            // 인기글 순위 갱신
+            updateCommentRanking(postId);
             // 생성된 댓글 정보와 부모 댓글 ID 반환
             return CommentCreateResponse.toDTOwithParent(comment, parentComment.getId());
         // 부모 댓글이 없을 경우
@@ -273,11 +298,20 @@ public class PostCommandServiceImpl implements PostCommandService {
                     .build();
             // 댓글 객체 저장
             postCommentRepository.saveAndFlush(comment);
+            // 인기글 순위 갱신
+            updateCommentRanking(postId);
             // 생성된 댓글 정보 반환
             return CommentCreateResponse.toDTO(comment);
         }
     }
 
+    // 댓글 작성 후 게시글의 댓글 수를 증가시키고 댓글순, 실시간 인기글 순위를 갱신합니다.
+    private void updateCommentRanking(Long postId) {
+        postRepository.increaseCommentNum(postId);
+        postLeaderboard.updateCommentCount(postId, postRepository.findCommentNumById(postId));
+        postLeaderboard.increaseRealTimeScore(postId);
+    }
+
     /**
      * 게시글 댓글에 좋아요를 합니다.
      * @param commentId 좋아요할 댓글 ID
@@ -452,17 +486,16 @@ public class PostCommandServiceImpl implements PostCommandService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
-        // 스크랩 여부 확인
-        if (memberScrapRepository.findByMemberIdAndPostId(memberId, postId).isPresent()) {
+        // 스크랩 정보 저장 (회원, 게시글 유니크 제약으로 중복 스크랩 방지)
+        try {
+            memberScrapRepository.saveAndFlush(new MemberScrap(post, member));
+        } catch (DataIntegrityViolationException e) {
             throw new PostHandler(ErrorStatus._POST_ALREADY_SCRAPPED);
         }
 
-        // 스크랩 정보 저장
-        MemberScrap memberScrap = new MemberScrap(post, member);
-        memberScrapRepository.saveAndFlush(memberScrap);
-
-        // 스크랩된 리스트의 갯수를 조회하여 스크랩 수 계산
-        long scrapCount = memberScrapRepository.countByPostId(postId);
+        // 게시글의 스크랩 수 증가 후 현재 스크랩 수 조회
+        postRepository.increaseScrapNum(postId);
+        long scrapCount = postRepository.findScrapNumById(postId);
 
         // 스크랩 결과 반환
         return ScrapPostResponse.builder()
@@ -491,16 +524,14 @@ public class PostCommandServiceImpl implements PostCommandService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
 
-        // 스크랩 여부 확인
-        MemberScrap memberScrap = memberScrapRepository.findByMemberIdAndPostId(memberId, postId)
-                .orElseThrow(() -> new PostHandler(ErrorStatus._POST_NOT_SCRAPPED));
-
-        // 스크랩 삭제 및 즉시 반영
-        memberScrapRepository.delete(memberScrap);
-        memberScrapRepository.flush();
+        // 스크랩 삭제 (삭제된 스크랩이 없으면 스크랩하지 않은 게시글)
+        if (memberScrapRepository.deleteByMemberIdAndPostId(member.getId(), postId) == 0) {
+            throw new PostHandler(ErrorStatus._POST_NOT_SCRAPPED);
+        }
 
-        // 스크랩된 리스트의 갯수를 조회하여 스크랩 수 계산
-        long scrapCount = memberScrapRepository.countByPostId(postId);
+        // 게시글의 스크랩 수 감소 후 현재 스크랩 수 조회
+        postRepository.decreaseScrapNum(postId);
+        long scrapCount = postRepository.findScrapNumById(postId);
 
         // 스크랩 취소 결과 반환
         return ScrapPostResponse.builder()
@@ -0,0 +1,70 @@
+package com.example.spot.service.post;
+
+import com.example.spot.domain.enums.Board;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판 홈 화면의 대표 게시글, 공지 목록을 캐싱합니다.
+ * 게시글이 작성/수정/삭제되면 {@link PostChangedEvent}를 통해 캐시를 비우며, 공지 목록은 공지 게시판이 변경된 경우에만 비웁니다.
+ * 다른 서버에서 발생한 변경과 댓글 수 변화는 TTL이 지나면 반영됩니다.
+ */
+@Slf4j
+@Component
+public class PostHomeCache {
+
+    public static final String REPRESENTATIVE_POSTS = "representative";
+    public static final String ANNOUNCEMENT_POSTS = "announcement";
+
+    @Value("${post.home-cache.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+
+    // 무효화 시점 이전에 조회된 값이 다시 저장되지 않도록 세대를 관리합니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료된 경우 loader로 조회하여 저장합니다.
+     * @param key 캐시 키
+     * @param loader 실제 값을 조회하는 함수
+     * @return 캐시된 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        CachedValue cached = values.get(key);
+        if (cached != null && cached.expiresAt > now)
+            return (T) cached.value;
+
+        long currentGeneration = generation.get();
+        T value = loader.get();
+
+        if (generation.get() == currentGeneration)
+            values.put(key, new CachedValue(value, now + ttlSeconds * 1000));
+        return value;
+    }
+
+    /**
+     * 게시글 변경 이벤트가 커밋되면 캐시를 비웁니다.
+     * 대표 게시글은 모든 게시판의 최신 게시글이므로 항상 비우고, 공지 목록은 공지 게시판의 게시글이 변경된 경우에만 비웁니다.
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        values.remove(REPRESENTATIVE_POSTS);
+        if (event.isChanged(Board.SPOT_ANNOUNCEMENT)) {
+            values.remove(ANNOUNCEMENT_POSTS);
+        }
+        log.debug("Post home cache invalidated by post {} of {}", event.getPostId(), event.getBoards());
+    }
+
+    private record CachedValue(Object value, long expiresAt) {}
+}
@@ -0,0 +1,249 @@
+package com.example.spot.service.post;
+
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.repository.PostRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기글(실시간, 추천순, 댓글순) 순위를 Redis Sorted Set으로 관리합니다.
+ * 좋아요/댓글/조회 이벤트가 발생할 때마다 점수를 갱신하므로, 인기글 조회는 상위 N개를 읽는 O(log n) 연산이 됩니다.
+ *
+ * <p>실시간 순위는 최근 2시간 동안의 활동(조회수 + 좋아요 수 + 댓글 수)으로 계산합니다.
+ * 각 서버는 활동을 {@link PostActivityWindow}에 분 단위로 누적하고, 주기적으로 Redis의 분 단위 Sorted Set에 합산합니다.
+ * 최근 {@link PostActivityWindow#WINDOW_MINUTES}분의 Sorted Set은 분마다 지수 감쇠 가중치(반감기 2시간)를 적용해 ZUNIONSTORE로 합치며,
+ * 합산은 Redis 잠금을 얻은 한 서버만 주기마다 한 번 수행합니다({@link #mergeRealTimeWindow()}).
+ * 모든 서버가 같은 분 단위 키에 합산하므로 서버 간 순위가 일치하며, 게시글/좋아요/댓글 테이블을 조회하지 않습니다.
+ *
+ * <p>Redis 오류는 게시글 기능에 영향을 주지 않도록 기록만 하고 넘기며, 좋아요/댓글 순위는 {@link #rebuild()}로 DB 기준으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLeaderboard {
+
+    private static final String KEY_PREFIX = "post:leaderboard:";
+    private static final String REAL_TIME_MINUTE_KEY_PREFIX = KEY_PREFIX + "real-time:minute:";
+    private static final String REAL_TIME_MERGE_LOCK_KEY = KEY_PREFIX + "real-time:merge-lock";
+
+    // 분 단위 Sorted Set은 윈도우가 지난 뒤 만료
+    private static final Duration REAL_TIME_MINUTE_TTL = Duration.ofMinutes(PostActivityWindow.WINDOW_MINUTES + 5);
+
+    // 합산 잠금은 해제하지 않고 만료시켜, 여러 서버가 있어도 합산 주기(10초)마다 한 번만 ZUNIONSTORE를 수행
+    private static final Duration REAL_TIME_MERGE_LOCK_TTL = Duration.ofSeconds(9);
+
+    // 실시간 점수의 반감기 (2시간)
+    private static final double HALF_LIFE_MINUTES = 2 * 60;
+
+    // 실시간 순위에 유지할 최대 게시글 수
+    private static final int MAX_REAL_TIME_SIZE = 1_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostActivityWindow postActivityWindow;
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    /**
+     * 순위 상위 게시글 ID를 반환합니다.
+     * @param ranking 인기글 종류
+     * @param size 조회할 게시글 수
+     * @return 점수 내림차순 게시글 ID 목록, 순위가 비어 있거나 Redis 조회에 실패한 경우 빈 목록
+     */
+    public List<Long> getTopPostIds(PostRanking ranking, int size) {
+        try {
+            Set<String> postIds = redisTemplate.opsForZSet().reverseRange(keyOf(ranking), 0, size - 1);
+            if (postIds == null) {
+                return List.of();
+            }
+            return postIds.stream()
+                    .map(Long::valueOf)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read post leaderboard {}", ranking, e);
+            return List.of();
+        }
+    }
+
+/* ----------------------------- 갱신 ------------------------------------- */
+
+    /**
+     * 게시글의 좋아요 수를 갱신합니다.
+     * @param postId 게시글 ID
+     * @param likeCount 현재 좋아요 수
+     */
+    public void updateLikeCount(Long postId, long likeCount) {
+        execute(() -> redisTemplate.opsForZSet().add(keyOf(PostRanking.RECOMMEND), postId.toString(), likeCount));
+    }
+
+    /**
+     * 게시글의 댓글 수를 갱신합니다.
+     * @param postId 게시글 ID
+     * @param commentCount 현재 댓글 수
+     */
+    public void updateCommentCount(Long postId, long commentCount) {
+        execute(() -> redisTemplate.opsForZSet().add(keyOf(PostRanking.COMMENT), postId.toString(), commentCount));
+    }
+
+    /**
+     * 좋아요/댓글 1건을 게시글의 실시간 활동으로 누적합니다.
+     * @param postId 게시글 ID
+     */
+    public void increaseRealTimeScore(Long postId) {
+        postActivityWindow.record(postId, 1L);
+    }
+
+    /**
+     * 여러 게시글의 활동을 한 번에 누적합니다. (누적된 조회수 반영 시 사용)
+     * @param weights 게시글 ID별 활동 가중치 (조회 n건 = n)
+     */
+    public void increaseRealTimeScores(Map<Long, Long> weights) {
+        weights.forEach(postActivityWindow::record);
+    }
+
+    /**
+     * 삭제된 게시글을 모든 순위에서 제거합니다.
+     * @param postId 게시글 ID
+     */
+    public void remove(Long postId) {
+        execute(() -> {
+            for (PostRanking ranking : PostRanking.values()) {
+                redisTemplate.opsForZSet().remove(keyOf(ranking), postId.toString());
+            }
+        });
+    }
+
+/* ----------------------------- 재구성 ------------------------------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 좋아요/댓글 순위를 DB의 집계 결과로 다시 생성합니다.
+     * 새 키에 적재한 뒤 RENAME으로 교체하므로 재구성 중에도 기존 순위를 조회할 수 있습니다.
+     */
+    public void rebuild() {
+        execute(() -> {
+            replace(PostRanking.RECOMMEND, postRepository.countLikesGroupByPost());
+            replace(PostRanking.COMMENT, postRepository.countCommentsGroupByPost());
+        });
+    }
+
+    /**
+     * 이 서버에 누적된 활동을 Redis의 분 단위 Sorted Set에 합산한 뒤, 최근 2시간의 Sorted Set을 합쳐 실시간 순위를 다시 만듭니다.
+     * 분 단위 합산은 파이프라인으로 한 번에 전송하며, Redis 반영에 실패하면 활동을 다시 누적하여 다음 주기에 반영합니다.
+     * 윈도우를 벗어난 분의 활동은 합산 대상에서 빠지므로 실시간 순위에서 자연스럽게 제외됩니다.
+     */
+    public void mergeRealTimeWindow() {
+        Map<Long, Map<Long, Long>> activities = postActivityWindow.drain();
+
+        if (!activities.isEmpty()) {
+            try {
+                recordActivities(activities);
+            } catch (DataAccessException e) {
+                postActivityWindow.restore(activities);
+                log.warn("Failed to record post activities of {} minutes", activities.size(), e);
+                return;
+            }
+        }
+
+        execute(() -> {
+            // 다른 서버가 이번 주기의 합산을 수행 중이면 건너뜀
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(REAL_TIME_MERGE_LOCK_KEY, "1", REAL_TIME_MERGE_LOCK_TTL))) {
+                return;
+            }
+            unionRealTimeWindow(PostActivityWindow.currentMinute());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordActivities(Map<Long, Map<Long, Long>> activities) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                activities.forEach((minute, counts) -> {
+                    String minuteKey = REAL_TIME_MINUTE_KEY_PREFIX + minute;
+                    counts.forEach((postId, count) ->
+                            stringOperations.opsForZSet().incrementScore(minuteKey, postId.toString(), count));
+                    stringOperations.expire(minuteKey, REAL_TIME_MINUTE_TTL);
+                });
+                return null;
+            }
+        });
+    }
+
+    // 최근 WINDOW_MINUTES분의 Sorted Set을 경과 시간에 따라 감쇠시켜 합산하고, 상위 게시글만 남겨 교체
+    private void unionRealTimeWindow(long currentMinute) {
+        List<String> minuteKeys = LongStream.range(0, PostActivityWindow.WINDOW_MINUTES)
+                .mapToObj(age -> REAL_TIME_MINUTE_KEY_PREFIX + (currentMinute - age))
+                .toList();
+        double[] weights = LongStream.range(0, PostActivityWindow.WINDOW_MINUTES)
+                .mapToDouble(age -> Math.pow(0.5, age / HALF_LIFE_MINUTES))
+                .toArray();
+
+        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+        String tempKey = keyOf(PostRanking.REAL_TIME) + ":rebuild";
+        Long size = zSetOperations.unionAndStore(minuteKeys.get(0), minuteKeys.subList(1, minuteKeys.size()),
+                tempKey, Aggregate.SUM, Weights.of(weights));
+        if (size == null || size == 0) {
+            redisTemplate.delete(List.of(tempKey, keyOf(PostRanking.REAL_TIME)));
+            return;
+        }
+        if (size > MAX_REAL_TIME_SIZE) {
+            zSetOperations.removeRange(tempKey, 0, -(MAX_REAL_TIME_SIZE + 1));
+        }
+        redisTemplate.rename(tempKey, keyOf(PostRanking.REAL_TIME));
+    }
+
+    private void replace(PostRanking ranking, Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            redisTemplate.delete(keyOf(ranking));
+            return;
+        }
+
+        String tempKey = keyOf(ranking) + ":rebuild";
+        redisTemplate.delete(tempKey);
+        Set<TypedTuple<String>> tuples = counts.entrySet().stream()
+                .map(entry -> TypedTuple.of(entry.getKey().toString(), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, keyOf(ranking));
+    }
+
+    private static String keyOf(PostRanking ranking) {
+        return switch (ranking) {
+            case REAL_TIME -> KEY_PREFIX + "real-time";
+            case RECOMMEND -> KEY_PREFIX + "likes";
+            case COMMENT -> KEY_PREFIX + "comments";
+        };
+    }
+
+    private void execute(Runnable command) {
+        try {
+            command.run();
+        } catch (DataAccessException e) {
+            log.warn("Failed to update post leaderboard", e);
+        }
+    }
+}
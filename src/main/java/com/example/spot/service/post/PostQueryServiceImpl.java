@@ -6,10 +6,13 @@ import com.example.spot.api.exception.handler.PostHandler;
 import com.example.spot.domain.Post;
 import com.example.spot.domain.PostComment;
 import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.PostRanking;
 import com.example.spot.domain.mapping.MemberScrap;
 import com.example.spot.repository.MemberScrapRepository;
 import com.example.spot.repository.PostCommentRepository;
 import com.example.spot.repository.PostRepository;
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
+import com.example.spot.service.hitcount.HitCountBuffer;
 import com.example.spot.web.dto.post.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,7 +21,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.example.spot.security.utils.SecurityUtils.getCurrentUserId;
@@ -36,14 +42,18 @@ public class PostQueryServiceImpl implements PostQueryService {
     private final PostCommentRepository postCommentRepository;
     private final LikedPostCommentQueryService likedPostCommentQueryService;
     private final MemberScrapRepository memberScrapRepository;
+    private final HitCountBuffer hitCountBuffer;
+    private final PostBestSnapshotService postBestSnapshotService;
+    private final PostHomeCache postHomeCache;
 
     /**
      * 게시글 단건 조회 : 게시글 1개의 상세 정보를 댓글 리스트와 함께 조회합니다.
+     * 조회수는 HitCountBuffer에 누적되어 주기적으로 반영되므로, 읽기 전용 트랜잭션으로 조회합니다.
      * @param postId 조회할 게시글 ID
      * @return 조회한 게시글의 정보와 좋아요/스크랩 수, 댓글 리스트, 현재 사용자의 좋아요/스크랩 여부, 프로필 이미지 반환
      * @throws PostHandler 게시글을 찾을 수 없는 경우
      */
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public PostSingleResponse getPostById(Long postId, boolean likeOrScrap) {
         // 게시글 단건 조회
@@ -57,17 +67,17 @@ public class PostQueryServiceImpl implements PostQueryService {
 
         // 조회수 증가는 일반 조회시에(likeOrScrap이 false일 때)만 실행
         if (!likeOrScrap) {
-            post.viewHit();
+            hitCountBuffer.increasePostHit(postId);
         }
 
-        // 좋아요 수 조회
-        long likeCount = likedPostQueryService.countByPostId(postId);
+        // 좋아요 수
+        long likeCount = post.getLikeNum();
 
         // 현재 사용자 좋아요 여부
         boolean likedByCurrentUser = likedPostQueryService.existsByMemberIdAndPostId(post.getId());
 
-        // 스크랩 수 조회
-        long scrapCount = memberScrapRepository.countByPostId(postId);
+        // 스크랩 수
+        long scrapCount = post.getScrapNum();
 
         // 현재 사용자 스크랩 여부
         Long currentUserId = getCurrentUserId();
@@ -77,7 +87,8 @@ public class PostQueryServiceImpl implements PostQueryService {
         CommentResponse commentResponse = getCommentsByPostId(post.getId());
 
         // 조회된 게시글을 PostSingleResponse로 변환하여 반환 (익명처리일 경우 프로필 이미지를 DEFAULT_PROFILE_IMAGE_URL로 반환)
-        return PostSingleResponse.toDTO(post, likeCount, scrapCount, commentResponse, likedByCurrentUser, scrapedByCurrentUser, DEFAULT_PROFILE_IMAGE_URL);
+        int viewCount = post.getHitNum() + (int) hitCountBuffer.getPendingPostHit(postId);
+        return PostSingleResponse.toDTO(post, viewCount, likeCount, scrapCount, commentResponse, likedByCurrentUser, scrapedByCurrentUser, DEFAULT_PROFILE_IMAGE_URL);
     }
 
     /**
@@ -99,23 +110,14 @@ public class PostQueryServiceImpl implements PostQueryService {
         Page<Post> postPage;
         if (boardType == Board.ALL) {
             // ALL 타입일 경우 모든 게시글 조회
-            postPage = postRepository.findByPostReportListIsEmpty(pageable);
+            postPage = postRepository.findByIsReportedFalseOrderByCreatedAtDesc(pageable);
         } else {
             // 특정 게시판 타입의 게시글 조회
-            postPage = postRepository.findByBoardAndPostReportListIsEmpty(boardType, pageable);
+            postPage = postRepository.findByBoardAndIsReportedFalseOrderByCreatedAtDesc(boardType, pageable);
         }
 
         // PostPagingDetailResponse를 묶어서 응답 리스트 생성 (좋아요 수, 좋아요여부, 스크랩 수, 스크랩여부 포함)
-        List<PostPagingDetailResponse> postResponses = postPage.getContent().stream()
-                .map(post -> {
-                    long likeCount = likedPostQueryService.countByPostId(post.getId());
-                    boolean likedByCurrentUser = likedPostQueryService.existsByMemberIdAndPostId(post.getId());
-                    long scrapCount = memberScrapRepository.countByPostId(post.getId());
-                    Long currentUserId = getCurrentUserId();
-                    boolean scrapedByCurrentUser = memberScrapRepository.existsByMemberIdAndPostId(currentUserId, post.getId());
-                    return PostPagingDetailResponse.toDTO(post, likeCount, scrapCount, likedByCurrentUser, scrapedByCurrentUser);
-                })
-                .toList();
+        List<PostPagingDetailResponse> postResponses = toPagingDetailResponses(postPage.getContent(), getCurrentUserId());
 
         // 게시글 목록 반환
         return PostPagingResponse.builder()
@@ -130,11 +132,12 @@ public class PostQueryServiceImpl implements PostQueryService {
 
     // 게시글이 신고되었는지 확인하는 메서드
     private boolean isPostReported(Post post) {
-        return !post.getPostReportList().isEmpty();
+        return post.isReported();
     }
 
     /**
      * 인기글 종류(실시간, 추천순, 댓글순)에 따라 게시글을 상위 5개씩 조회합니다.
+     * 주기적으로 생성되는 인기글 스냅샷의 현재 세대를 메모리에서 반환합니다.
      * @param sortType 인기글 종류
      * @return 상위 5개의 인기글 목록 반환
      * @throws PostHandler 인기글 종류를 찾을 수 없는 경우
@@ -142,61 +145,14 @@ public class PostQueryServiceImpl implements PostQueryService {
     @Transactional(readOnly = true)
     @Override
     public PostBest5Response getPostBest(String sortType) {
-        // 인기글 종류가 REAL_TIME일 경우 댓글수, 좋아요수, 조회수를 합산하여 상위 5개 조회
-        if (sortType.equals("REAL_TIME")) {
-            // 인기글 조회 및 순위 생성
-            List<Post> posts = postRepository.findTopByRealTimeScore();
-            AtomicInteger rankCounter = new AtomicInteger(1);
-
-//            if (posts.isEmpty()) {
-//                throw new PostHandler(ErrorStatus._POST_NOT_FOUND); // 혹은 적절한 오류 타입으로 변경
-//            }
-
-            // PostBest5DetailResponse를 묶어서 리스트로 응답 생성
-            List<PostBest5DetailResponse> responses = posts.stream()
-                    .map(post -> PostBest5DetailResponse.from(post, rankCounter.getAndIncrement()))
-                    .toList();
-
-            // 인기글 타입과 목록 반환
-            return PostBest5Response.builder()
-                    .sortType("REAL_TIME")
-                    .postBest5Responses(responses)
-                    .build();
-        }
-
-        // 인기글 종류가 RECOMMEND일 경우 좋아요수 상위 5개 조회
-        if (sortType.equals("RECOMMEND")) {
-            List<Post> posts = postRepository.findTopByOrderByLikeNumDesc();
-            AtomicInteger rankCounter = new AtomicInteger(1);
-
-            List<PostBest5DetailResponse> responses = posts.stream()
-                    .map(post -> PostBest5DetailResponse.from(post, rankCounter.getAndIncrement()))
-                    .toList();
-
-            return PostBest5Response.builder()
-                    .sortType("RECOMMEND")
-                    .postBest5Responses(responses)
-                    .build();
-        }
-
-        // 인기글 종류가 COMMENT일 경우 댓글수 상위 5개 조회
-        if (sortType.equals("COMMENT")) {
-            List<Post> posts = postRepository.findTopByOrderByCommentCountDesc();
-            AtomicInteger rankCounter = new AtomicInteger(1);
-
-            List<PostBest5DetailResponse> responses = posts.stream()
-                    .map(post -> PostBest5DetailResponse.from(post, rankCounter.getAndIncrement()))
-                    .toList();
-
-            return PostBest5Response.builder()
-                    .sortType("COMMENT")
-                    .postBest5Responses(responses)
-                    .build();
+        // 인기글 종류가 REAL_TIME, RECOMMEND, COMMENT 중에 없을 경우 무조건 에러
+        PostRanking ranking = PostRanking.findByValue(sortType);
 
-        }
-
-        // 게시글 종류가 RECOMMEND, COMMENT 중에 없을 경우 무조건 에러
-        throw new PostHandler(ErrorStatus._INVALID_SORT_TYPE);
+        // 인기글 타입과 목록 반환
+        return PostBest5Response.builder()
+                .sortType(ranking.name())
+                .postBest5Responses(postBestSnapshotService.getBestPosts(ranking))
+                .build();
     }
 
     /**
@@ -206,18 +162,21 @@ public class PostQueryServiceImpl implements PostQueryService {
     @Transactional(readOnly = true)
     @Override
     public PostRepresentativeResponse getRepresentativePosts() {
-        // 대표 게시글 조회
-        List<Post> posts = postRepository.findRepresentativePosts();
-
-        // PostRepresentativeDetailResponse를 묶어서 리스트로 응답 생성
-        List<PostRepresentativeDetailResponse> responses = posts.stream()
-                .map(PostRepresentativeDetailResponse::toDTO)
-                .toList();
+        // 게시글 작성/수정/삭제 전까지는 캐시된 목록 반환
+        return postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, () -> {
+            // 대표 게시글 조회
+            List<Post> posts = postRepository.findRepresentativePosts();
+
+            // PostRepresentativeDetailResponse를 묶어서 리스트로 응답 생성
+            List<PostRepresentativeDetailResponse> responses = posts.stream()
+                    .map(PostRepresentativeDetailResponse::toDTO)
+                    .toList();
 
-        // 대표 게시글 목록 반환
-        return PostRepresentativeResponse.builder()
-                .responses(responses)
-                .build();
+            // 대표 게시글 목록 반환
+            return PostRepresentativeResponse.builder()
+                    .responses(responses)
+                    .build();
+        });
     }
 
     /**
@@ -227,19 +186,22 @@ public class PostQueryServiceImpl implements PostQueryService {
     @Transactional(readOnly = true)
     @Override
     public PostAnnouncementResponse getPostAnnouncements() {
-        // 공지글 조회 및 순위 생성
-        List<Post> posts = postRepository.findAnnouncementPosts();
-        AtomicInteger rankCounter = new AtomicInteger(1);
+        // 게시글 작성/수정/삭제 전까지는 캐시된 목록 반환
+        return postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, () -> {
+            // 공지글 조회 및 순위 생성
+            List<Post> posts = postRepository.findAnnouncementPosts();
+            AtomicInteger rankCounter = new AtomicInteger(1);
 
-        // PostBest5DetailResponse를 묶어서 리스트로 응답 생성
-        List<PostBest5DetailResponse> responses = posts.stream()
-                .map(post -> PostBest5DetailResponse.from(post, rankCounter.getAndIncrement()))
-                .toList();
+            // PostBest5DetailResponse를 묶어서 리스트로 응답 생성
+            List<PostBest5DetailResponse> responses = posts.stream()
+                    .map(post -> PostBest5DetailResponse.from(post, rankCounter.getAndIncrement()))
+                    .toList();
 
-        // 공지글 목록 반환
-        return PostAnnouncementResponse.builder()
-                .responses(responses)
-                .build();
+            // 공지글 목록 반환
+            return PostAnnouncementResponse.builder()
+                    .responses(responses)
+                    .build();
+        });
     }
 
     /**
@@ -253,12 +215,18 @@ public class PostQueryServiceImpl implements PostQueryService {
         // 해당 게시글 Id의 댓글 조회
         List<PostComment> comments = postCommentRepository.findCommentsByPostId(postId);
 
+        // 댓글별 좋아요 수, 현재 사용자의 좋아요/싫어요 여부를 게시글 단위로 한 번에 집계
+        Map<Long, PostCommentReactionCount> reactionCounts = comments.isEmpty()
+                ? Map.of()
+                : likedPostCommentQueryService.countByPostId(postId);
+
         // CommentDetailResponse를 묶어서 응답 리스트 생성 (댓글 좋아요수, 댓글 좋아요/싫어요 여부 포함)
         List<CommentDetailResponse> commentResponses = comments.stream()
                 .map(comment -> {
-                    long likeCount = likedPostCommentQueryService.countByPostCommentIdAndIsLikedTrue(comment.getId());
-                    boolean likedByCurrentUser = likedPostCommentQueryService.existsByMemberIdAndPostCommentIdAndIsLikedTrue(comment.getId());
-                    boolean dislikedByCurrentUser = likedPostCommentQueryService.existsByMemberIdAndPostCommentIdAndIsLikedFalse(comment.getId());
+                    PostCommentReactionCount reaction = reactionCounts.get(comment.getId());
+                    long likeCount = reaction == null ? 0 : reaction.getLikeCount();
+                    boolean likedByCurrentUser = reaction != null && reaction.isLikedByMember();
+                    boolean dislikedByCurrentUser = reaction != null && reaction.isDislikedByMember();
                     return CommentDetailResponse.toDTO(comment, likeCount, likedByCurrentUser, dislikedByCurrentUser, DEFAULT_PROFILE_IMAGE_URL);
                 })
                 .toList();
@@ -296,17 +264,8 @@ public class PostQueryServiceImpl implements PostQueryService {
                 .map(MemberScrap::getPost)
                 .toList();
 
-        // PostPagingDetailResponse를 묶어서 응답 리스트 생성 (댓글 좋아요수, 댓글 좋아요/싫어요 여부 포함)
-        List<PostPagingDetailResponse> postResponses = scrapPosts.stream()
-                .map(post -> {
-                    long likeCount = likedPostQueryService.countByPostId(post.getId());
-                    //현재 사용자 좋아요 여부
-                    boolean likedByCurrentUser = likedPostQueryService.existsByMemberIdAndPostId(post.getId());
-                    long scrapCount = memberScrapRepository.countByPostId(post.getId());
-                    boolean scrapedByCurrentUser = memberScrapRepository.existsByMemberIdAndPostId(currentUserId, post.getId());
-                    return PostPagingDetailResponse.toDTO(post, likeCount, scrapCount, likedByCurrentUser, scrapedByCurrentUser);
-                })
-                .toList();
+        // PostPagingDetailResponse를 묶어서 응답 리스트 생성 (좋아요 수, 좋아요여부, 스크랩 수, 스크랩여부 포함)
+        List<PostPagingDetailResponse> postResponses = toPagingDetailResponses(scrapPosts, currentUserId);
 
         // 스크랩 된 게시글 목록 반환
         return PostPagingResponse.builder()
@@ -318,4 +277,30 @@ public class PostQueryServiceImpl implements PostQueryService {
                 .isLast(postScrapPage.isLast())
                 .build();
     }
+
+    /**
+     * 게시글 목록을 PostPagingDetailResponse 목록으로 변환합니다.
+     * 좋아요/스크랩/댓글 수는 게시글의 카운터 컬럼을 사용하고, 현재 사용자의 좋아요/스크랩 여부만 목록 단위로 한 번씩 조회합니다.
+     * @param posts 게시글 목록
+     * @param currentUserId 현재 사용자 ID
+     * @return 게시글 응답 목록 반환
+     */
+    private List<PostPagingDetailResponse> toPagingDetailResponses(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        Set<Long> likedPostIds = likedPostQueryService.findLikedPostIds(postIds);
+        Set<Long> scrapedPostIds = new HashSet<>(memberScrapRepository.findPostIdsByMemberIdAndPostIdIn(currentUserId, postIds));
+
+        return posts.stream()
+                .map(post -> PostPagingDetailResponse.toDTO(post,
+                        likedPostIds.contains(post.getId()),
+                        scrapedPostIds.contains(post.getId())))
+                .toList();
+    }
 }
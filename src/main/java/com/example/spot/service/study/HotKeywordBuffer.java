@@ -0,0 +1,168 @@
+package com.example.spot.service.study;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어 집계를 Redis에 반영하기 전에 메모리에 모아두는 버퍼입니다.
+ * 검색 시마다 Redis에 ZINCRBY를 보내는 대신 증가분을 누적하고, HotKeywordFlushScheduler가 주기적으로 묶어서 반영합니다.
+ *
+ * <p>검색어 종류는 제한이 없으므로 모든 검색어를 보관하지 않고, 상위 {@link #CAPACITY}개의 검색어만 Space-Saving 방식으로 추적합니다.
+ * 모든 검색어의 빈도는 Count-Min Sketch에 누적하며, 추적 목록이 가득 찬 상태에서 새 검색어의 추정 빈도가
+ * 추적 중인 최소 빈도보다 커지면 최소 빈도의 검색어를 내보내고 새 검색어를 추정 빈도로 추적합니다.
+ * 내보낸 검색어의 누적분은 버리지 않고 따로 모아 두었다가 다음 반영에 함께 포함하며,
+ * 내보낸 검색어가 다시 추적되면 이미 모아 둔 누적분을 추정 빈도에서 빼서 중복 반영하지 않습니다.
+ * 따라서 반영 주기 동안 자주 검색된 검색어는 정확하게(또는 약간 크게) 반영되고,
+ * 한 번도 추적 목록에 들지 못한 드물게 검색된 검색어 일부만 누락됩니다.
+ *
+ * <p>Count-Min Sketch는 AtomicLongArray로, 추적 목록은 ConcurrentHashMap으로 관리하므로 추적 중인 검색어의 누적은 잠금을 기다리지 않습니다.
+ * 추적 목록에 새 검색어를 넣거나 교체할 때만 집계 단위의 잠금을 잡으며, 최소 빈도의 검색어는 전체를 순회하지 않고 최소 힙에서 찾습니다.
+ * 힙의 빈도는 추적 중 증가한 빈도를 바로 반영하지 않으므로, 꺼낸 최소값이 현재 빈도와 다르면 현재 빈도로 다시 넣습니다(지연 갱신).
+ */
+@Component
+public class HotKeywordBuffer {
+
+    public static final int CAPACITY = 256;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+
+    private final AtomicReference<Window> window = new AtomicReference<>(new Window());
+
+    /**
+     * 검색어 1건을 누적합니다.
+     * @param keyword 검색어
+     */
+    public void record(String keyword) {
+        String normalized = HotKeywordRanking.normalize(keyword);
+        if (normalized.isEmpty())
+            return;
+
+        window.get().add(normalized, 1L);
+    }
+
+    /**
+     * 누적된 검색어를 꺼내고 새 집계를 시작합니다.
+     * 교체 직전에 이전 집계를 읽은 요청의 증가분 일부는 누락될 수 있습니다.
+     * @return 검색어 -> 증가분
+     */
+    public Map<String, Long> drain() {
+        return window.getAndSet(new Window()).snapshot();
+    }
+
+    // 반영에 실패한 증가분을 다시 누적합니다. 추적 목록을 교체하지 않으므로 복구 중 누락되는 증가분이 없습니다.
+    public void restore(Map<String, Long> counts) {
+        Window current = window.get();
+        counts.forEach(current::restore);
+    }
+
+    // 현재 집계가 시작된 시각 (반영 지연 측정용)
+    public long getWindowStartedAt() {
+        return window.get().startedAt;
+    }
+
+    // 현재 추적 중인 검색어 수
+    public int size() {
+        return window.get().counts.size();
+    }
+
+    private static class Window {
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicLongArray sketch = new AtomicLongArray(SKETCH_DEPTH * SKETCH_WIDTH);
+        private final int[] seeds = ThreadLocalRandom.current().ints(SKETCH_DEPTH).toArray();
+        private final Map<String, Long> counts = new ConcurrentHashMap<>();
+        // 추적 목록에서 내보낸 검색어의 누적분 (반영 주기 동안의 교체 횟수만큼만 커짐)
+        private final Map<String, Long> evicted = new ConcurrentHashMap<>();
+
+        // 추적 중인 검색어의 최소 힙 (추적 목록과 같은 검색어를 하나씩 가지며, 빈도는 넣은 시점의 값)
+        private final PriorityQueue<Tracked> minHeap = new PriorityQueue<>(CAPACITY, Comparator.comparingLong(Tracked::count));
+
+        private void add(String keyword, long count) {
+            long estimate = increaseSketch(keyword, count);
+
+            // 이미 추적 중이면 잠금 없이 누적
+            if (counts.computeIfPresent(keyword, (key, value) -> value + count) != null)
+                return;
+
+            synchronized (this) {
+                if (counts.computeIfPresent(keyword, (key, value) -> value + count) != null)
+                    return;
+
+                // 추적 목록에 여유가 있으면 그대로 추적
+                if (counts.size() < CAPACITY) {
+                    track(keyword, count);
+                    return;
+                }
+
+                // 추적 목록이 가득 찬 경우 최소 빈도보다 추정 빈도가 클 때만 교체
+                Tracked min = peekMin();
+                if (estimate <= min.count())
+                    return;
+
+                minHeap.poll();
+                evicted.merge(min.keyword(), counts.remove(min.keyword()), Long::sum);
+                // 추정 빈도에는 이전에 내보낸 누적분도 포함되어 있으므로 제외하고 추적
+                track(keyword, Math.max(count, estimate - evicted.getOrDefault(keyword, 0L)));
+            }
+        }
+
+        // 추적 중이면 누적하고, 아니면 내보낸 누적분에 더해 다음 반영에 포함 (추정 빈도와 맞추기 위해 Sketch에도 누적)
+        private void restore(String keyword, long count) {
+            increaseSketch(keyword, count);
+            if (counts.computeIfPresent(keyword, (key, value) -> value + count) == null)
+                evicted.merge(keyword, count, Long::sum);
+        }
+
+        private void track(String keyword, long count) {
+            counts.put(keyword, count);
+            minHeap.add(new Tracked(keyword, count));
+        }
+
+        // 힙의 최소값이 현재 빈도보다 작으면(추적 중 증가한 경우) 현재 빈도로 다시 넣고, 일치하는 최소값을 찾을 때까지 반복
+        private Tracked peekMin() {
+            while (true) {
+                Tracked top = minHeap.peek();
+                long current = counts.get(top.keyword());
+                if (current == top.count())
+                    return top;
+                minHeap.poll();
+                minHeap.add(new Tracked(top.keyword(), current));
+            }
+        }
+
+        // 모든 행의 카운터를 증가시키고, 증가 후 최소값(추정 빈도)을 반환
+        private long increaseSketch(String keyword, long count) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                int index = row * SKETCH_WIDTH + Math.floorMod(hash(keyword, seeds[row]), SKETCH_WIDTH);
+                estimate = Math.min(estimate, sketch.addAndGet(index, count));
+            }
+            return estimate;
+        }
+
+        private Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new HashMap<>(counts);
+            evicted.forEach((keyword, count) -> snapshot.merge(keyword, count, Long::sum));
+            return snapshot;
+        }
+
+        private static int hash(String keyword, int seed) {
+            int h = keyword.hashCode() ^ seed;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
+
+    private record Tracked(String keyword, long count) {}
+}
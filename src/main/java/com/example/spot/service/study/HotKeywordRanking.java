@@ -0,0 +1,209 @@
+package com.example.spot.service.study;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 검색어를 시간 단위 Sorted Set에 집계하고, 최근 {@link #WINDOW_HOURS}시간의 집계를 합쳐 인기 검색어를 발행합니다.
+ *
+ * <p>검색어는 정규화(유니코드 NFC, 공백 정리, 소문자 변환)한 뒤 {@link HotKeywordBuffer}에 모아 두었다가 현재 시간의 버킷에 누적하며,
+ * 버킷은 윈도우가 지나면 만료됩니다.
+ * 급상승 검색어는 시간 버킷을 ZUNIONSTORE로 합산하되, 오래된 버킷일수록 낮은 가중치(반감기 {@link #HALF_LIFE_HOURS}시간)를 적용하며,
+ * 인기 검색어는 급상승 검색어의 상위 {@link #HOT_KEYWORD_SIZE}개입니다.
+ * 두 목록 모두 임시 키에 저장한 뒤 RENAME으로 교체하므로, 조회 시 비어 있거나 일부만 채워진 목록을 읽지 않습니다.
+ * 발행은 스케줄러가 모든 서버에서 실행하므로, 같은 임시 키를 동시에 사용하지 않도록 Redis 잠금을 얻은 한 서버만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotKeywordRanking {
+
+    public static final int WINDOW_HOURS = 24;
+    public static final int HOT_KEYWORD_SIZE = 5;
+    public static final int TRENDING_SIZE = 100;
+
+    private static final int HALF_LIFE_HOURS = 6;
+    private static final int MAX_KEYWORD_LENGTH = 30;
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    // 시간 버킷은 윈도우가 지난 뒤 만료
+    private static final Duration BUCKET_TTL = Duration.ofHours(WINDOW_HOURS + 1);
+
+    // 발행 잠금은 해제하지 않고 만료시켜, 같은 시각에 실행된 여러 서버의 스케줄러 중 하나만 발행
+    private static final Duration PUBLISH_LOCK_TTL = Duration.ofMinutes(1);
+
+    @Value("${study.keyword}")
+    private String KEYWORD; // 시간 단위 검색어 집계 키의 접두사
+    @Value("${study.hot-keyword}")
+    private String HOT_KEYWORD; // 발행된 인기 검색어 목록을 저장하는 키
+    @Value("${study.last-updated}")
+    private String LAST_UPDATED; // 인기 검색어 업데이트 시점을 저장하는 키
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+/* ----------------------------- 집계 ------------------------------------- */
+
+    /**
+     * 검색어별 증가분을 현재 시간의 버킷에 누적합니다. 모든 명령을 파이프라인으로 한 번에 전송합니다.
+     * @param counts 정규화된 검색어 -> 증가분
+     */
+    @SuppressWarnings("unchecked")
+    public void recordAll(Map<String, Long> counts) {
+        if (counts.isEmpty())
+            return;
+
+        String bucketKey = bucketKey(currentHour());
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                counts.forEach((keyword, count) -> stringOperations.opsForZSet().incrementScore(bucketKey, keyword, count));
+                stringOperations.expire(bucketKey, BUCKET_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 검색어를 정규화합니다. 같은 검색어가 대소문자나 공백 차이로 따로 집계되지 않도록 합니다.
+     * @param keyword 검색어
+     * @return 정규화된 검색어, 집계 대상이 아닌 경우 빈 문자열
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null)
+            return "";
+
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEYWORD_LENGTH ? "" : normalized;
+    }
+
+/* ----------------------------- 발행 ------------------------------------- */
+
+    /**
+     * 최근 {@link #WINDOW_HOURS}시간의 버킷을 시간 가중치를 적용해 합산하고, 상위 {@link #TRENDING_SIZE}개를 급상승 검색어로 발행합니다.
+     * 급상승 검색어는 검색어 자동완성에 사용되며, 집계된 검색어가 없으면 기존 목록을 유지합니다.
+     * 다른 서버가 이미 발행 중이거나 방금 발행한 경우에는 건너뜁니다.
+     * @return 발행 여부
+     */
+    public boolean publishTrending() {
+        if (!tryLock(trendingKey())) {
+            log.info("Trending keywords are published by another node");
+            return false;
+        }
+        return rebuildTrending();
+    }
+
+    /**
+     * 급상승 검색어를 갱신한 뒤 상위 {@link #HOT_KEYWORD_SIZE}개를 인기 검색어로 발행합니다.
+     * 집계된 검색어가 없거나 다른 서버가 이미 발행한 경우에는 기존 인기 검색어를 유지합니다.
+     * @return 발행 여부
+     */
+    public boolean publish() {
+        if (!tryLock(HOT_KEYWORD)) {
+            log.info("Hot keywords are published by another node");
+            return false;
+        }
+        // 다른 서버가 급상승 검색어를 갱신 중이거나 방금 갱신한 경우에는 그 결과를 사용
+        if (tryLock(trendingKey()) && !rebuildTrending())
+            return false;
+
+        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+        Set<TypedTuple<String>> hotKeywords = zSetOperations.reverseRangeWithScores(trendingKey(), 0, HOT_KEYWORD_SIZE - 1);
+        if (hotKeywords == null || hotKeywords.isEmpty())
+            return false;
+
+        // 새 키에 저장한 뒤 교체
+        String tempKey = HOT_KEYWORD + ":rebuild";
+        redisTemplate.delete(tempKey);
+        zSetOperations.add(tempKey, hotKeywords);
+        redisTemplate.rename(tempKey, HOT_KEYWORD);
+
+        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        redisTemplate.opsForValue().set(LAST_UPDATED, now);
+        log.info("Hot keywords updated at {}", now);
+        return true;
+    }
+
+    // 최근 버킷을 가중치로 합산해 임시 키에 저장한 뒤 급상승 검색어 목록과 교체 (집계된 검색어가 없으면 false)
+    private boolean rebuildTrending() {
+        long currentHour = currentHour();
+        List<String> bucketKeys = LongStream.range(0, WINDOW_HOURS)
+                .mapToObj(age -> bucketKey(currentHour - age))
+                .toList();
+        double[] weights = LongStream.range(0, WINDOW_HOURS)
+                .mapToDouble(age -> Math.pow(0.5, (double) age / HALF_LIFE_HOURS))
+                .toArray();
+
+        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+        String tempKey = trendingKey() + ":rebuild";
+
+        Long size = zSetOperations.unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()),
+                tempKey, Aggregate.SUM, Weights.of(weights));
+        if (size == null || size == 0) {
+            redisTemplate.delete(tempKey);
+            return false;
+        }
+
+        // 상위 TRENDING_SIZE개만 남긴 뒤 교체
+        zSetOperations.removeRange(tempKey, 0, -(TRENDING_SIZE + 1));
+        redisTemplate.rename(tempKey, trendingKey());
+        return true;
+    }
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    /**
+     * 발행된 급상승 검색어를 점수 내림차순으로 반환합니다.
+     * @return 검색어 -> 점수, 발행된 목록이 없는 경우 빈 값
+     */
+    public Map<String, Double> getTrendingKeywords() {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(trendingKey(), 0, TRENDING_SIZE - 1);
+        Map<String, Double> keywords = new LinkedHashMap<>();
+        if (tuples == null)
+            return keywords;
+
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null)
+                keywords.put(tuple.getValue(), tuple.getScore());
+        }
+        return keywords;
+    }
+
+    private boolean tryLock(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key + ":lock", "1", PUBLISH_LOCK_TTL));
+    }
+
+    private String trendingKey() {
+        return KEYWORD + ":trending";
+    }
+
+    private String bucketKey(long hour) {
+        return KEYWORD + ":hour:" + hour;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+}
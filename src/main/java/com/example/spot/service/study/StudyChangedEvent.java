@@ -0,0 +1,36 @@
+package com.example.spot.service.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디의 생성, 수정, 종료 등 검색 결과에 영향을 주는 변경이 발생했을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 이후 검색 관련 캐시와 인덱스를 갱신하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyChangedEvent {
+
+    /**
+     * CREATED, TERMINATED는 검색 결과 개수에 영향을 주며,
+     * UPDATED는 찜 수처럼 개수는 그대로 두고 검색 점수나 인덱스 내용만 바꾸는 변경을 나타냅니다.
+     */
+    public enum Type {
+        CREATED, UPDATED, TERMINATED
+    }
+
+    private final Long studyId;
+    private final Type type;
+
+    public static StudyChangedEvent created(Long studyId) {
+        return new StudyChangedEvent(studyId, Type.CREATED);
+    }
+
+    public static StudyChangedEvent updated(Long studyId) {
+        return new StudyChangedEvent(studyId, Type.UPDATED);
+    }
+
+    public static StudyChangedEvent terminated(Long studyId) {
+        return new StudyChangedEvent(studyId, Type.TERMINATED);
+    }
+}
@@ -16,6 +16,7 @@ import com.example.spot.domain.mapping.StudyTheme;
 import com.example.spot.domain.study.Study;
 import com.example.spot.repository.*;
 import com.example.spot.security.utils.SecurityUtils;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.study.request.StudyJoinRequestDTO;
 import com.example.spot.web.dto.study.request.StudyRegisterRequestDTO;
 import com.example.spot.web.dto.study.response.StudyJoinResponseDTO;
@@ -23,8 +24,7 @@ import com.example.spot.web.dto.study.response.StudyLikeResponseDTO;
 import com.example.spot.web.dto.study.response.StudyRegisterResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,10 +36,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudyCommandServiceImpl implements StudyCommandService {
 
-
-    @Value("${study.keyword}")
-    private String KEYWORD;
-
     private final MemberRepository memberRepository;
     private final StudyRepository studyRepository;
     private final RegionRepository regionRepository;
@@ -50,7 +46,10 @@ public class StudyCommandServiceImpl implements StudyCommandService {
     private final StudyThemeRepository studyThemeRepository;
     private final PreferredStudyRepository preferredStudyRepository;
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final HotKeywordBuffer hotKeywordBuffer;
+    private final StudyMembershipContext studyMembershipContext;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     /* ----------------------------- 스터디 생성/참여 관련 API ------------------------------------- */
 
@@ -73,7 +72,7 @@ public class StudyCommandServiceImpl implements StudyCommandService {
             throw new StudyHandler(ErrorStatus._STUDY_NOT_RECRUITING);
         }
 
-        if (study.getMaxPeople() <= memberStudyRepository.countByStatusAndStudyId(ApplicationStatus.APPROVED, studyId))
+        if (study.getMaxPeople() <= study.getApprovedMemberCount())
             throw new StudyHandler(ErrorStatus._STUDY_IS_FULL);
 
 
@@ -102,6 +101,7 @@ public class StudyCommandServiceImpl implements StudyCommandService {
         member.addMemberStudy(memberStudy);
         study.addMemberStudy(memberStudy);
         memberStudyRepository.save(memberStudy);
+        studyMembershipContext.evict(memberId, studyId);
 
         return StudyJoinResponseDTO.JoinDTO.toDTO(member, study);
     }
@@ -138,6 +138,7 @@ public class StudyCommandServiceImpl implements StudyCommandService {
         createStudyTheme(study, studyRegisterRequestDTO);
 
         studyRepository.save(study);
+        eventPublisher.publishEvent(StudyChangedEvent.created(study.getId()));
 
         return StudyRegisterResponseDTO.RegisterDTO.toDTO(study);
     }
@@ -179,6 +180,8 @@ public class StudyCommandServiceImpl implements StudyCommandService {
         }
         // 저장 및 응답 객체 생성
         preferredStudyRepository.save(preferredStudy);
+        // 찜 수는 검색 점수에 반영되므로 인덱스 갱신을 위해 이벤트 발행
+        eventPublisher.publishEvent(StudyChangedEvent.updated(study.getId()));
         return new StudyLikeResponseDTO(preferredStudy);
     }
 
@@ -196,6 +199,9 @@ public class StudyCommandServiceImpl implements StudyCommandService {
         member.addMemberStudy(memberStudy);
         study.addMemberStudy(memberStudy);
         memberStudyRepository.save(memberStudy);
+        studyMembershipContext.evict(member.getId(), study.getId());
+        if (studyRepository.increaseApprovedMemberCount(study.getId()) > 0)
+            study.increaseApprovedMemberCount();
 
         study.addMemberStudy(memberStudy);
 
@@ -247,11 +253,12 @@ public class StudyCommandServiceImpl implements StudyCommandService {
     /* ---------------------------------- 인기 검색어 --------------------------------------------- */
 
     /**
-     * 검색어를 인기 검색어(Redis)에 추가합니다. 이미 존재하는 검색어라면 score를 1 증가시킵니다.
+     * 검색어를 검색어 집계에 추가합니다. 메모리에 누적된 검색어는 주기적으로 Redis에 반영되며,
+     * 인기 검색어는 최근 24시간의 집계로 발행됩니다.
      * @param keyword 검색어
      */
     @Override
     public void addHotKeyword(String keyword) {
-       redisTemplate.opsForZSet().incrementScore(KEYWORD, keyword, 1);
+        hotKeywordBuffer.record(keyword);
     }
 }
@@ -0,0 +1,105 @@
+package com.example.spot.service.study;
+
+import com.example.spot.domain.enums.StudySortBy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 검색 결과의 전체 개수를 검색 조건별로 캐싱합니다.
+ * 스터디가 생성/종료되면 {@link StudyChangedEvent}를 통해 전체 캐시를 무효화하며,
+ * 회원별 조건(참여중인 스터디 제외 등)이 바뀌는 경우는 키 자체가 달라지므로 TTL로 정리됩니다.
+ */
+@Slf4j
+@Component
+public class StudyCountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    @Value("${study.count-cache.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    // 무효화 시점 이전에 계산된 값이 다시 저장되지 않도록 세대를 관리합니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 개수를 반환하고, 없거나 만료된 경우 counter로 계산하여 저장합니다.
+     * @param key 정규화된 검색 조건 키를 입력 받습니다.
+     * @param counter 실제 개수를 조회하는 함수를 입력 받습니다.
+     * @return 검색 조건에 해당하는 스터디 개수를 반환합니다.
+     */
+    public long getOrCount(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt > now)
+            return cached.count;
+
+        long currentGeneration = generation.get();
+        long count = counter.getAsLong();
+
+        if (counts.size() >= MAX_ENTRIES)
+            counts.clear();
+        if (generation.get() == currentGeneration)
+            counts.put(key, new CachedCount(count, now + ttlSeconds * 1000));
+        return count;
+    }
+
+    /**
+     * 스터디 변경 이벤트가 커밋되면 캐시를 비웁니다.
+     * 찜 등 개수에 영향을 주지 않는 수정(UPDATED)은 무시합니다.
+     * @param event 스터디 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        if (event.getType() == StudyChangedEvent.Type.UPDATED)
+            return;
+        invalidateAll();
+        log.debug("Study count cache invalidated by {} of study {}", event.getType(), event.getStudyId());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    /**
+     * 검색 조건을 정규화하여 캐시 키를 생성합니다.
+     * 개수에는 스터디 상태 조건만 영향을 주므로, HIT/LIKED/ALL 정렬은 같은 키를 사용합니다.
+     * @param type 검색 종류를 입력 받습니다.
+     * @param conditions 검색 조건 맵을 입력 받습니다.
+     * @param sortBy 정렬 기준을 입력 받습니다.
+     * @param ids 검색에 사용되는 ID 목록(테마, 지역, 제외할 스터디 등)을 입력 받습니다.
+     * @return 정규화된 캐시 키를 반환합니다.
+     */
+    public static String key(String type, Map<String, Object> conditions, StudySortBy sortBy,
+        Collection<?>... ids) {
+        StringBuilder key = new StringBuilder(type)
+            .append(':').append(normalizeState(sortBy))
+            .append(':').append(conditions == null ? "{}" : new TreeMap<>(conditions));
+        for (Collection<?> idList : ids) {
+            key.append(':').append(idList == null ? "" : idList.stream()
+                .map(String::valueOf)
+                .sorted()
+                .collect(Collectors.joining(",")));
+        }
+        return key.toString();
+    }
+
+    private static StudySortBy normalizeState(StudySortBy sortBy) {
+        if (sortBy == StudySortBy.RECRUITING || sortBy == StudySortBy.COMPLETED)
+            return sortBy;
+        return StudySortBy.ALL;
+    }
+
+    private record CachedCount(long count, long expiresAt) {}
+}
@@ -0,0 +1,341 @@
+package com.example.spot.service.study;
+
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.domain.enums.StudyState;
+import com.example.spot.domain.enums.ThemeType;
+import com.example.spot.repository.querydsl.StudyFacet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 검색 필터를 위한 인메모리 비트맵(패싯) 인덱스입니다.
+ * 테마, 지역, 상태, 성별, 온라인 여부, 회비 여부별로 스터디 ID 비트맵을 유지하고,
+ * 회비/나이 범위 조건은 정렬된 배열에서 이진 탐색으로 처리합니다.
+ * {@link StudyIndexLoader}가 애플리케이션 시작 시 전체를 적재하며, 이후에는 {@link StudyChangedEvent}로 해당 스터디만 갱신합니다.
+ * 인덱스가 준비되지 않은 경우 {@link #findCandidates}는 빈 값을 반환하므로, 호출자는 DB 조회로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+public class StudyFacetIndex implements StudyIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Facets facets = new Facets();
+    private volatile boolean ready = false;
+
+/* ----------------------------- 적재 및 갱신 ------------------------------------- */
+
+    @Override
+    public Rebuild startRebuild() {
+        Facets rebuilt = new Facets();
+        return new Rebuild() {
+            @Override
+            public void add(Rows rows) {
+                rebuilt.addAll(rows.facets(), rows.themeTypes(), rows.regionCodes());
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    facets = rebuilt;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Study facet index rebuilt with {} studies", rebuilt.all.cardinality());
+            }
+        };
+    }
+
+    @Override
+    public void refresh(Long studyId, Rows rows) {
+        if (!ready)
+            return;
+
+        lock.writeLock().lock();
+        try {
+            // 삭제된 스터디는 rows가 비어 있으므로 제거만 수행
+            facets.remove(toIndex(studyId));
+            facets.addAll(rows.facets(), rows.themeTypes(), rows.regionCodes());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주어진 테마 중 하나라도 가진 스터디가 있는지 확인합니다.
+     * @param themeTypes 테마 목록을 입력 받습니다.
+     * @return 해당 테마의 스터디가 존재하면 true를 반환합니다.
+     */
+    public boolean containsAnyTheme(Collection<ThemeType> themeTypes) {
+        lock.readLock().lock();
+        try {
+            return !union(facets.themes, themeTypes).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 지역 중 하나라도 가진 스터디가 있는지 확인합니다.
+     * @param regionCodes 지역 코드 목록을 입력 받습니다.
+     * @return 해당 지역의 스터디가 존재하면 true를 반환합니다.
+     */
+    public boolean containsAnyRegion(Collection<String> regionCodes) {
+        lock.readLock().lock();
+        try {
+            return !union(facets.regions, regionCodes).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 해당하는 스터디 ID를 비트맵 교집합으로 계산합니다.
+     * 조건의 의미는 StudyRepositoryCustomImpl의 검색 조건과 동일합니다.
+     *
+     * @param conditions 검색 조건 맵(isOnline, gender, minAge, maxAge, hasFee, fee)을 입력 받습니다.
+     * @param sortBy 정렬 기준을 입력 받습니다. RECRUITING, COMPLETED인 경우 스터디 상태로 필터링합니다.
+     * @param themeTypes 테마 목록을 입력 받습니다. 하나라도 일치하면 포함하며, null 이면 필터링하지 않습니다.
+     * @param regionCodes 지역 코드 목록을 입력 받습니다. 하나라도 일치하면 포함하며, null 이면 필터링하지 않습니다.
+     * @param excludedIds 제외할 스터디 ID 목록을 입력 받습니다.
+     * @return 스터디 ID 비트맵을 반환합니다. 인덱스가 준비되지 않은 경우 빈 값을 반환합니다.
+     */
+    public Optional<BitSet> findCandidates(Map<String, Object> conditions, StudySortBy sortBy,
+        Collection<ThemeType> themeTypes, Collection<String> regionCodes, Collection<Long> excludedIds) {
+        if (!ready)
+            return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) facets.all.clone();
+
+            if (themeTypes != null)
+                candidates.and(union(facets.themes, themeTypes));
+            if (regionCodes != null)
+                candidates.and(union(facets.regions, regionCodes));
+
+            if (sortBy == StudySortBy.RECRUITING || sortBy == StudySortBy.COMPLETED) {
+                StudyState state = sortBy == StudySortBy.RECRUITING ? StudyState.RECRUITING : StudyState.COMPLETED;
+                candidates.and(facets.states.getOrDefault(state, new BitSet()));
+            }
+
+            if (conditions != null) {
+                if (conditions.get("isOnline") != null)
+                    and(candidates, facets.online, (Boolean) conditions.get("isOnline"));
+                if (conditions.get("gender") != null)
+                    candidates.and(facets.genders.getOrDefault((Gender) conditions.get("gender"), new BitSet()));
+                if (conditions.get("minAge") != null)
+                    candidates.and(facets.minAges.atLeast((Integer) conditions.get("minAge")));
+                if (conditions.get("maxAge") != null)
+                    candidates.and(facets.maxAges.atMost((Integer) conditions.get("maxAge")));
+                if (conditions.get("hasFee") != null)
+                    and(candidates, facets.hasFee, (Boolean) conditions.get("hasFee"));
+                if (conditions.get("fee") != null)
+                    candidates.and(facets.fees.atMost((Integer) conditions.get("fee")));
+            }
+
+            if (excludedIds != null) {
+                for (Long excludedId : excludedIds)
+                    if (excludedId != null)
+                        candidates.clear(toIndex(excludedId));
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스터디 ID 비트맵에서 ID 내림차순(생성일 내림차순)으로 한 페이지의 ID를 반환합니다.
+     * @param candidates 스터디 ID 비트맵을 입력 받습니다.
+     * @param offset 건너뛸 개수를 입력 받습니다.
+     * @param size 페이지 크기를 입력 받습니다.
+     * @return 페이지에 해당하는 스터디 ID 목록을 반환합니다.
+     */
+    public static List<Long> getPageIds(BitSet candidates, long offset, int size) {
+        List<Long> studyIds = new ArrayList<>(size);
+        long skipped = 0;
+        for (int i = candidates.length() - 1; i >= 0 && studyIds.size() < size; i = candidates.previousSetBit(i - 1)) {
+            if (skipped++ < offset)
+                continue;
+            studyIds.add((long) i);
+        }
+        return studyIds;
+    }
+
+    public static List<Long> getAllIds(BitSet candidates) {
+        return candidates.stream().mapToObj(i -> (long) i).toList();
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Collection<K> keys) {
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null)
+                result.or(bitmap);
+        }
+        return result;
+    }
+
+    private static void and(BitSet candidates, BitSet flag, boolean value) {
+        if (value)
+            candidates.and(flag);
+        else
+            candidates.andNot(flag);
+    }
+
+    private static int toIndex(Long studyId) {
+        return Math.toIntExact(studyId);
+    }
+
+/* ----------------------------- 인덱스 구조 ------------------------------------- */
+
+    private static class Facets {
+
+        private final BitSet all = new BitSet();
+        private final Map<ThemeType, BitSet> themes = new EnumMap<>(ThemeType.class);
+        private final Map<String, BitSet> regions = new HashMap<>();
+        private final Map<StudyState, BitSet> states = new EnumMap<>(StudyState.class);
+        private final Map<Gender, BitSet> genders = new EnumMap<>(Gender.class);
+        private final BitSet online = new BitSet();
+        private final BitSet hasFee = new BitSet();
+        private final SortedValues fees = new SortedValues();
+        private final SortedValues minAges = new SortedValues();
+        private final SortedValues maxAges = new SortedValues();
+
+        // 범위 조건 배열에서 삭제하기 위해 기존 값을 보관
+        private final Map<Integer, StudyFacet> rows = new HashMap<>();
+
+        private void addAll(List<StudyFacet> rows, Map<Long, List<ThemeType>> themeTypes,
+            Map<Long, List<String>> regionCodes) {
+            for (StudyFacet row : rows) {
+                add(row,
+                    themeTypes.getOrDefault(row.getId(), List.of()),
+                    regionCodes.getOrDefault(row.getId(), List.of()));
+            }
+        }
+
+        private void add(StudyFacet row, List<ThemeType> themeTypes, List<String> regionCodes) {
+            int index = toIndex(row.getId());
+            all.set(index);
+            rows.put(index, row);
+
+            for (ThemeType themeType : themeTypes)
+                themes.computeIfAbsent(themeType, key -> new BitSet()).set(index);
+            for (String regionCode : regionCodes)
+                regions.computeIfAbsent(regionCode, key -> new BitSet()).set(index);
+            if (row.getStudyState() != null)
+                states.computeIfAbsent(row.getStudyState(), key -> new BitSet()).set(index);
+            if (row.getGender() != null)
+                genders.computeIfAbsent(row.getGender(), key -> new BitSet()).set(index);
+
+            online.set(index, Boolean.TRUE.equals(row.getIsOnline()));
+            hasFee.set(index, Boolean.TRUE.equals(row.getHasFee()));
+            fees.add(row.getFee(), index);
+            minAges.add(row.getMinAge(), index);
+            maxAges.add(row.getMaxAge(), index);
+        }
+
+        private void remove(int index) {
+            StudyFacet row = rows.remove(index);
+            if (row == null)
+                return;
+
+            all.clear(index);
+            themes.values().forEach(bitmap -> bitmap.clear(index));
+            regions.values().forEach(bitmap -> bitmap.clear(index));
+            states.values().forEach(bitmap -> bitmap.clear(index));
+            genders.values().forEach(bitmap -> bitmap.clear(index));
+            online.clear(index);
+            hasFee.clear(index);
+            fees.remove(row.getFee(), index);
+            minAges.remove(row.getMinAge(), index);
+            maxAges.remove(row.getMaxAge(), index);
+        }
+
+    }
+
+    /**
+     * (값, 스터디 ID) 쌍을 하나의 long으로 묶어 정렬된 배열로 보관합니다.
+     * 범위 조건은 이진 탐색으로 경계를 찾은 뒤 해당 구간의 ID를 비트맵으로 변환합니다.
+     */
+    static class SortedValues {
+
+        private long[] keys = new long[16];
+        private int size = 0;
+
+        void add(Integer value, int index) {
+            if (value == null)
+                return;
+            long key = toKey(value, index);
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            if (position >= 0)
+                return;
+            position = -(position + 1);
+
+            if (size == keys.length)
+                keys = Arrays.copyOf(keys, size * 2);
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            keys[position] = key;
+            size++;
+        }
+
+        void remove(Integer value, int index) {
+            if (value == null)
+                return;
+            int position = Arrays.binarySearch(keys, 0, size, toKey(value, index));
+            if (position < 0)
+                return;
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            size--;
+        }
+
+        // value 이하인 스터디
+        BitSet atMost(int value) {
+            int end = insertionPoint(toKey(value, Integer.MAX_VALUE) + 1);
+            return toBitSet(0, end);
+        }
+
+        // value 이상인 스터디
+        BitSet atLeast(int value) {
+            int start = insertionPoint(toKey(value, 0));
+            return toBitSet(start, size);
+        }
+
+        private int insertionPoint(long key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            return position >= 0 ? position : -(position + 1);
+        }
+
+        private BitSet toBitSet(int start, int end) {
+            BitSet bitmap = new BitSet();
+            for (int i = start; i < end; i++)
+                bitmap.set((int) keys[i]);
+            return bitmap;
+        }
+
+        private static long toKey(int value, int index) {
+            return ((long) value << 32) | index;
+        }
+    }
+}
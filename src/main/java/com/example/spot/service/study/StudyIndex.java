@@ -0,0 +1,41 @@
+package com.example.spot.service.study;
+
+import com.example.spot.domain.enums.ThemeType;
+import com.example.spot.repository.querydsl.StudyDocument;
+import com.example.spot.repository.querydsl.StudyFacet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스터디 조회 결과로 적재되는 인메모리 인덱스입니다.
+ * {@link StudyIndexLoader}가 스터디 전체를 한 번만 조회하여 모든 인덱스를 함께 적재하고, 변경된 스터디도 한 번만 조회하여 반영합니다.
+ */
+interface StudyIndex {
+
+    /**
+     * 새 인덱스 생성을 시작합니다. 생성 중에도 기존 인덱스로 조회할 수 있으며, {@link Rebuild#publish()} 시점에 교체됩니다.
+     * @return 배치 단위로 스터디를 적재할 빌더
+     */
+    Rebuild startRebuild();
+
+    /**
+     * 변경된 스터디를 다시 반영합니다. 인덱스가 준비되지 않은 경우 무시합니다.
+     * @param studyId 변경된 스터디 ID
+     * @param rows 변경된 스터디의 조회 결과 (삭제된 스터디는 비어 있으므로 제거만 수행)
+     */
+    void refresh(Long studyId, Rows rows);
+
+    interface Rebuild {
+
+        void add(Rows rows);
+
+        void publish();
+    }
+
+    /**
+     * 같은 스터디 ID 목록에 대한 인덱스별 조회 결과입니다.
+     */
+    record Rows(List<StudyDocument> documents, List<StudyFacet> facets,
+                Map<Long, List<ThemeType>> themeTypes, Map<Long, List<String>> regionCodes) {
+    }
+}
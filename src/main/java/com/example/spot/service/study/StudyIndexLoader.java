@@ -0,0 +1,86 @@
+package com.example.spot.service.study;
+
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 인메모리 인덱스(패싯, 전문 검색, 검색어 자동완성)를 적재하고 갱신합니다.
+ * 전체 적재 시 스터디를 ID 순으로 한 번만 일괄 조회하여 모든 인덱스에 전달하며,
+ * 스터디 변경 이벤트가 커밋되면 해당 스터디만 한 번 조회하여 모든 인덱스에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyIndexLoader {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final StudyRepository studyRepository;
+    private final List<StudyIndex> studyIndexes;
+
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 스터디를 ID 순으로 일괄 조회하여 모든 인덱스를 새로 생성한 뒤 교체합니다.
+     * 조회수/좋아요 수도 이때 함께 갱신됩니다.
+     */
+    public void rebuild() {
+        List<StudyIndex.Rebuild> rebuilds = studyIndexes.stream().map(StudyIndex::startRebuild).toList();
+        Long lastId = null;
+        int studies = 0;
+        List<StudyDocument> documents;
+        do {
+            documents = studyRepository.findStudyDocumentsAfterId(lastId, BATCH_SIZE);
+            if (documents.isEmpty())
+                break;
+
+            StudyIndex.Rows rows = findRows(documents);
+            rebuilds.forEach(rebuild -> rebuild.add(rows));
+            lastId = documents.get(documents.size() - 1).getId();
+            studies += documents.size();
+        } while (documents.size() == BATCH_SIZE);
+
+        rebuilds.forEach(StudyIndex.Rebuild::publish);
+        loaded = true;
+        log.info("Study indexes rebuilt with {} studies", studies);
+    }
+
+    /**
+     * 스터디 변경 이벤트가 커밋되면 해당 스터디만 다시 조회하여 모든 인덱스를 갱신합니다.
+     * @param event 스터디 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        if (!loaded || event.getStudyId() == null)
+            return;
+
+        Long studyId = event.getStudyId();
+        StudyIndex.Rows rows = findRows(studyRepository.findStudyDocumentsByIds(List.of(studyId)));
+        studyIndexes.forEach(studyIndex -> studyIndex.refresh(studyId, rows));
+    }
+
+    // 조회된 스터디의 패싯, 테마, 지역을 함께 조회 (삭제된 스터디는 모두 비어 있음)
+    private StudyIndex.Rows findRows(List<StudyDocument> documents) {
+        List<Long> studyIds = documents.stream().map(StudyDocument::getId).toList();
+        if (studyIds.isEmpty())
+            return new StudyIndex.Rows(List.of(), List.of(), Map.of(), Map.of());
+
+        return new StudyIndex.Rows(documents,
+            studyRepository.findStudyFacetsByIds(studyIds),
+            studyRepository.findThemeTypesByStudyIds(studyIds),
+            studyRepository.findRegionCodesByStudyIds(studyIds));
+    }
+}
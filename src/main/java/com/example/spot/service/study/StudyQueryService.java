@@ -6,6 +6,8 @@ import com.example.spot.web.dto.search.SearchRequestDTO.SearchRequestStudyDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.HotKeywordDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.MyPageDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.StudyPreviewDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.StudyScrollDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.SuggestionDTO;
 import com.example.spot.web.dto.study.response.StudyInfoResponseDTO;
 import com.example.spot.web.dto.study.response.StudyMemberResponseDTO;
 import com.example.spot.web.dto.study.response.StudyPostResponseDTO;
@@ -17,6 +19,9 @@ public interface StudyQueryService {
     // 인기 검색어 조회
     HotKeywordDTO getHotKeyword();
 
+    // 검색어 자동완성 조회
+    SuggestionDTO getSuggestions(String prefix, int size);
+
     // 스터디 정보 조회
     StudyInfoResponseDTO.StudyInfoDTO getStudyInfo(Long studyId);
 
@@ -25,8 +30,17 @@ public interface StudyQueryService {
 
     StudyPreviewDTO findStudies(Pageable pageable, StudySortBy sortBy);
 
+    // slice == true 이면 전체 개수 조회 없이 다음 페이지 존재 여부만 계산
+    StudyPreviewDTO findStudies(Pageable pageable, StudySortBy sortBy, boolean slice);
+
     StudyPreviewDTO findStudiesByConditions(Pageable pageable, SearchRequestStudyDTO request, StudySortBy sortBy);
 
+    StudyPreviewDTO findStudiesByConditions(Pageable pageable, SearchRequestStudyDTO request, StudySortBy sortBy,
+        boolean slice);
+
+    // 커서 기반 전체 스터디 조회 (request == null 이면 검색 조건 없이 조회)
+    StudyScrollDTO findStudiesByCursor(SearchRequestStudyDTO request, StudySortBy sortBy, String cursor, int size);
+
     // 내 추천 스터디 조회
     StudyPreviewDTO findRecommendStudies(Long memberId);
 
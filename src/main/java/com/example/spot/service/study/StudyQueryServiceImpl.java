@@ -32,13 +32,17 @@ import com.example.spot.repository.StudyPostRepository;
 import com.example.spot.repository.StudyRepository;
 import com.example.spot.repository.StudyThemeRepository;
 import com.example.spot.repository.ThemeRepository;
+import com.example.spot.repository.querydsl.StudyCursor;
 import com.example.spot.security.utils.SecurityUtils;
+import com.example.spot.service.hitcount.HitCountBuffer;
 import com.example.spot.web.dto.search.SearchRequestDTO.SearchRequestStudyDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.HotKeywordDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.MyPageDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.SearchStudyDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.StudyPreviewDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.StudyScrollDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.SuggestionDTO;
 import com.example.spot.web.dto.study.response.StudyInfoResponseDTO;
 import com.example.spot.web.dto.study.response.StudyMemberResponseDTO;
 import com.example.spot.web.dto.study.response.StudyMemberResponseDTO.StudyMemberDTO;
@@ -47,12 +51,15 @@ import com.example.spot.web.dto.study.response.StudyScheduleResponseDTO;
 import com.example.spot.web.dto.study.response.StudyScheduleResponseDTO.StudyScheduleDTO;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -62,6 +69,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
@@ -74,6 +82,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class StudyQueryServiceImpl implements StudyQueryService {
 
+    // 조회수/좋아요 순 정렬 시 패싯 인덱스의 후보 ID 목록으로 조회할 최대 후보 수
+    private static final int MAX_FACET_CANDIDATES = 1_000;
 
     @Value("${study.hot-keyword}")
     private String HOT_KEYWORD;
@@ -98,9 +108,16 @@ public class StudyQueryServiceImpl implements StudyQueryService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 검색 결과 개수 캐시
+    private final StudyCountCache studyCountCache;
+    private final StudyFacetIndex studyFacetIndex;
+    private final StudySearchIndex studySearchIndex;
+    private final StudySuggestionIndex studySuggestionIndex;
+    private final HitCountBuffer hitCountBuffer;
+
     /**
      * 인기 검색어를 조회하는 메서드입니다. 인기 검색어는 매일 13시, 18시에 총 2번 업데이트 됩니다.
-     * 인기 검색어는 검색된 횟수 순으로 5개까지 조회 가능합니다.
+     * 인기 검색어는 최근 24시간 동안 검색된 횟수(최근 검색일수록 높은 가중치) 순으로 5개까지 조회 가능합니다.
      * @return 인기 검색어 목록 및 업데이트 시간을 반환합니다.
      */
     @Override
@@ -110,8 +127,8 @@ public class StudyQueryServiceImpl implements StudyQueryService {
 
         Set<TypedTuple<String>> typedTuples = zSetOperations.reverseRangeWithScores(HOT_KEYWORD, 0, 4);
 
-        // 캐시된 검색어가 없을 경우
-        if (typedTuples.isEmpty())
+        // 발행된 인기 검색어가 없을 경우
+        if (typedTuples == null || typedTuples.isEmpty())
             throw new GeneralException(ErrorStatus._HOT_KEYWORD_NOT_FOUND);
 
         // 순서를 보장하는 LinkedHashSet을 사용합니다.
@@ -134,13 +151,28 @@ public class StudyQueryServiceImpl implements StudyQueryService {
             .build();
     }
 
+    /**
+     * 입력 중인 검색어로 시작하는 스터디 제목과 급상승 검색어를 인기도 순으로 조회합니다.
+     * 인메모리 자동완성 인덱스에서 조회하므로 DB나 Redis를 조회하지 않습니다.
+     * @param prefix 입력 중인 검색어
+     * @param size 조회할 후보 수
+     * @return 자동완성 후보 목록을 반환합니다.
+     */
+    @Override
+    public SuggestionDTO getSuggestions(String prefix, int size) {
+        return SuggestionDTO.builder()
+            .prefix(prefix)
+            .suggestions(studySuggestionIndex.suggest(prefix, size))
+            .build();
+    }
+
     /**
      * 스터디의 상세 정보를 조회하는 메서드입니다
+     * 조회수는 HitCountBuffer에 누적되어 주기적으로 반영되므로, 읽기 전용 트랜잭션으로 조회합니다.
      * @param studyId 스터디의 아이디를 입력 받습니다.
      * @return 스터디의 상세 정보를 반환합니다.
      * @throws StudyHandler 스터디가 존재하지 않을 경우 Exception을 발생시킵니다.
      */
-    @Transactional
     public StudyInfoResponseDTO.StudyInfoDTO getStudyInfo(Long studyId) {
 
         Study study = studyRepository.findById(studyId)
@@ -155,8 +187,9 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         }
 
         Member owner = memberStudyList.get(0).getMember();
-        study.increaseHit();
-        return StudyInfoResponseDTO.StudyInfoDTO.toDTO(study, owner);
+        hitCountBuffer.increaseStudyHit(studyId);
+        long hitNum = study.getHitNum() + hitCountBuffer.getPendingStudyHit(studyId);
+        return StudyInfoResponseDTO.StudyInfoDTO.toDTO(study, owner, hitNum);
     }
 
     /**
@@ -198,15 +231,36 @@ public class StudyQueryServiceImpl implements StudyQueryService {
      */
     @Override
     public StudyPreviewDTO findStudies(Pageable pageable, StudySortBy sortBy) {
-        // 스터디 전체 조회
-        List<Study> studies = studyRepository.findAllStudy(sortBy, pageable);
+        return findStudies(pageable, sortBy, false);
+    }
+
+    /**
+     * 검색 조건 없이 전체 스터디를 조회하는 메서드입니다.
+     *
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param sortBy  정렬 기준을 입력 받습니다.
+     * @param slice   true 인 경우 전체 개수를 조회하지 않고 다음 페이지 존재 여부만 반환합니다.
+     *
+     * @return 입력한 조건에 맞는 스터디 목록과 조회된 스터디 갯수를 함께 반환합니다.
+     *
+     * @throws StudyHandler 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    @Override
+    public StudyPreviewDTO findStudies(Pageable pageable, StudySortBy sortBy, boolean slice) {
+        // slice 모드는 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Study> studies = slice
+            ? studyRepository.findAllStudy(sortBy, pageable.getOffset(), pageable.getPageSize() + 1)
+            : studyRepository.findAllStudy(sortBy, pageable);
 
         // 조회된 스터디가 없을 경우
         if (studies.isEmpty())
             throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
 
+        if (slice)
+            return getSliceDTOs(studies, pageable, SecurityUtils.getCurrentUserId());
+
         // 전체 스터디 수
-        long totalElements = studyRepository.count();
+        long totalElements = studyCountCache.getOrCount(StudyCountCache.key("all", null, null), studyRepository::count);
         return getDTOs(studies, pageable, totalElements, SecurityUtils.getCurrentUserId());
     }
 
@@ -222,21 +276,92 @@ public class StudyQueryServiceImpl implements StudyQueryService {
     @Override
     public StudyPreviewDTO findStudiesByConditions(Pageable pageable, SearchRequestStudyDTO request,
         StudySortBy sortBy) {
+        return findStudiesByConditions(pageable, request, sortBy, false);
+    }
+
+    /**
+     * 검색 조건을 통해 전체 스터디를 조회하는 메서드입니다.
+     *
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param sortBy  정렬 기준을 입력 받습니다.
+     * @param request 검색 조건을 입력 받습니다.
+     * @param slice   true 인 경우 전체 개수를 조회하지 않고 다음 페이지 존재 여부만 반환합니다.
+     * @return 입력한 조건에 맞는 스터디 목록과 조회된 스터디 갯수를 함께 반환합니다.
+     * @throws StudyHandler 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    @Override
+    public StudyPreviewDTO findStudiesByConditions(Pageable pageable, SearchRequestStudyDTO request,
+        StudySortBy sortBy, boolean slice) {
         // 검색 조건 맵 생성
         Map<String, Object> conditions = getSearchConditions(request);
 
-        // 검색 조건에 맞는 스터디 조회
-        List<Study> studies = studyRepository.findAllStudyByConditions(conditions, sortBy, pageable);
+        // 패싯 인덱스가 준비된 경우 비트맵 교집합으로 조회
+        Optional<StudyPreviewDTO> indexed = studyFacetIndex.findCandidates(conditions, sortBy, null, null, null)
+            .flatMap(candidates -> findStudiesByCandidates(candidates, pageable, sortBy, SecurityUtils.getCurrentUserId()));
+        if (indexed.isPresent())
+            return indexed.get();
+
+        // 검색 조건에 맞는 스터디 조회 (slice 모드는 다음 페이지 존재 여부 확인을 위해 한 건 더 조회)
+        List<Study> studies = slice
+            ? studyRepository.findAllStudyByConditions(conditions, sortBy, pageable.getOffset(), pageable.getPageSize() + 1)
+            : studyRepository.findAllStudyByConditions(conditions, sortBy, pageable);
 
         // 조회된 스터디가 없을 경우
         if (studies.isEmpty())
             throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
 
+        if (slice)
+            return getSliceDTOs(studies, pageable, SecurityUtils.getCurrentUserId());
+
         // 전체 스터디 수
-        long totalElements = studyRepository.countStudyByConditions(conditions, sortBy);
+        long totalElements = studyCountCache.getOrCount(StudyCountCache.key("conditions", conditions, sortBy),
+            () -> studyRepository.countStudyByConditions(conditions, sortBy));
         return getDTOs(studies, pageable, totalElements, SecurityUtils.getCurrentUserId());
     }
 
+    /**
+     * 커서(Keyset) 기반으로 전체 스터디를 조회하는 메서드입니다.
+     * offset 대신 마지막으로 조회한 스터디의 정렬 키와 ID를 기준으로 조회하므로, 페이지 깊이와 무관하게 조회 비용이 일정합니다.
+     *
+     * @param request 검색 조건을 입력 받습니다. null 인 경우 검색 조건 없이 조회합니다.
+     * @param sortBy  정렬 기준을 입력 받습니다.
+     * @param cursor  이전 페이지의 다음 커서를 입력 받습니다. 첫 페이지는 null 입니다.
+     * @param size    조회할 스터디 수를 입력 받습니다.
+     * @return 조회된 스터디 목록과 다음 페이지 커서를 반환합니다.
+     * @throws StudyHandler 커서가 유효하지 않을 경우 Exception을 발생시킵니다.
+     * @throws StudyHandler 첫 페이지에 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    @Override
+    public StudyScrollDTO findStudiesByCursor(SearchRequestStudyDTO request, StudySortBy sortBy,
+        String cursor, int size) {
+        // 검색 조건 맵 생성
+        Map<String, Object> conditions = request == null ? new HashMap<>() : getSearchConditions(request);
+        StudyCursor studyCursor = StudyCursor.decode(cursor, sortBy);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<Study> studies = studyRepository.findAllStudyByConditionsAfterCursor(
+            conditions, sortBy, studyCursor, size + 1);
+
+        // 첫 페이지에 조회된 스터디가 없을 경우
+        if (studies.isEmpty() && studyCursor == null)
+            throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
+
+        boolean hasNext = studies.size() > size;
+        if (hasNext)
+            studies = studies.subList(0, size);
+
+        String nextCursor = hasNext
+            ? StudyCursor.of(studies.get(studies.size() - 1), sortBy).encode()
+            : null;
+
+        return StudyScrollDTO.builder()
+            .content(toSearchStudyDTOs(studies, SecurityUtils.getCurrentUserId()))
+            .size(studies.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
     /**
      * 추천 스터디를 조회하는 메서드입니다.
      *
@@ -335,6 +460,12 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         if (themes.isEmpty())
             throw new MemberHandler(ErrorStatus._STUDY_THEME_IS_INVALID);
 
+        // 패싯 인덱스가 준비된 경우 스터디 테마 목록을 조회하지 않고 비트맵 교집합으로 조회
+        Optional<StudyPreviewDTO> indexed = findInterestStudiesByFacetIndex(pageable, memberId, request, sortBy,
+            themes.stream().map(Theme::getStudyTheme).toList(), null, memberOngoingStudyIds);
+        if (indexed.isPresent())
+            return indexed.get();
+
         List<StudyTheme> studyThemes = themes.stream()
             .flatMap(theme -> studyThemeRepository.findAllByTheme(theme).stream())
             .toList();
@@ -347,8 +478,10 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         Map<String, Object> conditions = getSearchConditions(request);
 
         // 검색 조건에 맞는 스터디 갯수 조회
-        long totalElements = studyRepository.countStudyByConditionsAndThemeTypesAndNotInIds(
-            conditions, studyThemes, sortBy, memberOngoingStudyIds);
+        long totalElements = studyCountCache.getOrCount(
+            StudyCountCache.key("themes", conditions, sortBy, getStudyThemeIds(studyThemes), memberOngoingStudyIds),
+            () -> studyRepository.countStudyByConditionsAndThemeTypesAndNotInIds(
+                conditions, studyThemes, sortBy, memberOngoingStudyIds));
 
         // 검색 조건에 맞는 스터디 조회
         List<Study> studies = studyRepository.findStudyByConditionsAndThemeTypesAndNotInIds(
@@ -401,6 +534,12 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         if (themes.stream().noneMatch(theme -> theme.getStudyTheme().equals(themeType)))
             throw new MemberHandler(ErrorStatus._BAD_REQUEST);
 
+        // 패싯 인덱스가 준비된 경우 스터디 테마 목록을 조회하지 않고 비트맵 교집합으로 조회
+        Optional<StudyPreviewDTO> indexed = findInterestStudiesByFacetIndex(pageable, memberId, request, sortBy,
+            List.of(themeType), null, memberOngoingStudyIds);
+        if (indexed.isPresent())
+            return indexed.get();
+
 
         // 회원 관심사로 스터디 테마 조회
         Theme theme = findThemeByType(themes, themeType);
@@ -418,8 +557,10 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         Map<String, Object> conditions = getSearchConditions(request);
 
         // 검색 조건에 맞는 스터디 갯수 조회
-        long totalElements = studyRepository.countStudyByConditionsAndThemeTypesAndNotInIds(
-            conditions, studyThemes, sortBy, memberOngoingStudyIds);
+        long totalElements = studyCountCache.getOrCount(
+            StudyCountCache.key("themes", conditions, sortBy, getStudyThemeIds(studyThemes), memberOngoingStudyIds),
+            () -> studyRepository.countStudyByConditionsAndThemeTypesAndNotInIds(
+                conditions, studyThemes, sortBy, memberOngoingStudyIds));
 
         // 검색 조건에 맞는 스터디 조회
         List<Study> studies = studyRepository.findStudyByConditionsAndThemeTypesAndNotInIds(
@@ -465,6 +606,12 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         if (regions.isEmpty())
             throw new MemberHandler(ErrorStatus._STUDY_REGION_IS_INVALID);
 
+        // 패싯 인덱스가 준비된 경우 스터디 지역 목록을 조회하지 않고 비트맵 교집합으로 조회
+        Optional<StudyPreviewDTO> indexed = findInterestStudiesByFacetIndex(pageable, memberId, request, sortBy,
+            null, regions.stream().map(Region::getCode).toList(), memberOngoingStudyIds);
+        if (indexed.isPresent())
+            return indexed.get();
+
         // 회원 관심 지역으로 스터디 지역 조회
         List<RegionStudy> regionStudies = regions.stream()
             .flatMap(region -> regionStudyRepository.findAllByRegion(region).stream())
@@ -479,8 +626,10 @@ public class StudyQueryServiceImpl implements StudyQueryService {
 
 
         // 검색 조건에 맞는 스터디 갯수 조회
-        long totalElements = studyRepository.countStudyByConditionsAndRegionStudiesAndNotInIds(
-            conditions, regionStudies, sortBy, memberOngoingStudyIds);
+        long totalElements = studyCountCache.getOrCount(
+            StudyCountCache.key("regions", conditions, sortBy, getRegionStudyIds(regionStudies), memberOngoingStudyIds),
+            () -> studyRepository.countStudyByConditionsAndRegionStudiesAndNotInIds(
+                conditions, regionStudies, sortBy, memberOngoingStudyIds));
 
         // 검색 조건에 맞는 스터디 조회
         List<Study> studies = studyRepository.findStudyByConditionsAndRegionStudiesAndNotInIds(
@@ -532,6 +681,12 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         if (regions.stream().noneMatch(region -> region.getCode().equals(regionCode)))
             throw new StudyHandler(ErrorStatus._STUDY_REGION_IS_NOT_MATCH);
 
+        // 패싯 인덱스가 준비된 경우 스터디 지역 목록을 조회하지 않고 비트맵 교집합으로 조회
+        Optional<StudyPreviewDTO> indexed = findInterestStudiesByFacetIndex(pageable, memberId, request, sortBy,
+            null, List.of(regionCode), memberOngoingStudyIds);
+        if (indexed.isPresent())
+            return indexed.get();
+
         // 회원 관심 지역으로 스터디 지역 조회
         Region region = findRegionByCode(regions, regionCode);
 
@@ -548,8 +703,10 @@ public class StudyQueryServiceImpl implements StudyQueryService {
         Map<String, Object> conditions = getSearchConditions(request);
 
         // 검색 조건에 맞는 스터디 갯수 조회
-        long totalElements = studyRepository.countStudyByConditionsAndRegionStudiesAndNotInIds(
-            conditions, regionStudies, sortBy, memberOngoingStudyIds);
+        long totalElements = studyCountCache.getOrCount(
+            StudyCountCache.key("regions", conditions, sortBy, getRegionStudyIds(regionStudies), memberOngoingStudyIds),
+            () -> studyRepository.countStudyByConditionsAndRegionStudiesAndNotInIds(
+                conditions, regionStudies, sortBy, memberOngoingStudyIds));
 
         // 검색 조건에 맞는 스터디 조회
         List<Study> studies = studyRepository.findStudyByConditionsAndRegionStudiesAndNotInIds(
@@ -590,7 +747,8 @@ public class StudyQueryServiceImpl implements StudyQueryService {
             throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
 
         // 전체 스터디 수
-        long totalElements = studyRepository.countStudyByConditions(conditions, sortBy);
+        long totalElements = studyCountCache.getOrCount(StudyCountCache.key("conditions", conditions, sortBy),
+            () -> studyRepository.countStudyByConditions(conditions, sortBy));
         return getDTOs(studies, pageable, totalElements, SecurityUtils.getCurrentUserId());
     }
 
@@ -632,6 +790,7 @@ public class StudyQueryServiceImpl implements StudyQueryService {
 
     /**
      * 입력 받은 키워드가 제목에 포함된 스터디를 조회 합니다.
+     * 관련도 순(RELEVANCE) 정렬인 경우 전문 검색 인덱스로 제목, 목표, 소개에 키워드가 포함된 스터디를 조회합니다.
      *
      * @param pageable 페이지 정보를 입력 받습니다.
      * @param keyword  검색 키워드를 입력 받습니다.
@@ -645,6 +804,13 @@ public class StudyQueryServiceImpl implements StudyQueryService {
     @Override
     public StudyPreviewDTO findStudiesByKeyword(Pageable pageable,
         String keyword, StudySortBy sortBy) {
+        // 관련도 순 정렬 - 전문 검색 인덱스가 준비되지 않은 경우 제목 검색(생성일 순)으로 조회
+        if (sortBy == StudySortBy.RELEVANCE) {
+            Optional<List<Long>> rankedIds = studySearchIndex.search(keyword);
+            if (rankedIds.isPresent())
+                return findStudiesByRankedIds(rankedIds.get(), pageable, SecurityUtils.getCurrentUserId());
+        }
+
         // 키워드로 스터디 조회
         List<Study> studies = studyRepository.findAllByTitleContaining(keyword, sortBy, pageable);
 
@@ -653,7 +819,8 @@ public class StudyQueryServiceImpl implements StudyQueryService {
             throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
 
         // 전체 스터디 수
-        long totalElements = studyRepository.countAllByTitleContaining(keyword, sortBy);
+        long totalElements = studyCountCache.getOrCount(StudyCountCache.key("keyword", null, sortBy, List.of(keyword)),
+            () -> studyRepository.countAllByTitleContaining(keyword, sortBy));
         return getDTOs(studies, pageable, totalElements, SecurityUtils.getCurrentUserId());
     }
 
@@ -691,7 +858,8 @@ public class StudyQueryServiceImpl implements StudyQueryService {
             throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
 
         // 전체 스터디 수
-        long totalElements = studyRepository.countStudyByStudyTheme(studyThemes, sortBy);
+        long totalElements = studyCountCache.getOrCount(StudyCountCache.key("theme", null, sortBy, getStudyThemeIds(studyThemes)),
+            () -> studyRepository.countStudyByStudyTheme(studyThemes, sortBy));
         return getDTOs(studies, pageable, totalElements, SecurityUtils.getCurrentUserId());
     }
 
@@ -858,16 +1026,174 @@ public class StudyQueryServiceImpl implements StudyQueryService {
      *
      * @return 스터디 목록을 DTO로 변환하여 반환합니다.
      */
-    private static SearchResponseDTO.StudyPreviewDTO getDTOs(List<Study> studies, Pageable pageable, long totalElements,
+    private SearchResponseDTO.StudyPreviewDTO getDTOs(List<Study> studies, Pageable pageable, long totalElements,
         Long memberId) {
-        // memberId == null 이면, 다른 생성자 사용
-        List<SearchResponseDTO.SearchStudyDTO> stream = studies.stream()
-            .map((Study study) -> memberId == null ? new SearchStudyDTO(study) : new SearchStudyDTO(study, memberId))
-            .toList();
+        List<SearchResponseDTO.SearchStudyDTO> stream = toSearchStudyDTOs(studies, memberId);
         Page<SearchResponseDTO.SearchStudyDTO> page = new PageImpl<>(stream, pageable, totalElements);
         return new StudyPreviewDTO(page, stream, totalElements);
     }
 
+    /**
+     * 스터디 목록을 스터디 미리보기 DTO 목록으로 변환합니다.
+     * 지역, 테마, 좋아요 여부는 스터디 ID 목록으로 일괄 조회하여 페이지 크기와 무관하게 고정된 수의 쿼리만 실행하며,
+     * 회원 수는 스터디의 approvedMemberCount 값을 사용합니다.
+     *
+     * @param studies  스터디 목록을 입력 받습니다.
+     * @param memberId 회원의 아이디를 입력 받습니다.
+     *
+     * @return 스터디 미리보기 DTO 목록을 반환합니다.
+     */
+    private List<SearchResponseDTO.SearchStudyDTO> toSearchStudyDTOs(List<Study> studies, Long memberId) {
+        List<Long> studyIds = studies.stream()
+            .map(Study::getId)
+            .toList();
+
+        // 스터디 ID 목록 기준 일괄 조회
+        Map<Long, List<String>> regionCodes = studyRepository.findRegionCodesByStudyIds(studyIds);
+        Map<Long, List<ThemeType>> themeTypes = studyRepository.findThemeTypesByStudyIds(studyIds);
+        // memberId == null 이면, 좋아요 여부는 조회하지 않음
+        Set<Long> likedStudyIds = memberId == null
+            ? new HashSet<Long>()
+            : studyRepository.findLikedStudyIdsByMemberId(studyIds, memberId);
+
+        return studies.stream()
+            .map((Study study) -> new SearchStudyDTO(study,
+                regionCodes.getOrDefault(study.getId(), List.of()),
+                themeTypes.getOrDefault(study.getId(), List.of()),
+                likedStudyIds.contains(study.getId())))
+            .toList();
+    }
+
+    /**
+     * 패싯 인덱스로 회원의 관심사 또는 관심 지역에 해당하는 스터디를 조회합니다.
+     *
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param memberId 회원의 아이디를 입력 받습니다.
+     * @param request 검색 조건을 입력 받습니다.
+     * @param sortBy 정렬 기준을 입력 받습니다.
+     * @param themeTypes 관심사 목록을 입력 받습니다. null 이면 관심사로 필터링하지 않습니다.
+     * @param regionCodes 관심 지역 코드 목록을 입력 받습니다. null 이면 관심 지역으로 필터링하지 않습니다.
+     * @param memberOngoingStudyIds 제외할 회원의 참여중인 스터디 ID 목록을 입력 받습니다.
+     *
+     * @return 조회 결과를 반환합니다. 인덱스로 조회할 수 없는 경우 빈 값을 반환합니다.
+     *
+     * @throws StudyHandler 관심사 또는 관심 지역에 해당하는 스터디가 존재하지 않을 경우 Exception을 발생시킵니다.
+     * @throws StudyHandler 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    private Optional<StudyPreviewDTO> findInterestStudiesByFacetIndex(Pageable pageable, Long memberId,
+        SearchRequestStudyDTO request, StudySortBy sortBy, List<ThemeType> themeTypes, List<String> regionCodes,
+        List<Long> memberOngoingStudyIds) {
+        if (!studyFacetIndex.isReady())
+            return Optional.empty();
+
+        // 해당 관심사에 해당하는 스터디가 존재하지 않을 경우
+        if (themeTypes != null && !studyFacetIndex.containsAnyTheme(themeTypes))
+            throw new StudyHandler(ErrorStatus._STUDY_THEME_NOT_EXIST);
+
+        // 해당 관심 지역에 해당하는 스터디가 존재하지 않을 경우
+        if (regionCodes != null && !studyFacetIndex.containsAnyRegion(regionCodes))
+            throw new StudyHandler(ErrorStatus._STUDY_REGION_NOT_EXIST);
+
+        return studyFacetIndex.findCandidates(getSearchConditions(request), sortBy, themeTypes, regionCodes,
+                memberOngoingStudyIds)
+            .flatMap(candidates -> findStudiesByCandidates(candidates, pageable, sortBy, memberId));
+    }
+
+    /**
+     * 패싯 인덱스로 계산된 후보 스터디 중 요청한 페이지의 스터디만 조회합니다.
+     * 전체 개수는 후보 비트맵의 크기이므로 개수 조회 쿼리를 실행하지 않습니다.
+     * 생성일 순 정렬은 ID 내림차순으로 페이지의 ID를 먼저 고른 뒤 해당 스터디만 조회하며,
+     * 조회수/좋아요 순 정렬은 후보가 MAX_FACET_CANDIDATES 개 이하인 경우에만 후보 ID 목록으로 조회합니다.
+     *
+     * @param candidates 후보 스터디 ID 비트맵을 입력 받습니다.
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param sortBy 정렬 기준을 입력 받습니다.
+     * @param memberId 회원의 아이디를 입력 받습니다.
+     *
+     * @return 조회 결과를 반환합니다. 후보가 너무 많아 인덱스로 조회할 수 없는 경우 빈 값을 반환합니다.
+     *
+     * @throws StudyHandler 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    private Optional<StudyPreviewDTO> findStudiesByCandidates(BitSet candidates, Pageable pageable,
+        StudySortBy sortBy, Long memberId) {
+        List<Study> studies;
+        if (sortBy != StudySortBy.HIT && sortBy != StudySortBy.LIKED) {
+            List<Long> pageIds = StudyFacetIndex.getPageIds(candidates, pageable.getOffset(), pageable.getPageSize());
+            studies = studyRepository.findAllStudyByIds(pageIds, sortBy, 0, pageable.getPageSize());
+        } else if (candidates.cardinality() <= MAX_FACET_CANDIDATES) {
+            studies = studyRepository.findAllStudyByIds(StudyFacetIndex.getAllIds(candidates), sortBy,
+                pageable.getOffset(), pageable.getPageSize());
+        } else {
+            return Optional.empty();
+        }
+
+        // 조회된 스터디가 없을 경우
+        if (studies.isEmpty())
+            throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
+
+        return Optional.of(getDTOs(studies, pageable, candidates.cardinality(), memberId));
+    }
+
+    /**
+     * 관련도 순으로 정렬된 스터디 ID 목록 중 요청한 페이지의 스터디만 조회합니다.
+     *
+     * @param rankedIds 관련도 순으로 정렬된 스터디 ID 목록을 입력 받습니다.
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param memberId 회원의 아이디를 입력 받습니다.
+     *
+     * @return 관련도 순으로 정렬된 스터디 목록과 검색된 스터디 갯수를 함께 반환합니다.
+     *
+     * @throws StudyHandler 조회된 스터디가 없을 경우 Exception을 발생시킵니다.
+     */
+    private StudyPreviewDTO findStudiesByRankedIds(List<Long> rankedIds, Pageable pageable, Long memberId) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+
+        // 조회 결과를 관련도 순서대로 정렬
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++)
+            ranks.put(pageIds.get(i), i);
+        List<Study> studies = studyRepository.findAllStudyByIds(pageIds, StudySortBy.ALL, 0, pageIds.size()).stream()
+            .sorted(Comparator.comparingInt((Study study) -> ranks.get(study.getId())))
+            .toList();
+
+        // 조회된 스터디가 없을 경우
+        if (studies.isEmpty())
+            throw new StudyHandler(ErrorStatus._STUDY_IS_NOT_MATCH);
+
+        return getDTOs(studies, pageable, rankedIds.size(), memberId);
+    }
+
+    /**
+     * slice 모드의 조회 결과를 DTO로 변환합니다.
+     * 페이지 크기보다 한 건 더 조회한 결과를 입력 받아, 추가로 조회된 스터디가 있으면 다음 페이지가 존재하는 것으로 판단하고 제외합니다.
+     *
+     * @param studies  페이지 크기 + 1 건까지 조회된 스터디 목록을 입력 받습니다.
+     * @param pageable 페이지 정보를 입력 받습니다.
+     * @param memberId 회원의 아이디를 입력 받습니다.
+     *
+     * @return 스터디 목록과 다음 페이지 존재 여부를 반환합니다. (전체 개수는 조회하지 않음)
+     */
+    private SearchResponseDTO.StudyPreviewDTO getSliceDTOs(List<Study> studies, Pageable pageable, Long memberId) {
+        boolean hasNext = studies.size() > pageable.getPageSize();
+        List<Study> content = hasNext ? studies.subList(0, pageable.getPageSize()) : studies;
+        List<SearchResponseDTO.SearchStudyDTO> dtos = toSearchStudyDTOs(content, memberId);
+        return new StudyPreviewDTO(new SliceImpl<>(dtos, pageable, hasNext), dtos);
+    }
+
+    private static List<Long> getStudyThemeIds(List<StudyTheme> studyThemes) {
+        return studyThemes.stream()
+            .map(StudyTheme::getId)
+            .toList();
+    }
+
+    private static List<Long> getRegionStudyIds(List<RegionStudy> regionStudies) {
+        return regionStudies.stream()
+            .map(RegionStudy::getId)
+            .toList();
+    }
+
     /**
      * 테마 타입으로 저장된 테마를 조회합니다.
      *
@@ -0,0 +1,257 @@
+package com.example.spot.service.study;
+
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 제목, 목표, 소개를 대상으로 하는 인메모리 전문 검색 인덱스입니다.
+ * 한글은 형태소 분석 없이도 부분 일치가 가능하도록 문자 단위 바이그램(2-gram)으로 토큰화하며,
+ * 토큰별 스터디 ID 목록(postings)으로 후보를 찾고 BM25 점수에 조회수/좋아요 수를 반영하여 정렬합니다.
+ * {@link StudyIndexLoader}가 애플리케이션 시작 시 전체를 적재하며, 이후에는 {@link StudyChangedEvent}로 해당 스터디만 갱신합니다.
+ */
+@Slf4j
+@Component
+public class StudySearchIndex implements StudyIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 가중치 - 제목에 포함된 키워드를 우선
+    private static final int TITLE_WEIGHT = 3;
+    private static final int GOAL_WEIGHT = 2;
+    private static final int INTRODUCTION_WEIGHT = 1;
+
+    // 인기도 가중치 - 관련도 점수에 (1 + log(1 + 조회수) * HIT_WEIGHT + log(1 + 좋아요 수) * HEART_WEIGHT)를 곱함
+    private static final double HIT_WEIGHT = 0.05;
+    private static final double HEART_WEIGHT = 0.15;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Documents documents = new Documents();
+    private volatile boolean ready = false;
+
+/* ----------------------------- 적재 및 갱신 ------------------------------------- */
+
+    @Override
+    public Rebuild startRebuild() {
+        Documents rebuilt = new Documents();
+        return new Rebuild() {
+            @Override
+            public void add(Rows rows) {
+                rows.documents().forEach(rebuilt::add);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    documents = rebuilt;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Study search index rebuilt with {} studies", rebuilt.documents.size());
+            }
+        };
+    }
+
+    @Override
+    public void refresh(Long studyId, Rows rows) {
+        if (!ready)
+            return;
+
+        lock.writeLock().lock();
+        try {
+            // 삭제된 스터디는 rows가 비어 있으므로 제거만 수행
+            documents.remove(studyId);
+            rows.documents().forEach(documents::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+/* ----------------------------- 검색 ------------------------------------- */
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드의 모든 토큰을 포함하는 스터디를 관련도 순으로 반환합니다.
+     *
+     * @param keyword 검색 키워드를 입력 받습니다.
+     * @return 관련도 내림차순으로 정렬된 스터디 ID 목록을 반환합니다. 인덱스가 준비되지 않은 경우 빈 값을 반환합니다.
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready)
+            return Optional.empty();
+
+        Set<String> terms = new LinkedHashSet<>(tokenizeQuery(keyword));
+        if (terms.isEmpty())
+            return Optional.of(List.of());
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(documents.search(terms));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+/* ----------------------------- 토큰화 ------------------------------------- */
+
+    /**
+     * 문서를 토큰화합니다. 단어별로 유니그램과 바이그램을 모두 생성하여 한 글자 키워드도 검색할 수 있도록 합니다.
+     * @param text 토큰화할 문자열을 입력 받습니다.
+     * @return 토큰 목록을 반환합니다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] word : words(text)) {
+            for (int i = 0; i < word.length; i++) {
+                tokens.add(new String(word, i, 1));
+                if (i + 1 < word.length)
+                    tokens.add(new String(word, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색 키워드를 토큰화합니다. 한 글자 단어는 유니그램, 그 외에는 바이그램만 사용합니다.
+     * @param keyword 검색 키워드를 입력 받습니다.
+     * @return 토큰 목록을 반환합니다.
+     */
+    static List<String> tokenizeQuery(String keyword) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] word : words(keyword)) {
+            if (word.length == 1) {
+                tokens.add(new String(word, 0, 1));
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length; i++)
+                tokens.add(new String(word, i, 2));
+        }
+        return tokens;
+    }
+
+    // NFKC 정규화 및 소문자 변환 후, 문자/숫자가 아닌 문자를 기준으로 단어를 분리
+    private static List<int[]> words(String text) {
+        List<int[]> words = new ArrayList<>();
+        if (text == null || text.isBlank())
+            return words;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty())
+                words.add(word.codePoints().toArray());
+        }
+        return words;
+    }
+
+/* ----------------------------- 인덱스 구조 ------------------------------------- */
+
+    private static class Documents {
+
+        // 토큰 -> (스터디 ID -> 가중치가 반영된 토큰 빈도)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalLength = 0;
+
+        private void add(StudyDocument row) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            addField(frequencies, row.getTitle(), TITLE_WEIGHT);
+            addField(frequencies, row.getGoal(), GOAL_WEIGHT);
+            addField(frequencies, row.getIntroduction(), INTRODUCTION_WEIGHT);
+
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(row.getId(), frequency));
+
+            documents.put(row.getId(), new Document(List.copyOf(frequencies.keySet()), length,
+                row.getHitNum() == null ? 0 : row.getHitNum(),
+                row.getHeartCount() == null ? 0 : row.getHeartCount()));
+            totalLength += length;
+        }
+
+        private void remove(Long studyId) {
+            Document document = documents.remove(studyId);
+            if (document == null)
+                return;
+
+            for (String term : document.terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null)
+                    continue;
+                posting.remove(studyId);
+                if (posting.isEmpty())
+                    postings.remove(term);
+            }
+            totalLength -= document.length;
+        }
+
+        private List<Long> search(Set<String> terms) {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                // 포함되지 않은 토큰이 있으면 결과 없음
+                if (posting == null)
+                    return List.of();
+                termPostings.add(posting);
+            }
+
+            // 가장 짧은 postings 기준으로 모든 토큰을 포함하는 스터디만 점수 계산
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 1 : Math.max(1, (double) totalLength / documentCount);
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long studyId : termPostings.get(0).keySet()) {
+                if (termPostings.stream().allMatch(posting -> posting.containsKey(studyId)))
+                    scores.put(studyId, score(studyId, termPostings, documentCount, averageLength));
+            }
+
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList();
+        }
+
+        private double score(Long studyId, List<Map<Long, Integer>> termPostings, int documentCount,
+            double averageLength) {
+            Document document = documents.get(studyId);
+            double relevance = 0;
+            for (Map<Long, Integer> posting : termPostings) {
+                int frequency = posting.get(studyId);
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                relevance += idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * document.length / averageLength));
+            }
+            double popularity = 1 + HIT_WEIGHT * Math.log1p(document.hitNum)
+                + HEART_WEIGHT * Math.log1p(document.heartCount);
+            return relevance * popularity;
+        }
+
+        private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+            for (String token : tokenize(text))
+                frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record Document(List<String> terms, int length, long hitNum, int heartCount) {}
+}
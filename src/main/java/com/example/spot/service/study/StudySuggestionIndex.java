@@ -0,0 +1,433 @@
+package com.example.spot.service.study;
+
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 검색어 자동완성을 위한 인메모리 접두사 트라이입니다.
+ * 자동완성 후보는 스터디 제목과 급상승 검색어({@link HotKeywordRanking#getTrendingKeywords()})이며,
+ * 후보의 인기도는 같은 제목의 스터디 조회수/좋아요 수와 검색어의 검색 점수를 합산하여 계산합니다.
+ *
+ * <p>한글은 입력 중인 글자도 일치하도록 자모 단위로 분해하여 트라이에 넣습니다.
+ * 예를 들어 "스프링"은 "ㅅㅡㅍㅡㄹㅣㅇ"으로 저장되므로 "스", "슾"(받침으로 입력 중인 다음 글자의 초성) 모두 일치하며,
+ * 자음만 입력한 경우에는 초성 트라이("ㅅㅍㄹ")에서 찾습니다.
+ * 트라이의 각 노드는 하위 후보 중 인기도 상위 {@link #MAX_SIZE}개를 미리 계산해 두므로,
+ * 조회는 접두사 길이만큼 노드를 따라가는 연산만으로 끝납니다.
+ * 후보가 변경되면 해당 후보의 경로에 있는 노드의 상위 목록만 다시 계산합니다.
+ * {@link StudyIndexLoader}가 애플리케이션 시작 시 전체를 적재하며, 이후에는 {@link StudyChangedEvent}로 해당 스터디만,
+ * 급상승 검색어는 발행될 때마다 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySuggestionIndex implements StudyIndex {
+
+    public static final int MAX_SIZE = 10;
+
+    private static final int MAX_SUGGESTION_LENGTH = 50;
+
+    // 인기도 가중치
+    private static final double STUDY_WEIGHT = 1.0;
+    private static final double HIT_WEIGHT = 0.1;
+    private static final double HEART_WEIGHT = 0.3;
+    private static final double KEYWORD_WEIGHT = 2.0;
+
+    private final HotKeywordRanking hotKeywordRanking;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Suggestions suggestions = new Suggestions();
+    private volatile boolean ready = false;
+
+/* ----------------------------- 적재 및 갱신 ------------------------------------- */
+
+    /**
+     * 전체 스터디 제목과 급상승 검색어로 트라이를 새로 생성합니다.
+     */
+    @Override
+    public Rebuild startRebuild() {
+        Suggestions rebuilt = new Suggestions();
+        return new Rebuild() {
+            @Override
+            public void add(Rows rows) {
+                rows.documents().forEach(rebuilt::putStudy);
+            }
+
+            @Override
+            public void publish() {
+                rebuilt.putKeywords(loadTrendingKeywords());
+
+                lock.writeLock().lock();
+                try {
+                    suggestions = rebuilt;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Study suggestion index rebuilt with {} suggestions", rebuilt.entries.size());
+            }
+        };
+    }
+
+    @Override
+    public void refresh(Long studyId, Rows rows) {
+        if (!ready)
+            return;
+
+        lock.writeLock().lock();
+        try {
+            // 삭제된 스터디는 rows가 비어 있으므로 제거만 수행
+            suggestions.removeStudy(studyId);
+            rows.documents().forEach(suggestions::putStudy);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 발행된 급상승 검색어로 검색어 후보를 갱신합니다.
+     */
+    public void refreshKeywords() {
+        if (!ready)
+            return;
+
+        Map<String, Double> keywords = loadTrendingKeywords();
+        lock.writeLock().lock();
+        try {
+            suggestions.putKeywords(keywords);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Double> loadTrendingKeywords() {
+        try {
+            return hotKeywordRanking.getTrendingKeywords();
+        } catch (DataAccessException e) {
+            log.warn("Failed to load trending keywords for suggestions", e);
+            return Map.of();
+        }
+    }
+
+/* ----------------------------- 조회 ------------------------------------- */
+
+    /**
+     * 접두사로 시작하는 자동완성 후보를 인기도 순으로 반환합니다.
+     * @param prefix 입력 중인 검색어
+     * @param size 조회할 후보 수 ({@link #MAX_SIZE} 이하)
+     * @return 인기도 내림차순 후보 목록, 인덱스가 준비되지 않았거나 일치하는 후보가 없는 경우 빈 목록
+     */
+    public List<String> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (!ready || key.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (isChoseongQuery(key))
+                return suggestions.choseongTrie.suggest(toChoseong(key), Math.min(size, MAX_SIZE));
+            return suggestions.jamoTrie.suggest(toJamo(key), Math.min(size, MAX_SIZE));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // NFKC 정규화, 소문자 변환 및 공백 정리
+    static String normalize(String text) {
+        if (text == null)
+            return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+
+/* ----------------------------- 한글 자모 분해 ------------------------------------- */
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 초성, 중성, 종성 순서의 호환용 자모 (겹모음과 겹받침은 입력하는 순서대로 분해)
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 정규화(NFKC)된 자모는 한글 자모 블록(U+1100~)의 초성, 중성, 종성 문자로 바뀜
+    private static final char LEADING_BASE = '\u1100';
+    private static final char VOWEL_BASE = '\u1161';
+    private static final char TRAILING_BASE = '\u11A7';
+
+    /**
+     * 정규화된 문자열의 한글을 호환용 자모로 분해합니다.
+     * 받침은 다음 글자의 초성과 같은 자모가 되므로 "슾"은 "스프"의 접두사가 됩니다.
+     */
+    static String toJamo(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else if (c >= LEADING_BASE && c < LEADING_BASE + CHOSEONG.length) {
+                builder.append(CHOSEONG[c - LEADING_BASE]);
+            } else if (c >= VOWEL_BASE && c < VOWEL_BASE + JUNGSEONG.length) {
+                builder.append(JUNGSEONG[c - VOWEL_BASE]);
+            } else if (c > TRAILING_BASE && c < TRAILING_BASE + JONGSEONG.length) {
+                builder.append(JONGSEONG[c - TRAILING_BASE]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 문자열을 초성 검색용 키로 변환합니다. 한글은 초성만 남기고 공백은 제거합니다.
+     */
+    static String toChoseong(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST)
+                builder.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            else if (c >= LEADING_BASE && c < LEADING_BASE + CHOSEONG.length)
+                builder.append(CHOSEONG[c - LEADING_BASE]);
+            else if (c != ' ')
+                builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    // 자음(초성)만 입력한 검색어인지 확인
+    private static boolean isChoseongQuery(String normalized) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ')
+                continue;
+            if (c < LEADING_BASE || c >= LEADING_BASE + CHOSEONG.length)
+                return false;
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+/* ----------------------------- 인덱스 구조 ------------------------------------- */
+
+    private static class Suggestions {
+
+        // 자모 단위 트라이, 초성 트라이
+        private final Trie jamoTrie = new Trie();
+        private final Trie choseongTrie = new Trie();
+
+        // 정규화된 후보 -> 후보의 인기도 구성
+        private final Map<String, Entry> entries = new HashMap<>();
+        // 스터디 ID -> 정규화된 제목
+        private final Map<Long, String> studyTitles = new HashMap<>();
+        private Set<String> keywords = new HashSet<>();
+
+        private void putStudy(StudyDocument row) {
+            String key = normalize(row.getTitle());
+            if (key.isEmpty() || key.length() > MAX_SUGGESTION_LENGTH)
+                return;
+
+            long hitNum = row.getHitNum() == null ? 0 : row.getHitNum();
+            int heartCount = row.getHeartCount() == null ? 0 : row.getHeartCount();
+            double score = STUDY_WEIGHT + HIT_WEIGHT * Math.log1p(hitNum) + HEART_WEIGHT * Math.log1p(heartCount);
+
+            studyTitles.put(row.getId(), key);
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry(row.getTitle().strip()));
+            entry.studyScores.put(row.getId(), score);
+            update(key, entry);
+        }
+
+        private void removeStudy(Long studyId) {
+            String key = studyTitles.remove(studyId);
+            if (key == null)
+                return;
+
+            Entry entry = entries.get(key);
+            entry.studyScores.remove(studyId);
+            update(key, entry);
+        }
+
+        private void putKeywords(Map<String, Double> trending) {
+            Set<String> updated = new HashSet<>();
+            trending.forEach((keyword, score) -> {
+                String key = normalize(keyword);
+                if (key.isEmpty() || key.length() > MAX_SUGGESTION_LENGTH)
+                    return;
+
+                Entry entry = entries.computeIfAbsent(key, k -> new Entry(keyword.strip()));
+                entry.keywordScore = KEYWORD_WEIGHT * Math.log1p(score);
+                updated.add(key);
+                update(key, entry);
+            });
+
+            // 급상승 검색어에서 빠진 검색어의 점수 제거
+            for (String key : keywords) {
+                Entry entry = entries.get(key);
+                if (updated.contains(key) || entry == null)
+                    continue;
+                entry.keywordScore = 0;
+                update(key, entry);
+            }
+            keywords = updated;
+        }
+
+        // 후보의 인기도를 두 트라이에 반영
+        private void update(String key, Entry entry) {
+            double score = entry.score();
+            Suggestion suggestion = null;
+            if (score <= 0)
+                entries.remove(key);
+            else
+                suggestion = new Suggestion(entry.text, score);
+
+            jamoTrie.put(toJamo(key), key, suggestion);
+            choseongTrie.put(toChoseong(key), key, suggestion);
+        }
+    }
+
+    private static class Trie {
+
+        private final Node root = new Node(null, (char) 0);
+
+        // 경로의 노드에 후보를 반영(suggestion이 null이면 제거)하고, 경로에 있는 노드의 상위 목록을 잎에서 루트 방향으로 다시 계산
+        private void put(String path, String key, Suggestion suggestion) {
+            Deque<Node> nodes = new ArrayDeque<>();
+            Node node = root;
+            nodes.push(node);
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    if (suggestion == null)
+                        return;
+                    child = new Node(node, c);
+                    node.children.put(c, child);
+                }
+                node = child;
+                nodes.push(node);
+            }
+
+            // 같은 경로에 여러 후보가 있을 수 있으므로 정규화된 후보로 구분 (예: 초성이 같은 제목)
+            if (suggestion == null)
+                node.suggestions.remove(key);
+            else
+                node.suggestions.put(key, suggestion);
+
+            while (!nodes.isEmpty()) {
+                Node current = nodes.pop();
+                current.recompute();
+                // 후보와 하위 노드가 없는 노드는 제거
+                if (current.parent != null && current.suggestions.isEmpty() && current.children.isEmpty())
+                    current.parent.children.remove(current.c);
+            }
+        }
+
+        private List<String> suggest(String path, int size) {
+            Node node = root;
+            for (int i = 0; i < path.length() && node != null; i++)
+                node = node.children.get(path.charAt(i));
+            if (node == null)
+                return List.of();
+
+            return node.top.stream()
+                    .limit(size)
+                    .map(Suggestion::text)
+                    .toList();
+        }
+    }
+
+    private static class Node {
+        private final Node parent;
+        private final char c;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Map<String, Suggestion> suggestions = new HashMap<>();
+        private List<Suggestion> top = List.of();
+
+        private Node(Node parent, char c) {
+            this.parent = parent;
+            this.c = c;
+        }
+
+        // 자신의 후보와 하위 노드의 상위 목록을 합쳐 상위 MAX_SIZE개를 계산
+        private void recompute() {
+            PriorityQueue<Suggestion> heap = new PriorityQueue<>(Suggestion.ORDER);
+            suggestions.values().forEach(candidate -> offer(heap, candidate));
+            for (Node child : children.values()) {
+                for (Suggestion candidate : child.top) {
+                    // 하위 노드의 상위 목록은 정렬되어 있으므로 이후 후보는 확인하지 않음
+                    if (!offer(heap, candidate))
+                        break;
+                }
+            }
+
+            List<Suggestion> sorted = new ArrayList<>(heap);
+            sorted.sort(Suggestion.ORDER.reversed());
+            top = List.copyOf(sorted);
+        }
+
+        // 상위 MAX_SIZE개에 들면 추가하고, 최소 후보보다 낮으면 false 반환
+        private static boolean offer(PriorityQueue<Suggestion> heap, Suggestion candidate) {
+            if (heap.size() < MAX_SIZE) {
+                heap.add(candidate);
+                return true;
+            }
+            if (Suggestion.ORDER.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class Entry {
+        private final String text;
+        private final Map<Long, Double> studyScores = new HashMap<>();
+        private double keywordScore;
+
+        private Entry(String text) {
+            this.text = text;
+        }
+
+        private double score() {
+            return studyScores.values().stream().mapToDouble(Double::doubleValue).sum() + keywordScore;
+        }
+    }
+
+    private record Suggestion(String text, double score) {
+        // 인기도 오름차순, 같으면 짧은 후보를 우선
+        private static final Comparator<Suggestion> ORDER = Comparator.comparingDouble(Suggestion::score)
+                .thenComparing(Comparator.comparingInt((Suggestion s) -> s.text().length()).reversed())
+                .thenComparing(Suggestion::text, Comparator.reverseOrder());
+    }
+}
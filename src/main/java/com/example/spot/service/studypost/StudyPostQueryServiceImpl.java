@@ -12,6 +12,7 @@ import com.example.spot.domain.study.StudyPost;
 import com.example.spot.domain.study.StudyPostComment;
 import com.example.spot.repository.*;
 import com.example.spot.security.utils.SecurityUtils;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.memberstudy.response.StudyPostCommentResponseDTO;
 import com.example.spot.web.dto.memberstudy.response.StudyPostResDTO;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +39,9 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
     private final StudyPostRepository studyPostRepository;
     private final MemberStudyRepository memberStudyRepository;
 
+    // 요청 단위 회원/스터디/권한 조회 컨텍스트
+    private final StudyMembershipContext studyMembershipContext;
+
 /* ----------------------------- 스터디 게시글 관련 API ------------------------------------- */
 
     /**
@@ -57,9 +61,9 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        memberRepository.findById(memberId)
+        studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
 
         //=== Feature ===//
@@ -103,9 +107,9 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        Study study = studyRepository.findById(studyId)
+        Study study = studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         StudyPost studyPost = studyPostRepository.findById(postId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_POST_NOT_FOUND));
@@ -115,7 +119,7 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_POST_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         //=== Feature ===//
@@ -145,15 +149,15 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
         Long memberId = SecurityUtils.getCurrentUserId();
         SecurityUtils.verifyUserId(memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = studyMembershipContext.getMember(memberId)
                 .orElseThrow(() -> new MemberHandler(ErrorStatus._MEMBER_NOT_FOUND));
-        studyRepository.findById(studyId)
+        studyMembershipContext.getStudy(studyId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_NOT_FOUND));
         StudyPost studyPost = studyPostRepository.findById(postId)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_POST_NOT_FOUND));
 
         // 로그인한 회원이 스터디 회원인지 확인
-        memberStudyRepository.findByMemberIdAndStudyIdAndStatus(memberId, studyId, ApplicationStatus.APPROVED)
+        studyMembershipContext.getMemberStudy(memberId, studyId, ApplicationStatus.APPROVED)
                 .orElseThrow(() -> new StudyHandler(ErrorStatus._STUDY_MEMBER_NOT_FOUND));
 
         // 해당 스터디의 게시글인지 확인
@@ -0,0 +1,22 @@
+package com.example.spot.validation.annotation;
+
+import com.example.spot.validation.validator.StudyListSortByValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * 스터디 목록 조회의 정렬 기준을 검증합니다.
+ * 관련도 순(RELEVANCE) 정렬은 키워드 검색에서만 사용할 수 있습니다.
+ */
+@Documented
+@Constraint(validatedBy = StudyListSortByValidator.class)
+@Target( { ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StudyListSortBy {
+
+    String message() default "관련도 순 정렬은 키워드 검색에서만 사용할 수 있습니다.";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
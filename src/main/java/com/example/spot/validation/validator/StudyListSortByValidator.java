@@ -0,0 +1,30 @@
+package com.example.spot.validation.validator;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.validation.annotation.StudyListSortBy;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StudyListSortByValidator implements ConstraintValidator<StudyListSortBy, StudySortBy> {
+
+    @Override
+    public void initialize(StudyListSortBy constraintAnnotation) {}
+
+    @Override
+    public boolean isValid(StudySortBy sortBy, ConstraintValidatorContext context) {
+
+        // null 여부는 @RequestParam에서 검증
+        boolean isValid = sortBy != StudySortBy.RELEVANCE;
+
+        if (!isValid) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(ErrorStatus._STUDY_SORT_BY_INVALID.getMessage())
+                .addConstraintViolation();
+        }
+
+        return isValid;
+    }
+}
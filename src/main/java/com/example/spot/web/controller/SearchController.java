@@ -8,15 +8,19 @@ import com.example.spot.security.utils.SecurityUtils;
 import com.example.spot.service.study.StudyCommandService;
 import com.example.spot.service.study.StudyQueryService;
 import com.example.spot.validation.annotation.ExistMember;
+import com.example.spot.validation.annotation.StudyListSortBy;
 import com.example.spot.web.dto.search.SearchRequestDTO.SearchRequestStudyDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.HotKeywordDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.MyPageDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.StudyPreviewDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.StudyScrollDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.SuggestionDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -81,14 +85,16 @@ public class SearchController {
             ## [전체 스터디 조회] 입력한 조건에 맞는 전체 스터디를 조회 합니다.
             조건에 맞게 검색된 스터디 목록이 반환 됩니다."""
     )
+    @Parameter(name = "slice", description = "true인 경우 전체 개수를 조회하지 않고 다음 페이지 존재 여부(last)만 반환합니다. 무한 스크롤에 사용합니다.", required = false)
     public ApiResponse<StudyPreviewDTO> allStudiesByConditions(
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy) {
+        @RequestParam @StudyListSortBy StudySortBy sortBy,
+        @RequestParam(defaultValue = "false") boolean slice) {
         // 메소드 구현
         StudyPreviewDTO studies = studyQueryService.findStudiesByConditions(PageRequest.of(page, size),
-            searchRequestStudyDTO, sortBy);
+            searchRequestStudyDTO, sortBy, slice);
         return ApiResponse.onSuccess(SuccessStatus._STUDY_FOUND, studies);
     }
 
@@ -100,12 +106,55 @@ public class SearchController {
             ## [전체 스터디 조회] 전체 스터디를 조회 합니다.
             조건에 맞게 검색된 스터디 목록이 반환 됩니다."""
     )
+    @Parameter(name = "slice", description = "true인 경우 전체 개수를 조회하지 않고 다음 페이지 존재 여부(last)만 반환합니다. 무한 스크롤에 사용합니다.", required = false)
     public ApiResponse<StudyPreviewDTO> allStudiesByConditions(
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy) {
+        @RequestParam @StudyListSortBy StudySortBy sortBy,
+        @RequestParam(defaultValue = "false") boolean slice) {
         // 메소드 구현
-        StudyPreviewDTO studies = studyQueryService.findStudies(PageRequest.of(page, size), sortBy);
+        StudyPreviewDTO studies = studyQueryService.findStudies(PageRequest.of(page, size), sortBy, slice);
+        return ApiResponse.onSuccess(SuccessStatus._STUDY_FOUND, studies);
+    }
+
+    @Tag(name = "전체 스터디 조회", description = "전체 스터디 조회 API")
+    @GetMapping("/search/studies/all/scroll")
+    @Operation(
+        summary = "[전체 스터디 조회] 전체 스터디 커서 기반 조회",
+        description = """
+            ## [전체 스터디 조회] 입력한 조건에 맞는 전체 스터디를 커서 기반으로 조회 합니다.
+            첫 페이지는 cursor 없이 요청하고, 이후 응답의 nextCursor를 전달하여 다음 페이지를 조회합니다.
+            hasNext가 false인 경우 마지막 페이지입니다."""
+    )
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor를 입력 받습니다. 첫 페이지 조회 시 생략합니다.", required = false)
+    @Parameter(name = "size", description = "조회할 페이지 크기를 입력 받습니다. 페이지 크기는 1 이상의 정수 입니다. ", required = true)
+    @Parameter(name = "sortBy", description = "정렬 기준을 입력 받습니다.", required = true)
+    public ApiResponse<StudyScrollDTO> allStudiesByConditionsWithCursor(
+        @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) Integer size,
+        @RequestParam @StudyListSortBy StudySortBy sortBy) {
+        StudyScrollDTO studies = studyQueryService.findStudiesByCursor(searchRequestStudyDTO, sortBy, cursor, size);
+        return ApiResponse.onSuccess(SuccessStatus._STUDY_FOUND, studies);
+    }
+
+    @Tag(name = "전체 스터디 조회", description = "전체 스터디 조회 API")
+    @GetMapping("/search/studies/all/no-conditions/scroll")
+    @Operation(
+        summary = "[전체 스터디 조회] 전체 스터디 커서 기반 조회 (조건 X)",
+        description = """
+            ## [전체 스터디 조회] 전체 스터디를 커서 기반으로 조회 합니다.
+            첫 페이지는 cursor 없이 요청하고, 이후 응답의 nextCursor를 전달하여 다음 페이지를 조회합니다.
+            hasNext가 false인 경우 마지막 페이지입니다."""
+    )
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor를 입력 받습니다. 첫 페이지 조회 시 생략합니다.", required = false)
+    @Parameter(name = "size", description = "조회할 페이지 크기를 입력 받습니다. 페이지 크기는 1 이상의 정수 입니다. ", required = true)
+    @Parameter(name = "sortBy", description = "정렬 기준을 입력 받습니다.", required = true)
+    public ApiResponse<StudyScrollDTO> allStudiesWithCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam @Min(1) Integer size,
+        @RequestParam @StudyListSortBy StudySortBy sortBy) {
+        StudyScrollDTO studies = studyQueryService.findStudiesByCursor(null, sortBy, cursor, size);
         return ApiResponse.onSuccess(SuccessStatus._STUDY_FOUND, studies);
     }
 
@@ -139,7 +188,7 @@ public class SearchController {
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy
+        @RequestParam @StudyListSortBy StudySortBy sortBy
     ) {
         StudyPreviewDTO studies = studyQueryService.findInterestStudiesByConditionsAll(PageRequest.of(page, size),
                 SecurityUtils.getCurrentUserId(), searchRequestStudyDTO, sortBy);
@@ -172,7 +221,7 @@ public class SearchController {
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy
+        @RequestParam @StudyListSortBy StudySortBy sortBy
     ) {
         StudyPreviewDTO studies = studyQueryService.findInterestStudiesByConditionsSpecific(PageRequest.of(page, size),
                 SecurityUtils.getCurrentUserId(), searchRequestStudyDTO, theme, sortBy);
@@ -209,7 +258,7 @@ public class SearchController {
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy
+        @RequestParam @StudyListSortBy StudySortBy sortBy
 
     ) {
         StudyPreviewDTO studies = studyQueryService.findInterestRegionStudiesByConditionsAll(
@@ -243,7 +292,7 @@ public class SearchController {
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy
+        @RequestParam @StudyListSortBy StudySortBy sortBy
     ) {
         StudyPreviewDTO studies = studyQueryService.findInterestRegionStudiesByConditionsSpecific(
             PageRequest.of(page, size), SecurityUtils.getCurrentUserId(), searchRequestStudyDTO, regionCode, sortBy);
@@ -277,7 +326,7 @@ public class SearchController {
         @ModelAttribute @Valid SearchRequestStudyDTO searchRequestStudyDTO,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy) {
+        @RequestParam @StudyListSortBy StudySortBy sortBy) {
         // 메소드 구현
         StudyPreviewDTO studies = studyQueryService.findRecruitingStudiesByConditions(PageRequest.of(page, size),
             searchRequestStudyDTO, sortBy);
@@ -311,12 +360,14 @@ public class SearchController {
         summary = "[스터디 검색] 키워드를 통한 스터디 검색",
         description = """
             ## [스터디 검색] 제목에 키워드가 포함 되어 있는 스터디 전체를 조회 합니다.
-            찜한 스터디 목록이 반환 됩니다."""
+            찜한 스터디 목록이 반환 됩니다.
+            
+            정렬 기준이 RELEVANCE인 경우 제목, 목표, 소개에 키워드가 포함된 스터디를 관련도 순으로 조회 합니다."""
     )
     @Parameter(name = "keyword", description = "검색할 키워드를 입력 받습니다.", required = true)
     @Parameter(name = "page", description = "조회할 페이지 번호를 입력 받습니다. 페이지 번호는 0부터 시작합니다.", required = true)
     @Parameter(name = "size", description = "조회할 페이지 크기를 입력 받습니다. 페이지 크기는 1 이상의 정수 입니다. ", required = true)
-    @Parameter(name = "sortBy", description = "정렬 기준을 입력 받습니다.", required = true)
+    @Parameter(name = "sortBy", description = "정렬 기준을 입력 받습니다. (ALL, RECRUITING, COMPLETED, HIT, LIKED, RELEVANCE)", required = true)
     public ApiResponse<StudyPreviewDTO> searchStudiesByKeyword(
         @RequestParam String keyword,
         @RequestParam @Min(0) Integer page,
@@ -342,6 +393,21 @@ public class SearchController {
         return ApiResponse.onSuccess(SuccessStatus._HOT_KEYWORD_FOUND, studyQueryService.getHotKeyword());
     }
 
+    @Tag(name = "스터디 검색")
+    @GetMapping("/search/studies/suggest")
+    @Operation(summary = "[스터디 검색] 검색어 자동완성",
+        description = """
+            ## [스터디 검색] 입력 중인 검색어로 시작하는 스터디 제목과 급상승 검색어를 인기도 순으로 조회합니다.
+            대소문자와 공백은 구분하지 않으며, 일치하는 후보가 없으면 빈 목록을 반환합니다.
+            """)
+    @Parameter(name = "prefix", description = "입력 중인 검색어를 입력 받습니다.", required = true)
+    @Parameter(name = "size", description = "조회할 후보 수를 입력 받습니다. 1 이상 10 이하의 정수이며 기본값은 10입니다.")
+    public ApiResponse<SuggestionDTO> getSuggestions(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(10) Integer size) {
+        return ApiResponse.onSuccess(SuccessStatus._SEARCH_SUGGESTION_FOUND, studyQueryService.getSuggestions(prefix, size));
+    }
+
 
     /* ----------------------------- 테마 별 스터디 검색  ------------------------------------- */
     @Tag(name = "스터디 검색")
@@ -360,7 +426,7 @@ public class SearchController {
         @RequestParam ThemeType theme,
         @RequestParam @Min(0) Integer page,
         @RequestParam @Min(1) Integer size,
-        @RequestParam StudySortBy sortBy) {
+        @RequestParam @StudyListSortBy StudySortBy sortBy) {
         // 메소드 구현
         StudyPreviewDTO studies = studyQueryService.findStudiesByTheme(PageRequest.of(page, size), theme, sortBy);
         return ApiResponse.onSuccess(SuccessStatus._STUDY_FOUND, studies);
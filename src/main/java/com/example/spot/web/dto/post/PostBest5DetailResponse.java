@@ -1,6 +1,7 @@
 package com.example.spot.web.dto.post;
 
 import com.example.spot.domain.Post;
+import com.example.spot.domain.PostBestSnapshot;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -39,7 +40,16 @@ public class PostBest5DetailResponse {
                 .postId(post.getId())
                 .rank(rank)
                 .postTitle(post.getTitle())
-                .commentCount(post.getPostCommentList().size())
+                .commentCount(post.getCommentNum())
+                .build();
+    }
+
+    public static PostBest5DetailResponse from(PostBestSnapshot snapshot) {
+        return PostBest5DetailResponse.builder()
+                .postId(snapshot.getPostId())
+                .rank(snapshot.getRanking())
+                .postTitle(snapshot.getTitle())
+                .commentCount(snapshot.getCommentCount())
                 .build();
     }
 }
@@ -80,7 +80,7 @@ public class PostPagingDetailResponse {
         }
         return writer;
     }
-    public static PostPagingDetailResponse toDTO(Post post, long likeCount, long scrapCount, boolean likedByCurrentUser, boolean scrapedByCurrentUser) {
+    public static PostPagingDetailResponse toDTO(Post post, boolean likedByCurrentUser, boolean scrapedByCurrentUser) {
         // 작성자가 익명인지 확인하여 작성자 이름 설정
         String writerName = judgeAnonymous(post.isAnonymous(), post.getMember().getName());
 
@@ -88,13 +88,13 @@ public class PostPagingDetailResponse {
                 .postId(post.getId())
                 .writer(writerName)
                 .writtenTime(post.getCreatedAt())
-                .scrapCount(scrapCount)
+                .scrapCount((long) post.getScrapNum())
                 .scrapedByCurrentUser(scrapedByCurrentUser)
                 .title(post.getTitle())
                 .content(post.getContent())
-                .likeCount(likeCount)
+                .likeCount((long) post.getLikeNum())
                 .likedByCurrentUser(likedByCurrentUser)
-                .commentCount(post.getPostCommentList().size())
+                .commentCount(post.getCommentNum())
                 .viewCount(post.getHitNum())
                 .build();
     }
@@ -27,7 +27,7 @@ public class PostRepresentativeDetailResponse {
                 .postId(post.getId())
                 .postType(post.getBoard().name())
                 .postTitle(post.getTitle())
-                .commentCount(post.getPostCommentList().size())
+                .commentCount(post.getCommentNum())
                 .build();
     }
 }
@@ -118,7 +118,8 @@ public class PostSingleResponse {
         return profileImage;
     }
 
-    public static PostSingleResponse toDTO(Post post, long likeCount, long scrapCount, CommentResponse commentResponse, boolean likedByCurrentUser, boolean scrapedByCurrentUser, String defaultProfileImageUrl) {
+    // viewCount: 아직 DB에 반영되지 않은 조회수를 포함한 조회수
+    public static PostSingleResponse toDTO(Post post, int viewCount, long likeCount, long scrapCount, CommentResponse commentResponse, boolean likedByCurrentUser, boolean scrapedByCurrentUser, String defaultProfileImageUrl) {
         // 작성자가 익명인지 확인하여 작성자 이름 설정
         String writerName = judgeAnonymous(post.isAnonymous(), post.getMember().getName());
         // 작성자가 익명인지 확인하여 프로필 반환
@@ -138,7 +139,7 @@ public class PostSingleResponse {
                 .likeCount(likeCount)
                 .likedByCurrentUser(likedByCurrentUser)
                 .commentCount(commentResponse.getComments().size())
-                .viewCount(post.getHitNum())
+                .viewCount(viewCount)
                 .commentResponses(commentResponse)
                 .build();
     }
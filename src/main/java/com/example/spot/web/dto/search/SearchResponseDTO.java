@@ -2,7 +2,6 @@ package com.example.spot.web.dto.search;
 
 import com.example.spot.domain.Region;
 import com.example.spot.domain.Theme;
-import com.example.spot.domain.enums.ApplicationStatus;
 import com.example.spot.domain.enums.StudyLikeStatus;
 import com.example.spot.domain.enums.StudyState;
 import com.example.spot.domain.enums.ThemeType;
@@ -19,6 +18,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public class SearchResponseDTO {
 
@@ -40,6 +40,15 @@ public class SearchResponseDTO {
         }
     }
 
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SuggestionDTO {
+        private String prefix;
+        private List<String> suggestions;
+    }
+
     @Builder
     @Getter
     @NoArgsConstructor
@@ -74,6 +83,28 @@ public class SearchResponseDTO {
             this.content = content;
             this.number = page.getNumber();
         }
+
+        // 전체 개수를 조회하지 않는 slice 모드에서는 전체 개수와 페이지 수를 알 수 없으므로 -1 로 응답
+        public StudyPreviewDTO(Slice<?> slice, List<SearchResponseDTO.SearchStudyDTO> content) {
+            this.totalPages = -1;
+            this.totalElements = -1;
+            this.first = slice.isFirst();
+            this.last = slice.isLast();
+            this.size = slice.getSize();
+            this.content = content;
+            this.number = slice.getNumber();
+        }
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StudyScrollDTO {
+        private List<SearchResponseDTO.SearchStudyDTO> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
     }
 
     @Builder
@@ -92,16 +123,31 @@ public class SearchResponseDTO {
             getInstructor(study);
         }
 
+        // 연관 엔티티를 순회하지 않고, 일괄 조회한 값으로 생성
+        public SearchStudyDTO(Study study, List<String> regions, List<ThemeType> themeTypes, boolean isLiked) {
+            this.studyId = study.getId();
+            this.imageUrl = study.getProfileImage();
+            this.title = study.getTitle();
+            this.introduction = study.getIntroduction();
+            this.goal = study.getGoal();
+            this.memberCount = study.getApprovedMemberCount();
+            this.heartCount = (long) study.getHeartCount();
+            this.hitNum = study.getHitNum();
+            this.maxPeople = study.getMaxPeople();
+            this.studyState = study.getStudyState();
+            this.regions = regions;
+            this.themeTypes = themeTypes;
+            this.isLiked = isLiked;
+            this.createdAt = study.getCreatedAt();
+        }
+
         private void getInstructor(Study study) {
             this.studyId = study.getId();
             this.imageUrl = study.getProfileImage();
             this.title = study.getTitle();
             this.introduction = study.getIntroduction();
             this.goal = study.getGoal();
-            this.memberCount = (long) study.getMemberStudies().stream()
-                    .filter(memberStudy -> memberStudy.getStatus().equals(ApplicationStatus.APPROVED))
-                    .toList()
-                    .size();
+            this.memberCount = study.getApprovedMemberCount();
             this.heartCount = (long) study.getHeartCount();
             this.hitNum = study.getHitNum();
             this.maxPeople = study.getMaxPeople();
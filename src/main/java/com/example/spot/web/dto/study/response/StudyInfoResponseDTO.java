@@ -1,7 +1,6 @@
 package com.example.spot.web.dto.study.response;
 
 import com.example.spot.domain.Member;
-import com.example.spot.domain.enums.ApplicationStatus;
 import com.example.spot.domain.enums.Gender;
 import com.example.spot.domain.enums.ThemeType;
 import com.example.spot.domain.mapping.PreferredStudy;
@@ -57,18 +56,15 @@ public class StudyInfoResponseDTO {
             this.introduction = introduction;
         }
 
-        public static StudyInfoDTO toDTO(Study study, Member owner) {
+        // hitNum: 아직 DB에 반영되지 않은 조회수를 포함한 조회수
+        public static StudyInfoDTO toDTO(Study study, Member owner, Long hitNum) {
             return StudyInfoDTO.builder()
                     .studyId(study.getId())
                     .studyName(study.getTitle())
                     .studyOwner(StudyOwnerDTO.toDTO(owner))
-                    .hitNum(study.getHitNum())
+                    .hitNum(hitNum)
                     .heartCount(study.getHeartCount())
-                    .memberCount(
-                        study.getMemberStudies().stream()
-                            .filter(memberStudy -> memberStudy.getStatus().equals(ApplicationStatus.APPROVED))
-                            .toList()
-                            .size())
+                    .memberCount(study.getApprovedMemberCount().intValue())
                     .maxPeople(study.getMaxPeople())
                     .gender(study.getGender())
                     .minAge(study.getMinAge())
@@ -0,0 +1,77 @@
+package com.example.spot.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.config.HttpClientCircuitBreaker.CircuitBreakerOpenException;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 서킷 브레이커가 예외 종류와 관계없이 실패를 기록하고 시험 요청을 해제하는지 검증합니다.
+ */
+class HttpClientCircuitBreakerTest {
+
+    private static final String HOST = "kauth.kakao.com";
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    private HttpClientCircuitBreaker circuitBreaker;
+    private HttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new HttpClientCircuitBreaker(1, OPEN_DURATION);
+        request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create("https://" + HOST + "/oauth/token"));
+        execution = mock(ClientHttpRequestExecution.class);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 런타임 예외도 실패로 기록하여 차단")
+    void intercept_RuntimeException_Opens() throws Exception {
+
+        // given
+        when(execution.execute(any(), any())).thenThrow(new IllegalStateException("unexpected"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.intercept(request, new byte[0], execution));
+        assertTrue(circuitBreaker.isOpen(HOST));
+        assertThrows(CircuitBreakerOpenException.class, () -> circuitBreaker.intercept(request, new byte[0], execution));
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 시험 요청이 런타임 예외로 실패해도 차단 시간 이후 다시 시험 요청을 보냄")
+    void intercept_TrialRuntimeException_ReleasesTrial() throws Exception {
+
+        // given
+        when(execution.execute(any(), any())).thenThrow(new IOException("connect timed out"));
+        assertThrows(IOException.class, () -> circuitBreaker.intercept(request, new byte[0], execution));
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        when(execution.execute(any(), any())).thenThrow(new IllegalStateException("unexpected"));
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.intercept(request, new byte[0], execution));
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        // when
+        ClientHttpResponse result = circuitBreaker.intercept(request, new byte[0], execution);
+
+        // then
+        assertSame(response, result);
+        assertFalse(circuitBreaker.isOpen(HOST));
+    }
+}
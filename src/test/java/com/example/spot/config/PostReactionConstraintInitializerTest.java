@@ -0,0 +1,144 @@
+package com.example.spot.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.Status;
+import com.example.spot.repository.LikedPostRepository;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.MemberScrapRepository;
+import com.example.spot.repository.PostRepository;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DDL은 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고, 테스트가 끝나면 데이터를 지운 뒤 제약을 복구합니다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostReactionConstraintInitializerTest {
+
+    private static final Set<String> COLUMNS = Set.of("member_id", "post_id");
+
+    @Autowired
+    private LikedPostRepository likedPostRepository;
+    @Autowired
+    private MemberScrapRepository memberScrapRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PostReactionConstraintInitializer initializer;
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new PostReactionConstraintInitializer(likedPostRepository, memberScrapRepository,
+            jdbcTemplate, new TransactionTemplate(transactionManager));
+        member = memberRepository.save(createMember());
+        post = postRepository.save(createPost(member));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM liked_post");
+        jdbcTemplate.update("DELETE FROM member_scrap");
+        jdbcTemplate.update("DELETE FROM post");
+        jdbcTemplate.update("DELETE FROM member");
+        initializer.run();
+    }
+
+    @Test
+    @DisplayName("유니크 제약 확인 - 엔티티에 선언된 제약이 있으면 그대로 둠 (성공)")
+    void run_ConstraintExists_Success() {
+
+        // when
+        initializer.run();
+
+        // then
+        assertTrue(initializer.hasUniqueIndex(PostReactionConstraintInitializer.LIKED_POST_TABLE, COLUMNS));
+        assertTrue(initializer.hasUniqueIndex(PostReactionConstraintInitializer.MEMBER_SCRAP_TABLE, COLUMNS));
+    }
+
+    @Test
+    @DisplayName("유니크 제약 확인 - 제약 없이 쌓인 중복 좋아요/스크랩을 가장 먼저 생성된 행만 남기고 삭제한 뒤 제약 생성 (성공)")
+    void run_ConstraintMissing_Deduplicated() {
+
+        // given
+        jdbcTemplate.execute("ALTER TABLE liked_post DROP CONSTRAINT uk_liked_post_member_post");
+        jdbcTemplate.execute("ALTER TABLE member_scrap DROP CONSTRAINT uk_member_scrap_member_post");
+        for (int i = 0; i < 3; i++) {
+            insertReaction("liked_post");
+            insertReaction("member_scrap");
+        }
+        Long firstLikeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM liked_post", Long.class);
+
+        // when
+        initializer.run();
+
+        // then
+        assertEquals(firstLikeId, jdbcTemplate.queryForObject("SELECT id FROM liked_post", Long.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_scrap", Integer.class));
+        assertTrue(initializer.hasUniqueIndex(PostReactionConstraintInitializer.LIKED_POST_TABLE, COLUMNS));
+        assertTrue(initializer.hasUniqueIndex(PostReactionConstraintInitializer.MEMBER_SCRAP_TABLE, COLUMNS));
+        assertThrows(DataIntegrityViolationException.class, () -> insertReaction("liked_post"));
+        assertThrows(DataIntegrityViolationException.class, () -> insertReaction("member_scrap"));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void insertReaction(String table) {
+        jdbcTemplate.update("INSERT INTO " + table + " (member_id, post_id) VALUES (?, ?)",
+            member.getId(), post.getId());
+    }
+
+    private static Post createPost(Member member) {
+        return Post.builder()
+            .isAdmin(false)
+            .isAnonymous(false)
+            .title("제목")
+            .content("내용")
+            .board(Board.FREE_TALK)
+            .member(member)
+            .build();
+    }
+
+    private static Member createMember() {
+        return Member.builder()
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email("member@example.com")
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .status(Status.ON)
+            .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.MailOutbox;
+import com.example.spot.domain.enums.MailStatus;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 메일 전송 결과가 선점 시의 시도 횟수가 일치하는 경우에만 반영되는지 검증합니다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class MailOutboxRepositoryTest {
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    /*-------------------------------------------------------- 전송 완료 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("전송 완료 - 현재 선점의 시도 횟수이면 전송 완료로 변경하고 본문을 삭제")
+    void markSent_CurrentLease_Success() {
+
+        // given
+        MailOutbox mail = saveMail();
+        claim(mail, LocalDateTime.now());
+
+        // when
+        int updated = mailOutboxRepository.markSent(mail.getId(), 1);
+
+        // then
+        MailOutbox sent = reload(mail);
+        assertEquals(1, updated);
+        assertEquals(MailStatus.SENT, sent.getStatus());
+        assertEquals("", sent.getContent());
+    }
+
+    @Test
+    @DisplayName("전송 완료 - 선점이 만료되어 다시 선점된 경우 이전 전송의 결과는 반영하지 않음")
+    void markSent_StaleLease_Ignored() {
+
+        // given
+        MailOutbox mail = saveMail();
+        LocalDateTime now = LocalDateTime.now();
+        claim(mail, now);
+        // 첫 번째 선점이 만료된 뒤 다른 서버가 다시 선점
+        assertEquals(1, mailOutboxRepository.claim(mail.getId(), now.plusMinutes(2), now.plusMinutes(3)));
+
+        // when
+        int updated = mailOutboxRepository.markSent(mail.getId(), 1);
+
+        // then
+        MailOutbox claimed = reload(mail);
+        assertEquals(0, updated);
+        assertEquals(MailStatus.SENDING, claimed.getStatus());
+        assertEquals(2, claimed.getAttempts());
+        assertEquals("<div>1234</div>", claimed.getContent());
+    }
+
+    /*-------------------------------------------------------- 재시도/실패 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("재시도 - 다른 선점의 시도 횟수이면 상태를 변경하지 않음")
+    void reschedule_StaleLease_Ignored() {
+
+        // given
+        MailOutbox mail = saveMail();
+        claim(mail, LocalDateTime.now());
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusMinutes(5);
+
+        // when & then
+        assertEquals(0, mailOutboxRepository.reschedule(mail.getId(), 2, nextAttemptAt, "error"));
+        assertEquals(1, mailOutboxRepository.reschedule(mail.getId(), 1, nextAttemptAt, "error"));
+        assertEquals(MailStatus.PENDING, reload(mail).getStatus());
+    }
+
+    @Test
+    @DisplayName("전송 실패 - 전송 실패로 변경하고 본문을 삭제 (이미 전송 완료된 메일은 변경하지 않음)")
+    void markFailed_Success() {
+
+        // given
+        MailOutbox failed = saveMail();
+        MailOutbox sent = saveMail();
+        claim(failed, LocalDateTime.now());
+        claim(sent, LocalDateTime.now());
+        mailOutboxRepository.markSent(sent.getId(), 1);
+
+        // when & then
+        assertEquals(1, mailOutboxRepository.markFailed(failed.getId(), 1, "error"));
+        assertEquals(0, mailOutboxRepository.markFailed(sent.getId(), 1, "error"));
+        assertEquals(MailStatus.FAILED, reload(failed).getStatus());
+        assertEquals("", reload(failed).getContent());
+        assertEquals(MailStatus.SENT, reload(sent).getStatus());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private MailOutbox saveMail() {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.of("user@example.com", "[SPOT] 이메일 확인 코드 : 1234", "<div>1234</div>"));
+        entityManager.flush();
+        return mail;
+    }
+
+    private void claim(MailOutbox mail, LocalDateTime now) {
+        assertEquals(1, mailOutboxRepository.claim(mail.getId(), now.plusSeconds(1), now.plusMinutes(1)));
+    }
+
+    private MailOutbox reload(MailOutbox mail) {
+        entityManager.clear();
+        return mailOutboxRepository.findById(mail.getId()).orElseThrow();
+    }
+}
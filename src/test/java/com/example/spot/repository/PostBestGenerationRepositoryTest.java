@@ -0,0 +1,92 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostBestGeneration;
+import com.example.spot.domain.PostBestSnapshot;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.PostRanking;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class PostBestGenerationRepositoryTest {
+
+    @Autowired
+    private PostBestGenerationRepository postBestGenerationRepository;
+    @Autowired
+    private PostBestSnapshotRepository postBestSnapshotRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    /*-------------------------------------------------------- 현재 세대 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("현재 세대 조회 - 인기글 종류별로 가장 최신 세대 ID 반환")
+    void findCurrentGenerationId_Success() {
+
+        // given
+        PostBestGeneration old = saveGeneration(PostRanking.RECOMMEND);
+        PostBestGeneration current = saveGeneration(PostRanking.RECOMMEND);
+        PostBestGeneration comment = saveGeneration(PostRanking.COMMENT);
+
+        // when & then
+        assertEquals(current.getId(), postBestGenerationRepository.findCurrentGenerationId(PostRanking.RECOMMEND));
+        assertEquals(comment.getId(), postBestGenerationRepository.findCurrentGenerationId(PostRanking.COMMENT));
+        assertNull(postBestGenerationRepository.findCurrentGenerationId(PostRanking.REAL_TIME));
+        assertTrue(old.getId() < current.getId());
+    }
+
+    /*-------------------------------------------------------- 이전 세대 정리 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("이전 세대 정리 - 같은 인기글 종류의 이전 세대와 스냅샷만 삭제")
+    void deleteOlderGenerations_Success() {
+
+        // given
+        PostBestGeneration old = saveGeneration(PostRanking.RECOMMEND);
+        PostBestGeneration comment = saveGeneration(PostRanking.COMMENT);
+        PostBestGeneration current = saveGeneration(PostRanking.RECOMMEND);
+        saveSnapshot(old, 1L);
+        saveSnapshot(comment, 2L);
+        saveSnapshot(current, 3L);
+        saveSnapshot(current, 4L);
+
+        // when
+        int deletedSnapshots = postBestSnapshotRepository.deleteOlderGenerations(PostRanking.RECOMMEND, current.getId());
+        int deletedGenerations = postBestGenerationRepository.deleteOlderGenerations(PostRanking.RECOMMEND, current.getId());
+        entityManager.clear();
+
+        // then
+        assertEquals(1, deletedSnapshots);
+        assertEquals(1, deletedGenerations);
+        assertTrue(postBestGenerationRepository.findById(old.getId()).isEmpty());
+        assertTrue(postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(old.getId()).isEmpty());
+        assertEquals(1, postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(comment.getId()).size());
+        assertEquals(2, postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(current.getId()).size());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private PostBestGeneration saveGeneration(PostRanking ranking) {
+        return postBestGenerationRepository.saveAndFlush(PostBestGeneration.of(ranking));
+    }
+
+    private void saveSnapshot(PostBestGeneration generation, Long postId) {
+        Post post = Post.builder()
+            .id(postId)
+            .title("게시글 " + postId)
+            .board(Board.FREE_TALK)
+            .postCommentList(new ArrayList<>())
+            .build();
+        postBestSnapshotRepository.saveAndFlush(PostBestSnapshot.of(generation, post, postId.intValue()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.LikedPost;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.Status;
+import com.example.spot.domain.mapping.MemberScrap;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 게시글 좋아요/스크랩/댓글 수의 원자적 증감과 좋아요/스크랩의 중복 방지 제약을 검증합니다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class PostReactionCounterRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private LikedPostRepository likedPostRepository;
+    @Autowired
+    private MemberScrapRepository memberScrapRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        member = saveMember("member@example.com");
+        post = savePost();
+        entityManager.flush();
+    }
+
+    /*-------------------------------------------------------- 카운터 증감 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("좋아요 수 - 증가와 감소가 반영되고 0 미만으로 내려가지 않음")
+    void likeNum_IncreaseAndDecrease_Success() {
+
+        // when
+        postRepository.increaseLikeNum(post.getId());
+        postRepository.increaseLikeNum(post.getId());
+        postRepository.decreaseLikeNum(post.getId());
+
+        // then
+        assertEquals(1, postRepository.findLikeNumById(post.getId()));
+        assertEquals(1, postRepository.decreaseLikeNum(post.getId()));
+        assertEquals(0, postRepository.decreaseLikeNum(post.getId()));
+        assertEquals(0, postRepository.findLikeNumById(post.getId()));
+    }
+
+    @Test
+    @DisplayName("스크랩 수 - 증가와 감소가 반영되고 0 미만으로 내려가지 않음")
+    void scrapNum_IncreaseAndDecrease_Success() {
+
+        // when
+        postRepository.increaseScrapNum(post.getId());
+        postRepository.decreaseScrapNum(post.getId());
+        int updated = postRepository.decreaseScrapNum(post.getId());
+
+        // then
+        assertEquals(0, updated);
+        assertEquals(0, postRepository.findScrapNumById(post.getId()));
+    }
+
+    @Test
+    @DisplayName("댓글 수 - 호출한 횟수만큼 증가")
+    void commentNum_Increase_Success() {
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            postRepository.increaseCommentNum(post.getId());
+        }
+
+        // then
+        assertEquals(3, postRepository.findCommentNumById(post.getId()));
+    }
+
+    /*-------------------------------------------------------- 중복 방지 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("좋아요 - 같은 회원이 같은 게시글에 다시 좋아요하면 유니크 제약 위반")
+    void likedPost_Duplicate_Fail() {
+
+        // given
+        likedPostRepository.saveAndFlush(new LikedPost(post, member));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+            () -> likedPostRepository.saveAndFlush(new LikedPost(post, member)));
+    }
+
+    @Test
+    @DisplayName("스크랩 - 같은 회원이 같은 게시글을 다시 스크랩하면 유니크 제약 위반")
+    void memberScrap_Duplicate_Fail() {
+
+        // given
+        memberScrapRepository.saveAndFlush(new MemberScrap(post, member));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+            () -> memberScrapRepository.saveAndFlush(new MemberScrap(post, member)));
+    }
+
+    @Test
+    @DisplayName("좋아요/스크랩 - 다른 회원이나 다른 게시글의 반응은 중복이 아님")
+    void reaction_DifferentMemberOrPost_Success() {
+
+        // given
+        Member other = saveMember("other@example.com");
+        Post otherPost = savePost();
+
+        // when
+        likedPostRepository.saveAndFlush(new LikedPost(post, member));
+        likedPostRepository.saveAndFlush(new LikedPost(post, other));
+        likedPostRepository.saveAndFlush(new LikedPost(otherPost, member));
+        memberScrapRepository.saveAndFlush(new MemberScrap(post, member));
+        memberScrapRepository.saveAndFlush(new MemberScrap(otherPost, member));
+
+        // then
+        assertEquals(List.of(), likedPostRepository.findDuplicateIds());
+        assertEquals(List.of(), memberScrapRepository.findDuplicateIds());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private Post savePost() {
+        Post post = Post.builder()
+            .isAdmin(false)
+            .isAnonymous(false)
+            .title("제목")
+            .content("내용")
+            .board(Board.FREE_TALK)
+            .member(member)
+            .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email(email)
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .status(Status.ON)
+            .build();
+        entityManager.persist(member);
+        return member;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.LikedPost;
+import com.example.spot.domain.LikedPostComment;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostComment;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.Status;
+import com.example.spot.domain.mapping.MemberScrap;
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 게시글/댓글 반응 조회 쿼리가 댓글·게시글 수와 관계없이 한 번의 SQL로 실행되는지 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QuerydslConfig.class)
+class PostReactionRepositoryTest {
+
+    @Autowired
+    private LikedPostCommentRepository likedPostCommentRepository;
+    @Autowired
+    private LikedPostRepository likedPostRepository;
+    @Autowired
+    private MemberScrapRepository memberScrapRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Member member;
+    private Member other;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        member = saveMember("member@example.com");
+        other = saveMember("other@example.com");
+    }
+
+    /*-------------------------------------------------------- 댓글 좋아요 집계 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("댓글 좋아요 집계 - 댓글 수와 관계없이 한 번의 쿼리로 집계")
+    void countByPostId_SingleStatement_Success() {
+
+        // given
+        Post post = savePost();
+        List<PostComment> comments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PostComment comment = saveComment(post);
+            comments.add(comment);
+            entityManager.persist(new LikedPostComment(comment, other, true));
+        }
+        entityManager.persist(new LikedPostComment(comments.get(0), member, true));
+        entityManager.persist(new LikedPostComment(comments.get(1), member, false));
+        flushAndClearStatistics();
+
+        // when
+        Map<Long, PostCommentReactionCount> counts = likedPostCommentRepository.countByPostId(post.getId(), member.getId())
+            .stream()
+            .collect(Collectors.toMap(PostCommentReactionCount::getPostCommentId, Function.identity()));
+
+        // then
+        assertEquals(1L, statistics.getPrepareStatementCount());
+        assertEquals(20, counts.size());
+        assertEquals(2L, counts.get(comments.get(0).getId()).getLikeCount());
+        assertTrue(counts.get(comments.get(0).getId()).isLikedByMember());
+        assertEquals(1L, counts.get(comments.get(1).getId()).getLikeCount());
+        assertTrue(counts.get(comments.get(1).getId()).isDislikedByMember());
+        assertFalse(counts.get(comments.get(2).getId()).isLikedByMember());
+        assertFalse(counts.get(comments.get(2).getId()).isDislikedByMember());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 집계 - 다른 게시글의 댓글은 집계하지 않음")
+    void countByPostId_OtherPost_Success() {
+
+        // given
+        Post post = savePost();
+        Post otherPost = savePost();
+        PostComment comment = saveComment(post);
+        entityManager.persist(new LikedPostComment(saveComment(otherPost), member, true));
+        entityManager.persist(new LikedPostComment(comment, member, true));
+        flushAndClearStatistics();
+
+        // when
+        List<PostCommentReactionCount> counts = likedPostCommentRepository.countByPostId(post.getId(), member.getId());
+
+        // then
+        assertEquals(1L, statistics.getPrepareStatementCount());
+        assertEquals(1, counts.size());
+        assertEquals(comment.getId(), counts.get(0).getPostCommentId());
+    }
+
+    /*-------------------------------------------------------- 게시글 좋아요/스크랩 여부 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 목록 좋아요/스크랩 여부 - 게시글 수와 관계없이 종류별 한 번의 쿼리로 회원의 반응만 조회")
+    void findPostIdsByMemberIdAndPostIdIn_SingleStatement_Success() {
+
+        // given
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Post post = savePost();
+            posts.add(post);
+            entityManager.persist(new LikedPost(post, other));
+            entityManager.persist(new MemberScrap(post, other));
+        }
+        entityManager.persist(new LikedPost(posts.get(0), member));
+        entityManager.persist(new MemberScrap(posts.get(1), member));
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        flushAndClearStatistics();
+
+        // when
+        List<Long> likedPostIds = likedPostRepository.findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds);
+        List<Long> scrapedPostIds = memberScrapRepository.findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds);
+
+        // then
+        assertEquals(2L, statistics.getPrepareStatementCount());
+        assertEquals(List.of(posts.get(0).getId()), likedPostIds);
+        assertEquals(List.of(posts.get(1).getId()), scrapedPostIds);
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void flushAndClearStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Post savePost() {
+        Post post = Post.builder()
+            .isAdmin(false)
+            .isAnonymous(false)
+            .title("제목")
+            .content("내용")
+            .board(Board.FREE_TALK)
+            .member(member)
+            .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private PostComment saveComment(Post post) {
+        PostComment comment = PostComment.builder()
+            .isAnonymous(false)
+            .content("댓글")
+            .post(post)
+            .member(member)
+            .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email(email)
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .status(Status.ON)
+            .build();
+        entityManager.persist(member);
+        return member;
+    }
+}
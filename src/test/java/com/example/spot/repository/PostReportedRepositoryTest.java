@@ -0,0 +1,189 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.PostStatus;
+import com.example.spot.domain.enums.Status;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class PostReportedRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = saveMember();
+    }
+
+    /*-------------------------------------------------------- 신고 여부 보정 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("신고 여부 보정 - 접수 중이거나 처리 상태가 없는 신고가 있으면 신고된 게시글로 변경")
+    void reconcileReported_Pending_Success() {
+
+        // given
+        Post pending = savePost();
+        Post legacy = savePost();
+        Post clean = savePost();
+        saveReport(pending, PostStatus.신고접수);
+        saveReport(legacy, null);
+
+        // when
+        int updated = postRepository.reconcileReported(PostStatus.정상);
+
+        // then
+        assertEquals(2, updated);
+        assertTrue(isReported(pending));
+        assertTrue(isReported(legacy));
+        assertFalse(isReported(clean));
+    }
+
+    @Test
+    @DisplayName("신고 여부 보정 - 삭제 처리된 신고가 있는 게시글은 계속 제외")
+    void reconcileReported_Deleted_Success() {
+
+        // given
+        Post post = savePost();
+        saveReport(post, PostStatus.신고접수);
+        postRepository.reconcileReported(PostStatus.정상);
+        updateReportStatus(post, PostStatus.삭제);
+
+        // when
+        int reported = postRepository.reconcileReported(PostStatus.정상);
+        int notReported = postRepository.reconcileNotReported(PostStatus.정상);
+
+        // then
+        assertEquals(0, reported);
+        assertEquals(0, notReported);
+        assertTrue(isReported(post));
+    }
+
+    @Test
+    @DisplayName("신고 여부 보정 - 신고가 모두 정상으로 처리되면 게시글을 다시 노출")
+    void reconcileNotReported_Dismissed_Success() {
+
+        // given
+        Post post = savePost();
+        saveReport(post, PostStatus.신고접수);
+        postRepository.reconcileReported(PostStatus.정상);
+        updateReportStatus(post, PostStatus.정상);
+
+        // when
+        int updated = postRepository.reconcileNotReported(PostStatus.정상);
+
+        // then
+        assertEquals(1, updated);
+        assertFalse(isReported(post));
+    }
+
+    @Test
+    @DisplayName("신고 여부 보정 - 정상 처리된 신고 외에 접수 중인 신고가 남아 있으면 계속 제외")
+    void reconcileNotReported_RemainingPending_Success() {
+
+        // given
+        Post post = savePost();
+        saveReport(post, PostStatus.정상);
+        saveReport(post, PostStatus.신고접수);
+        postRepository.reconcileReported(PostStatus.정상);
+
+        // when
+        int updated = postRepository.reconcileNotReported(PostStatus.정상);
+
+        // then
+        assertEquals(0, updated);
+        assertTrue(isReported(post));
+    }
+
+    /*-------------------------------------------------------- 게시글 목록 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 목록 - 신고된 게시글은 제외")
+    void findByIsReportedFalse_Success() {
+
+        // given
+        Post reported = savePost();
+        Post visible = savePost();
+        saveReport(reported, PostStatus.삭제);
+        postRepository.reconcileReported(PostStatus.정상);
+        entityManager.clear();
+
+        // when & then
+        assertEquals(1, postRepository.findByIsReportedFalseOrderByCreatedAtDesc(PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(visible.getId(), postRepository.findByBoardAndIsReportedFalseOrderByCreatedAtDesc(Board.FREE_TALK,
+            PageRequest.of(0, 10)).getContent().get(0).getId());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private boolean isReported(Post post) {
+        entityManager.flush();
+        entityManager.clear();
+        return postRepository.findById(post.getId()).orElseThrow().isReported();
+    }
+
+    private void saveReport(Post post, PostStatus status) {
+        entityManager.createNativeQuery(
+                "INSERT INTO post_report (content, post_status, post_id, member_id) VALUES ('신고', ?, ?, ?)")
+            .setParameter(1, status == null ? null : status.name())
+            .setParameter(2, post.getId())
+            .setParameter(3, member.getId())
+            .executeUpdate();
+    }
+
+    private void updateReportStatus(Post post, PostStatus status) {
+        entityManager.createNativeQuery("UPDATE post_report SET post_status = ? WHERE post_id = ?")
+            .setParameter(1, status.name())
+            .setParameter(2, post.getId())
+            .executeUpdate();
+    }
+
+    private Post savePost() {
+        Post post = Post.builder()
+            .title("제목")
+            .content("내용")
+            .board(Board.FREE_TALK)
+            .member(member)
+            .build();
+        entityManager.persist(post);
+        entityManager.flush();
+        return post;
+    }
+
+    private Member saveMember() {
+        Member member = Member.builder()
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email("member@example.com")
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .status(Status.ON)
+            .build();
+        entityManager.persist(member);
+        return member;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.spot.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.config.QuerydslConfig;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.ApplicationStatus;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.Status;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.domain.mapping.MemberStudy;
+import com.example.spot.domain.study.Study;
+import com.example.spot.repository.querydsl.StudyCursor;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+class StudyRepositoryTest {
+
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    /*-------------------------------------------------------- 승인된 회원 수 증감 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("승인된 회원 수 증가 - 정원 이내에서만 증가")
+    void increaseApprovedMemberCount_Success() {
+
+        // given
+        Long studyId = saveStudy(2L).getId();
+
+        // when
+        int first = studyRepository.increaseApprovedMemberCount(studyId);
+        int second = studyRepository.increaseApprovedMemberCount(studyId);
+        int full = studyRepository.increaseApprovedMemberCount(studyId);
+
+        // then
+        assertEquals(1, first);
+        assertEquals(1, second);
+        assertEquals(0, full);
+        assertEquals(2L, findApprovedMemberCount(studyId));
+    }
+
+    @Test
+    @DisplayName("승인된 회원 수 감소 - 0 미만으로 감소하지 않음")
+    void decreaseApprovedMemberCount_Success() {
+
+        // given
+        Long studyId = saveStudy(2L).getId();
+        studyRepository.increaseApprovedMemberCount(studyId);
+
+        // when
+        int first = studyRepository.decreaseApprovedMemberCount(studyId);
+        int empty = studyRepository.decreaseApprovedMemberCount(studyId);
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, empty);
+        assertEquals(0L, findApprovedMemberCount(studyId));
+    }
+
+    @Test
+    @DisplayName("승인된 회원 수 - 엔티티 flush가 원자적 UPDATE 결과를 덮어쓰지 않음")
+    void approvedMemberCount_NotOverwrittenByFlush_Success() {
+
+        // given
+        Study study = saveStudy(3L);
+        studyRepository.increaseApprovedMemberCount(study.getId());
+        study.increaseApprovedMemberCount();
+
+        // when - 다른 트랜잭션의 증가를 흉내내어 DB 값만 한 번 더 증가
+        studyRepository.increaseApprovedMemberCount(study.getId());
+        entityManager.flush();
+
+        // then
+        assertEquals(2L, findApprovedMemberCount(study.getId()));
+    }
+
+    /*-------------------------------------------------------- 승인된 회원 수 보정 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("승인된 회원 수 보정 - member_study 기준으로 값이 다른 스터디만 갱신")
+    void reconcileApprovedMemberCount_Success() {
+
+        // given
+        Study study = saveStudy(5L);
+        Study reconciled = saveStudy(5L);
+        Member owner = saveMember("owner@example.com");
+        Member applicant = saveMember("applicant@example.com");
+        saveMemberStudy(owner, study, ApplicationStatus.APPROVED);
+        saveMemberStudy(applicant, study, ApplicationStatus.APPLIED);
+        saveMemberStudy(owner, reconciled, ApplicationStatus.APPROVED);
+        studyRepository.increaseApprovedMemberCount(reconciled.getId());
+
+        // when
+        int updated = studyRepository.reconcileApprovedMemberCount(ApplicationStatus.APPROVED);
+
+        // then
+        assertEquals(1, updated);
+        assertEquals(1L, findApprovedMemberCount(study.getId()));
+        assertEquals(1L, findApprovedMemberCount(reconciled.getId()));
+    }
+
+    /*-------------------------------------------------------- 커서 페이징 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("커서 페이징 - 정렬 값이 같은 스터디는 커서의 ID보다 작은 스터디만 이어서 조회")
+    void findAllStudyByConditionsAfterCursor_TieBreakById_Success() {
+
+        // given
+        Study first = saveStudy(5L);
+        Study second = saveStudy(5L);
+        Study third = saveStudy(5L);
+        Study popular = saveStudy(5L);
+        studyRepository.increaseHitNum(List.of(first.getId(), second.getId(), third.getId()), 3L);
+        studyRepository.increaseHitNum(List.of(popular.getId()), 10L);
+        entityManager.flush();
+        entityManager.clear();
+        StudyCursor cursor = StudyCursor.of(studyRepository.findById(third.getId()).orElseThrow(), StudySortBy.HIT);
+
+        // when
+        List<Study> studies = studyRepository.findAllStudyByConditionsAfterCursor(Map.of(), StudySortBy.HIT, cursor, 10);
+
+        // then
+        assertEquals(List.of(second.getId(), first.getId()), studies.stream().map(Study::getId).toList());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private long findApprovedMemberCount(Long studyId) {
+        entityManager.flush();
+        entityManager.clear();
+        return studyRepository.findById(studyId).orElseThrow().getApprovedMemberCount();
+    }
+
+    private Study saveStudy(Long maxPeople) {
+        Study study = Study.builder()
+            .gender(Gender.UNKNOWN)
+            .minAge(20)
+            .maxAge(30)
+            .fee(0)
+            .profileImage("image.png")
+            .hasFee(false)
+            .isOnline(true)
+            .goal("목표")
+            .introduction("소개")
+            .title("스프링 스터디")
+            .maxPeople(maxPeople)
+            .build();
+        return studyRepository.saveAndFlush(study);
+    }
+
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email(email)
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .status(Status.ON)
+            .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private void saveMemberStudy(Member member, Study study, ApplicationStatus status) {
+        entityManager.persist(MemberStudy.builder()
+            .isOwned(false)
+            .introduction("소개")
+            .member(member)
+            .study(study)
+            .status(status)
+            .build());
+        entityManager.flush();
+    }
+}
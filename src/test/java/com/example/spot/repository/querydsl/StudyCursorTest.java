@@ -0,0 +1,138 @@
+package com.example.spot.repository.querydsl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.StudyHandler;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.domain.study.Study;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StudyCursorTest {
+
+    /*-------------------------------------------------------- 인코딩 / 디코딩 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("커서 인코딩 - 조회수 정렬 커서를 인코딩한 뒤 디코딩하면 같은 값을 반환")
+    void encodeDecode_Hit_Success() {
+
+        // given
+        Study study = createStudy(7L, 120L, null);
+
+        // when
+        String encoded = StudyCursor.of(study, StudySortBy.HIT).encode();
+        StudyCursor decoded = StudyCursor.decode(encoded, StudySortBy.HIT);
+
+        // then
+        assertEquals(StudySortBy.HIT, decoded.getSortBy());
+        assertEquals(120L, decoded.getSortValue());
+        assertNull(decoded.getCreatedAt());
+        assertEquals(7L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("커서 인코딩 - 생성일 정렬 커서를 인코딩한 뒤 디코딩하면 같은 값을 반환")
+    void encodeDecode_CreatedAt_Success() {
+
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_000_000);
+        Study study = createStudy(3L, 0L, createdAt);
+
+        // when
+        String encoded = StudyCursor.of(study, StudySortBy.RECRUITING).encode();
+        StudyCursor decoded = StudyCursor.decode(encoded, StudySortBy.RECRUITING);
+
+        // then
+        assertNull(decoded.getSortValue());
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(3L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 커서가 비어있으면 첫 페이지로 처리")
+    void decode_Blank_ReturnsNull() {
+
+        // when & then
+        assertNull(StudyCursor.decode(null, StudySortBy.ALL));
+        assertNull(StudyCursor.decode(" ", StudySortBy.ALL));
+    }
+
+    /*-------------------------------------------------------- 유효하지 않은 커서 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("커서 디코딩 - Base64 형식이 아니면 예외 발생")
+    void decode_NotBase64_Fail() {
+
+        // when & then
+        StudyHandler exception = assertThrows(StudyHandler.class, () -> StudyCursor.decode("!!not-a-cursor!!", StudySortBy.ALL));
+        assertEquals(ErrorStatus._STUDY_CURSOR_INVALID, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 요청한 정렬 기준과 커서의 정렬 기준이 다르면 예외 발생")
+    void decode_SortByMismatch_Fail() {
+
+        // given
+        String encoded = StudyCursor.of(createStudy(7L, 120L, null), StudySortBy.HIT).encode();
+
+        // when & then
+        StudyHandler exception = assertThrows(StudyHandler.class, () -> StudyCursor.decode(encoded, StudySortBy.LIKED));
+        assertEquals(ErrorStatus._STUDY_CURSOR_INVALID, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 정렬 값이나 ID가 숫자가 아니면 예외 발생")
+    void decode_MalformedValue_Fail() {
+
+        // given
+        String encoded = encode("HIT|many|7");
+
+        // when & then
+        StudyHandler exception = assertThrows(StudyHandler.class, () -> StudyCursor.decode(encoded, StudySortBy.HIT));
+        assertEquals(ErrorStatus._STUDY_CURSOR_INVALID, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 구성 요소 수가 맞지 않으면 예외 발생")
+    void decode_MissingToken_Fail() {
+
+        // given
+        String encoded = encode("ALL|2024-07-01T12:30:15");
+
+        // when & then
+        StudyHandler exception = assertThrows(StudyHandler.class, () -> StudyCursor.decode(encoded, StudySortBy.ALL));
+        assertEquals(ErrorStatus._STUDY_CURSOR_INVALID, exception.getStatus());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Study createStudy(Long id, Long hitNum, LocalDateTime createdAt) {
+        Study study = Study.builder()
+            .gender(Gender.UNKNOWN)
+            .minAge(20)
+            .maxAge(30)
+            .fee(0)
+            .profileImage("image.png")
+            .hasFee(false)
+            .isOnline(true)
+            .goal("목표")
+            .introduction("소개")
+            .title("스프링 스터디")
+            .maxPeople(5L)
+            .build();
+        ReflectionTestUtils.setField(study, "id", id);
+        ReflectionTestUtils.setField(study, "hitNum", hitNum);
+        ReflectionTestUtils.setField(study, "createdAt", createdAt);
+        return study;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.spot.repository.verification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.repository.verification.ExpiryWheel.Timeout;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiryWheelTest {
+
+    // 1초 틱, 4개 슬롯 (한 바퀴 4초)
+    private ExpiryWheel expiryWheel;
+
+    @BeforeEach
+    void setUp() {
+        expiryWheel = new ExpiryWheel(1_000, 4, 0);
+    }
+
+    /*-------------------------------------------------------- 만료 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("만료 - 만료 시각 전에는 꺼내지 않고, 만료 시각 이후 첫 틱에 꺼냄")
+    void expire_AtExpiry_Success() {
+
+        // given
+        expiryWheel.schedule("a", 1_500);
+
+        // when & then
+        assertTrue(expiryWheel.expire(1_000).isEmpty());
+        assertTrue(expiryWheel.expire(1_999).isEmpty());
+        assertEquals(List.of(new Timeout("a", 1_500)), expiryWheel.expire(2_000));
+    }
+
+    @Test
+    @DisplayName("만료 - 꺼낸 키는 다시 꺼내지 않음")
+    void expire_Once_Success() {
+
+        // given
+        expiryWheel.schedule("a", 1_000);
+        expiryWheel.expire(1_000);
+
+        // when & then
+        assertTrue(expiryWheel.expire(2_000).isEmpty());
+        assertTrue(expiryWheel.expire(6_000).isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료 - 휠 한 바퀴보다 늦게 만료되는 키는 같은 슬롯을 지나도 만료 시각까지 유지")
+    void expire_LaterRound_Kept() {
+
+        // given
+        expiryWheel.schedule("a", 5_500);
+
+        // when & then
+        assertTrue(expiryWheel.expire(2_000).isEmpty());
+        assertTrue(expiryWheel.expire(5_999).isEmpty());
+        assertEquals(List.of(new Timeout("a", 5_500)), expiryWheel.expire(6_000));
+    }
+
+    @Test
+    @DisplayName("만료 - 한 바퀴 이상 확인하지 못한 경우 모든 슬롯을 한 번씩 확인")
+    void expire_Lagging_AllExpired() {
+
+        // given
+        expiryWheel.schedule("a", 1_000);
+        expiryWheel.schedule("b", 2_500);
+        expiryWheel.schedule("c", 7_000);
+
+        // when
+        List<Timeout> expired = expiryWheel.expire(100_000);
+
+        // then
+        assertEquals(3, expired.size());
+        assertTrue(expiryWheel.expire(101_000).isEmpty());
+    }
+
+    /*-------------------------------------------------------- 등록 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("등록 - 이미 지나간 틱에 해당하는 키는 다음 틱에 꺼냄")
+    void schedule_PastTick_NextTick() {
+
+        // given
+        expiryWheel.expire(3_000);
+
+        // when
+        expiryWheel.schedule("a", 1_000);
+
+        // then
+        assertEquals(List.of(new Timeout("a", 1_000)), expiryWheel.expire(4_000));
+    }
+
+    @Test
+    @DisplayName("등록 - 같은 키를 갱신하면 이전 등록과 새 등록이 각각 만료 시각에 꺼내짐")
+    void schedule_Overwritten_BothReturned() {
+
+        // given
+        expiryWheel.schedule("a", 1_000);
+        expiryWheel.schedule("a", 3_000);
+
+        // when & then
+        assertEquals(List.of(new Timeout("a", 1_000)), expiryWheel.expire(1_000));
+        assertTrue(expiryWheel.expire(2_000).isEmpty());
+        assertEquals(List.of(new Timeout("a", 3_000)), expiryWheel.expire(3_000));
+    }
+}
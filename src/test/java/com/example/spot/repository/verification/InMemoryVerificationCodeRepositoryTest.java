@@ -0,0 +1,216 @@
+package com.example.spot.repository.verification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.MemberHandler;
+import com.example.spot.domain.auth.VerificationCode;
+import com.example.spot.web.dto.token.TokenResponseDTO.TempTokenDTO;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InMemoryVerificationCodeRepositoryTest {
+
+    private static final String EMAIL = "member@example.com";
+    private static final long EXPIRATION_TIME = 60_000L;
+
+    private MutableClock clock;
+    private InMemoryVerificationCodeRepository verificationCodeRepository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(1_000_000L);
+        verificationCodeRepository = new InMemoryVerificationCodeRepository(clock);
+        ReflectionTestUtils.setField(verificationCodeRepository, "TEMP_TOKEN_EXPIRATION_TIME", EXPIRATION_TIME);
+    }
+
+    /*-------------------------------------------------------- 인증 코드 저장 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인증 코드 저장 - 저장한 코드를 이메일로 조회")
+    void addVerificationCode_Success() {
+
+        // when
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+
+        // then
+        VerificationCode verificationCode = verificationCodeRepository.getVerificationCode(EMAIL);
+        assertEquals("123456", verificationCode.getCode());
+        assertEquals(EMAIL, verificationCode.getEmail());
+    }
+
+    @Test
+    @DisplayName("인증 코드 저장 - 다시 요청하면 코드와 만료 시각을 갱신")
+    void addVerificationCode_Overwritten_Success() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        clock.advance(30_000L);
+
+        // when
+        verificationCodeRepository.addVerificationCode(EMAIL, "654321");
+        clock.advance(40_000L);
+        verificationCodeRepository.removeExpiredCodes();
+
+        // then
+        assertEquals("654321", verificationCodeRepository.getVerificationCode(EMAIL).getCode());
+        assertEquals(1, verificationCodes().size());
+    }
+
+    @Test
+    @DisplayName("인증 코드 저장 - 이메일이나 코드가 없으면 저장하지 않음")
+    void addVerificationCode_Null_Skipped() {
+
+        // when
+        verificationCodeRepository.addVerificationCode(null, "123456");
+        verificationCodeRepository.addVerificationCode(EMAIL, null);
+
+        // then
+        assertTrue(verificationCodes().isEmpty());
+    }
+
+    /*-------------------------------------------------------- 인증 코드 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인증 코드 조회 - 저장되지 않은 이메일이면 인증되지 않은 회원 예외")
+    void getVerificationCode_NotFound_Fail() {
+
+        // when & then
+        MemberHandler exception = assertThrows(MemberHandler.class,
+            () -> verificationCodeRepository.getVerificationCode(EMAIL));
+        assertEquals(ErrorStatus._MEMBER_NOT_VERIFIED, exception.getStatus());
+    }
+
+    /*-------------------------------------------------------- 만료 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("만료 - 만료 시각이 지나면 조회되지 않고 만료 처리 시 삭제")
+    void removeExpiredCodes_Expired_Removed() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        clock.advance(EXPIRATION_TIME);
+
+        // when
+        verificationCodeRepository.removeExpiredCodes();
+
+        // then
+        assertThrows(MemberHandler.class, () -> verificationCodeRepository.getVerificationCode(EMAIL));
+        assertTrue(verificationCodes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료 - 만료 시각 전에는 삭제하지 않음")
+    void removeExpiredCodes_NotExpired_Kept() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        clock.advance(EXPIRATION_TIME - 1_000L);
+
+        // when
+        verificationCodeRepository.removeExpiredCodes();
+
+        // then
+        assertEquals("123456", verificationCodeRepository.getVerificationCode(EMAIL).getCode());
+    }
+
+    @Test
+    @DisplayName("만료 - 갱신된 코드는 이전 만료 시각이 지나도 새 만료 시각까지 유지")
+    void removeExpiredCodes_Overwritten_KeptUntilNewExpiry() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        clock.advance(30_000L);
+        verificationCodeRepository.addVerificationCode(EMAIL, "654321");
+
+        // when
+        clock.advance(30_000L);
+        verificationCodeRepository.removeExpiredCodes();
+        boolean keptAfterFirstExpiry = verificationCodes().containsKey(EMAIL);
+        clock.advance(30_000L);
+        verificationCodeRepository.removeExpiredCodes();
+
+        // then
+        assertTrue(keptAfterFirstExpiry);
+        assertTrue(verificationCodes().isEmpty());
+    }
+
+    /*-------------------------------------------------------- 임시 토큰 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("임시 토큰 - 인증된 코드를 임시 토큰으로 교체하고 만료 시각을 연장")
+    void setTempToken_Success() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        clock.advance(50_000L);
+        VerificationCode verificationCode = verificationCodeRepository.getVerificationCode(EMAIL);
+
+        // when
+        verificationCodeRepository.setTempToken(new TempTokenDTO("temp-token", EXPIRATION_TIME), verificationCode);
+        clock.advance(50_000L);
+        verificationCodeRepository.removeExpiredCodes();
+
+        // then
+        assertEquals("temp-token", verificationCodeRepository.getVerificationCode(EMAIL).getCode());
+    }
+
+    @Test
+    @DisplayName("임시 토큰 - 이미 만료되어 삭제된 코드는 다시 생성하지 않음")
+    void setTempToken_Removed_Skipped() {
+
+        // given
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        VerificationCode verificationCode = verificationCodeRepository.getVerificationCode(EMAIL);
+        clock.advance(EXPIRATION_TIME);
+        verificationCodeRepository.removeExpiredCodes();
+
+        // when
+        verificationCodeRepository.setTempToken(new TempTokenDTO("temp-token", EXPIRATION_TIME), verificationCode);
+
+        // then
+        assertTrue(verificationCodes().isEmpty());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    @SuppressWarnings("unchecked")
+    private Map<String, VerificationCode> verificationCodes() {
+        return (Map<String, VerificationCode>) ReflectionTestUtils.getField(verificationCodeRepository, "verificationCodes");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long duration) {
+            millis += duration;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
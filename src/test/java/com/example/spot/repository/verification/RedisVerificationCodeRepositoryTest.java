@@ -0,0 +1,124 @@
+package com.example.spot.repository.verification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.MemberHandler;
+import com.example.spot.domain.auth.VerificationCode;
+import com.example.spot.web.dto.token.TokenResponseDTO.TempTokenDTO;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisVerificationCodeRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisVerificationCodeRepository verificationCodeRepository;
+
+    private static final String EMAIL = "member@example.com";
+    private static final String KEY = "verification-code:" + EMAIL;
+    private static final Duration TTL = Duration.ofMillis(60_000L);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(verificationCodeRepository, "TEMP_TOKEN_EXPIRATION_TIME", 60_000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    /*-------------------------------------------------------- 인증 코드 저장 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인증 코드 저장 - 임시 토큰 만료 시간을 TTL로 저장 (다시 요청하면 덮어씀)")
+    void addVerificationCode_Success() {
+
+        // when
+        verificationCodeRepository.addVerificationCode(EMAIL, "123456");
+        verificationCodeRepository.addVerificationCode(EMAIL, "654321");
+
+        // then
+        verify(valueOperations).set(KEY, "123456", TTL);
+        verify(valueOperations).set(KEY, "654321", TTL);
+    }
+
+    @Test
+    @DisplayName("인증 코드 저장 - 이메일이나 코드가 없으면 저장하지 않음")
+    void addVerificationCode_Null_Skipped() {
+
+        // when
+        verificationCodeRepository.addVerificationCode(null, "123456");
+        verificationCodeRepository.addVerificationCode(EMAIL, null);
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    /*-------------------------------------------------------- 인증 코드 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인증 코드 조회 - 저장된 코드를 반환")
+    void getVerificationCode_Success() {
+
+        // given
+        when(valueOperations.get(KEY)).thenReturn("123456");
+
+        // when
+        VerificationCode verificationCode = verificationCodeRepository.getVerificationCode(EMAIL);
+
+        // then
+        assertEquals("123456", verificationCode.getCode());
+        assertEquals(EMAIL, verificationCode.getEmail());
+    }
+
+    @Test
+    @DisplayName("인증 코드 조회 - 만료되어 Redis에 없는 경우 인증되지 않은 회원 예외")
+    void getVerificationCode_Expired_Fail() {
+
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null);
+
+        // when & then
+        MemberHandler exception = assertThrows(MemberHandler.class,
+            () -> verificationCodeRepository.getVerificationCode(EMAIL));
+        assertEquals(ErrorStatus._MEMBER_NOT_VERIFIED, exception.getStatus());
+    }
+
+    /*-------------------------------------------------------- 임시 토큰 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("임시 토큰 - 코드가 남아 있는 경우에만 임시 토큰으로 교체")
+    void setTempToken_Success() {
+
+        // given
+        VerificationCode verificationCode = VerificationCode.builder().email(EMAIL).code("123456").build();
+
+        // when
+        verificationCodeRepository.setTempToken(new TempTokenDTO("temp-token", 60_000L), verificationCode);
+
+        // then
+        verify(valueOperations).setIfPresent(KEY, "temp-token", TTL);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertNotNull(verificationCode.getExpiredAt());
+    }
+}
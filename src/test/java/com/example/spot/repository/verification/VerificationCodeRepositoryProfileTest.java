@@ -0,0 +1,49 @@
+package com.example.spot.repository.verification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 프로필에 따라 인증 코드 저장소가 하나만 등록되는지 검증합니다.
+ */
+class VerificationCodeRepositoryProfileTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(InMemoryVerificationCodeRepository.class, RedisVerificationCodeRepository.class)
+        .withBean(RedisTemplate.class, () -> mock(RedisTemplate.class))
+        .withPropertyValues("token.temp_token_expiration_time=60000");
+
+    @Test
+    @DisplayName("프로필 - local 프로필에서는 메모리 저장소를 사용")
+    void localProfile_InMemory() {
+        contextRunner
+            .withPropertyValues("spring.profiles.active=local")
+            .run(context -> {
+                assertEquals(1, context.getBeansOfType(VerificationCodeRepository.class).size());
+                assertInstanceOf(InMemoryVerificationCodeRepository.class, context.getBean(VerificationCodeRepository.class));
+            });
+    }
+
+    @Test
+    @DisplayName("프로필 - local 이외의 프로필에서는 Redis 저장소를 사용")
+    void otherProfile_Redis() {
+        contextRunner
+            .withPropertyValues("spring.profiles.active=dev")
+            .run(context -> {
+                assertEquals(1, context.getBeansOfType(VerificationCodeRepository.class).size());
+                assertInstanceOf(RedisVerificationCodeRepository.class, context.getBean(VerificationCodeRepository.class));
+            });
+    }
+
+    @Test
+    @DisplayName("프로필 - 프로필이 없으면 Redis 저장소를 사용")
+    void noProfile_Redis() {
+        contextRunner.run(context ->
+            assertInstanceOf(RedisVerificationCodeRepository.class, context.getBean(VerificationCodeRepository.class)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.spot.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.PostRepository;
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.service.hitcount.HitCountBuffer;
+import com.example.spot.service.post.PostLeaderboard;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HitCountFlushSchedulerTest {
+
+    @Spy
+    private HitCountBuffer hitCountBuffer = new HitCountBuffer();
+    @Mock
+    private StudyRepository studyRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private PostLeaderboard postLeaderboard;
+
+    @InjectMocks
+    private HitCountFlushScheduler hitCountFlushScheduler;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    /*-------------------------------------------------------- 조회수 반영 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("조회수 반영 - 증가분이 같은 스터디끼리 묶어 한 번에 반영")
+    void flushHitCounts_GroupByHit_Success() {
+
+        // given
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increaseStudyHit(2L);
+        hitCountBuffer.increaseStudyHit(3L);
+        hitCountBuffer.increaseStudyHit(3L);
+
+        // when
+        hitCountFlushScheduler.flushHitCounts();
+
+        // then
+        verify(studyRepository).increaseHitNum(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1L));
+        verify(studyRepository).increaseHitNum(List.of(3L), 2L);
+        assertEquals(0L, hitCountBuffer.getPendingStudyHit(3L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 게시글 조회수를 반영한 뒤 실시간 인기글 점수에 반영")
+    void flushHitCounts_Post_Success() {
+
+        // given
+        hitCountBuffer.increasePostHit(1L);
+
+        // when
+        hitCountFlushScheduler.flushHitCounts();
+
+        // then
+        verify(postRepository).increaseHitNum(List.of(1L), 1);
+        verify(postLeaderboard).increaseRealTimeScores(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 누적된 조회수가 없으면 쿼리를 실행하지 않음")
+    void flushHitCounts_Empty_Success() {
+
+        // when
+        hitCountFlushScheduler.flushHitCounts();
+
+        // then
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 실패한 경우 꺼낸 증가분을 버퍼에 복구")
+    void flushHitCounts_Failure_Restored() {
+
+        // given
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increasePostHit(2L);
+        when(studyRepository.increaseHitNum(anyList(), anyLong())).thenThrow(new QueryTimeoutException("timeout"));
+        when(postRepository.increaseHitNum(anyList(), anyInt())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        hitCountFlushScheduler.flushHitCounts();
+
+        // then
+        assertEquals(1L, hitCountBuffer.getPendingStudyHit(1L));
+        assertEquals(1L, hitCountBuffer.getPendingPostHit(2L));
+        verify(postLeaderboard, never()).increaseRealTimeScores(any());
+    }
+}
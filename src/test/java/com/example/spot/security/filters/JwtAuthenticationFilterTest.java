@@ -0,0 +1,212 @@
+package com.example.spot.security.filters;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.domain.auth.TempUserDetails;
+import com.example.spot.security.utils.JwtTokenProvider;
+import com.example.spot.service.member.MemberService;
+import com.example.spot.service.member.UserDetailsServiceCustom;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "spot-test-secret-key-for-hs256-signing";
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Mock
+    private MemberService memberService;
+    @Mock
+    private UserDetailsServiceCustom userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = tokenProvider(SECRET, HOUR);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, memberService, userDetailsService);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation ->
+            new TempUserDetails(invocation.getArgument(0), List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /*-------------------------------------------------------- 인증 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인증 - 유효한 액세스 토큰이면 회원 ID로 인증하고 다음 필터로 진행")
+    void doFilter_ValidToken_Authenticated() throws Exception {
+
+        // given
+        MockFilterChain filterChain = new MockFilterChain();
+        String accessToken = jwtTokenProvider.createToken(1L).getAccessToken();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", accessToken), new MockHttpServletResponse(), filterChain);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("1", ((TempUserDetails) authentication.getPrincipal()).getUsername());
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("인증 - 같은 토큰으로 다시 요청해도 같은 회원으로 인증")
+    void doFilter_RepeatedToken_Authenticated() throws Exception {
+
+        // given
+        String accessToken = jwtTokenProvider.createToken(7L).getAccessToken();
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", accessToken), new MockHttpServletResponse(),
+            new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", new String(accessToken)), new MockHttpServletResponse(),
+            filterChain);
+
+        // then
+        verify(userDetailsService, times(2)).loadUserByUsername("7");
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("인증 - 토큰이 없으면 인증 없이 다음 필터로 진행")
+    void doFilter_NoToken_Passed() throws Exception {
+
+        // given
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", null), new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(filterChain.getRequest());
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("임시 토큰 인증 - 회원가입 요청은 임시 토큰의 이메일로 인증")
+    void doFilter_TempToken_Authenticated() throws Exception {
+
+        // given
+        String tempToken = jwtTokenProvider.createTempToken("member@example.com").getTempToken();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request("/spot/sign-up", tempToken), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // then
+        verify(userDetailsService).loadUserByUsername("member@example.com");
+    }
+
+    /*-------------------------------------------------------- 유효하지 않은 토큰 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 다른 키로 서명된 토큰은 거부")
+    void doFilter_ForgedSignature_Rejected() throws Exception {
+
+        // given
+        String forged = tokenProvider("another-secret-key-for-forging-hs256-token", HOUR).createToken(1L).getAccessToken();
+
+        // when & then
+        assertRejected(forged, ErrorStatus._INVALID_JWT);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 캐시된 토큰의 서명만 바꾼 토큰은 거부")
+    void doFilter_TamperedCachedToken_Rejected() throws Exception {
+
+        // given
+        String accessToken = jwtTokenProvider.createToken(1L).getAccessToken();
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", accessToken), new MockHttpServletResponse(),
+            new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        char last = accessToken.charAt(accessToken.length() - 2);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (last == 'A' ? 'B' : 'A')
+            + accessToken.charAt(accessToken.length() - 1);
+
+        // when & then
+        assertRejected(tampered, ErrorStatus._INVALID_JWT);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 형식이 잘못된 토큰은 거부")
+    void doFilter_MalformedToken_Rejected() throws Exception {
+
+        // when & then
+        assertRejected("not-a-jwt", ErrorStatus._INVALID_JWT);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 만료된 토큰은 만료 오류로 거부")
+    void doFilter_ExpiredToken_Rejected() throws Exception {
+
+        // given
+        String expired = tokenProvider(SECRET, -HOUR).createToken(1L).getAccessToken();
+
+        // when & then
+        assertRejected(expired, ErrorStatus._EXPIRED_JWT);
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void assertRejected(String token, ErrorStatus status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        jwtAuthenticationFilter.doFilter(request("/spot/posts", token), response, filterChain);
+
+        assertEquals(400, response.getStatus());
+        assertEquals("Invalid JWT token: " + status.getMessage(), response.getContentAsString());
+        assertNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (token != null)
+            request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static JwtTokenProvider tokenProvider(String secret, long accessTokenExpirationTime) {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "JWT_SECRET_KEY", secret);
+        ReflectionTestUtils.setField(tokenProvider, "ACCESS_TOKEN_EXPIRATION_TIME", accessTokenExpirationTime);
+        ReflectionTestUtils.setField(tokenProvider, "REFRESH_TOKEN_EXPIRATION_TIME", accessTokenExpirationTime);
+        ReflectionTestUtils.setField(tokenProvider, "TEMP_TOKEN_EXPIRATION_TIME", HOUR);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        return tokenProvider;
+    }
+}
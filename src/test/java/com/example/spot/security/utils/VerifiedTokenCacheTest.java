@@ -0,0 +1,121 @@
+package com.example.spot.security.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private AtomicLong clock;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(NOW);
+        verifiedTokenCache = new VerifiedTokenCache(3, clock::get);
+    }
+
+    /*-------------------------------------------------------- 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("캐시 조회 - 만료 전에는 같은 토큰의 클레임을 반환")
+    void get_Hit_Success() {
+
+        // given
+        Claims claims = claims(1L, NOW + 1_000);
+        verifiedTokenCache.put("token-1", claims);
+
+        // when & then
+        assertSame(claims, verifiedTokenCache.get(new String("token-1")));
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 한 글자라도 다른 토큰은 적중하지 않음")
+    void get_DifferentToken_Miss() {
+
+        // given
+        verifiedTokenCache.put("header.payload.signature", claims(1L, NOW + 1_000));
+
+        // when & then
+        assertNull(verifiedTokenCache.get("header.payload.signaturf"));
+        assertNull(verifiedTokenCache.get("header.payload"));
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 만료 시각이 지나면 적중하지 않고 제거")
+    void get_Expired_Miss() {
+
+        // given
+        verifiedTokenCache.put("token-1", claims(1L, NOW + 1_000));
+
+        // when
+        clock.set(NOW + 1_000);
+
+        // then
+        assertNull(verifiedTokenCache.get("token-1"));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    /*-------------------------------------------------------- 저장 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("캐시 저장 - 만료 시각이 없는 토큰은 저장하지 않음")
+    void put_NoExpiration_Skipped() {
+
+        // when
+        verifiedTokenCache.put("token-1", Jwts.claims().setSubject("1"));
+
+        // then
+        assertNull(verifiedTokenCache.get("token-1"));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("캐시 저장 - 용량을 넘으면 만료된 토큰부터 제거")
+    void put_OverCapacity_ExpiredEvicted() {
+
+        // given
+        verifiedTokenCache.put("token-1", claims(1L, NOW + 1_000));
+        verifiedTokenCache.put("token-2", claims(2L, NOW + 5_000));
+        verifiedTokenCache.put("token-3", claims(3L, NOW + 5_000));
+        clock.set(NOW + 2_000);
+
+        // when
+        verifiedTokenCache.put("token-4", claims(4L, NOW + 5_000));
+
+        // then
+        assertEquals(3, verifiedTokenCache.size());
+        assertNull(verifiedTokenCache.get("token-1"));
+        assertNotNull(verifiedTokenCache.get("token-2"));
+        assertNotNull(verifiedTokenCache.get("token-3"));
+        assertNotNull(verifiedTokenCache.get("token-4"));
+    }
+
+    @Test
+    @DisplayName("캐시 저장 - 만료된 토큰이 없어도 용량을 넘지 않음")
+    void put_OverCapacity_Bounded() {
+
+        // when
+        for (long i = 1; i <= 10; i++)
+            verifiedTokenCache.put("token-" + i, claims(i, NOW + 5_000));
+
+        // then
+        assertEquals(3, verifiedTokenCache.size());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static Claims claims(Long memberId, long expiresAt) {
+        Claims claims = Jwts.claims().setExpiration(new Date(expiresAt));
+        claims.put("memberId", memberId);
+        return claims;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.spot.service.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.MemberHandler;
+import com.example.spot.config.HttpClientCircuitBreaker;
+import com.example.spot.config.RestTemplateConfig;
+import com.example.spot.web.dto.member.kakao.KaKaoOAuthToken.KaKaoOAuthTokenDTO;
+import com.example.spot.web.dto.member.kakao.KaKaoUser;
+import com.example.spot.web.dto.member.naver.NaverOAuthToken.NaverTokenIssuanceDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 로컬 스텁 HTTP 서버를 대상으로 OAuth 제공자 호출의 커넥션 풀, 타임아웃, 서킷 브레이커 동작을 검증합니다.
+ */
+class OAuthHttpClientTest {
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(500);
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private String baseUrl;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private volatile int userInfoStatus = 200;
+
+    private CloseableHttpClient httpClient;
+    private HttpClientCircuitBreaker circuitBreaker;
+    private KaKaoOAuthService kaKaoOAuthService;
+    private NaverOAuthService naverOAuthService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", exchange -> respond(exchange, 200,
+                "{\"token_type\":\"bearer\",\"access_token\":\"kakao-access-token\",\"expires_in\":\"21599\"}"));
+        server.createContext("/v2/user/me", exchange -> respond(exchange, userInfoStatus,
+                "{\"id\":1,\"properties\":{\"nickname\":\"spot\"}}"));
+        server.createContext("/oauth2.0/token", exchange -> {
+            sleep(RESPONSE_TIMEOUT.multipliedBy(4));
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        httpClient = RestTemplateConfig.createHttpClient(
+                Timeout.of(RESPONSE_TIMEOUT), Timeout.of(RESPONSE_TIMEOUT));
+        circuitBreaker = new HttpClientCircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION);
+        RestTemplate restTemplate = new RestTemplateBuilder(new RestTemplateConfig()
+                .pooledRestTemplateCustomizer(httpClient, circuitBreaker))
+                .build();
+
+        kaKaoOAuthService = new KaKaoOAuthService(new ObjectMapper(), restTemplate);
+        ReflectionTestUtils.setField(kaKaoOAuthService, "KAKAO_SNS_CLIENT_ID", "client-id");
+        ReflectionTestUtils.setField(kaKaoOAuthService, "KAKAO_SNS_CALLBACK_LOGIN_URL", "http://localhost/callback");
+        ReflectionTestUtils.setField(kaKaoOAuthService, "KAKAO_TOKEN_REQUEST_URL", baseUrl + "/oauth/token");
+        ReflectionTestUtils.setField(kaKaoOAuthService, "KAKAO_USER_INFO_REQUEST_URL", baseUrl + "/v2/user/me");
+
+        naverOAuthService = new NaverOAuthService(restTemplate);
+        ReflectionTestUtils.setField(naverOAuthService, "NAVER_ACCESS_TOKEN_URL", baseUrl + "/oauth2.0/token");
+        ReflectionTestUtils.setField(naverOAuthService, "NAVER_PROFILE_URL", baseUrl + "/v1/nid/me");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    /*-------------------------------------------------------- 카카오 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("카카오 로그인 - 공유 커넥션 풀로 액세스 토큰과 사용자 정보 조회")
+    void kakao_RequestAccessTokenAndUserInfo() throws Exception {
+
+        // when
+        ResponseEntity<String> tokenResponse = kaKaoOAuthService.requestAccessToken("authorization-code");
+        KaKaoOAuthTokenDTO token = kaKaoOAuthService.getAccessToken(tokenResponse);
+        KaKaoUser kaKaoUser = kaKaoOAuthService.getUserInfo(kaKaoOAuthService.requestUserInfo(token.getAccess_token()));
+
+        // then
+        assertEquals(HttpStatus.OK, tokenResponse.getStatusCode());
+        assertEquals("kakao-access-token", token.getAccess_token());
+        assertNotNull(kaKaoUser);
+        assertEquals(1, requestCounts.get("/oauth/token").get());
+        assertEquals(1, requestCounts.get("/v2/user/me").get());
+    }
+
+    @Test
+    @DisplayName("카카오 로그인 - 5xx 응답이 연속되면 서킷 브레이커가 요청을 차단하고, 차단 시간이 지나면 다시 요청")
+    void kakao_CircuitBreaker() throws Exception {
+
+        // given
+        userInfoStatus = 503;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++)
+            assertThrows(HttpServerErrorException.class, () -> kaKaoOAuthService.requestUserInfo("token"));
+
+        // when & then - 차단 중에는 스텁 서버로 요청하지 않음
+        assertTrue(circuitBreaker.isOpen("127.0.0.1"));
+        assertThrows(ResourceAccessException.class, () -> kaKaoOAuthService.requestUserInfo("token"));
+        assertEquals(FAILURE_THRESHOLD, requestCounts.get("/v2/user/me").get());
+
+        // when & then - 차단 시간이 지난 뒤 시험 요청이 성공하면 차단 해제
+        userInfoStatus = 200;
+        sleep(OPEN_DURATION.plusMillis(100));
+        assertEquals(HttpStatus.OK, kaKaoOAuthService.requestUserInfo("token").getStatusCode());
+        assertFalse(circuitBreaker.isOpen("127.0.0.1"));
+    }
+
+    /*-------------------------------------------------------- 네이버 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("네이버 로그인 - 응답이 지연되면 응답 타임아웃 후 토큰 발급 실패")
+    void naver_ResponseTimeout() {
+
+        // given
+        long startedAt = System.nanoTime();
+
+        // when
+        MemberHandler exception = assertThrows(MemberHandler.class, () -> ReflectionTestUtils.invokeMethod(
+                naverOAuthService, "issueNaverAccessToken", "authorization-code"));
+
+        // then
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        assertEquals(ErrorStatus._NAVER_ACCESS_TOKEN_ISSUANCE_FAILED, exception.getStatus());
+        assertTrue(elapsedMillis < RESPONSE_TIMEOUT.multipliedBy(3).toMillis());
+    }
+
+    @Test
+    @DisplayName("네이버 로그인 - 프로필 조회 실패 시 예외 변환")
+    void naver_ProfileNotFound() {
+
+        // given
+        NaverTokenIssuanceDTO token = new NaverTokenIssuanceDTO("access-token", null, "Bearer", 3600, null, null);
+
+        // when & then
+        MemberHandler exception = assertThrows(MemberHandler.class, () -> ReflectionTestUtils.invokeMethod(
+                naverOAuthService, "getNaverProfile", token));
+        assertEquals(ErrorStatus._UNABLE_TO_RETRIEVE_NAVER_PROFILE, exception.getStatus());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        requestCounts.computeIfAbsent(exchange.getHttpContext().getPath(), path -> new AtomicInteger()).incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
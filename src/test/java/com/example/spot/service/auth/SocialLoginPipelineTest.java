@@ -0,0 +1,182 @@
+package com.example.spot.service.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.GeneralException;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.LoginType;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.security.utils.JwtTokenProvider;
+import com.example.spot.service.auth.token.RefreshTokenStore;
+import com.example.spot.web.dto.member.MemberResponseDTO.SocialLoginSignInDTO;
+import com.example.spot.web.dto.token.TokenResponseDTO.TokenDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SocialLoginPipelineTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private SocialProfileCache socialProfileCache = new SocialProfileCache();
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private SocialLoginPipeline socialLoginPipeline;
+
+    private static final String EMAIL = "spot@example.com";
+    private static final String ACCESS_TOKEN = "provider-access-token";
+
+    private final AtomicInteger profileRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jwtTokenProvider.createToken(anyLong())).thenReturn(
+                new TokenDTO("access-token", "refresh-token", 3600L));
+    }
+
+/*-------------------------------------------------------- 소셜 로그인 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("소셜 로그인 - 가입된 회원은 이메일 조회 한 번으로 로그인 (성공)")
+    void signIn_ExistingMember_Success() throws Exception {
+
+        // given
+        Member member = createMember(1L, LoginType.KAKAO);
+        when(memberRepository.findAllByEmail(EMAIL)).thenReturn(List.of(member));
+
+        // when
+        SocialLoginSignInDTO result = signIn(LoginType.KAKAO);
+
+        // then
+        assertTrue(result.getIsSpotMember());
+        assertEquals(1L, result.getSignInDTO().getMemberId());
+        verify(memberRepository).findAllByEmail(EMAIL);
+        verify(memberRepository, never()).save(any());
+        verify(refreshTokenStore).save(1L, "refresh-token");
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 가입되지 않은 회원은 회원 정보 저장 후 로그인 (성공)")
+    void signIn_NewMember_Success() throws Exception {
+
+        // given
+        when(memberRepository.findAllByEmail(EMAIL)).thenReturn(List.of());
+        when(memberRepository.save(any(Member.class))).thenReturn(createMember(2L, LoginType.NAVER));
+
+        // when
+        SocialLoginSignInDTO result = signIn(LoginType.NAVER);
+
+        // then
+        assertFalse(result.getIsSpotMember());
+        assertEquals(2L, result.getSignInDTO().getMemberId());
+        verify(memberRepository).save(any(Member.class));
+        verify(refreshTokenStore).save(2L, "refresh-token");
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 다른 로그인 방식으로 가입된 이메일인 경우 (실패)")
+    void signIn_EmailExistsWithOtherLoginType_Fail() {
+
+        // given
+        when(memberRepository.findAllByEmail(EMAIL)).thenReturn(List.of(createMember(1L, LoginType.NORMAL)));
+
+        // when
+        GeneralException exception = assertThrows(GeneralException.class, () -> signIn(LoginType.KAKAO));
+
+        // then
+        assertEquals(ErrorStatus._MEMBER_EMAIL_EXIST, exception.getStatus());
+        verify(memberRepository, never()).save(any());
+        verify(jwtTokenProvider, never()).createToken(anyLong());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 같은 액세스 토큰으로 재시도하면 제공자 프로필을 다시 조회하지 않음 (성공)")
+    void signIn_ProfileCached_Success() throws Exception {
+
+        // given
+        when(memberRepository.findAllByEmail(EMAIL)).thenReturn(List.of(createMember(1L, LoginType.KAKAO)));
+
+        // when
+        signIn(LoginType.KAKAO);
+        signIn(LoginType.KAKAO);
+
+        // then
+        assertEquals(1, profileRequests.get());
+        assertEquals(2, meterRegistry.get("spot.social-login.stage")
+                .tags("provider", "kakao", "stage", "profile").timer().count());
+        assertEquals(2, meterRegistry.get("spot.social-login.stage")
+                .tags("provider", "kakao", "stage", "token").timer().count());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 프로필 조회에 실패한 결과는 캐시하지 않음 (실패)")
+    void signIn_ProfileFailureNotCached_Fail() throws Exception {
+
+        // given
+        when(memberRepository.findAllByEmail(EMAIL)).thenReturn(List.of(createMember(1L, LoginType.KAKAO)));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> socialLoginPipeline.<String>signIn(LoginType.KAKAO, ACCESS_TOKEN,
+                accessToken -> { throw new IllegalStateException("provider unavailable"); },
+                email -> email,
+                email -> createMember(null, LoginType.KAKAO)));
+        signIn(LoginType.KAKAO);
+
+        // then
+        assertEquals(1, profileRequests.get());
+    }
+
+/*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    // 프로필로 이메일을 사용하는 로그인
+    private SocialLoginSignInDTO signIn(LoginType loginType) throws Exception {
+        return socialLoginPipeline.<String>signIn(loginType, ACCESS_TOKEN,
+                accessToken -> {
+                    profileRequests.incrementAndGet();
+                    return EMAIL;
+                },
+                email -> email,
+                email -> createMember(null, loginType));
+    }
+
+    private static Member createMember(Long id, LoginType loginType) {
+        return Member.builder()
+                .id(id)
+                .email(EMAIL)
+                .loginType(loginType)
+                .build();
+    }
+}
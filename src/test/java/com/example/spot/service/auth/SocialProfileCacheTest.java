@@ -0,0 +1,122 @@
+package com.example.spot.service.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.domain.enums.LoginType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SocialProfileCacheTest {
+
+    private static final String ACCESS_TOKEN = "provider-access-token";
+
+    private final SocialProfileCache socialProfileCache = new SocialProfileCache();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /*-------------------------------------------------------- 프로필 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("프로필 조회 - 같은 토큰은 TTL 동안 제공자를 다시 호출하지 않음")
+    void get_Cached_Success() throws Exception {
+
+        // when
+        String first = socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load);
+        String second = socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load);
+
+        // then
+        assertEquals("profile-1", first);
+        assertEquals("profile-1", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("프로필 조회 - 제공자가 다르면 같은 토큰이어도 따로 조회")
+    void get_OtherProvider_Loaded() throws Exception {
+
+        // when
+        socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load);
+        socialProfileCache.get(LoginType.NAVER, ACCESS_TOKEN, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    /*-------------------------------------------------------- 조회 실패 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("조회 실패 - 런타임 예외는 그대로 전달하고 결과를 보관하지 않음")
+    void get_RuntimeException_NotCached() throws Exception {
+
+        // when
+        assertThrows(IllegalStateException.class, () -> socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, token -> {
+            throw new IllegalStateException("provider unavailable");
+        }));
+
+        // then
+        assertEquals("profile-1", socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load));
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 오류(Error)도 그대로 전달하고 결과를 보관하지 않음")
+    void get_Error_NotCached() throws Exception {
+
+        // when
+        assertThrows(AssertionError.class, () -> socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, token -> {
+            throw new AssertionError("unexpected");
+        }));
+
+        // then
+        assertEquals("profile-1", socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load));
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 같은 토큰으로 대기 중인 요청도 오류를 전달받고 멈추지 않음")
+    void get_Error_WaitingRequestFailed() throws Exception {
+
+        // given
+        Thread waiter = Thread.currentThread();
+        CountDownLatch loading = new CountDownLatch(1);
+        Future<?> loader = executor.submit(() -> assertThrows(AssertionError.class, () ->
+            socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, token -> {
+                loading.countDown();
+                awaitWaiting(waiter);
+                throw new AssertionError("unexpected");
+            })));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when
+        AssertionError error = assertThrows(AssertionError.class, () ->
+            socialProfileCache.get(LoginType.KAKAO, ACCESS_TOKEN, this::load));
+
+        // then
+        assertEquals("unexpected", error.getMessage());
+        assertEquals(0, loads.get());
+        loader.get(5, TimeUnit.SECONDS);
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private String load(String accessToken) {
+        return "profile-" + loads.incrementAndGet();
+    }
+
+    // 대기 중인 요청이 조회 결과를 기다리기 시작할 때까지 대기
+    private static void awaitWaiting(Thread waiter) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline)
+            Thread.onSpinWait();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.spot.service.auth.token;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 리프레시 토큰 저장/교체 Lua 스크립트를 실제 Redis에서 검증합니다. Docker를 사용할 수 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRefreshTokenStoreScriptTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RedisRefreshTokenStore redisRefreshTokenStore;
+
+    private static final Long MEMBER_ID = 1L;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        when(refreshTokenRepository.deleteByMemberIdAndToken(anyLong(), anyString())).thenReturn(0);
+        redisRefreshTokenStore = storeExpiringIn(60_000L);
+    }
+
+    /*-------------------------------------------------------- 저장 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("저장 스크립트 - 토큰 키와 회원 키를 리프레시 토큰 만료 시간으로 저장")
+    void save_Success() {
+
+        // when
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+
+        // then
+        assertEquals(2, redisTemplate.keys("refresh-token:*").size());
+        Long ttl = redisTemplate.getExpire("refresh-token:member:1");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 60);
+    }
+
+    @Test
+    @DisplayName("저장 스크립트 - 다시 로그인하면 이전 토큰은 더 이상 교체할 수 없음")
+    void save_ReplacesPreviousToken() {
+
+        // given
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+
+        // when
+        redisRefreshTokenStore.save(MEMBER_ID, "token-2");
+
+        // then
+        assertEquals(2, redisTemplate.keys("refresh-token:*").size());
+        assertFalse(redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-3"));
+        assertTrue(redisRefreshTokenStore.rotate(MEMBER_ID, "token-2", "token-3"));
+    }
+
+    /*-------------------------------------------------------- 교체 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("교체 스크립트 - 현재 토큰을 새 토큰으로 교체")
+    void rotate_Success() {
+
+        // given
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+
+        // when
+        boolean rotated = redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-2");
+
+        // then
+        assertTrue(rotated);
+        assertEquals(2, redisTemplate.keys("refresh-token:*").size());
+        assertTrue(redisRefreshTokenStore.rotate(MEMBER_ID, "token-2", "token-3"));
+    }
+
+    @Test
+    @DisplayName("교체 스크립트 - 이미 교체된 이전 토큰을 다시 사용하면 거부")
+    void rotate_ReusedToken_Fail() {
+
+        // given
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+        redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-2");
+
+        // when & then
+        assertFalse(redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-3"));
+        assertTrue(redisRefreshTokenStore.rotate(MEMBER_ID, "token-2", "token-3"));
+    }
+
+    @Test
+    @DisplayName("교체 스크립트 - 다른 회원의 토큰으로는 교체할 수 없음")
+    void rotate_OtherMember_Fail() {
+
+        // given
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+
+        // when & then
+        assertFalse(redisRefreshTokenStore.rotate(2L, "token-1", "token-2"));
+        assertTrue(redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-2"));
+    }
+
+    @Test
+    @DisplayName("교체 스크립트 - 만료 시간이 지난 토큰은 교체할 수 없음")
+    void rotate_Expired_Fail() throws InterruptedException {
+
+        // given
+        redisRefreshTokenStore = storeExpiringIn(200L);
+        redisRefreshTokenStore.save(MEMBER_ID, "token-1");
+
+        // when
+        Thread.sleep(400);
+
+        // then
+        assertTrue(redisTemplate.keys("refresh-token:*").isEmpty());
+        assertFalse(redisRefreshTokenStore.rotate(MEMBER_ID, "token-1", "token-2"));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private RedisRefreshTokenStore storeExpiringIn(long expirationTime) {
+        RedisRefreshTokenStore store = new RedisRefreshTokenStore(redisTemplate, refreshTokenRepository);
+        ReflectionTestUtils.setField(store, "REFRESH_TOKEN_EXPIRATION_TIME", expirationTime);
+        return store;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.spot.service.auth.token;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.RefreshTokenRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Redis 리프레시 토큰 저장소가 Redis에 없는 토큰을 DB에서 찾아 옮기는지 검증합니다.
+ * Lua 스크립트 자체의 동작은 {@link RedisRefreshTokenStoreScriptTest}에서 실제 Redis로 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisRefreshTokenStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RedisRefreshTokenStore redisRefreshTokenStore;
+
+    @Captor
+    private ArgumentCaptor<List<String>> keysCaptor;
+
+    private static final Long MEMBER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(redisRefreshTokenStore, "REFRESH_TOKEN_EXPIRATION_TIME", 60_000L);
+    }
+
+    /*-------------------------------------------------------- 저장 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("리프레시 토큰 저장 - DB에 남은 이전 토큰을 삭제하고 Redis에 저장")
+    void save_Success() {
+
+        // when
+        redisRefreshTokenStore.save(MEMBER_ID, "refresh-token");
+
+        // then
+        verify(refreshTokenRepository).deleteAllByMemberId(MEMBER_ID);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), any(), any(), any(), any());
+        assertEquals("refresh-token:member:1", keysCaptor.getValue().get(1));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 저장 - DB의 이전 토큰이 모두 삭제된 이후에는 DB를 조회하지 않음")
+    void save_LegacyPurged_SkipsDatabase() {
+
+        // given
+        when(refreshTokenRepository.count()).thenReturn(0L);
+        redisRefreshTokenStore.checkLegacyTokens();
+
+        // when
+        redisRefreshTokenStore.save(MEMBER_ID, "refresh-token");
+
+        // then
+        verify(refreshTokenRepository, never()).deleteAllByMemberId(anyLong());
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    /*-------------------------------------------------------- 교체 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("리프레시 토큰 교체 - Redis에서 교체되면 DB를 조회하지 않음")
+    void rotate_Redis_Success() {
+
+        // given
+        givenRotated(1L);
+
+        // when & then
+        assertTrue(redisRefreshTokenStore.rotate(MEMBER_ID, "refresh-token", "new-refresh-token"));
+        verify(refreshTokenRepository, never()).deleteByMemberIdAndToken(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 교체 - Redis에 없지만 DB에 저장된 토큰이면 삭제 후 새 토큰을 Redis에 저장")
+    void rotate_LegacyToken_Migrated() {
+
+        // given
+        givenRotated(0L);
+        when(refreshTokenRepository.deleteByMemberIdAndToken(MEMBER_ID, "legacy-token")).thenReturn(1);
+
+        // when
+        boolean rotated = redisRefreshTokenStore.rotate(MEMBER_ID, "legacy-token", "new-refresh-token");
+
+        // then
+        assertTrue(rotated);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), any(), any(), any(), any());
+        assertEquals("refresh-token:member:1", keysCaptor.getValue().get(1));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 교체 - Redis와 DB 모두에 없는 토큰은 거부")
+    void rotate_UnknownToken_Fail() {
+
+        // given
+        givenRotated(0L);
+        when(refreshTokenRepository.deleteByMemberIdAndToken(MEMBER_ID, "used-token")).thenReturn(0);
+
+        // when & then
+        assertFalse(redisRefreshTokenStore.rotate(MEMBER_ID, "used-token", "new-refresh-token"));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 교체 - DB의 이전 토큰이 모두 삭제된 이후에는 DB를 조회하지 않고 거부")
+    void rotate_LegacyPurged_SkipsDatabase() {
+
+        // given
+        givenRotated(0L);
+        when(refreshTokenRepository.deleteByCreatedAtBefore(any())).thenReturn(3);
+        when(refreshTokenRepository.count()).thenReturn(0L);
+        redisRefreshTokenStore.deleteExpiredLegacyTokens();
+
+        // when & then
+        assertFalse(redisRefreshTokenStore.rotate(MEMBER_ID, "unknown-token", "new-refresh-token"));
+        verify(refreshTokenRepository, never()).deleteByMemberIdAndToken(anyLong(), anyString());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    @SuppressWarnings("unchecked")
+    private void givenRotated(Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(result);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.spot.service.hitcount;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HitCountBufferTest {
+
+    private HitCountBuffer hitCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        hitCountBuffer = new HitCountBuffer();
+    }
+
+    /*-------------------------------------------------------- 누적 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("조회수 누적 - 스터디와 게시글 조회수를 ID별로 따로 누적")
+    void increase_Success() {
+
+        // when
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increaseStudyHit(2L);
+        hitCountBuffer.increasePostHit(1L);
+
+        // then
+        assertEquals(2L, hitCountBuffer.getPendingStudyHit(1L));
+        assertEquals(1L, hitCountBuffer.getPendingStudyHit(2L));
+        assertEquals(1L, hitCountBuffer.getPendingPostHit(1L));
+        assertEquals(0L, hitCountBuffer.getPendingPostHit(2L));
+    }
+
+    @Test
+    @DisplayName("조회수 누적 - 동시에 증가해도 누락되지 않음")
+    void increase_Concurrent_Success() throws InterruptedException {
+
+        // given
+        int threads = 8;
+        int hitsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < hitsPerThread; j++)
+                    hitCountBuffer.increaseStudyHit(1L);
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals((long) threads * hitsPerThread, hitCountBuffer.getPendingStudyHit(1L));
+    }
+
+    /*-------------------------------------------------------- 반영 및 복구 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("조회수 꺼내기 - 누적분을 반환하고 버퍼를 비움")
+    void drain_Success() {
+
+        // given
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increasePostHit(3L);
+
+        // when
+        Map<Long, Long> studyHits = hitCountBuffer.drainStudyHits();
+        Map<Long, Long> postHits = hitCountBuffer.drainPostHits();
+
+        // then
+        assertEquals(Map.of(1L, 2L), studyHits);
+        assertEquals(Map.of(3L, 1L), postHits);
+        assertEquals(0L, hitCountBuffer.getPendingStudyHit(1L));
+        assertTrue(hitCountBuffer.drainStudyHits().isEmpty());
+        assertTrue(hitCountBuffer.drainPostHits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회수 복구 - 반영에 실패한 증가분을 이후 증가분과 합산")
+    void restore_Success() {
+
+        // given
+        hitCountBuffer.increaseStudyHit(1L);
+        hitCountBuffer.increasePostHit(1L);
+        Map<Long, Long> studyHits = hitCountBuffer.drainStudyHits();
+        Map<Long, Long> postHits = hitCountBuffer.drainPostHits();
+        hitCountBuffer.increaseStudyHit(1L);
+
+        // when
+        hitCountBuffer.restoreStudyHits(studyHits);
+        hitCountBuffer.restorePostHits(postHits);
+
+        // then
+        assertEquals(Map.of(1L, 2L), hitCountBuffer.drainStudyHits());
+        assertEquals(Map.of(1L, 1L), hitCountBuffer.drainPostHits());
+    }
+}
@@ -9,6 +9,7 @@ import com.example.spot.domain.study.Schedule;
 import com.example.spot.domain.study.Study;
 import com.example.spot.domain.study.StudyPost;
 import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.StudyRepository;
 import com.example.spot.repository.MemberStudyRepository;
 import com.example.spot.repository.ScheduleRepository;
 import com.example.spot.repository.StudyPostRepository;
@@ -44,11 +45,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class MemberStudyQueryServiceTest {
 
+    private StudyMembershipContext studyMembershipContext;
+
     @InjectMocks
     private MemberStudyQueryServiceImpl memberStudyQueryService;
 
@@ -57,6 +61,8 @@ public class MemberStudyQueryServiceTest {
     @Mock
     private MemberRepository memberRepository;
     @Mock
+    private StudyRepository studyRepository;
+    @Mock
     private StudyPostRepository studyPostRepository;
     @Mock
     private ScheduleRepository scheduleRepository;
@@ -69,6 +75,10 @@ public class MemberStudyQueryServiceTest {
     private static MemberStudy apply;
     @BeforeEach
     void setup(){
+        // 요청 단위 권한 컨텍스트는 목 저장소를 사용하도록 직접 생성
+        studyMembershipContext = new StudyMembershipContext(memberRepository, studyRepository, memberStudyRepository);
+        ReflectionTestUtils.setField(memberStudyQueryService, "studyMembershipContext", studyMembershipContext);
+
         member = Member.builder()
                 .id(1L)
                 .build();
@@ -0,0 +1,183 @@
+package com.example.spot.service.memberstudy;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.ApplicationStatus;
+import com.example.spot.domain.mapping.MemberStudy;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.MemberStudyRepository;
+import com.example.spot.repository.StudyRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudyMembershipContextTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private StudyRepository studyRepository;
+    @Mock
+    private MemberStudyRepository memberStudyRepository;
+
+    @InjectMocks
+    private StudyMembershipContext studyMembershipContext;
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long STUDY_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /*-------------------------------------------------------- 요청 단위 캐싱 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("권한 확인 - 같은 요청에서는 스터디 회원을 한 번만 조회")
+    void isApproved_CachedWithinRequest_Success() {
+
+        // given
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED))
+            .thenReturn(Optional.of(getMemberStudy(ApplicationStatus.APPROVED, false)));
+
+        // when
+        boolean first = studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+        boolean second = studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+        Optional<MemberStudy> memberStudy = studyMembershipContext.getMemberStudy(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        assertTrue(memberStudy.isPresent());
+        verify(memberStudyRepository, times(1))
+            .findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("권한 확인 - 스터디장 여부와 회원 조회도 요청 단위로 캐싱")
+    void isOwner_CachedWithinRequest_Success() {
+
+        // given
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndIsOwned(MEMBER_ID, STUDY_ID, true))
+            .thenReturn(Optional.empty());
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(Member.builder().id(MEMBER_ID).build()));
+
+        // when
+        studyMembershipContext.isOwner(MEMBER_ID, STUDY_ID);
+        boolean isOwner = studyMembershipContext.isOwner(MEMBER_ID, STUDY_ID);
+        studyMembershipContext.getMember(MEMBER_ID);
+        studyMembershipContext.getMember(MEMBER_ID);
+
+        // then
+        assertFalse(isOwner);
+        verify(memberStudyRepository, times(1)).findByMemberIdAndStudyIdAndIsOwned(MEMBER_ID, STUDY_ID, true);
+        verify(memberRepository, times(1)).findById(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("권한 확인 - 같은 요청에서 신청 상태가 바뀌면 캐싱된 엔티티의 현재 상태로 판단")
+    void getMemberStudy_StatusChanged_Success() {
+
+        // given
+        MemberStudy memberStudy = getMemberStudy(ApplicationStatus.APPLIED, false);
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPLIED))
+            .thenReturn(Optional.of(memberStudy));
+        studyMembershipContext.getMemberStudy(MEMBER_ID, STUDY_ID, ApplicationStatus.APPLIED);
+
+        // when
+        memberStudy.setStatus(ApplicationStatus.APPROVED);
+
+        // then
+        assertTrue(studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID));
+        verify(memberStudyRepository, times(0))
+            .findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+    }
+
+    /*-------------------------------------------------------- 무효화 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("캐시 무효화 - 스터디 회원이 생성된 뒤 evict 하면 다시 조회")
+    void evict_AfterMembershipCreated_Success() {
+
+        // given
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED))
+            .thenReturn(Optional.empty(), Optional.of(getMemberStudy(ApplicationStatus.APPROVED, false)));
+        assertFalse(studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID));
+
+        // when
+        studyMembershipContext.evict(MEMBER_ID, STUDY_ID);
+
+        // then
+        assertTrue(studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID));
+        verify(memberStudyRepository, times(2))
+            .findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 - 다른 회원/스터디의 캐시는 유지")
+    void evict_OtherMembership_Kept() {
+
+        // given
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED))
+            .thenReturn(Optional.of(getMemberStudy(ApplicationStatus.APPROVED, false)));
+        studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+
+        // when
+        studyMembershipContext.evict(2L, STUDY_ID);
+        studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+
+        // then
+        verify(memberStudyRepository, times(1))
+            .findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러 등) - 캐싱하지 않고 매번 조회")
+    void isApproved_OutsideRequest_NotCached() {
+
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        when(memberStudyRepository.findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED))
+            .thenReturn(Optional.of(getMemberStudy(ApplicationStatus.APPROVED, false)));
+
+        // when
+        studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+        studyMembershipContext.isApproved(MEMBER_ID, STUDY_ID);
+
+        // then
+        verify(memberStudyRepository, times(2))
+            .findByMemberIdAndStudyIdAndStatus(MEMBER_ID, STUDY_ID, ApplicationStatus.APPROVED);
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static MemberStudy getMemberStudy(ApplicationStatus status, boolean isOwned) {
+        return MemberStudy.builder()
+            .status(status)
+            .isOwned(isOwned)
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.spot.service.message;
+
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * SMTP 서버에 연결하지 않고 전송된 메시지를 보관하는 테스트용 JavaMailSender입니다.
+ * 지정한 횟수만큼 전송에 실패하도록 설정할 수 있습니다.
+ */
+class FakeJavaMailSender extends JavaMailSenderImpl {
+
+    private final List<MimeMessage> sentMessages = new ArrayList<>();
+    private int remainingFailures = 0;
+    private RuntimeException failure;
+
+    void failNext(int count) {
+        failNext(count, new MailSendException("SMTP server unavailable"));
+    }
+
+    void failNext(int count, RuntimeException failure) {
+        this.remainingFailures = count;
+        this.failure = failure;
+    }
+
+    List<MimeMessage> getSentMessages() {
+        return sentMessages;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        if (remainingFailures > 0) {
+            remainingFailures--;
+            throw failure;
+        }
+        sentMessages.addAll(List.of(mimeMessages));
+    }
+}
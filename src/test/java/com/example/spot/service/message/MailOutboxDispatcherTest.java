@@ -0,0 +1,249 @@
+package com.example.spot.service.message;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.domain.MailOutbox;
+import com.example.spot.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private FakeJavaMailSender javaMailSender;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    private static final Long MAIL_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        javaMailSender = new FakeJavaMailSender();
+        meterRegistry = new SimpleMeterRegistry();
+        mailOutboxDispatcher = new MailOutboxDispatcher(mailOutboxRepository, javaMailSender, meterRegistry);
+        ReflectionTestUtils.setField(mailOutboxDispatcher, "sender", "spot@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxDispatcher.shutdown();
+    }
+
+    /*-------------------------------------------------------- 메일 전송 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("메일 전송 - 선점한 메일을 전송하고 전송 완료로 변경")
+    void send_Success() throws Exception {
+
+        // given
+        MailOutbox mail = getMail(1);
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findById(MAIL_ID)).thenReturn(Optional.of(mail));
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        assertEquals(1, javaMailSender.getSentMessages().size());
+        MimeMessage message = javaMailSender.getSentMessages().get(0);
+        assertEquals("[SPOT] 이메일 확인 코드 : 1234", message.getSubject());
+        assertEquals("user@example.com", message.getAllRecipients()[0].toString());
+        verify(mailOutboxRepository).markSent(MAIL_ID, 1);
+        assertEquals(1, meterRegistry.get("spot.mail.send").tag("result", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("메일 전송 - 선점이 만료되어 다시 선점된 경우 이전 전송은 상태를 변경하지 않음")
+    void send_LeaseExpired_NotOverwritten() {
+
+        // given
+        MailOutbox mail = getMail(1);
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findById(MAIL_ID)).thenReturn(Optional.of(mail));
+        when(mailOutboxRepository.markSent(MAIL_ID, 1)).thenReturn(0);
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        assertEquals(1, javaMailSender.getSentMessages().size());
+        verify(mailOutboxRepository, never()).reschedule(any(), anyInt(), any(), any());
+        verify(mailOutboxRepository, never()).markFailed(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("메일 전송 - 다른 스레드나 서버가 선점한 메일은 전송하지 않음")
+    void send_AlreadyClaimed() {
+
+        // given
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(0);
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        assertTrue(javaMailSender.getSentMessages().isEmpty());
+        verify(mailOutboxRepository, never()).findById(MAIL_ID);
+        verify(mailOutboxRepository, never()).markSent(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메일 전송 - 전송에 실패하면 백오프 후 재시도하도록 변경")
+    void send_Failure_Reschedule() {
+
+        // given
+        MailOutbox mail = getMail(2);
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findById(MAIL_ID)).thenReturn(Optional.of(mail));
+        javaMailSender.failNext(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        verify(mailOutboxRepository).reschedule(eq(MAIL_ID), eq(2),
+                argThat(nextAttemptAt -> !nextAttemptAt.isBefore(before.plusSeconds(20))),
+                anyString());
+        verify(mailOutboxRepository, never()).markSent(any(), anyInt());
+        verify(mailOutboxRepository, never()).markFailed(any(), anyInt(), any());
+        assertEquals(1, meterRegistry.get("spot.mail.send").tag("result", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("메일 전송 - 메일 예외가 아닌 런타임 예외도 시도 횟수에 포함하여 재시도")
+    void send_RuntimeException_Reschedule() {
+
+        // given
+        MailOutbox mail = getMail(1);
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findById(MAIL_ID)).thenReturn(Optional.of(mail));
+        javaMailSender.failNext(1, new IllegalStateException());
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        verify(mailOutboxRepository).reschedule(eq(MAIL_ID), eq(1), any(), eq(IllegalStateException.class.getName()));
+        verify(mailOutboxRepository, never()).markSent(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메일 전송 - 최대 시도 횟수만큼 실패하면 전송 실패로 변경")
+    void send_Failure_GiveUp() {
+
+        // given
+        MailOutbox mail = getMail(MailOutboxDispatcher.MAX_ATTEMPTS);
+        when(mailOutboxRepository.claim(eq(MAIL_ID), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findById(MAIL_ID)).thenReturn(Optional.of(mail));
+        javaMailSender.failNext(1);
+
+        // when
+        mailOutboxDispatcher.send(MAIL_ID);
+
+        // then
+        verify(mailOutboxRepository).markFailed(eq(MAIL_ID), eq(MailOutboxDispatcher.MAX_ATTEMPTS), anyString());
+        verify(mailOutboxRepository, never()).reschedule(any(), anyInt(), any(), any());
+    }
+
+    /*-------------------------------------------------------- SMTP 제한 시간 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("SMTP 제한 시간 - 설정되지 않은 제한 시간을 전송 제한 시간보다 짧게 설정")
+    void applySmtpTimeouts_Default() {
+
+        // then
+        String timeout = String.valueOf(MailOutboxDispatcher.SMTP_TIMEOUT.toMillis());
+        Properties properties = javaMailSender.getJavaMailProperties();
+        assertEquals(timeout, properties.getProperty("mail.smtp.connectiontimeout"));
+        assertEquals(timeout, properties.getProperty("mail.smtp.timeout"));
+        assertEquals(timeout, properties.getProperty("mail.smtp.writetimeout"));
+    }
+
+    @Test
+    @DisplayName("SMTP 제한 시간 - 더 짧게 설정된 값은 유지하고 더 긴 값은 줄임")
+    void applySmtpTimeouts_Configured() {
+
+        // given
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.connectiontimeout", "5000");
+        properties.setProperty("mail.smtp.timeout", "120000");
+
+        // when
+        MailOutboxDispatcher.applySmtpTimeouts(properties);
+
+        // then
+        assertEquals("5000", properties.getProperty("mail.smtp.connectiontimeout"));
+        assertEquals(String.valueOf(MailOutboxDispatcher.SMTP_TIMEOUT.toMillis()), properties.getProperty("mail.smtp.timeout"));
+    }
+
+    @Test
+    @DisplayName("재시도 간격 - 시도 횟수마다 두 배로 늘어나며 최대 30분")
+    void backoff() {
+        assertEquals(Duration.ofSeconds(10), MailOutboxDispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), MailOutboxDispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(40), MailOutboxDispatcher.backoff(3));
+        assertEquals(Duration.ofMinutes(30), MailOutboxDispatcher.backoff(30));
+    }
+
+    /*-------------------------------------------------------- 메일 템플릿 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("메일 템플릿 - 변수를 HTML 이스케이프한 값으로 대체")
+    void renderTemplate() {
+
+        // given
+        MailTemplate template = MailTemplate.compile("<a>${email}</a><div>${verificationCode}</div>${unknown}");
+
+        // when
+        String content = template.render(Map.of("email", "<user>@example.com", "verificationCode", "1234"));
+
+        // then
+        assertEquals("<a>&lt;user&gt;@example.com</a><div>1234</div>", content);
+    }
+
+    @Test
+    @DisplayName("메일 템플릿 - 인증 메일 템플릿을 클래스패스에서 읽고, 없는 템플릿은 예외")
+    void loadTemplate() {
+        assertNotNull(MailTemplate.load("templates/MailForm.html"));
+        assertThrows(UncheckedIOException.class, () -> MailTemplate.load("templates/missing.html"));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    // 선점 시 증가한 시도 횟수가 반영된 메일
+    private static MailOutbox getMail(int attempts) {
+        MailOutbox mail = MailOutbox.of("user@example.com", "[SPOT] 이메일 확인 코드 : 1234", "<div>1234</div>");
+        ReflectionTestUtils.setField(mail, "id", MAIL_ID);
+        ReflectionTestUtils.setField(mail, "attempts", attempts);
+        return mail;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.spot.service.post;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostActivityWindowTest {
+
+    private PostActivityWindow postActivityWindow;
+
+    @BeforeEach
+    void setUp() {
+        postActivityWindow = new PostActivityWindow();
+    }
+
+    /*-------------------------------------------------------- 활동 누적 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("활동 누적 - 게시글별 가중치를 분 단위로 합산")
+    void record_Success() {
+
+        // given
+        postActivityWindow.record(1L, 1L);
+        postActivityWindow.record(1L, 3L);
+        postActivityWindow.record(2L, 1L);
+
+        // when
+        Map<Long, Map<Long, Long>> activities = postActivityWindow.drain();
+
+        // then
+        Map<Long, Long> counts = activities.values().stream()
+            .reduce((left, right) -> { throw new AssertionError("활동이 여러 분에 나뉘어 누적됨"); })
+            .orElseThrow();
+        assertEquals(Map.of(1L, 4L, 2L, 1L), counts);
+    }
+
+    @Test
+    @DisplayName("활동 누적 - 가져간 활동은 버킷에서 제거")
+    void drain_Cleared_Success() {
+
+        // given
+        postActivityWindow.record(1L, 1L);
+        postActivityWindow.drain();
+
+        // when & then
+        assertTrue(postActivityWindow.drain().isEmpty());
+    }
+
+    /*-------------------------------------------------------- 활동 복구 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("활동 복구 - 반영에 실패한 활동을 같은 분에 다시 누적")
+    void restore_Success() {
+
+        // given
+        long minute = PostActivityWindow.currentMinute() - 1;
+        postActivityWindow.restore(Map.of(minute, Map.of(1L, 2L)));
+        postActivityWindow.restore(Map.of(minute, Map.of(1L, 3L, 2L, 1L)));
+
+        // when
+        Map<Long, Map<Long, Long>> activities = postActivityWindow.drain();
+
+        // then
+        assertEquals(Map.of(minute, Map.of(1L, 5L, 2L, 1L)), activities);
+    }
+
+    @Test
+    @DisplayName("활동 복구 - 윈도우를 벗어난 분의 활동은 버림")
+    void restore_OutOfWindow_Success() {
+
+        // given
+        long expiredMinute = PostActivityWindow.currentMinute() - PostActivityWindow.WINDOW_MINUTES - 1;
+
+        // when
+        postActivityWindow.restore(Map.of(expiredMinute, Map.of(1L, 2L)));
+
+        // then
+        assertTrue(postActivityWindow.drain().isEmpty());
+    }
+}
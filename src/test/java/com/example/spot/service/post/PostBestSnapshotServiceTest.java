@@ -0,0 +1,293 @@
+package com.example.spot.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostBestGeneration;
+import com.example.spot.domain.PostBestSnapshot;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.repository.PostBestGenerationRepository;
+import com.example.spot.repository.PostBestSnapshotRepository;
+import com.example.spot.repository.PostRepository;
+import com.example.spot.web.dto.post.PostBest5DetailResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostBestSnapshotServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostBestGenerationRepository postBestGenerationRepository;
+    @Mock
+    private PostBestSnapshotRepository postBestSnapshotRepository;
+    @Mock
+    private PostLeaderboard postLeaderboard;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private PostBestSnapshotService postBestSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(postBestGenerationRepository.findCurrentGenerationId(any())).thenReturn(null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+/*-------------------------------------------------------- 인기글 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인기글 조회 - 세대 확인 주기 안에서는 메모리의 스냅샷을 반환 (성공)")
+    void getBestPosts_Cached_Success() {
+
+        // given
+        givenGeneration(PostRanking.RECOMMEND, 1L, createPost(3L), createPost(1L));
+
+        // when
+        postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+
+        // then
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(3L, 1L);
+        verify(postBestGenerationRepository, times(1)).findCurrentGenerationId(PostRanking.RECOMMEND);
+        verify(postBestSnapshotRepository, times(1)).findAllByGenerationOrderByRankingAsc(1L);
+    }
+
+    @Test
+    @DisplayName("인기글 조회 - 다른 서버에서 세대가 교체되면 확인 주기 이후 새 세대를 반환 (성공)")
+    void getBestPosts_GenerationSwapped_Success() {
+
+        // given
+        ReflectionTestUtils.setField(postBestSnapshotService, "generationCheckSeconds", 0L);
+        givenGeneration(PostRanking.RECOMMEND, 1L, createPost(3L), createPost(1L));
+        postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+        givenGeneration(PostRanking.RECOMMEND, 2L, createPost(2L));
+
+        // when
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+
+        // then
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(2L);
+        verify(postBestSnapshotRepository).findAllByGenerationOrderByRankingAsc(2L);
+    }
+
+    @Test
+    @DisplayName("인기글 조회 - 세대가 그대로이면 확인 주기가 지나도 스냅샷을 다시 불러오지 않음 (성공)")
+    void getBestPosts_SameGeneration_NotReloaded() {
+
+        // given
+        ReflectionTestUtils.setField(postBestSnapshotService, "generationCheckSeconds", 0L);
+        givenGeneration(PostRanking.RECOMMEND, 1L, createPost(3L));
+
+        // when
+        postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+
+        // then
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(3L);
+        verify(postBestGenerationRepository, times(2)).findCurrentGenerationId(PostRanking.RECOMMEND);
+        verify(postBestSnapshotRepository, times(1)).findAllByGenerationOrderByRankingAsc(1L);
+    }
+
+    @Test
+    @DisplayName("인기글 조회 - 스냅샷이 없으면 인기글 순위의 순서대로 게시글 반환 (성공)")
+    void getBestPosts_NoGeneration_FromLeaderboard_Success() {
+
+        // given
+        when(postLeaderboard.getTopPostIds(PostRanking.RECOMMEND, 5)).thenReturn(List.of(3L, 1L, 2L));
+        when(postRepository.findAllById(List.of(3L, 1L, 2L)))
+                .thenReturn(List.of(createPost(1L), createPost(2L), createPost(3L)));
+
+        // when
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+
+        // then
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(3L, 1L, 2L);
+        assertThat(result).extracting(PostBest5DetailResponse::getRank).containsExactly(1, 2, 3);
+        verify(postRepository, never()).findTopByOrderByLikeNumDesc();
+    }
+
+    @Test
+    @DisplayName("인기글 조회 - 스냅샷과 인기글 순위가 모두 비어 있으면 DB에서 집계 (성공)")
+    void getBestPosts_EmptyLeaderboard_Success() {
+
+        // given
+        when(postLeaderboard.getTopPostIds(PostRanking.COMMENT, 5)).thenReturn(List.of());
+        when(postRepository.findTopByOrderByCommentCountDesc()).thenReturn(List.of(createPost(1L)));
+
+        // when
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.COMMENT);
+
+        // then
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(1L);
+        verify(postRepository, times(1)).findTopByOrderByCommentCountDesc();
+    }
+
+/*-------------------------------------------------------- 스냅샷 갱신 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 새 세대를 저장하고 이전 세대를 정리한 뒤 새 세대를 반환 (성공)")
+    void refresh_Success() {
+
+        // given
+        when(postBestGenerationRepository.save(any(PostBestGeneration.class))).thenAnswer(invocation -> {
+            PostBestGeneration generation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(generation, "id", 5L);
+            return generation;
+        });
+        when(postLeaderboard.getTopPostIds(PostRanking.REAL_TIME, 5)).thenReturn(List.of(2L, 1L));
+        when(postRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(createPost(1L), createPost(2L)));
+        when(postBestGenerationRepository.findCurrentGenerationId(PostRanking.REAL_TIME)).thenReturn(5L);
+
+        // when
+        postBestSnapshotService.refresh(PostRanking.REAL_TIME);
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.REAL_TIME);
+
+        // then
+        verify(postBestSnapshotRepository).saveAll(anyList());
+        verify(postBestSnapshotRepository).deleteOlderGenerations(PostRanking.REAL_TIME, 5L);
+        verify(postBestGenerationRepository).deleteOlderGenerations(PostRanking.REAL_TIME, 5L);
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(2L, 1L);
+        verify(postBestSnapshotRepository, never()).findAllByGenerationOrderByRankingAsc(anyLong());
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 다른 서버가 갱신 잠금을 가진 경우 건너뜀 (성공)")
+    void refresh_Locked_Skipped() {
+
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        postBestSnapshotService.refresh(PostRanking.RECOMMEND);
+
+        // then
+        verify(postBestGenerationRepository, never()).save(any());
+        verify(postBestSnapshotRepository, never()).deleteOlderGenerations(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 - 세대가 없는 인기글 종류만 스냅샷을 생성 (성공)")
+    void onApplicationReady_Success() {
+
+        // given
+        givenGeneration(PostRanking.REAL_TIME, 1L, createPost(1L));
+        givenGeneration(PostRanking.RECOMMEND, 2L, createPost(2L));
+        when(postBestGenerationRepository.save(any(PostBestGeneration.class))).thenAnswer(invocation -> {
+            PostBestGeneration generation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(generation, "id", 3L);
+            return generation;
+        });
+        when(postLeaderboard.getTopPostIds(PostRanking.COMMENT, 5)).thenReturn(List.of());
+        when(postRepository.findTopByOrderByCommentCountDesc()).thenReturn(List.of(createPost(3L)));
+
+        // when
+        postBestSnapshotService.onApplicationReady();
+
+        // then
+        verify(postBestGenerationRepository, times(1)).save(any(PostBestGeneration.class));
+        verify(postBestGenerationRepository).deleteOlderGenerations(PostRanking.COMMENT, 3L);
+    }
+
+/*-------------------------------------------------------- 게시글 삭제 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 삭제 - 스냅샷에 포함된 게시글을 제외한 새 세대로 교체하고 순위를 다시 매김 (성공)")
+    void evict_Success() {
+
+        // given
+        givenGeneration(PostRanking.RECOMMEND, 1L, createPost(3L), createPost(1L), createPost(2L));
+        when(postBestGenerationRepository.save(any(PostBestGeneration.class))).thenAnswer(invocation -> {
+            PostBestGeneration generation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(generation, "id", 2L);
+            return generation;
+        });
+
+        // when
+        postBestSnapshotService.evict(3L);
+        when(postBestGenerationRepository.findCurrentGenerationId(PostRanking.RECOMMEND)).thenReturn(2L);
+        List<PostBest5DetailResponse> result = postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND);
+
+        // then
+        verify(postBestGenerationRepository, times(1)).save(any(PostBestGeneration.class));
+        verify(postBestSnapshotRepository).deleteOlderGenerations(PostRanking.RECOMMEND, 2L);
+        verify(postBestGenerationRepository).deleteOlderGenerations(PostRanking.RECOMMEND, 2L);
+        assertThat(result).extracting(PostBest5DetailResponse::getPostId).containsExactly(1L, 2L);
+        assertThat(result).extracting(PostBest5DetailResponse::getRank).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - 스냅샷에 없는 게시글이면 세대를 교체하지 않음 (성공)")
+    void evict_NotInSnapshot_Skipped() {
+
+        // given
+        givenGeneration(PostRanking.RECOMMEND, 1L, createPost(1L), createPost(2L));
+
+        // when
+        postBestSnapshotService.evict(3L);
+
+        // then
+        verify(postBestGenerationRepository, never()).save(any());
+        verify(postBestSnapshotRepository, never()).saveAll(anyList());
+    }
+
+/*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void givenGeneration(PostRanking ranking, Long generationId, Post... posts) {
+        PostBestGeneration generation = PostBestGeneration.of(ranking);
+        ReflectionTestUtils.setField(generation, "id", generationId);
+
+        List<PostBestSnapshot> rows = new ArrayList<>();
+        for (int i = 0; i < posts.length; i++) {
+            rows.add(PostBestSnapshot.of(generation, posts[i], i + 1));
+        }
+        when(postBestGenerationRepository.findCurrentGenerationId(ranking)).thenReturn(generationId);
+        when(postBestSnapshotRepository.findAllByGenerationOrderByRankingAsc(generationId)).thenReturn(rows);
+    }
+
+    private static Post createPost(long postId) {
+        return Post.builder()
+                .id(postId)
+                .title("게시글 " + postId)
+                .content("내용")
+                .board(Board.FREE_TALK)
+                .postCommentList(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.spot.service.post;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.PostHandler;
+import com.example.spot.domain.LikedPost;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostComment;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.mapping.MemberScrap;
+import com.example.spot.repository.LikedPostCommentRepository;
+import com.example.spot.repository.LikedPostRepository;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.MemberScrapRepository;
+import com.example.spot.repository.PostCommentRepository;
+import com.example.spot.repository.PostRepository;
+import com.example.spot.web.dto.post.CommentCreateRequest;
+import com.example.spot.web.dto.post.CommentCreateResponse;
+import com.example.spot.web.dto.post.PostLikeResponse;
+import com.example.spot.web.dto.post.ScrapPostResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostCommandServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private LikedPostRepository likedPostRepository;
+    @Mock
+    private PostCommentRepository postCommentRepository;
+    @Mock
+    private LikedPostCommentRepository likedPostCommentRepository;
+    @Mock
+    private MemberScrapRepository memberScrapRepository;
+    @Mock
+    private LikedPostCommentQueryService likedPostCommentQueryService;
+    @Mock
+    private PostLeaderboard postLeaderboard;
+    @Mock
+    private PostBestSnapshotService postBestSnapshotService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostCommandServiceImpl postCommandService;
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long POST_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(getMember()));
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(getPost()));
+    }
+
+    /*-------------------------------------------------------- 게시글 삭제 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 삭제 - 인기글 순위와 인기글 스냅샷에서 제거 (성공)")
+    void deletePost_Success() {
+
+        // given
+        Post post = getPost();
+        ReflectionTestUtils.setField(post, "member", getMember());
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+
+        // when
+        postCommandService.deletePost(MEMBER_ID, POST_ID);
+
+        // then
+        verify(postRepository).delete(post);
+        verify(postLeaderboard).remove(POST_ID);
+        verify(postBestSnapshotService).evict(POST_ID);
+    }
+
+    /*-------------------------------------------------------- 게시글 좋아요 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 좋아요 - 좋아요 수를 증가시키고 인기글 순위 갱신 (성공)")
+    void likePost_Success() {
+
+        // given
+        when(postRepository.findLikeNumById(POST_ID)).thenReturn(3);
+
+        // when
+        PostLikeResponse result = postCommandService.likePost(POST_ID, MEMBER_ID);
+
+        // then
+        assertEquals(3L, result.getLikeCount());
+        verify(postRepository).increaseLikeNum(POST_ID);
+        verify(postLeaderboard).updateLikeCount(POST_ID, 3L);
+        verify(postLeaderboard).increaseRealTimeScore(POST_ID);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 - 이미 좋아요한 게시글이면 유니크 제약 위반을 변환하고 좋아요 수는 그대로 (실패)")
+    void likePost_AlreadyLiked_Fail() {
+
+        // given
+        when(likedPostRepository.saveAndFlush(any(LikedPost.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_liked_post_member_post"));
+
+        // when & then
+        PostHandler exception = assertThrows(PostHandler.class, () -> postCommandService.likePost(POST_ID, MEMBER_ID));
+        assertEquals(ErrorStatus._POST_ALREADY_LIKED, exception.getStatus());
+        verify(postRepository, never()).increaseLikeNum(any());
+        verify(postLeaderboard, never()).increaseRealTimeScore(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 - 좋아요 수를 감소시키고 인기글 순위 갱신 (성공)")
+    void cancelPostLike_Success() {
+
+        // given
+        when(likedPostRepository.deleteByMemberIdAndPostId(MEMBER_ID, POST_ID)).thenReturn(1);
+        when(postRepository.findLikeNumById(POST_ID)).thenReturn(2);
+
+        // when
+        PostLikeResponse result = postCommandService.cancelPostLike(POST_ID, MEMBER_ID);
+
+        // then
+        assertEquals(2L, result.getLikeCount());
+        verify(postRepository).decreaseLikeNum(POST_ID);
+        verify(postLeaderboard).updateLikeCount(POST_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 - 좋아요하지 않은 게시글이면 좋아요 수는 그대로 (실패)")
+    void cancelPostLike_NotLiked_Fail() {
+
+        // given
+        when(likedPostRepository.deleteByMemberIdAndPostId(MEMBER_ID, POST_ID)).thenReturn(0);
+
+        // when & then
+        PostHandler exception = assertThrows(PostHandler.class,
+            () -> postCommandService.cancelPostLike(POST_ID, MEMBER_ID));
+        assertEquals(ErrorStatus._POST_NOT_LIKED, exception.getStatus());
+        verify(postRepository, never()).decreaseLikeNum(any());
+    }
+
+    /*-------------------------------------------------------- 게시글 스크랩 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 스크랩 - 스크랩 수를 증가시킨 뒤 현재 스크랩 수 반환 (성공)")
+    void scrapPost_Success() {
+
+        // given
+        when(postRepository.findScrapNumById(POST_ID)).thenReturn(1);
+
+        // when
+        ScrapPostResponse result = postCommandService.scrapPost(POST_ID, MEMBER_ID);
+
+        // then
+        assertEquals(1L, result.getScrapCount());
+        verify(postRepository).increaseScrapNum(POST_ID);
+    }
+
+    @Test
+    @DisplayName("게시글 스크랩 - 이미 스크랩한 게시글이면 스크랩 수는 그대로 (실패)")
+    void scrapPost_AlreadyScrapped_Fail() {
+
+        // given
+        when(memberScrapRepository.saveAndFlush(any(MemberScrap.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_member_scrap_member_post"));
+
+        // when & then
+        PostHandler exception = assertThrows(PostHandler.class, () -> postCommandService.scrapPost(POST_ID, MEMBER_ID));
+        assertEquals(ErrorStatus._POST_ALREADY_SCRAPPED, exception.getStatus());
+        verify(postRepository, never()).increaseScrapNum(any());
+    }
+
+    @Test
+    @DisplayName("게시글 스크랩 취소 - 스크랩하지 않은 게시글이면 스크랩 수는 그대로 (실패)")
+    void cancelPostScrap_NotScrapped_Fail() {
+
+        // given
+        when(memberScrapRepository.deleteByMemberIdAndPostId(MEMBER_ID, POST_ID)).thenReturn(0);
+
+        // when & then
+        PostHandler exception = assertThrows(PostHandler.class,
+            () -> postCommandService.cancelPostScrap(POST_ID, MEMBER_ID));
+        assertEquals(ErrorStatus._POST_NOT_SCRAPPED, exception.getStatus());
+        verify(postRepository, never()).decreaseScrapNum(any());
+    }
+
+    /*-------------------------------------------------------- 댓글 작성 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("댓글 작성 - 댓글 수를 증가시키고 댓글순, 실시간 인기글 순위 갱신 (성공)")
+    void createComment_Success() {
+
+        // given
+        when(postCommentRepository.findById(any())).thenReturn(Optional.empty());
+        when(postRepository.findCommentNumById(POST_ID)).thenReturn(4);
+
+        // when
+        CommentCreateResponse result = postCommandService.createComment(POST_ID, MEMBER_ID,
+            new CommentCreateRequest("댓글", false, 0L));
+
+        // then
+        assertEquals("댓글", result.getContent());
+        verify(postCommentRepository).saveAndFlush(any(PostComment.class));
+        verify(postRepository).increaseCommentNum(POST_ID);
+        verify(postLeaderboard).updateCommentCount(POST_ID, 4L);
+        verify(postLeaderboard).increaseRealTimeScore(POST_ID);
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static Member getMember() {
+        return Member.builder()
+            .id(MEMBER_ID)
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email("member@example.com")
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .build();
+    }
+
+    private static Post getPost() {
+        return Post.builder()
+            .id(POST_ID)
+            .title("제목")
+            .content("내용")
+            .board(Board.FREE_TALK)
+            .postCommentList(new ArrayList<>())
+            .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.spot.service.post;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.domain.enums.Board;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PostHomeCacheTest {
+
+    private PostHomeCache postHomeCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        postHomeCache = new PostHomeCache();
+        loads = new AtomicInteger();
+    }
+
+    /*-------------------------------------------------------- 캐시 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("캐시 조회 - TTL 안에서는 한 번만 조회")
+    void getOrLoad_Cached_Success() {
+
+        // when
+        String first = postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        String second = postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+
+        // then
+        assertEquals("posts-1", first);
+        assertEquals("posts-1", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - TTL이 지나면 다시 조회")
+    void getOrLoad_Expired_Success() {
+
+        // given
+        ReflectionTestUtils.setField(postHomeCache, "ttlSeconds", 0L);
+
+        // when
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        String second = postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+
+        // then
+        assertEquals("posts-2", second);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 여러 스레드가 동시에 조회해도 캐시된 값을 반환")
+    void getOrLoad_ConcurrentReads_Success() throws Exception {
+
+        // given
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> values = new ArrayList<>();
+                for (int j = 0; j < 1_000; j++) {
+                    values.add(postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load));
+                }
+                return values;
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<List<String>> future : futures) {
+            assertTrue(future.get(10, TimeUnit.SECONDS).stream().allMatch("posts-1"::equals));
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 조회 중 게시글이 변경되면 이전 값을 저장하지 않음")
+    void getOrLoad_ChangedWhileLoading_Success() {
+
+        // when
+        String stale = postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, () -> {
+            postHomeCache.onPostChanged(PostChangedEvent.created(1L, Board.FREE_TALK));
+            return "stale";
+        });
+        String fresh = postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+
+        // then
+        assertEquals("stale", stale);
+        assertEquals("posts-1", fresh);
+    }
+
+    /*-------------------------------------------------------- 변경 이벤트 무효화 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 - 일반 게시판 변경 시 대표 게시글만 무효화")
+    void onPostChanged_Board_Success() {
+
+        // given
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // when
+        postHomeCache.onPostChanged(PostChangedEvent.created(1L, Board.FREE_TALK));
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        String announcements = postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // then
+        assertEquals("posts-2", announcements);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 - 공지 게시판 변경 시 공지 목록도 무효화")
+    void onPostChanged_Announcement_Success() {
+
+        // given
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // when
+        postHomeCache.onPostChanged(PostChangedEvent.deleted(1L, Board.SPOT_ANNOUNCEMENT));
+        postHomeCache.getOrLoad(PostHomeCache.REPRESENTATIVE_POSTS, this::load);
+        postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 - 공지에서 다른 게시판으로 옮긴 경우 공지 목록도 무효화")
+    void onPostChanged_MovedFromAnnouncement_Success() {
+
+        // given
+        PostChangedEvent event = PostChangedEvent.updated(1L, Board.SPOT_ANNOUNCEMENT, Board.FREE_TALK);
+        postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // when
+        postHomeCache.onPostChanged(event);
+        postHomeCache.getOrLoad(PostHomeCache.ANNOUNCEMENT_POSTS, this::load);
+
+        // then
+        assertTrue(event.isChanged(Board.SPOT_ANNOUNCEMENT));
+        assertTrue(event.isChanged(Board.FREE_TALK));
+        assertEquals(2, loads.get());
+    }
+
+    private String load() {
+        return "posts-" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.spot.service.post;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.repository.PostRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostLeaderboardTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private PostRepository postRepository;
+    @Spy
+    private PostActivityWindow postActivityWindow = new PostActivityWindow();
+
+    @InjectMocks
+    private PostLeaderboard postLeaderboard;
+
+    private static final String REAL_TIME_KEY = "post:leaderboard:real-time";
+    private static final String REAL_TIME_TEMP_KEY = REAL_TIME_KEY + ":rebuild";
+    private static final String MINUTE_KEY_PREFIX = "post:leaderboard:real-time:minute:";
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of();
+        });
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+            .thenReturn(2L);
+    }
+
+    /*-------------------------------------------------------- 실시간 순위 합산 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("실시간 순위 합산 - 분 단위 활동을 반영하고 감쇠 가중치로 최근 2시간을 합산")
+    void mergeRealTimeWindow_Success() {
+
+        // given
+        postLeaderboard.increaseRealTimeScore(1L);
+        postLeaderboard.increaseRealTimeScores(Map.of(1L, 2L, 2L, 5L));
+
+        // when
+        postLeaderboard.mergeRealTimeWindow();
+
+        // then
+        verify(zSetOperations).incrementScore(argThat(key -> key.startsWith(MINUTE_KEY_PREFIX)), eq("1"), eq(3.0));
+        verify(zSetOperations).incrementScore(argThat(key -> key.startsWith(MINUTE_KEY_PREFIX)), eq("2"), eq(5.0));
+        verify(zSetOperations).unionAndStore(argThat(key -> key.startsWith(MINUTE_KEY_PREFIX)),
+            argThat(keys -> keys.size() == PostActivityWindow.WINDOW_MINUTES - 1), eq(REAL_TIME_TEMP_KEY),
+            eq(Aggregate.SUM), argThat(weights -> weights.getWeight(0) == 1.0
+                && weights.getWeight(PostActivityWindow.WINDOW_MINUTES - 1) > 0.5
+                && weights.getWeight(PostActivityWindow.WINDOW_MINUTES - 1) < weights.getWeight(1)));
+        verify(redisTemplate).rename(REAL_TIME_TEMP_KEY, REAL_TIME_KEY);
+    }
+
+    @Test
+    @DisplayName("실시간 순위 합산 - 다른 서버가 잠금을 가진 경우 활동만 반영하고 합산은 건너뜀")
+    void mergeRealTimeWindow_Locked_Success() {
+
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        postLeaderboard.increaseRealTimeScore(1L);
+
+        // when
+        postLeaderboard.mergeRealTimeWindow();
+
+        // then
+        verify(zSetOperations).incrementScore(anyString(), eq("1"), eq(1.0));
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("실시간 순위 합산 - Redis 반영에 실패하면 활동을 다시 누적")
+    void mergeRealTimeWindow_RecordFailed_Restored() {
+
+        // given
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new QueryTimeoutException("timeout"));
+        postLeaderboard.increaseRealTimeScores(Map.of(1L, 2L));
+
+        // when
+        postLeaderboard.mergeRealTimeWindow();
+
+        // then
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        Map<Long, Long> restored = postActivityWindow.drain().values().iterator().next();
+        assertEquals(Map.of(1L, 2L), restored);
+    }
+
+    @Test
+    @DisplayName("실시간 순위 합산 - 최근 활동이 없으면 실시간 순위를 비움")
+    void mergeRealTimeWindow_Empty_Success() {
+
+        // given
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+            .thenReturn(0L);
+
+        // when
+        postLeaderboard.mergeRealTimeWindow();
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate).delete(List.of(REAL_TIME_TEMP_KEY, REAL_TIME_KEY));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("실시간 순위 합산 - 상위 1000개 게시글만 유지")
+    void mergeRealTimeWindow_Trimmed_Success() {
+
+        // given
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+            .thenReturn(1_500L);
+
+        // when
+        postLeaderboard.mergeRealTimeWindow();
+
+        // then
+        verify(zSetOperations).removeRange(REAL_TIME_TEMP_KEY, 0, -1_001);
+        verify(redisTemplate).rename(REAL_TIME_TEMP_KEY, REAL_TIME_KEY);
+    }
+
+    /*-------------------------------------------------------- 순위 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("순위 조회 - Redis 조회에 실패하면 빈 목록 반환")
+    void getTopPostIds_RedisFailed_Empty() {
+
+        // given
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+            .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertEquals(List.of(), postLeaderboard.getTopPostIds(PostRanking.REAL_TIME, 5));
+    }
+}
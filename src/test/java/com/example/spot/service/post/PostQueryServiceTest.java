@@ -0,0 +1,240 @@
+package com.example.spot.service.post;
+
+import com.example.spot.api.exception.handler.PostHandler;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.Post;
+import com.example.spot.domain.PostComment;
+import com.example.spot.domain.enums.Board;
+import com.example.spot.domain.enums.PostRanking;
+import com.example.spot.repository.LikedPostCommentRepository;
+import com.example.spot.repository.LikedPostRepository;
+import com.example.spot.repository.MemberScrapRepository;
+import com.example.spot.repository.PostCommentRepository;
+import com.example.spot.repository.PostRepository;
+import com.example.spot.repository.querydsl.PostCommentReactionCount;
+import com.example.spot.service.hitcount.HitCountBuffer;
+import com.example.spot.web.dto.post.CommentDetailResponse;
+import com.example.spot.web.dto.post.CommentResponse;
+import com.example.spot.web.dto.post.PostBest5DetailResponse;
+import com.example.spot.web.dto.post.PostBest5Response;
+import com.example.spot.web.dto.post.PostPagingDetailResponse;
+import com.example.spot.web.dto.post.PostPagingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostQueryServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostCommentRepository postCommentRepository;
+    @Mock
+    private LikedPostRepository likedPostRepository;
+    @Mock
+    private LikedPostCommentRepository likedPostCommentRepository;
+    @Mock
+    private MemberScrapRepository memberScrapRepository;
+    @Mock
+    private PostBestSnapshotService postBestSnapshotService;
+
+    // 좋아요 조회 서비스는 실제 구현체를 사용하여 레포지토리 호출 횟수를 검증
+    private PostQueryServiceImpl postQueryService;
+
+    private static Member member;
+
+    private static final Long POST_ID = 1L;
+    private static final int COMMENT_COUNT = 300;
+
+    @BeforeEach
+    void setUp() {
+        postQueryService = new PostQueryServiceImpl(
+                postRepository,
+                new LikedPostQueryServiceImpl(likedPostRepository),
+                postCommentRepository,
+                new LikedPostCommentQueryServiceImpl(likedPostCommentRepository),
+                memberScrapRepository,
+                new HitCountBuffer(),
+                postBestSnapshotService,
+                new PostHomeCache());
+
+        member = Member.builder()
+                .id(1L)
+                .name("회원")
+                .profileImage("profile.png")
+                .build();
+
+        getAuthentication(member.getId());
+    }
+
+/*-------------------------------------------------------- 댓글 목록 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("댓글 목록 조회 - 댓글 수와 관계없이 좋아요/싫어요 집계 쿼리는 한 번만 실행 (성공)")
+    void getCommentsByPostId_SingleAggregationQuery_Success() {
+
+        // given
+        List<PostComment> comments = LongStream.rangeClosed(1, COMMENT_COUNT)
+                .mapToObj(PostQueryServiceTest::createComment)
+                .toList();
+        when(postCommentRepository.findCommentsByPostId(POST_ID)).thenReturn(comments);
+        when(likedPostCommentRepository.countByPostId(POST_ID, member.getId())).thenReturn(List.of(
+                new PostCommentReactionCount(1L, 3L, 1L, 0L),
+                new PostCommentReactionCount(2L, 0L, 0L, 1L)));
+
+        // when
+        CommentResponse result = postQueryService.getCommentsByPostId(POST_ID);
+
+        // then
+        List<CommentDetailResponse> responses = result.getComments();
+        assertThat(responses).hasSize(COMMENT_COUNT);
+        assertThat(responses.get(0).getLikeCount()).isEqualTo(3L);
+        assertThat(responses.get(0).isLikedByCurrentUser()).isTrue();
+        assertThat(responses.get(1).getLikeCount()).isEqualTo(0L);
+        assertThat(responses.get(1).isDislikedByCurrentUser()).isTrue();
+        assertThat(responses.get(2).getLikeCount()).isEqualTo(0L);
+        assertThat(responses.get(2).isLikedByCurrentUser()).isFalse();
+        assertThat(responses.get(2).isDislikedByCurrentUser()).isFalse();
+
+        verify(likedPostCommentRepository, times(1)).countByPostId(POST_ID, member.getId());
+        verifyNoMoreInteractions(likedPostCommentRepository);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 - 댓글이 없는 경우 집계 쿼리를 실행하지 않음 (성공)")
+    void getCommentsByPostId_NoComments_Success() {
+
+        // given
+        when(postCommentRepository.findCommentsByPostId(POST_ID)).thenReturn(List.of());
+
+        // when
+        CommentResponse result = postQueryService.getCommentsByPostId(POST_ID);
+
+        // then
+        assertThat(result.getComments()).isEmpty();
+        verifyNoInteractions(likedPostCommentRepository);
+    }
+
+/*-------------------------------------------------------- 게시글 목록 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("게시글 페이징 조회 - 수는 카운터 컬럼을 사용하고 회원의 좋아요/스크랩 여부만 목록 단위로 한 번씩 조회 (성공)")
+    void getPagingPosts_SingleAggregationQuery_Success() {
+
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        List<Post> posts = LongStream.rangeClosed(1, 10)
+                .mapToObj(PostQueryServiceTest::createPost)
+                .toList();
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        when(postRepository.findByIsReportedFalseOrderByCreatedAtDesc(pageable)).thenReturn(new PageImpl<>(posts, pageable, posts.size()));
+        when(likedPostRepository.findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds)).thenReturn(List.of(1L));
+        when(memberScrapRepository.findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds)).thenReturn(List.of(3L));
+
+        // when
+        PostPagingResponse result = postQueryService.getPagingPosts(Board.ALL.name(), pageable);
+
+        // then
+        List<PostPagingDetailResponse> responses = result.getPostResponses();
+        assertThat(responses).hasSize(10);
+        assertThat(responses.get(0).getLikeCount()).isEqualTo(1L);
+        assertThat(responses.get(0).getScrapCount()).isEqualTo(2L);
+        assertThat(responses.get(0).getCommentCount()).isEqualTo(3);
+        assertThat(responses.get(0).isLikedByCurrentUser()).isTrue();
+        assertThat(responses.get(0).isScrapedByCurrentUser()).isFalse();
+        assertThat(responses.get(2).isLikedByCurrentUser()).isFalse();
+        assertThat(responses.get(2).isScrapedByCurrentUser()).isTrue();
+
+        verify(likedPostRepository, times(1)).findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds);
+        verify(memberScrapRepository, times(1)).findPostIdsByMemberIdAndPostIdIn(member.getId(), postIds);
+        verifyNoMoreInteractions(likedPostRepository, memberScrapRepository);
+    }
+
+/*-------------------------------------------------------- 인기글 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인기글 조회 - 현재 세대의 스냅샷을 반환하며 DB를 조회하지 않음 (성공)")
+    void getPostBest_FromSnapshot_Success() {
+
+        // given
+        List<PostBest5DetailResponse> snapshot = List.of(
+                PostBest5DetailResponse.builder().postId(3L).rank(1).postTitle("게시글 3").build(),
+                PostBest5DetailResponse.builder().postId(1L).rank(2).postTitle("게시글 1").build());
+        when(postBestSnapshotService.getBestPosts(PostRanking.RECOMMEND)).thenReturn(snapshot);
+
+        // when
+        PostBest5Response result = postQueryService.getPostBest("RECOMMEND");
+
+        // then
+        assertThat(result.getSortType()).isEqualTo("RECOMMEND");
+        assertThat(result.getPostBest5Responses())
+                .extracting(PostBest5DetailResponse::getPostId)
+                .containsExactly(3L, 1L);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("인기글 조회 - 인기글 종류가 잘못된 경우 (실패)")
+    void getPostBest_InvalidSortType_Fail() {
+
+        // when & then
+        assertThrows(PostHandler.class, () -> postQueryService.getPostBest("INVALID"));
+    }
+
+/*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static PostComment createComment(long commentId) {
+        PostComment comment = mock(PostComment.class);
+        when(comment.getId()).thenReturn(commentId);
+        when(comment.getContent()).thenReturn("댓글 " + commentId);
+        when(comment.getMember()).thenReturn(member);
+        when(comment.getCreatedAt()).thenReturn(LocalDateTime.now());
+        return comment;
+    }
+
+    private static Post createPost(long postId) {
+        return Post.builder()
+                .id(postId)
+                .title("게시글 " + postId)
+                .content("내용")
+                .board(Board.FREE_TALK)
+                .member(member)
+                .likeNum(1)
+                .scrapNum(2)
+                .commentNum(3)
+                .postCommentList(new ArrayList<>())
+                .build();
+    }
+
+    private static void getAuthentication(Long memberId) {
+        String idString = String.valueOf(memberId);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(idString, null, Collections.emptyList());
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotKeywordBufferTest {
+
+    private HotKeywordBuffer hotKeywordBuffer;
+
+    @BeforeEach
+    void setUp() {
+        hotKeywordBuffer = new HotKeywordBuffer();
+    }
+
+    /*-------------------------------------------------------- 누적 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색어 누적 - 정규화한 검색어별로 누적하고 집계 대상이 아닌 검색어는 제외")
+    void record_Normalized_Success() {
+
+        // when
+        hotKeywordBuffer.record("Spring");
+        hotKeywordBuffer.record("  spring ");
+        hotKeywordBuffer.record("JPA");
+        hotKeywordBuffer.record("   ");
+        hotKeywordBuffer.record(null);
+
+        // then
+        assertEquals(Map.of("spring", 2L, "jpa", 1L), hotKeywordBuffer.drain());
+    }
+
+    @Test
+    @DisplayName("검색어 누적 - 동시에 누적해도 추적 중인 검색어의 증가분이 누락되지 않음")
+    void record_Concurrent_Success() throws InterruptedException {
+
+        // given
+        int threads = 8;
+        int searchesPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < searchesPerThread; j++)
+                    hotKeywordBuffer.record("스프링");
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals((long) threads * searchesPerThread, hotKeywordBuffer.drain().get("스프링"));
+    }
+
+    /*-------------------------------------------------------- Space-Saving ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("Space-Saving - 추적 목록이 가득 차면 추정 빈도가 최소 빈도보다 큰 새 검색어만 추적")
+    void record_Full_ReplaceMin() {
+
+        // given
+        fill(HotKeywordBuffer.CAPACITY);
+
+        // when
+        hotKeywordBuffer.record("hot");
+        int sizeAfterFirst = hotKeywordBuffer.size();
+        hotKeywordBuffer.record("hot");
+        hotKeywordBuffer.record("hot");
+
+        // then
+        assertEquals(HotKeywordBuffer.CAPACITY, sizeAfterFirst);
+        assertEquals(HotKeywordBuffer.CAPACITY, hotKeywordBuffer.size());
+        assertTrue(hotKeywordBuffer.drain().get("hot") >= 3L);
+    }
+
+    @Test
+    @DisplayName("Space-Saving - 추적 목록에서 내보낸 검색어의 누적분도 반영 대상에 포함")
+    void drain_EvictedKeyword_Included() {
+
+        // given
+        fill(HotKeywordBuffer.CAPACITY);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            hotKeywordBuffer.record("hot");
+            hotKeywordBuffer.record("warm");
+        }
+        Map<String, Long> drained = hotKeywordBuffer.drain();
+
+        // then
+        for (int i = 0; i < HotKeywordBuffer.CAPACITY; i++)
+            assertEquals(1L, drained.get("keyword" + i));
+        assertTrue(drained.get("hot") >= 3L);
+        assertTrue(drained.get("warm") >= 3L);
+    }
+
+    @Test
+    @DisplayName("Space-Saving - 내보냈다가 다시 추적한 검색어의 누적분을 중복 반영하지 않음")
+    void drain_ReadmittedKeyword_NotDoubleCounted() {
+
+        // given
+        int keywords = HotKeywordBuffer.CAPACITY + 44;
+        int rounds = 5;
+
+        // when
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < keywords; i++)
+                hotKeywordBuffer.record("keyword" + i);
+        }
+        long total = hotKeywordBuffer.drain().values().stream().mapToLong(Long::longValue).sum();
+
+        // then
+        // 추적 목록이 계속 교체되지만, 반영되는 합계는 실제 검색 수에 Count-Min Sketch의 과대 추정분만 더해짐
+        assertTrue(total <= (long) keywords * rounds + 50, "total = " + total);
+    }
+
+    /*-------------------------------------------------------- Count-Min Sketch ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("Count-Min Sketch - 드문 검색어가 많아도 자주 검색된 검색어를 과소 추정하지 않음")
+    void record_HeavyHitter_NotUnderestimated() {
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            hotKeywordBuffer.record("rare" + i);
+            if (i % 20 == 0)
+                hotKeywordBuffer.record("spring");
+        }
+        for (int i = 0; i < 50; i++)
+            hotKeywordBuffer.record("spring");
+        Map<String, Long> drained = hotKeywordBuffer.drain();
+
+        // then
+        assertTrue(drained.get("spring") >= 100L);
+        assertTrue(drained.get("spring") <= 110L, "spring = " + drained.get("spring"));
+    }
+
+    /*-------------------------------------------------------- 반영 및 복구 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색어 꺼내기 - 누적분을 반환하고 새 집계를 시작")
+    void drain_Success() {
+
+        // given
+        hotKeywordBuffer.record("spring");
+
+        // when
+        Map<String, Long> drained = hotKeywordBuffer.drain();
+
+        // then
+        assertEquals(Map.of("spring", 1L), drained);
+        assertEquals(0, hotKeywordBuffer.size());
+        assertTrue(hotKeywordBuffer.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색어 복구 - 반영에 실패한 증가분을 새 집계에 다시 누적")
+    void restore_Success() {
+
+        // given
+        hotKeywordBuffer.record("spring");
+        Map<String, Long> failed = hotKeywordBuffer.drain();
+        hotKeywordBuffer.record("spring");
+
+        // when
+        hotKeywordBuffer.restore(failed);
+
+        // then
+        assertEquals(Map.of("spring", 2L), hotKeywordBuffer.drain());
+    }
+
+    @Test
+    @DisplayName("검색어 복구 - 추적 목록이 가득 차 있어도 복구한 증가분을 모두 다시 누적")
+    void restore_Full_NotDropped() {
+
+        // given
+        Map<String, Long> failed = Map.of("spring", 1L, "jpa", 2L);
+        fill(HotKeywordBuffer.CAPACITY);
+        hotKeywordBuffer.record("keyword0");
+
+        // when
+        hotKeywordBuffer.restore(failed);
+        Map<String, Long> drained = hotKeywordBuffer.drain();
+
+        // then
+        assertEquals(1L, drained.get("spring"));
+        assertEquals(2L, drained.get("jpa"));
+        assertEquals(2L, drained.get("keyword0"));
+        assertEquals(HotKeywordBuffer.CAPACITY + 2, drained.size());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private void fill(int keywords) {
+        for (int i = 0; i < keywords; i++)
+            hotKeywordBuffer.record("keyword" + i);
+    }
+}
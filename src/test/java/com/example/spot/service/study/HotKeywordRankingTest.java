@@ -0,0 +1,299 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HotKeywordRankingTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Captor
+    private ArgumentCaptor<List<String>> othersCaptor;
+
+    @InjectMocks
+    private HotKeywordRanking hotKeywordRanking;
+
+    private static final String KEYWORD = "study:keyword";
+    private static final String HOT_KEYWORD = "study:hot-keyword";
+    private static final String TRENDING_KEY = KEYWORD + ":trending";
+    private static final String TRENDING_TEMP_KEY = TRENDING_KEY + ":rebuild";
+    private static final String BUCKET_KEY_PREFIX = KEYWORD + ":hour:";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotKeywordRanking, "KEYWORD", KEYWORD);
+        ReflectionTestUtils.setField(hotKeywordRanking, "HOT_KEYWORD", HOT_KEYWORD);
+        ReflectionTestUtils.setField(hotKeywordRanking, "LAST_UPDATED", "study:last-updated");
+
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of();
+        });
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+            .thenReturn(2L);
+    }
+
+    /*-------------------------------------------------------- 정규화 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색어 정규화 - 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환")
+    void normalize_Whitespace_Success() {
+
+        // when & then
+        assertEquals("spring boot", HotKeywordRanking.normalize("  Spring \t  BOOT \n"));
+        assertEquals(HotKeywordRanking.normalize("스프링 JPA"), HotKeywordRanking.normalize("스프링   jpa"));
+    }
+
+    @Test
+    @DisplayName("검색어 정규화 - 자모가 분리된(NFD) 한글을 완성형(NFC)으로 합쳐 같은 검색어로 집계")
+    void normalize_Nfc_Success() {
+
+        // given
+        String decomposed = Normalizer.normalize("스프링", Normalizer.Form.NFD);
+
+        // when & then
+        assertNotEquals("스프링", decomposed);
+        assertEquals("스프링", HotKeywordRanking.normalize(decomposed));
+    }
+
+    @Test
+    @DisplayName("검색어 정규화 - null, 공백, 너무 긴 검색어는 집계하지 않음")
+    void normalize_NotRecorded_Empty() {
+
+        // when & then
+        assertEquals("", HotKeywordRanking.normalize(null));
+        assertEquals("", HotKeywordRanking.normalize("   "));
+        assertEquals("", HotKeywordRanking.normalize("a".repeat(31)));
+        assertEquals("a".repeat(30), HotKeywordRanking.normalize(" " + "A".repeat(30) + " "));
+    }
+
+    /*-------------------------------------------------------- 집계 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색어 집계 - 현재 시간의 버킷에 증가분을 누적하고 만료 시간 설정")
+    void recordAll_Success() {
+
+        // given
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("스프링", 3L);
+        counts.put("jpa", 1L);
+
+        // when
+        hotKeywordRanking.recordAll(counts);
+
+        // then
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(zSetOperations).incrementScore(keyCaptor.capture(), eq("스프링"), eq(3.0));
+        verify(zSetOperations).incrementScore(keyCaptor.getValue(), "jpa", 1.0);
+        assertTrue(keyCaptor.getValue().startsWith(BUCKET_KEY_PREFIX));
+        verify(redisTemplate).expire(keyCaptor.getValue(), Duration.ofHours(HotKeywordRanking.WINDOW_HOURS + 1));
+    }
+
+    @Test
+    @DisplayName("검색어 집계 - 증가분이 없으면 Redis에 요청하지 않음")
+    void recordAll_Empty_Skipped() {
+
+        // when
+        hotKeywordRanking.recordAll(Map.of());
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    /*-------------------------------------------------------- 급상승 검색어 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("급상승 검색어 - 최근 24시간 버킷을 6시간 반감기의 가중치로 합산한 뒤 상위 100개로 교체")
+    void publishTrending_DecayedUnion_Success() {
+
+        // when
+        boolean published = hotKeywordRanking.publishTrending();
+
+        // then
+        ArgumentCaptor<String> currentCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Weights> weightsCaptor = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(currentCaptor.capture(), othersCaptor.capture(), eq(TRENDING_TEMP_KEY),
+            eq(Aggregate.SUM), weightsCaptor.capture());
+
+        long currentHour = hour(currentCaptor.getValue());
+        List<String> others = othersCaptor.getValue();
+        assertEquals(HotKeywordRanking.WINDOW_HOURS - 1, others.size());
+        for (int age = 1; age < HotKeywordRanking.WINDOW_HOURS; age++) {
+            assertEquals(currentHour - age, hour(others.get(age - 1)));
+        }
+
+        Weights weights = weightsCaptor.getValue();
+        assertEquals(HotKeywordRanking.WINDOW_HOURS, weights.size());
+        assertEquals(1.0, weights.getWeight(0), 1e-9);
+        assertEquals(0.5, weights.getWeight(6), 1e-9);
+        assertEquals(0.25, weights.getWeight(12), 1e-9);
+        assertEquals(Math.pow(0.5, 23 / 6.0), weights.getWeight(23), 1e-9);
+
+        assertTrue(published);
+        verify(zSetOperations).removeRange(TRENDING_TEMP_KEY, 0, -(HotKeywordRanking.TRENDING_SIZE + 1));
+        verify(redisTemplate).rename(TRENDING_TEMP_KEY, TRENDING_KEY);
+    }
+
+    @Test
+    @DisplayName("급상승 검색어 - 집계된 검색어가 없으면 기존 목록을 유지")
+    void publishTrending_Empty_KeepCurrent() {
+
+        // given
+        when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+            .thenReturn(0L);
+
+        // when
+        boolean published = hotKeywordRanking.publishTrending();
+
+        // then
+        assertFalse(published);
+        verify(redisTemplate).delete(TRENDING_TEMP_KEY);
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("급상승 검색어 - 다른 서버가 발행 잠금을 가진 경우 임시 키를 사용하지 않고 건너뜀")
+    void publishTrending_Locked_Skipped() {
+
+        // given
+        when(valueOperations.setIfAbsent(eq(TRENDING_KEY + ":lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        boolean published = hotKeywordRanking.publishTrending();
+
+        // then
+        assertFalse(published);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    /*-------------------------------------------------------- 인기 검색어 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인기 검색어 - 급상승 검색어 상위 5개를 감쇠된 소수 점수 그대로 발행")
+    void publish_FractionalScore_Success() {
+
+        // given
+        Set<TypedTuple<String>> top = new LinkedHashSet<>();
+        top.add(new DefaultTypedTuple<>("스프링", 12.5));
+        top.add(new DefaultTypedTuple<>("jpa", 3.25));
+        when(zSetOperations.reverseRangeWithScores(TRENDING_KEY, 0, HotKeywordRanking.HOT_KEYWORD_SIZE - 1))
+            .thenReturn(top);
+
+        // when
+        boolean published = hotKeywordRanking.publish();
+
+        // then
+        assertTrue(published);
+        verify(zSetOperations).add(HOT_KEYWORD + ":rebuild", top);
+        verify(redisTemplate).rename(HOT_KEYWORD + ":rebuild", HOT_KEYWORD);
+        verify(valueOperations).set(eq("study:last-updated"), anyString());
+    }
+
+    @Test
+    @DisplayName("인기 검색어 - 다른 서버가 발행 잠금을 가진 경우 건너뜀")
+    void publish_Locked_Skipped() {
+
+        // given
+        when(valueOperations.setIfAbsent(eq(HOT_KEYWORD + ":lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        boolean published = hotKeywordRanking.publish();
+
+        // then
+        assertFalse(published);
+        verify(zSetOperations, never()).add(anyString(), any(Set.class));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("인기 검색어 - 다른 서버가 방금 급상승 검색어를 갱신한 경우 그 결과로 발행")
+    void publish_TrendingLocked_UsesPublishedTrending() {
+
+        // given
+        when(valueOperations.setIfAbsent(eq(TRENDING_KEY + ":lock"), anyString(), any(Duration.class))).thenReturn(false);
+        Set<TypedTuple<String>> top = new LinkedHashSet<>();
+        top.add(new DefaultTypedTuple<>("스프링", 12.5));
+        when(zSetOperations.reverseRangeWithScores(TRENDING_KEY, 0, HotKeywordRanking.HOT_KEYWORD_SIZE - 1))
+            .thenReturn(top);
+
+        // when
+        boolean published = hotKeywordRanking.publish();
+
+        // then
+        assertTrue(published);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class));
+        verify(redisTemplate).rename(HOT_KEYWORD + ":rebuild", HOT_KEYWORD);
+    }
+
+    @Test
+    @DisplayName("급상승 검색어 조회 - 소수 점수를 점수 내림차순으로 반환")
+    void getTrendingKeywords_FractionalScore_Success() {
+
+        // given
+        Set<TypedTuple<String>> trending = new LinkedHashSet<>();
+        trending.add(new DefaultTypedTuple<>("스프링", 7.75));
+        trending.add(new DefaultTypedTuple<>("jpa", 0.125));
+        when(zSetOperations.reverseRangeWithScores(TRENDING_KEY, 0, HotKeywordRanking.TRENDING_SIZE - 1))
+            .thenReturn(trending);
+
+        // when
+        Map<String, Double> keywords = hotKeywordRanking.getTrendingKeywords();
+
+        // then
+        assertEquals(List.of("스프링", "jpa"), List.copyOf(keywords.keySet()));
+        assertEquals(0.125, keywords.get("jpa"));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static long hour(String bucketKey) {
+        assertTrue(bucketKey.startsWith(BUCKET_KEY_PREFIX));
+        return Long.parseLong(bucketKey.substring(BUCKET_KEY_PREFIX.length()));
+    }
+}
@@ -1,20 +1,235 @@
 package com.example.spot.service.study;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.example.spot.api.code.status.ErrorStatus;
+import com.example.spot.api.exception.handler.StudyHandler;
+import com.example.spot.domain.Member;
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudyLikeStatus;
+import com.example.spot.domain.study.Study;
+import com.example.spot.repository.MemberRepository;
+import com.example.spot.repository.MemberStudyRepository;
+import com.example.spot.repository.PreferredStudyRepository;
+import com.example.spot.repository.RegionRepository;
+import com.example.spot.repository.RegionStudyRepository;
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.StudyThemeRepository;
+import com.example.spot.repository.ThemeRepository;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
+import com.example.spot.web.dto.study.request.StudyJoinRequestDTO;
+import com.example.spot.web.dto.study.request.StudyRegisterRequestDTO;
+import com.example.spot.web.dto.study.response.StudyLikeResponseDTO;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class StudyCommandServiceTest {
 
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private StudyRepository studyRepository;
+    @Mock
+    private RegionRepository regionRepository;
+    @Mock
+    private ThemeRepository themeRepository;
+    @Mock
+    private MemberStudyRepository memberStudyRepository;
+    @Mock
+    private RegionStudyRepository regionStudyRepository;
+    @Mock
+    private StudyThemeRepository studyThemeRepository;
+    @Mock
+    private PreferredStudyRepository preferredStudyRepository;
+    @Mock
+    private HotKeywordBuffer hotKeywordBuffer;
+    @Mock
+    private StudyMembershipContext studyMembershipContext;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StudyCommandServiceImpl studyCommandService;
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long STUDY_ID = 10L;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = getMember();
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+            String.valueOf(MEMBER_ID), null, Collections.emptyList());
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+        when(memberStudyRepository.findByMemberIdAndStatusNot(any(), any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /*-------------------------------------------------------- 스터디 참여 신청 ------------------------------------------------------------------------*/
+
     @Test
-    void applyToStudy() {
+    @DisplayName("스터디 참여 신청 - 정원이 남은 경우 신청 성공")
+    void applyToStudy_Success() {
+
+        // given
+        Study study = getStudy(2L, 1);
+        when(studyRepository.findById(STUDY_ID)).thenReturn(Optional.of(study));
+
+        // when
+        studyCommandService.applyToStudy(STUDY_ID, new StudyJoinRequestDTO.StudyJoinDTO("참여하고 싶습니다."));
+
+        // then
+        verify(memberStudyRepository).save(any());
     }
 
     @Test
-    void registerStudy() {
+    @DisplayName("스터디 참여 신청 - 승인된 회원 수가 정원에 도달한 경우 실패")
+    void applyToStudy_StudyIsFull_Fail() {
+
+        // given
+        Study study = getStudy(2L, 2);
+        when(studyRepository.findById(STUDY_ID)).thenReturn(Optional.of(study));
+
+        // when & then
+        StudyHandler exception = assertThrows(StudyHandler.class, () ->
+            studyCommandService.applyToStudy(STUDY_ID, new StudyJoinRequestDTO.StudyJoinDTO("참여하고 싶습니다.")));
+        assertEquals(ErrorStatus._STUDY_IS_FULL, exception.getStatus());
+        verify(memberStudyRepository, never()).save(any());
     }
 
+    /*-------------------------------------------------------- 스터디 생성 ------------------------------------------------------------------------*/
+
     @Test
-    void likeStudy() {
+    @DisplayName("스터디 생성 - 스터디장이 승인된 회원 수에 반영되고 생성 이벤트 발행")
+    void registerStudy_Success() {
+
+        // given
+        StudyRegisterRequestDTO.RegisterDTO request = new StudyRegisterRequestDTO.RegisterDTO(
+            List.of(), "스프링 스터디", "목표", "소개", true, "image.png", List.of(),
+            5L, Gender.UNKNOWN, 20, 30, 0, false);
+        when(studyRepository.save(any(Study.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(studyRepository.increaseApprovedMemberCount(any())).thenReturn(1);
+
+        // when
+        studyCommandService.registerStudy(request);
+
+        // then
+        ArgumentCaptor<Study> captor = ArgumentCaptor.forClass(Study.class);
+        verify(studyRepository, atLeastOnce()).save(captor.capture());
+        assertEquals(1L, captor.getValue().getApprovedMemberCount());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StudyChangedEvent changed
+            && changed.getType() == StudyChangedEvent.Type.CREATED));
+    }
+
+    /*-------------------------------------------------------- 스터디 찜 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 찜 - 찜 수가 바뀌면 수정 이벤트 발행")
+    void likeStudy_Success() {
+
+        // given
+        Study study = getStudy(5L, 1);
+        when(studyRepository.findById(STUDY_ID)).thenReturn(Optional.of(study));
+        when(preferredStudyRepository.findByMemberIdAndStudyId(MEMBER_ID, STUDY_ID)).thenReturn(Optional.empty());
+
+        // when
+        StudyLikeResponseDTO result = studyCommandService.likeStudy(MEMBER_ID, STUDY_ID);
+
+        // then
+        assertEquals(StudyLikeStatus.LIKE, result.getStatus());
+        assertEquals(1, study.getHeartCount());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StudyChangedEvent changed
+            && changed.getType() == StudyChangedEvent.Type.UPDATED));
+    }
+
+    /*-------------------------------------------------------- 승인된 회원 수 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("승인된 회원 수 - 증감이 0 미만으로 내려가지 않음")
+    void approvedMemberCount_Success() {
+
+        // given
+        Study study = getStudy(2L, 0);
+
+        // when
+        study.increaseApprovedMemberCount();
+        study.decreaseApprovedMemberCount();
+        study.decreaseApprovedMemberCount();
+
+        // then
+        assertEquals(0L, study.getApprovedMemberCount());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static Member getMember() {
+        return Member.builder()
+            .id(MEMBER_ID)
+            .name("회원")
+            .password("password")
+            .nickname("회원")
+            .email("member@example.com")
+            .birth(LocalDate.of(2000, 1, 1))
+            .gender(Gender.MALE)
+            .profileImage("profile.png")
+            .personalInfo(true)
+            .idInfo(true)
+            .isAdmin(false)
+            .build();
+    }
+
+    private static Study getStudy(Long maxPeople, int approvedMemberCount) {
+        Study study = Study.builder()
+            .gender(Gender.UNKNOWN)
+            .minAge(20)
+            .maxAge(30)
+            .fee(0)
+            .profileImage("image.png")
+            .hasFee(false)
+            .isOnline(true)
+            .goal("목표")
+            .introduction("소개")
+            .title("스프링 스터디")
+            .maxPeople(maxPeople)
+            .build();
+        for (int i = 0; i < approvedMemberCount; i++)
+            study.increaseApprovedMemberCount();
+        return study;
     }
-}
\ No newline at end of file
+}
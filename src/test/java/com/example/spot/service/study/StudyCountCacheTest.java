@@ -0,0 +1,132 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.spot.domain.enums.StudySortBy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StudyCountCacheTest {
+
+    private StudyCountCache studyCountCache;
+    private AtomicInteger countQueries;
+
+    private static final String KEY = "all:ALL:{}";
+
+    @BeforeEach
+    void setUp() {
+        studyCountCache = new StudyCountCache();
+        countQueries = new AtomicInteger();
+    }
+
+    /*-------------------------------------------------------- 캐시 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("개수 조회 - 같은 조건은 한 번만 조회")
+    void getOrCount_Cached_Success() {
+
+        // when
+        long first = studyCountCache.getOrCount(KEY, this::count);
+        long second = studyCountCache.getOrCount(KEY, this::count);
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("개수 조회 - TTL이 지나면 다시 조회")
+    void getOrCount_Expired_Success() {
+
+        // given
+        ReflectionTestUtils.setField(studyCountCache, "ttlSeconds", 0L);
+
+        // when
+        studyCountCache.getOrCount(KEY, this::count);
+        studyCountCache.getOrCount(KEY, this::count);
+
+        // then
+        assertEquals(2, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("개수 조회 - 조회 중 무효화되면 이전 값을 저장하지 않음")
+    void getOrCount_InvalidatedWhileCounting_Success() {
+
+        // when
+        long stale = studyCountCache.getOrCount(KEY, () -> {
+            studyCountCache.invalidateAll();
+            return 1L;
+        });
+        long fresh = studyCountCache.getOrCount(KEY, this::count);
+
+        // then
+        assertEquals(1L, stale);
+        assertEquals(10L, fresh);
+        assertEquals(1, countQueries.get());
+    }
+
+    /*-------------------------------------------------------- 이벤트 무효화 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 변경 이벤트 - 생성/종료 시 캐시 무효화")
+    void onStudyChanged_CreatedOrTerminated_Success() {
+
+        // given
+        studyCountCache.getOrCount(KEY, this::count);
+
+        // when
+        studyCountCache.onStudyChanged(StudyChangedEvent.created(1L));
+        studyCountCache.getOrCount(KEY, this::count);
+        studyCountCache.onStudyChanged(StudyChangedEvent.terminated(1L));
+        studyCountCache.getOrCount(KEY, this::count);
+
+        // then
+        assertEquals(3, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("스터디 변경 이벤트 - 개수에 영향이 없는 수정은 캐시를 유지")
+    void onStudyChanged_Updated_Success() {
+
+        // given
+        studyCountCache.getOrCount(KEY, this::count);
+
+        // when
+        studyCountCache.onStudyChanged(StudyChangedEvent.updated(1L));
+        studyCountCache.getOrCount(KEY, this::count);
+
+        // then
+        assertEquals(1, countQueries.get());
+    }
+
+    /*-------------------------------------------------------- 캐시 키 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("캐시 키 - 정렬 기준과 조건, ID 순서가 달라도 같은 키 생성")
+    void key_Normalized_Success() {
+
+        // when
+        String hit = StudyCountCache.key("conditions", Map.of("gender", "MALE", "isOnline", true),
+            StudySortBy.HIT, List.of(2L, 1L));
+        String liked = StudyCountCache.key("conditions", Map.of("isOnline", true, "gender", "MALE"),
+            StudySortBy.LIKED, List.of(1L, 2L));
+        String recruiting = StudyCountCache.key("conditions", Map.of("gender", "MALE", "isOnline", true),
+            StudySortBy.RECRUITING, List.of(1L, 2L));
+
+        // then
+        assertEquals(hit, liked);
+        assertNotEquals(hit, recruiting);
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 10L;
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.domain.enums.Gender;
+import com.example.spot.domain.enums.StudySortBy;
+import com.example.spot.domain.enums.StudyState;
+import com.example.spot.domain.enums.ThemeType;
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.querydsl.StudyDocument;
+import com.example.spot.repository.querydsl.StudyFacet;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudyFacetIndexTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    private StudyFacetIndex studyFacetIndex;
+    private StudyIndexLoader studyIndexLoader;
+
+    private static final String SEOUL = "1111000000";
+    private static final String BUSAN = "2611000000";
+
+    @BeforeEach
+    void setUp() {
+        studyFacetIndex = new StudyFacetIndex();
+        studyIndexLoader = new StudyIndexLoader(studyRepository, List.of(studyFacetIndex));
+
+        // 1: 어학/서울, 온라인, 무료, 남성, 20~30세, 모집중
+        // 2: 공모전/부산, 오프라인, 회비 10000, 여성, 25~35세, 모집중
+        // 3: 어학/부산, 온라인, 회비 5000, 무관, 30~40세, 모집 완료
+        givenStudies(
+            List.of(
+                facet(1L, StudyState.RECRUITING, Gender.MALE, true, false, 0, 20, 30),
+                facet(2L, StudyState.RECRUITING, Gender.FEMALE, false, true, 10000, 25, 35),
+                facet(3L, StudyState.COMPLETED, Gender.UNKNOWN, true, true, 5000, 30, 40)),
+            Map.of(1L, List.of(ThemeType.어학), 2L, List.of(ThemeType.공모전), 3L, List.of(ThemeType.어학)),
+            Map.of(1L, List.of(SEOUL), 2L, List.of(BUSAN), 3L, List.of(BUSAN)));
+        studyIndexLoader.rebuild();
+    }
+
+    /*-------------------------------------------------------- 적재 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인덱스 적재 전 - 후보를 반환하지 않아 DB 조회로 대체")
+    void findCandidates_NotReady_Empty() {
+
+        // given
+        StudyFacetIndex notReady = new StudyFacetIndex();
+
+        // when
+        Optional<BitSet> candidates = notReady.findCandidates(null, StudySortBy.ALL, null, null, null);
+
+        // then
+        assertFalse(notReady.isReady());
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 - 배치 단위로 전체 스터디를 적재")
+    void rebuild_Success() {
+
+        // when
+        BitSet candidates = findCandidates(null, StudySortBy.ALL, null, null, null);
+
+        // then
+        assertTrue(studyFacetIndex.isReady());
+        assertEquals(List.of(1L, 2L, 3L), StudyFacetIndex.getAllIds(candidates));
+    }
+
+    @Test
+    @DisplayName("인덱스 재적재 - 삭제된 스터디가 새 인덱스에서 빠짐")
+    void rebuild_Replaced_Success() {
+
+        // given
+        givenStudies(
+            List.of(facet(2L, StudyState.RECRUITING, Gender.FEMALE, false, true, 10000, 25, 35)),
+            Map.of(2L, List.of(ThemeType.공모전)),
+            Map.of(2L, List.of(BUSAN)));
+
+        // when
+        studyIndexLoader.rebuild();
+
+        // then
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(findCandidates(null, StudySortBy.ALL, null, null, null)));
+        assertFalse(studyFacetIndex.containsAnyTheme(List.of(ThemeType.어학)));
+    }
+
+    /*-------------------------------------------------------- 조건 교집합 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("패싯 개수 - 테마, 지역, 상태별 스터디 수")
+    void findCandidates_FacetCounts_Success() {
+
+        // when & then
+        assertEquals(2, findCandidates(null, StudySortBy.ALL, List.of(ThemeType.어학), null, null).cardinality());
+        assertEquals(1, findCandidates(null, StudySortBy.ALL, List.of(ThemeType.공모전), null, null).cardinality());
+        assertEquals(2, findCandidates(null, StudySortBy.ALL, null, List.of(BUSAN), null).cardinality());
+        assertEquals(2, findCandidates(null, StudySortBy.RECRUITING, null, null, null).cardinality());
+        assertEquals(1, findCandidates(null, StudySortBy.COMPLETED, null, null, null).cardinality());
+        assertTrue(studyFacetIndex.containsAnyRegion(List.of(SEOUL)));
+        assertFalse(studyFacetIndex.containsAnyRegion(List.of("9999999999")));
+    }
+
+    @Test
+    @DisplayName("조건 교집합 - 테마, 지역, 상태 조건을 모두 만족하는 스터디만 반환")
+    void findCandidates_Intersection_Success() {
+
+        // when
+        BitSet candidates = findCandidates(null, StudySortBy.RECRUITING,
+            List.of(ThemeType.어학, ThemeType.공모전), List.of(BUSAN), null);
+
+        // then
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(candidates));
+    }
+
+    @Test
+    @DisplayName("조건 교집합 - 온라인, 성별, 나이, 회비 조건을 DB 검색 조건과 같은 의미로 적용")
+    void findCandidates_Conditions_Success() {
+
+        // given
+        Map<String, Object> online = Map.of("isOnline", true);
+        Map<String, Object> offline = Map.of("isOnline", false);
+        Map<String, Object> female = Map.of("gender", Gender.FEMALE);
+        Map<String, Object> ages = Map.of("minAge", 25, "maxAge", 35);
+        Map<String, Object> fee = Map.of("hasFee", true, "fee", 5000);
+
+        // when & then
+        assertEquals(List.of(1L, 3L), StudyFacetIndex.getAllIds(findCandidates(online, StudySortBy.ALL, null, null, null)));
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(findCandidates(offline, StudySortBy.ALL, null, null, null)));
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(findCandidates(female, StudySortBy.ALL, null, null, null)));
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(findCandidates(ages, StudySortBy.ALL, null, null, null)));
+        assertEquals(List.of(3L), StudyFacetIndex.getAllIds(findCandidates(fee, StudySortBy.ALL, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("조건 교집합 - 제외할 스터디를 후보에서 제거")
+    void findCandidates_Excluded_Success() {
+
+        // when
+        BitSet candidates = findCandidates(null, StudySortBy.ALL, null, null, List.of(1L, 3L));
+
+        // then
+        assertEquals(List.of(2L), StudyFacetIndex.getAllIds(candidates));
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - ID 내림차순으로 offset 이후의 ID 반환")
+    void getPageIds_Success() {
+
+        // given
+        BitSet candidates = findCandidates(null, StudySortBy.ALL, null, null, null);
+
+        // when & then
+        assertEquals(List.of(3L, 2L), StudyFacetIndex.getPageIds(candidates, 0, 2));
+        assertEquals(List.of(1L), StudyFacetIndex.getPageIds(candidates, 2, 2));
+        assertEquals(List.of(), StudyFacetIndex.getPageIds(candidates, 3, 2));
+    }
+
+    /*-------------------------------------------------------- 변경 이벤트 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 생성 이벤트 - 새 스터디를 인덱스에 추가")
+    void onStudyChanged_Created_Success() {
+
+        // given
+        givenRefreshed(facet(4L, StudyState.RECRUITING, Gender.MALE, true, false, 0, 20, 30),
+            List.of(ThemeType.공모전), List.of(SEOUL));
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.created(4L));
+
+        // then
+        assertEquals(List.of(2L, 4L), StudyFacetIndex.getAllIds(
+            findCandidates(null, StudySortBy.ALL, List.of(ThemeType.공모전), null, null)));
+    }
+
+    @Test
+    @DisplayName("스터디 수정 이벤트 - 바뀐 값으로 기존 비트맵과 범위 배열을 교체")
+    void onStudyChanged_Updated_Success() {
+
+        // given - 1번 스터디가 부산 오프라인, 회비 3000원으로 변경
+        givenRefreshed(facet(1L, StudyState.RECRUITING, Gender.MALE, false, true, 3000, 20, 30),
+            List.of(ThemeType.어학), List.of(BUSAN));
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.updated(1L));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), StudyFacetIndex.getAllIds(
+            findCandidates(null, StudySortBy.ALL, null, List.of(BUSAN), null)));
+        assertFalse(studyFacetIndex.containsAnyRegion(List.of(SEOUL)));
+        assertEquals(List.of(1L, 3L), StudyFacetIndex.getAllIds(
+            findCandidates(Map.of("fee", 5000), StudySortBy.ALL, null, null, null)));
+        assertEquals(List.of(3L), StudyFacetIndex.getAllIds(
+            findCandidates(Map.of("isOnline", true), StudySortBy.ALL, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("스터디 종료 이벤트 - 조회되지 않는 스터디를 인덱스에서 제거")
+    void onStudyChanged_Terminated_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(3L))).thenReturn(List.of());
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.terminated(3L));
+
+        // then
+        assertEquals(List.of(1L, 2L), StudyFacetIndex.getAllIds(findCandidates(null, StudySortBy.ALL, null, null, null)));
+        assertEquals(0, findCandidates(null, StudySortBy.COMPLETED, null, null, null).cardinality());
+        assertEquals(List.of(1L), StudyFacetIndex.getAllIds(
+            findCandidates(Map.of("hasFee", false), StudySortBy.ALL, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("스터디 변경 이벤트 - 인덱스 적재 전에는 무시")
+    void onStudyChanged_NotReady_Ignored() {
+
+        // given
+        StudyIndexLoader notLoaded = new StudyIndexLoader(studyRepository, List.of(new StudyFacetIndex()));
+
+        // when
+        notLoaded.onStudyChanged(StudyChangedEvent.created(4L));
+
+        // then
+        verify(studyRepository, never()).findStudyDocumentsByIds(anyList());
+        verify(studyRepository, never()).findStudyFacetsByIds(anyList());
+    }
+
+    /*-------------------------------------------------------- 범위 배열 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("범위 배열 - 경계값을 포함하여 이상/이하 조회")
+    void sortedValues_Success() {
+
+        // given
+        StudyFacetIndex.SortedValues values = new StudyFacetIndex.SortedValues();
+        values.add(10, 1);
+        values.add(20, 2);
+        values.add(20, 3);
+        values.add(30, 4);
+
+        // when
+        values.remove(20, 3);
+
+        // then
+        assertEquals(List.of(1L, 2L), StudyFacetIndex.getAllIds(values.atMost(20)));
+        assertEquals(List.of(2L, 4L), StudyFacetIndex.getAllIds(values.atLeast(20)));
+        assertEquals(List.of(), StudyFacetIndex.getAllIds(values.atLeast(31)));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private BitSet findCandidates(Map<String, Object> conditions, StudySortBy sortBy,
+        List<ThemeType> themeTypes, List<String> regionCodes, List<Long> excludedIds) {
+        return studyFacetIndex.findCandidates(conditions, sortBy, themeTypes, regionCodes, excludedIds)
+            .orElseThrow();
+    }
+
+    private void givenStudies(List<StudyFacet> rows, Map<Long, List<ThemeType>> themeTypes,
+        Map<Long, List<String>> regionCodes) {
+        List<StudyDocument> documents = rows.stream().map(row -> document(row.getId())).toList();
+        when(studyRepository.findStudyDocumentsAfterId(any(), anyInt())).thenReturn(documents, List.of());
+        when(studyRepository.findStudyFacetsByIds(anyList())).thenReturn(rows);
+        when(studyRepository.findThemeTypesByStudyIds(anyList())).thenReturn(new HashMap<>(themeTypes));
+        when(studyRepository.findRegionCodesByStudyIds(anyList())).thenReturn(new HashMap<>(regionCodes));
+    }
+
+    private void givenRefreshed(StudyFacet row, List<ThemeType> themeTypes, List<String> regionCodes) {
+        List<Long> studyIds = List.of(row.getId());
+        when(studyRepository.findStudyDocumentsByIds(studyIds)).thenReturn(List.of(document(row.getId())));
+        when(studyRepository.findStudyFacetsByIds(studyIds)).thenReturn(List.of(row));
+        when(studyRepository.findThemeTypesByStudyIds(studyIds)).thenReturn(Map.of(row.getId(), themeTypes));
+        when(studyRepository.findRegionCodesByStudyIds(studyIds)).thenReturn(Map.of(row.getId(), regionCodes));
+    }
+
+    private static StudyDocument document(Long id) {
+        return new StudyDocument(id, "스터디", "목표", "소개", 0L, 0);
+    }
+
+    private static StudyFacet facet(Long id, StudyState studyState, Gender gender, boolean isOnline,
+        boolean hasFee, int fee, int minAge, int maxAge) {
+        return new StudyFacet(id, studyState, gender, isOnline, hasFee, fee, minAge, maxAge);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudyIndexLoaderTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+    @Mock
+    private StudyIndex facetIndex;
+    @Mock
+    private StudyIndex searchIndex;
+    @Mock
+    private StudyIndex.Rebuild facetRebuild;
+    @Mock
+    private StudyIndex.Rebuild searchRebuild;
+
+    private StudyIndexLoader studyIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        studyIndexLoader = new StudyIndexLoader(studyRepository, List.of(facetIndex, searchIndex));
+        when(facetIndex.startRebuild()).thenReturn(facetRebuild);
+        when(searchIndex.startRebuild()).thenReturn(searchRebuild);
+    }
+
+    /*-------------------------------------------------------- 전체 적재 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("전체 적재 - 스터디를 배치마다 한 번만 조회하여 모든 인덱스에 전달한 뒤 교체")
+    void rebuild_SharedScan_Success() {
+
+        // given
+        List<StudyDocument> first = documents(1, 1_000);
+        List<StudyDocument> second = documents(1_001, 1_200);
+        when(studyRepository.findStudyDocumentsAfterId(null, 1_000)).thenReturn(first);
+        when(studyRepository.findStudyDocumentsAfterId(1_000L, 1_000)).thenReturn(second);
+
+        // when
+        studyIndexLoader.rebuild();
+
+        // then
+        verify(studyRepository, times(2)).findStudyDocumentsAfterId(any(), eq(1_000));
+        verify(studyRepository, times(2)).findStudyFacetsByIds(anyList());
+        verify(studyRepository, times(2)).findThemeTypesByStudyIds(anyList());
+        verify(studyRepository, times(2)).findRegionCodesByStudyIds(anyList());
+
+        ArgumentCaptor<StudyIndex.Rows> facetRows = ArgumentCaptor.forClass(StudyIndex.Rows.class);
+        ArgumentCaptor<StudyIndex.Rows> searchRows = ArgumentCaptor.forClass(StudyIndex.Rows.class);
+        verify(facetRebuild, times(2)).add(facetRows.capture());
+        verify(searchRebuild, times(2)).add(searchRows.capture());
+        assertEquals(facetRows.getAllValues(), searchRows.getAllValues());
+        assertEquals(second, searchRows.getValue().documents());
+        verify(facetRebuild).publish();
+        verify(searchRebuild).publish();
+    }
+
+    @Test
+    @DisplayName("전체 적재 - 스터디가 없어도 빈 인덱스로 교체")
+    void rebuild_Empty_Published() {
+
+        // given
+        when(studyRepository.findStudyDocumentsAfterId(null, 1_000)).thenReturn(List.of());
+
+        // when
+        studyIndexLoader.rebuild();
+
+        // then
+        verify(studyRepository, never()).findStudyFacetsByIds(anyList());
+        verify(facetRebuild, never()).add(any());
+        verify(facetRebuild).publish();
+        verify(searchRebuild).publish();
+    }
+
+    /*-------------------------------------------------------- 변경 이벤트 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 변경 이벤트 - 변경된 스터디를 한 번만 조회하여 모든 인덱스에 반영")
+    void onStudyChanged_Success() {
+
+        // given
+        studyIndexLoader.rebuild();
+        List<StudyDocument> changed = documents(7, 7);
+        when(studyRepository.findStudyDocumentsByIds(List.of(7L))).thenReturn(changed);
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.updated(7L));
+
+        // then
+        ArgumentCaptor<StudyIndex.Rows> rows = ArgumentCaptor.forClass(StudyIndex.Rows.class);
+        verify(facetIndex).refresh(eq(7L), rows.capture());
+        verify(searchIndex).refresh(7L, rows.getValue());
+        assertEquals(changed, rows.getValue().documents());
+        verify(studyRepository, times(1)).findStudyFacetsByIds(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("스터디 변경 이벤트 - 전체 적재 전에는 조회하지 않음")
+    void onStudyChanged_NotLoaded_Ignored() {
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.created(7L));
+
+        // then
+        verify(studyRepository, never()).findStudyDocumentsByIds(anyList());
+        verify(facetIndex, never()).refresh(any(), any());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static List<StudyDocument> documents(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> new StudyDocument(id, "스터디 " + id, "목표", "소개", 0L, 0))
+            .toList();
+    }
+}
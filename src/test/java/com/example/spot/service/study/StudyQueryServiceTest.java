@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
@@ -38,16 +39,22 @@ import com.example.spot.repository.RegionStudyRepository;
 import com.example.spot.repository.StudyRepository;
 import com.example.spot.repository.StudyThemeRepository;
 import com.example.spot.repository.ThemeRepository;
+import com.example.spot.service.hitcount.HitCountBuffer;
 import com.example.spot.security.utils.SecurityUtils;
 import com.example.spot.web.dto.search.SearchRequestDTO.SearchRequestStudyDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.HotKeywordDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.HotKeywordDTO.KeywordDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.MyPageDTO;
 import com.example.spot.web.dto.search.SearchResponseDTO.StudyPreviewDTO;
+import com.example.spot.web.dto.search.SearchResponseDTO.SuggestionDTO;
 import com.example.spot.web.dto.study.response.StudyInfoResponseDTO.StudyInfoDTO;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -55,16 +62,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.parameters.P;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -95,6 +109,34 @@ class StudyQueryServiceTest {
     @Mock
     private RegionStudyRepository regionStudyRepository;
 
+    // 검색 결과 개수 캐시
+    @Spy
+    private StudyCountCache studyCountCache = new StudyCountCache();
+
+    // 패싯 인덱스 - 준비되지 않은 상태(DB 조회)로 동작
+    @Mock
+    private StudyFacetIndex studyFacetIndex;
+
+    // 전문 검색 인덱스 - 준비되지 않은 상태(DB 조회)로 동작
+    @Mock
+    private StudySearchIndex studySearchIndex;
+
+    // 검색어 자동완성 인덱스
+    @Mock
+    private StudySuggestionIndex studySuggestionIndex;
+
+    // 조회수 버퍼
+    @Spy
+    private HitCountBuffer hitCountBuffer = new HitCountBuffer();
+
+    // 인기 검색어
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
     @InjectMocks
     private StudyQueryServiceImpl studyQueryService;
 
@@ -313,6 +355,43 @@ class StudyQueryServiceTest {
 
     }
 
+    @Test
+    @DisplayName("검색 조건 없는 스터디 검색 - slice 모드에서 한 건 더 조회되면 다음 페이지가 있는 것으로 계산")
+    void 검색_조건_없는_스터디_검색_slice_다음_페이지_존재(){
+        //given
+        Pageable slicePageable = PageRequest.of(1, 2);
+        when(studyRepository.findAllStudy(StudySortBy.ALL, 2L, 3))
+            .thenReturn(List.of(study1, study2, study1));
+
+        // when
+        StudyPreviewDTO result = studyQueryService.findStudies(slicePageable, StudySortBy.ALL, true);
+
+        // then
+        assertFalse(result.isLast());
+        assertEquals(2, result.getContent().size());
+        assertEquals(-1, result.getTotalElements());
+        assertEquals(-1, result.getTotalPages());
+        verify(studyRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("검색 조건 없는 스터디 검색 - slice 모드에서 마지막 페이지가 정확히 가득 차도 마지막 페이지로 계산")
+    void 검색_조건_없는_스터디_검색_slice_마지막_페이지(){
+        //given
+        Pageable slicePageable = PageRequest.of(1, 2);
+        when(studyRepository.findAllStudy(StudySortBy.ALL, 2L, 3))
+            .thenReturn(List.of(study1, study2));
+
+        // when
+        StudyPreviewDTO result = studyQueryService.findStudies(slicePageable, StudySortBy.ALL, true);
+
+        // then
+        assertTrue(result.isLast());
+        assertEquals(2, result.getContent().size());
+        assertEquals(-1, result.getTotalElements());
+        verify(studyRepository, never()).count();
+    }
+
     @Test
     @DisplayName("검색 조건 없는 스터디 검색 - 조회된 스터디가 없을 경우")
     void 검색_조건_없는_스터디_검색_시_스터디가_없는_경우() {
@@ -1797,6 +1876,75 @@ class StudyQueryServiceTest {
 
     }
 
+    /* -------------------------------------------------------- 검색어 자동완성 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색어 자동완성 - 성공")
+    void 검색어_자동완성_성공() {
+        // given
+        when(studySuggestionIndex.suggest("스프링", 10))
+            .thenReturn(List.of("스프링 스터디", "스프링 부트"));
+
+        // when
+        SuggestionDTO result = studyQueryService.getSuggestions("스프링", 10);
+
+        // then
+        assertEquals("스프링", result.getPrefix());
+        assertEquals(List.of("스프링 스터디", "스프링 부트"), result.getSuggestions());
+        verify(studySuggestionIndex, times(1)).suggest("스프링", 10);
+    }
+
+    @Test
+    @DisplayName("검색어 자동완성 - 일치하는 후보가 없는 경우")
+    void 검색어_자동완성_후보가_없는_경우() {
+        // given
+        when(studySuggestionIndex.suggest("없는검색어", 10)).thenReturn(List.of());
+
+        // when
+        SuggestionDTO result = studyQueryService.getSuggestions("없는검색어", 10);
+
+        // then
+        assertTrue(result.getSuggestions().isEmpty());
+    }
+
+    /* -------------------------------------------------------- 인기 검색어 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("인기 검색어 조회 - 시간 가중치로 감쇠된 소수 점수를 그대로 반환")
+    void 인기_검색어_조회_성공() {
+        // given
+        ReflectionTestUtils.setField(studyQueryService, "HOT_KEYWORD", "study:hot-keyword");
+        ReflectionTestUtils.setField(studyQueryService, "LAST_UPDATED", "study:last-updated");
+        Set<TypedTuple<String>> hotKeywords = new LinkedHashSet<>();
+        hotKeywords.add(new DefaultTypedTuple<>("스프링", 12.5));
+        hotKeywords.add(new DefaultTypedTuple<>("jpa", 0.75));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.reverseRangeWithScores("study:hot-keyword", 0, 4)).thenReturn(hotKeywords);
+        when(valueOperations.get("study:last-updated")).thenReturn("2024-07-01 13:00");
+
+        // when
+        HotKeywordDTO result = studyQueryService.getHotKeyword();
+
+        // then
+        assertEquals(List.of("스프링", "jpa"), result.getKeyword().stream().map(KeywordDTO::getKeyword).toList());
+        assertEquals(List.of(12.5, 0.75), result.getKeyword().stream().map(KeywordDTO::getPoint).toList());
+        assertEquals("2024-07-01 13:00", result.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("인기 검색어 조회 - 발행된 인기 검색어가 없는 경우")
+    void 인기_검색어가_없는_경우() {
+        // given
+        ReflectionTestUtils.setField(studyQueryService, "HOT_KEYWORD", "study:hot-keyword");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores("study:hot-keyword", 0, 4)).thenReturn(Set.of());
+
+        // when & then
+        GeneralException exception = assertThrows(GeneralException.class, () -> studyQueryService.getHotKeyword());
+        assertEquals(ErrorStatus._HOT_KEYWORD_NOT_FOUND, exception.getStatus());
+    }
+
     /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
 
 
@@ -1847,8 +1995,8 @@ class StudyQueryServiceTest {
                 .maxPeople(10L)
                 .build();
 
-        study1.increaseHit(); study1.increaseHit();
-        study3.increaseHit();
+        ReflectionTestUtils.setField(study1, "hitNum", 2L);
+        ReflectionTestUtils.setField(study3, "hitNum", 1L);
         study2.addPreferredStudy(getPreferredStudy(getMember(), study2));
     }
 
@@ -0,0 +1,183 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudySearchIndexTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    private StudySearchIndex studySearchIndex;
+    private StudyIndexLoader studyIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        studySearchIndex = new StudySearchIndex();
+        studyIndexLoader = new StudyIndexLoader(studyRepository, List.of(studySearchIndex));
+        when(studyRepository.findStudyDocumentsAfterId(any(), anyInt())).thenReturn(List.of(
+            document(1L, "스프링 부트 스터디", "백엔드 취업", "매주 토요일 모임", 0L, 0),
+            document(2L, "토익 스터디", "스프링 방학 동안 점수 올리기", "강남역", 0L, 0),
+            document(3L, "알고리즘 스터디", "코딩 테스트", "스프링 부트로 프로젝트도 진행", 0L, 0)
+        ), List.of());
+        studyIndexLoader.rebuild();
+    }
+
+    /*-------------------------------------------------------- 토큰화 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("문서 토큰화 - 단어별 유니그램과 바이그램 생성")
+    void tokenize_Success() {
+
+        // when
+        List<String> tokens = StudySearchIndex.tokenize("스프링 JPA");
+
+        // then
+        assertEquals(List.of("스", "스프", "프", "프링", "링", "j", "jp", "p", "pa", "a"), tokens);
+    }
+
+    @Test
+    @DisplayName("키워드 토큰화 - 한 글자 단어는 유니그램, 그 외에는 바이그램만 사용")
+    void tokenizeQuery_Success() {
+
+        // when & then
+        assertEquals(List.of("스프", "프링", "c"), StudySearchIndex.tokenizeQuery("스프링 C"));
+        assertEquals(List.of("스프", "프링"), StudySearchIndex.tokenizeQuery("  스프링!!  "));
+        assertEquals(List.of(), StudySearchIndex.tokenizeQuery(" "));
+        assertEquals(List.of(), StudySearchIndex.tokenizeQuery(null));
+    }
+
+    @Test
+    @DisplayName("토큰화 - 전각 문자와 대문자를 정규화")
+    void tokenize_Normalized_Success() {
+
+        // when & then
+        assertEquals(StudySearchIndex.tokenizeQuery("spring"), StudySearchIndex.tokenizeQuery("ＳＰＲＩＮＧ"));
+    }
+
+    /*-------------------------------------------------------- 검색 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("검색 - 인덱스 적재 전에는 빈 값을 반환하여 DB 조회로 대체")
+    void search_NotReady_Empty() {
+
+        // given
+        StudySearchIndex notReady = new StudySearchIndex();
+
+        // when & then
+        assertTrue(notReady.search("스프링").isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 - 제목, 목표, 소개 순으로 가중치를 두어 관련도 순 정렬")
+    void search_FieldWeight_Success() {
+
+        // when
+        List<Long> studyIds = studySearchIndex.search("스프링").orElseThrow();
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), studyIds);
+    }
+
+    @Test
+    @DisplayName("검색 - 키워드의 모든 토큰을 포함하는 스터디만 반환")
+    void search_AllTerms_Success() {
+
+        // when & then
+        assertEquals(List.of(1L, 3L), studySearchIndex.search("스프링 부트").orElseThrow());
+        assertEquals(List.of(), studySearchIndex.search("스프링 파이썬").orElseThrow());
+        assertEquals(List.of(), studySearchIndex.search("!!").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("검색 - 관련도가 같으면 조회수와 좋아요 수가 많은 스터디를 우선")
+    void search_Popularity_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsAfterId(any(), anyInt())).thenReturn(List.of(
+            document(1L, "자바 스터디", "", "", 0L, 0),
+            document(2L, "자바 스터디", "", "", 100L, 0),
+            document(3L, "자바 스터디", "", "", 100L, 10)
+        ), List.of());
+        studyIndexLoader.rebuild();
+
+        // when
+        List<Long> studyIds = studySearchIndex.search("자바").orElseThrow();
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), studyIds);
+    }
+
+    /*-------------------------------------------------------- 변경 이벤트 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 생성 이벤트 - 새 스터디를 검색 결과에 추가")
+    void onStudyChanged_Created_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(4L)))
+            .thenReturn(List.of(document(4L, "스프링 시큐리티", "", "", 0L, 0)));
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.created(4L));
+
+        // then
+        assertEquals(List.of(4L), studySearchIndex.search("시큐리티").orElseThrow());
+        assertTrue(studySearchIndex.search("스프링").orElseThrow().contains(4L));
+    }
+
+    @Test
+    @DisplayName("스터디 수정 이벤트 - 이전 토큰을 제거하고 새 내용으로 교체")
+    void onStudyChanged_Updated_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(2L)))
+            .thenReturn(List.of(document(2L, "토플 스터디", "점수 올리기", "강남역", 0L, 0)));
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.updated(2L));
+
+        // then
+        assertEquals(List.of(), studySearchIndex.search("토익").orElseThrow());
+        assertEquals(List.of(2L), studySearchIndex.search("토플").orElseThrow());
+        assertEquals(List.of(1L, 3L), studySearchIndex.search("스프링").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("스터디 종료 이벤트 - 조회되지 않는 스터디를 검색 결과에서 제거")
+    void onStudyChanged_Terminated_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(1L))).thenReturn(List.of());
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.terminated(1L));
+
+        // then
+        assertEquals(List.of(2L, 3L), studySearchIndex.search("스프링").orElseThrow());
+        assertEquals(List.of(), studySearchIndex.search("토요일").orElseThrow());
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static StudyDocument document(Long id, String title, String goal, String introduction,
+        Long hitNum, Integer heartCount) {
+        return new StudyDocument(id, title, goal, introduction, hitNum, heartCount);
+    }
+}
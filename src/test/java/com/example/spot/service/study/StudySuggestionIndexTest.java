@@ -0,0 +1,182 @@
+package com.example.spot.service.study;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import com.example.spot.repository.StudyRepository;
+import com.example.spot.repository.querydsl.StudyDocument;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudySuggestionIndexTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+    @Mock
+    private HotKeywordRanking hotKeywordRanking;
+
+    private StudySuggestionIndex studySuggestionIndex;
+    private StudyIndexLoader studyIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        studySuggestionIndex = new StudySuggestionIndex(hotKeywordRanking);
+        studyIndexLoader = new StudyIndexLoader(studyRepository, List.of(studySuggestionIndex));
+
+        when(hotKeywordRanking.getTrendingKeywords()).thenReturn(Map.of("스프링", 5.0));
+        when(studyRepository.findStudyDocumentsAfterId(any(), anyInt())).thenReturn(List.of(
+            document(1L, "스프링 부트 스터디", 100L, 10),
+            document(2L, "스프링 시큐리티", 0L, 0),
+            document(3L, "토익 스터디", 0L, 0),
+            document(4L, "Spring JPA", 0L, 0),
+            document(5L, "사파리 여행", 0L, 0)
+        ), List.of());
+        studyIndexLoader.rebuild();
+    }
+
+    /*-------------------------------------------------------- 자모 분해 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("자모 분해 - 겹모음과 겹받침을 입력 순서대로 분해")
+    void toJamo_Success() {
+
+        // when & then
+        assertEquals("ㅅㅡㅍㅡㄹㅣㅇ", StudySuggestionIndex.toJamo("스프링"));
+        assertEquals("ㄱㅗㅏㄷㅏㄹㄱ", StudySuggestionIndex.toJamo("과닭"));
+        assertEquals("jpa ㅅㅡ", StudySuggestionIndex.toJamo("jpa 스"));
+        assertEquals(StudySuggestionIndex.toJamo("스프링"), StudySuggestionIndex.toJamo(StudySuggestionIndex.normalize("ㅅㅡㅍㅡㄹㅣㅇ")));
+    }
+
+    @Test
+    @DisplayName("초성 변환 - 한글은 초성만 남기고 공백 제거")
+    void toChoseong_Success() {
+
+        // when & then
+        assertEquals("ㅅㅍㄹㅂㅌ", StudySuggestionIndex.toChoseong("스프링 부트"));
+        assertEquals("jpaㅅㅌㄷ", StudySuggestionIndex.toChoseong("jpa 스터디"));
+        assertEquals("ㅅㅍㄹ", StudySuggestionIndex.toChoseong(StudySuggestionIndex.normalize("ㅅㅍㄹ")));
+    }
+
+    /*-------------------------------------------------------- 접두사 조회 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("접두사 조회 - 급상승 검색어와 스터디 제목을 인기도 순으로 반환")
+    void suggest_Ranking_Success() {
+
+        // when
+        List<String> suggestions = studySuggestionIndex.suggest("스프", 10);
+
+        // then
+        assertEquals(List.of("스프링", "스프링 부트 스터디", "스프링 시큐리티"), suggestions);
+    }
+
+    @Test
+    @DisplayName("접두사 조회 - 입력 중인 글자(받침으로 입력된 다음 글자의 초성)도 일치")
+    void suggest_ComposingSyllable_Success() {
+
+        // when & then
+        assertEquals(List.of("스프링", "스프링 부트 스터디", "스프링 시큐리티"), studySuggestionIndex.suggest("슾", 10));
+        assertEquals(List.of("스프링", "스프링 부트 스터디", "스프링 시큐리티"), studySuggestionIndex.suggest("스ㅍ", 10));
+        assertEquals(List.of("토익 스터디"), studySuggestionIndex.suggest("통", 10));
+        assertEquals(List.of("스프링 부트 스터디"), studySuggestionIndex.suggest("스프링 ㅂ", 10));
+    }
+
+    @Test
+    @DisplayName("초성 조회 - 자음만 입력하면 초성이 일치하는 후보를 반환")
+    void suggest_Choseong_Success() {
+
+        // when & then
+        assertEquals(List.of("스프링", "스프링 부트 스터디", "사파리 여행", "스프링 시큐리티"),
+            studySuggestionIndex.suggest("ㅅㅍㄹ", 10));
+        assertEquals(List.of("스프링 부트 스터디"), studySuggestionIndex.suggest("ㅅㅍㄹ ㅂㅌ", 10));
+        assertEquals(List.of("토익 스터디"), studySuggestionIndex.suggest("ㅌㅇ", 10));
+    }
+
+    @Test
+    @DisplayName("접두사 조회 - 대소문자, 전각 문자, 공백을 정규화하고 요청한 개수만큼 반환")
+    void suggest_Normalized_Success() {
+
+        // when & then
+        assertEquals(List.of("Spring JPA"), studySuggestionIndex.suggest("SPRING", 10));
+        assertEquals(List.of("Spring JPA"), studySuggestionIndex.suggest("  ｓｐｒｉｎｇ   j", 10));
+        assertEquals(List.of("스프링"), studySuggestionIndex.suggest("스", 1));
+        assertEquals(List.of(), studySuggestionIndex.suggest("파이썬", 10));
+        assertEquals(List.of(), studySuggestionIndex.suggest(" ", 10));
+    }
+
+    @Test
+    @DisplayName("접두사 조회 - 인덱스 적재 전에는 빈 목록 반환")
+    void suggest_NotReady_Empty() {
+
+        // given
+        StudySuggestionIndex notReady = new StudySuggestionIndex(hotKeywordRanking);
+
+        // when & then
+        assertEquals(List.of(), notReady.suggest("스프링", 10));
+    }
+
+    /*-------------------------------------------------------- 갱신 ------------------------------------------------------------------------*/
+
+    @Test
+    @DisplayName("스터디 종료 이벤트 - 자모 트라이와 초성 트라이에서 모두 제거")
+    void onStudyChanged_Terminated_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(3L))).thenReturn(List.of());
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.terminated(3L));
+
+        // then
+        assertEquals(List.of(), studySuggestionIndex.suggest("토익", 10));
+        assertEquals(List.of(), studySuggestionIndex.suggest("ㅌㅇ", 10));
+    }
+
+    @Test
+    @DisplayName("스터디 수정 이벤트 - 인기도가 바뀐 제목의 순위를 갱신")
+    void onStudyChanged_Updated_Success() {
+
+        // given
+        when(studyRepository.findStudyDocumentsByIds(List.of(2L)))
+            .thenReturn(List.of(document(2L, "스프링 시큐리티", 10_000L, 500)));
+
+        // when
+        studyIndexLoader.onStudyChanged(StudyChangedEvent.updated(2L));
+
+        // then
+        assertEquals(List.of("스프링 시큐리티", "스프링", "스프링 부트 스터디"), studySuggestionIndex.suggest("스프", 10));
+    }
+
+    @Test
+    @DisplayName("급상승 검색어 갱신 - 급상승 검색어에서 빠진 검색어를 후보에서 제거")
+    void refreshKeywords_Success() {
+
+        // given
+        when(hotKeywordRanking.getTrendingKeywords()).thenReturn(Map.of("토익 점수", 3.0));
+
+        // when
+        studySuggestionIndex.refreshKeywords();
+
+        // then
+        assertEquals(List.of("스프링 부트 스터디", "스프링 시큐리티"), studySuggestionIndex.suggest("스프", 10));
+        assertEquals(List.of("토익 점수", "토익 스터디"), studySuggestionIndex.suggest("토익", 10));
+    }
+
+    /*-------------------------------------------------------- Utils ------------------------------------------------------------------------*/
+
+    private static StudyDocument document(Long id, String title, Long hitNum, Integer heartCount) {
+        return new StudyDocument(id, title, "목표", "소개", hitNum, heartCount);
+    }
+}
@@ -11,6 +11,7 @@ import com.example.spot.domain.study.Schedule;
 import com.example.spot.domain.study.Study;
 import com.example.spot.repository.*;
 import com.example.spot.service.memberstudy.MemberStudyQueryServiceImpl;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.memberstudy.response.StudyQuizResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +36,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -55,6 +57,8 @@ class StudyAttendanceQueryServiceTest {
     @Mock
     private MemberAttendanceRepository memberAttendanceRepository;
 
+    private StudyMembershipContext studyMembershipContext;
+
     @InjectMocks
     private MemberStudyQueryServiceImpl memberStudyQueryService;
 
@@ -73,6 +77,10 @@ class StudyAttendanceQueryServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 요청 단위 권한 컨텍스트는 목 저장소를 사용하도록 직접 생성
+        studyMembershipContext = new StudyMembershipContext(memberRepository, studyRepository, memberStudyRepository);
+        ReflectionTestUtils.setField(memberStudyQueryService, "studyMembershipContext", studyMembershipContext);
+
         initMember();
         initStudy();
         initMemberStudy();
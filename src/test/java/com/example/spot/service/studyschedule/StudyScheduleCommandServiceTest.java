@@ -11,6 +11,7 @@ import com.example.spot.domain.study.Schedule;
 import com.example.spot.domain.study.Study;
 import com.example.spot.repository.*;
 import com.example.spot.service.memberstudy.MemberStudyCommandServiceImpl;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.memberstudy.request.ScheduleRequestDTO;
 import com.example.spot.web.dto.memberstudy.response.ScheduleResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -62,6 +64,8 @@ class StudyScheduleCommandServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    private StudyMembershipContext studyMembershipContext;
+
     @InjectMocks
     private MemberStudyCommandServiceImpl memberStudyCommandService;
 
@@ -78,6 +82,10 @@ class StudyScheduleCommandServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 요청 단위 권한 컨텍스트는 목 저장소를 사용하도록 직접 생성
+        studyMembershipContext = new StudyMembershipContext(memberRepository, studyRepository, memberStudyRepository);
+        ReflectionTestUtils.setField(memberStudyCommandService, "studyMembershipContext", studyMembershipContext);
+
         initMember();
         initStudy();
         initMemberStudy();
@@ -13,6 +13,7 @@ import com.example.spot.repository.MemberStudyRepository;
 import com.example.spot.repository.ScheduleRepository;
 import com.example.spot.repository.StudyRepository;
 import com.example.spot.service.memberstudy.MemberStudyQueryServiceImpl;
+import com.example.spot.service.memberstudy.StudyMembershipContext;
 import com.example.spot.web.dto.memberstudy.response.ScheduleResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +39,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -54,6 +56,8 @@ class StudyScheduleQueryServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    private StudyMembershipContext studyMembershipContext;
+
     @InjectMocks
     private MemberStudyQueryServiceImpl memberStudyQueryService;
 
@@ -70,6 +74,10 @@ class StudyScheduleQueryServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 요청 단위 권한 컨텍스트는 목 저장소를 사용하도록 직접 생성
+        studyMembershipContext = new StudyMembershipContext(memberRepository, studyRepository, memberStudyRepository);
+        ReflectionTestUtils.setField(memberStudyQueryService, "studyMembershipContext", studyMembershipContext);
+
         initMember();
         initStudy();
         initMemberStudy();